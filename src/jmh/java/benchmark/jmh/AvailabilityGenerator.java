@@ -0,0 +1,57 @@
+package benchmark.jmh;
+
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded availability of a given shape. Every day is cut into {@code slotsPerDay} equal windows of the 24 hours and
+ * each window holds one slot at a random offset. Fragmentation is the share of a window left free, so 0 fills the
+ * windows completely and values close to 1 leave single hours that rarely line up between participants.
+ */
+public class AvailabilityGenerator {
+    public static final LocalDate FIRST_DAY = LocalDate.of(2014, 1, 1);
+
+    private final Random random;
+
+    public AvailabilityGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public List<AvailabilitySlot> generate(int firstDayOffset, int days, int slotsPerDay, double fragmentation) {
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+
+        for (int day = firstDayOffset; day < firstDayOffset + days; day++) {
+            availabilitySlots.add(AvailabilitySlot.Builder.availabilitySlotWith()
+                                                          .withDay(FIRST_DAY.plusDays(day))
+                                                          .withTimeSlotList(generateTimeSlots(slotsPerDay,
+                                                                                              fragmentation))
+                                                          .build());
+        }
+
+        return availabilitySlots;
+    }
+
+    private List<TimeSlot> generateTimeSlots(int slotsPerDay, double fragmentation) {
+        // The last hour is left out so that no slot has to end at midnight.
+        int windowHours = Math.max(1, 23 / slotsPerDay);
+        int slotHours = Math.max(1, (int) Math.round(windowHours * (1 - fragmentation)));
+        List<TimeSlot> timeSlots = new ArrayList<>();
+
+        for (int window = 0; window < slotsPerDay && (window + 1) * windowHours <= 23; window++) {
+            int fromHour = window * windowHours + random.nextInt(windowHours - slotHours + 1);
+
+            timeSlots.add(TimeSlot.Builder.timeSlotWith()
+                                          .withFrom(LocalTime.of(fromHour, 0))
+                                          .withTo(LocalTime.of(fromHour + slotHours, 0))
+                                          .build());
+        }
+
+        return timeSlots;
+    }
+}
@@ -0,0 +1,158 @@
+package benchmark.jmh;
+
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.SlotGranularity;
+import app.repository.memory.InMemoryBookingRepository;
+import app.repository.memory.InMemoryCandidateAvailabilityRepository;
+import app.repository.memory.InMemoryCandidateRepository;
+import app.repository.memory.InMemoryInterviewerAvailabilityRepository;
+import app.repository.memory.InMemoryInterviewerRepository;
+import app.service.booking.BookingIndex;
+import app.service.candidate.CandidateServiceImpl;
+import app.service.index.InterviewerDayIndex;
+import app.service.index.InterviewerHourBitmapIndex;
+import app.service.index.InterviewerHourCounts;
+import app.service.index.InterviewerIdDictionary;
+import app.service.interviewer.InterviewerServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adding availability to a participant that already has some, which goes through {@code addNewAvailability} of both
+ * services. The existing availability is restored before every invocation because each merge grows it; that setup is
+ * not measured, but JMH's per-invocation bookkeeping is, so compare results of this benchmark only with each other.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilityMergeBenchmark {
+    private static final ApplicationEventPublisher NO_EVENTS = event -> { };
+    private static final PlatformTransactionManager NO_TRANSACTIONS = new PlatformTransactionManager() {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) { }
+
+        @Override
+        public void rollback(TransactionStatus status) { }
+    };
+
+    @Param({"7", "30", "90"})
+    private int existingDays;
+
+    @Param({"1", "7", "30"})
+    private int newDays;
+
+    @Param({"2", "8"})
+    private int slotsPerDay;
+
+    @Param({"0.0", "0.5"})
+    private double fragmentation;
+
+    private CandidateServiceImpl candidateService;
+    private InMemoryCandidateAvailabilityRepository candidateAvailabilityRepository;
+    private InterviewerServiceImpl interviewerService;
+    private InMemoryInterviewerAvailabilityRepository interviewerAvailabilityRepository;
+
+    private Candidate candidate;
+    private Interviewer interviewer;
+    private AvailabilityGenerator availabilityGenerator;
+    private CandidateAvailability newCandidateAvailability;
+    private InterviewerAvailability newInterviewerAvailability;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        availabilityGenerator = new AvailabilityGenerator(42);
+        candidate = new Candidate("Candidate");
+        interviewer = new Interviewer("Interviewer");
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        candidateAvailabilityRepository = new InMemoryCandidateAvailabilityRepository();
+        InMemoryCandidateRepository candidateRepository =
+                new InMemoryCandidateRepository(candidateAvailabilityRepository);
+        candidateRepository.save(candidate);
+        candidateAvailabilityRepository.save(
+                CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                             .withCandidateModel(candidate)
+                                             .withAvailabilitySlotList(generateExisting())
+                                             .build());
+
+        candidateService = new CandidateServiceImpl();
+        ReflectionTestUtils.setField(candidateService, "candidateRepository", candidateRepository);
+        ReflectionTestUtils.setField(candidateService, "candidateAvailabilityRepository",
+                                     candidateAvailabilityRepository);
+        ReflectionTestUtils.setField(candidateService, "applicationEventPublisher", NO_EVENTS);
+        ReflectionTestUtils.setField(candidateService, "slotGranularity", SlotGranularity.HOUR);
+        ReflectionTestUtils.setField(candidateService, "transactionManager", NO_TRANSACTIONS);
+        ReflectionTestUtils.setField(candidateService, "bookingIndex",
+                                     new BookingIndex(new InMemoryBookingRepository(), SlotGranularity.HOUR));
+
+        interviewerAvailabilityRepository = new InMemoryInterviewerAvailabilityRepository();
+        InMemoryInterviewerRepository interviewerRepository =
+                new InMemoryInterviewerRepository(interviewerAvailabilityRepository);
+        interviewerRepository.save(interviewer);
+        interviewerAvailabilityRepository.save(
+                InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                               .withInterviewerModel(interviewer)
+                                               .withAvailabilitySlotList(generateExisting())
+                                               .build());
+
+        interviewerService = new InterviewerServiceImpl(interviewerRepository, interviewerAvailabilityRepository,
+                                                        new InterviewerDayIndex(interviewerAvailabilityRepository),
+                                                        new InterviewerHourCounts(interviewerAvailabilityRepository),
+                                                        new InterviewerHourBitmapIndex(
+                                                                interviewerAvailabilityRepository,
+                                                                new InterviewerIdDictionary()),
+                                                        new BookingIndex(new InMemoryBookingRepository(),
+                                                                         SlotGranularity.HOUR),
+                                                        NO_EVENTS, SlotGranularity.HOUR, NO_TRANSACTIONS);
+
+        newCandidateAvailability = CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                                                .withCandidateModel(candidate)
+                                                                .withAvailabilitySlotList(generateNew())
+                                                                .build();
+        newInterviewerAvailability = InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                                                    .withInterviewerModel(interviewer)
+                                                                    .withAvailabilitySlotList(generateNew())
+                                                                    .build();
+    }
+
+    @Benchmark
+    public CandidateAvailability addCandidateAvailability() {
+        return candidateService.createCandidateAvailability(newCandidateAvailability);
+    }
+
+    @Benchmark
+    public InterviewerAvailability addInterviewerAvailability() {
+        return interviewerService.createInterviewerAvailability(newInterviewerAvailability);
+    }
+
+    private List<AvailabilitySlot> generateExisting() {
+        return availabilityGenerator.generate(0, existingDays, slotsPerDay, fragmentation);
+    }
+
+    // Half of the new days overlap the end of the existing ones, the other half are new.
+    private List<AvailabilitySlot> generateNew() {
+        return availabilityGenerator.generate(existingDays - newDays / 2, newDays, slotsPerDay, fragmentation);
+    }
+}
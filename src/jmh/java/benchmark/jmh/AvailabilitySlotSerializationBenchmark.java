@@ -0,0 +1,79 @@
+package benchmark.jmh;
+
+import app.model.utils.AvailabilitySlot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing and reading availability slot lists in every format the API negotiates, with mappers configured like the
+ * ones of the message converters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilitySlotSerializationBenchmark {
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"7", "90"})
+    private int days;
+
+    @Param({"2", "8"})
+    private int slotsPerDay;
+
+    @Param({"0.0", "0.5"})
+    private double fragmentation;
+
+    private List<AvailabilitySlot> availabilitySlots;
+    private ObjectWriter objectWriter;
+    private ObjectReader objectReader;
+    private byte[] serializedAvailabilitySlots;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        ObjectMapper objectMapper = newObjectMapperBuilder(format)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        availabilitySlots = new AvailabilityGenerator(42).generate(0, days, slotsPerDay, fragmentation);
+        objectWriter = objectMapper.writerFor(new TypeReference<List<AvailabilitySlot>>() { });
+        objectReader = objectMapper.readerFor(new TypeReference<List<AvailabilitySlot>>() { });
+        serializedAvailabilitySlots = objectWriter.writeValueAsBytes(availabilitySlots);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectWriter.writeValueAsBytes(availabilitySlots);
+    }
+
+    @Benchmark
+    public List<AvailabilitySlot> deserialize() throws IOException {
+        return objectReader.readValue(serializedAvailabilitySlots);
+    }
+
+    private static Jackson2ObjectMapperBuilder newObjectMapperBuilder(String format) {
+        switch (format) {
+            case "json":
+                return Jackson2ObjectMapperBuilder.json();
+            case "smile":
+                return Jackson2ObjectMapperBuilder.smile();
+            case "cbor":
+                return Jackson2ObjectMapperBuilder.cbor();
+            default:
+                throw new IllegalArgumentException("Unknown format: " + format);
+        }
+    }
+}
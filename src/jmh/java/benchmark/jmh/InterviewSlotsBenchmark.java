@@ -0,0 +1,125 @@
+package benchmark.jmh;
+
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.interviewslots.InterviewSlotsQuery;
+import app.model.interviewslots.InterviewSlotsReturn;
+import app.model.utils.SlotGranularity;
+import app.repository.memory.InMemoryCandidateAvailabilityRepository;
+import app.repository.memory.InMemoryCandidateRepository;
+import app.repository.memory.InMemoryInterviewerAvailabilityRepository;
+import app.repository.memory.InMemoryInterviewerRepository;
+import app.service.caching.AvailabilityVersionRegistry;
+import app.service.index.InterviewerHourBitmapIndex;
+import app.service.index.InterviewerIdDictionary;
+import app.service.interviewslots.CommonSlotsResultStore;
+import app.service.interviewslots.InterviewPanel;
+import app.service.interviewslots.InterviewSlotsServiceImpl;
+import app.service.interviewslots.LiveInterviewSlotsLoader;
+import app.service.metrics.SlotQueryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link InterviewSlotsServiceImpl#getInterviewSlots(InterviewSlotsQuery)} over the in-memory repositories, computed
+ * from scratch and, with {@code registered}, served from the result store of a registered panel. The time should not
+ * grow as {@code granularityMinutes} gets finer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterviewSlotsBenchmark {
+    @Param({"7", "30", "90"})
+    private int days;
+
+    @Param({"2", "8"})
+    private int slotsPerDay;
+
+    @Param({"1", "3", "8"})
+    private int panelSize;
+
+    @Param({"0.0", "0.5"})
+    private double fragmentation;
+
+    @Param({"false", "true"})
+    private boolean registered;
+
+    @Param({"60", "30", "15"})
+    private int granularityMinutes;
+
+    private InterviewSlotsServiceImpl interviewSlotsService;
+    private InterviewSlotsQuery interviewSlotsQuery;
+
+    @Setup
+    public void setup() {
+        SlotGranularity slotGranularity = new SlotGranularity(granularityMinutes);
+        AvailabilityGenerator availabilityGenerator = new AvailabilityGenerator(42);
+        InMemoryCandidateAvailabilityRepository candidateAvailabilityRepository =
+                new InMemoryCandidateAvailabilityRepository();
+        InMemoryCandidateRepository candidateRepository =
+                new InMemoryCandidateRepository(candidateAvailabilityRepository);
+        InMemoryInterviewerAvailabilityRepository interviewerAvailabilityRepository =
+                new InMemoryInterviewerAvailabilityRepository();
+        InMemoryInterviewerRepository interviewerRepository =
+                new InMemoryInterviewerRepository(interviewerAvailabilityRepository);
+
+        Candidate candidate = candidateRepository.save(new Candidate("Candidate"));
+        candidateAvailabilityRepository.save(
+                CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                             .withCandidateModel(candidate)
+                                             .withAvailabilitySlotList(availabilityGenerator.generate(
+                                                     0, days, slotsPerDay, fragmentation))
+                                             .build());
+
+        List<String> interviewersNames = new ArrayList<>();
+
+        for (int i = 0; i < panelSize; i++) {
+            Interviewer interviewer = interviewerRepository.save(new Interviewer("Interviewer " + i));
+            interviewerAvailabilityRepository.save(
+                    InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                                   .withInterviewerModel(interviewer)
+                                                   .withAvailabilitySlotList(availabilityGenerator.generate(
+                                                           0, days, slotsPerDay, fragmentation))
+                                                   .build());
+            interviewersNames.add(interviewer.getName());
+        }
+
+        CommonSlotsResultStore commonSlotsResultStore = new CommonSlotsResultStore(
+                new LiveInterviewSlotsLoader(candidateRepository, candidateAvailabilityRepository,
+                                             interviewerRepository, interviewerAvailabilityRepository,
+                                             slotGranularity),
+                1);
+        interviewSlotsService = new InterviewSlotsServiceImpl(candidateRepository, candidateAvailabilityRepository,
+                                                              interviewerRepository,
+                                                              interviewerAvailabilityRepository,
+                                                              new InterviewerHourBitmapIndex(
+                                                                      interviewerAvailabilityRepository,
+                                                                      new InterviewerIdDictionary()),
+                                                              new AvailabilityVersionRegistry(),
+                                                              commonSlotsResultStore,
+                                                              new SlotQueryMetrics(new SimpleMeterRegistry()),
+                                                              slotGranularity);
+        interviewSlotsQuery = InterviewSlotsQuery.Builder.interviewSlotsQueryModelWith()
+                                                         .withCandidateName(candidate.getName())
+                                                         .withInterviewersNames(interviewersNames)
+                                                         .build();
+
+        if (registered) {
+            commonSlotsResultStore.register(InterviewPanel.of(interviewSlotsQuery));
+        }
+    }
+
+    @Benchmark
+    public InterviewSlotsReturn getInterviewSlots() {
+        return interviewSlotsService.getInterviewSlots(interviewSlotsQuery);
+    }
+}
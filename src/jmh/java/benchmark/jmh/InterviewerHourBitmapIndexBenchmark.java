@@ -0,0 +1,129 @@
+package benchmark.jmh;
+
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.index.InterviewerHourBitmapIndex;
+import app.service.index.InterviewerIdDictionary;
+import org.openjdk.jmh.annotations.*;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Panel search over 10k interviewers x 90 days: the free hours of a pool of {@code poolSize} interviewers where at
+ * least {@code minimumFree} of them are free, and indexing the whole population from its availability events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterviewerHourBitmapIndexBenchmark {
+    private static final int INTERVIEWERS = 10_000;
+    private static final int DAYS = 90;
+    private static final int POOLS = 1_024;
+    private static final LocalDate FIRST_DAY = AvailabilityGenerator.FIRST_DAY;
+    private static final LocalDate LAST_DAY = FIRST_DAY.plusDays(DAYS - 1);
+
+    @Param({"4", "20", "2000"})
+    private int poolSize;
+
+    @Param({"3", "4"})
+    private int minimumFree;
+
+    private List<AvailabilityChangedEvent> availabilityChangedEvents;
+    private InterviewerHourBitmapIndex interviewerHourBitmapIndex;
+    private RoaringBitmap[] poolsInterviewerIds;
+    private int nextPool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+
+        availabilityChangedEvents = new ArrayList<>();
+
+        for (int interviewer = 0; interviewer < INTERVIEWERS; interviewer++) {
+            availabilityChangedEvents.add(randomAvailability(interviewer, random));
+        }
+
+        interviewerHourBitmapIndex = index(availabilityChangedEvents);
+        poolsInterviewerIds = new RoaringBitmap[POOLS];
+
+        for (int pool = 0; pool < POOLS; pool++) {
+            Set<String> interviewersNames = new HashSet<>();
+
+            while (interviewersNames.size() < poolSize) {
+                interviewersNames.add("Interviewer " + random.nextInt(INTERVIEWERS));
+            }
+
+            poolsInterviewerIds[pool] = interviewerHourBitmapIndex.toInterviewerIds(interviewersNames);
+        }
+    }
+
+    @Benchmark
+    public long forEachHourWithFreeInterviewers() {
+        RoaringBitmap poolInterviewerIds = poolsInterviewerIds[nextPool++ & (POOLS - 1)];
+        long[] matchingHours = new long[1];
+
+        interviewerHourBitmapIndex.forEachHourWithFreeInterviewers(FIRST_DAY, LAST_DAY, poolInterviewerIds,
+                                                                   minimumFree,
+                                                                   (day, hour, freeIds) -> matchingHours[0]++);
+
+        return matchingHours[0];
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public InterviewerHourBitmapIndex indexAvailability() {
+        return index(availabilityChangedEvents);
+    }
+
+    private static InterviewerHourBitmapIndex index(List<AvailabilityChangedEvent> availabilityChangedEvents) {
+        InterviewerHourBitmapIndex interviewerHourBitmapIndex =
+                new InterviewerHourBitmapIndex(null, new InterviewerIdDictionary());
+
+        for (AvailabilityChangedEvent availabilityChangedEvent : availabilityChangedEvents) {
+            interviewerHourBitmapIndex.onAvailabilityChanged(availabilityChangedEvent);
+        }
+
+        return interviewerHourBitmapIndex;
+    }
+
+    private static AvailabilityChangedEvent randomAvailability(int interviewer, Random random) {
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+        Set<LocalDate> days = new HashSet<>();
+
+        for (int dayOffset = 0; dayOffset < DAYS; dayOffset++) {
+            if (random.nextInt(10) < 3) {
+                continue;
+            }
+
+            LocalDate day = FIRST_DAY.plusDays(dayOffset);
+            int fromHour = 8 + random.nextInt(6);
+            int toHour = fromHour + 1 + random.nextInt(18 - fromHour);
+            TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(fromHour, 0))
+                                                .withTo(LocalTime.of(toHour, 0)).build();
+
+            days.add(day);
+            availabilitySlots.add(AvailabilitySlot.Builder.availabilitySlotWith().withDay(day)
+                                                          .withTimeSlotList(Collections.singletonList(timeSlot))
+                                                          .build());
+        }
+
+        return AvailabilityChangedEvent.Builder.availabilityChangedEventWith()
+                                               .withParticipantType(
+                                                       AvailabilityChangedEvent.ParticipantType.INTERVIEWER)
+                                               .withParticipantName("Interviewer " + interviewer)
+                                               .withChangedDays(days)
+                                               .withAvailabilitySlotList(availabilitySlots)
+                                               .withAvailabilityId(interviewer + 1L)
+                                               .withAvailabilityVersion(0L)
+                                               .build();
+    }
+}
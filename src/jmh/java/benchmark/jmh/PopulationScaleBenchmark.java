@@ -0,0 +1,148 @@
+package benchmark.jmh;
+
+import app.model.interviewslots.InterviewSlotsQuery;
+import app.model.interviewslots.InterviewSlotsReturn;
+import app.model.interviewslots.PanelAvailabilityQuery;
+import app.model.interviewslots.PanelAvailabilityReturn;
+import app.model.utils.SlotGranularity;
+import app.repository.memory.InMemoryCandidateAvailabilityRepository;
+import app.repository.memory.InMemoryCandidateRepository;
+import app.repository.memory.InMemoryInterviewerAvailabilityRepository;
+import app.repository.memory.InMemoryInterviewerRepository;
+import app.service.caching.AvailabilityVersionRegistry;
+import app.service.index.InterviewerHourBitmapIndex;
+import app.service.index.InterviewerIdDictionary;
+import app.service.interviewslots.CommonSlotsResultStore;
+import app.service.interviewslots.InterviewSlotsServiceImpl;
+import app.service.interviewslots.LiveInterviewSlotsLoader;
+import app.service.metrics.SlotQueryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import population.PopulationGenerator;
+import population.PopulationLoader;
+import population.PopulationShape;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interview slot and panel availability queries against a generated population in the in-memory repositories, to
+ * show how the queries scale with the number of interviewers rather than with the size of a single panel. Each
+ * invocation takes the next of a fixed set of seeded queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PopulationScaleBenchmark {
+    private static final int CANDIDATES = 1_000;
+    private static final int DAYS = 28;
+    private static final int QUERIES = 64;
+
+    @Param({"1000", "100000"})
+    private int interviewers;
+
+    @Param({"3", "20"})
+    private int panelSize;
+
+    private InterviewSlotsServiceImpl interviewSlotsService;
+    private InterviewSlotsQuery[] interviewSlotsQueries;
+    private PanelAvailabilityQuery[] panelAvailabilityQueries;
+    private int next;
+
+    @Setup
+    public void setup() {
+        InMemoryCandidateAvailabilityRepository candidateAvailabilityRepository =
+                new InMemoryCandidateAvailabilityRepository();
+        InMemoryCandidateRepository candidateRepository =
+                new InMemoryCandidateRepository(candidateAvailabilityRepository);
+        InMemoryInterviewerAvailabilityRepository interviewerAvailabilityRepository =
+                new InMemoryInterviewerAvailabilityRepository();
+        InMemoryInterviewerRepository interviewerRepository =
+                new InMemoryInterviewerRepository(interviewerAvailabilityRepository);
+        PopulationShape populationShape = PopulationShape.Builder.populationShapeWith()
+                                                                 .withCandidates(CANDIDATES)
+                                                                 .withInterviewers(interviewers)
+                                                                 .withDays(DAYS)
+                                                                 .build();
+        PopulationGenerator populationGenerator = new PopulationGenerator(populationShape, 42);
+
+        new PopulationLoader(candidateRepository, candidateAvailabilityRepository, interviewerRepository,
+                             interviewerAvailabilityRepository, null).load(populationGenerator);
+
+        InterviewerHourBitmapIndex interviewerHourBitmapIndex = new InterviewerHourBitmapIndex(
+                interviewerAvailabilityRepository, new InterviewerIdDictionary());
+        interviewerHourBitmapIndex.rebuild();
+
+        interviewSlotsService = new InterviewSlotsServiceImpl(candidateRepository, candidateAvailabilityRepository,
+                                                              interviewerRepository,
+                                                              interviewerAvailabilityRepository,
+                                                              interviewerHourBitmapIndex,
+                                                              new AvailabilityVersionRegistry(),
+                                                              new CommonSlotsResultStore(
+                                                                      new LiveInterviewSlotsLoader(
+                                                                              candidateRepository,
+                                                                              candidateAvailabilityRepository,
+                                                                              interviewerRepository,
+                                                                              interviewerAvailabilityRepository,
+                                                                              SlotGranularity.HOUR),
+                                                                      1),
+                                                              new SlotQueryMetrics(new SimpleMeterRegistry()),
+                                                              SlotGranularity.HOUR);
+        buildQueries(populationGenerator, populationShape.getFirstDay());
+    }
+
+    @Benchmark
+    public InterviewSlotsReturn getInterviewSlots() {
+        return interviewSlotsService.getInterviewSlots(interviewSlotsQueries[nextQuery()]);
+    }
+
+    @Benchmark
+    public PanelAvailabilityReturn getPanelAvailability() {
+        return interviewSlotsService.getPanelAvailability(panelAvailabilityQueries[nextQuery()]);
+    }
+
+    private int nextQuery() {
+        next = (next + 1) % QUERIES;
+
+        return next;
+    }
+
+    private void buildQueries(PopulationGenerator populationGenerator, LocalDate firstDay) {
+        Random random = new Random(42);
+
+        interviewSlotsQueries = new InterviewSlotsQuery[QUERIES];
+        panelAvailabilityQueries = new PanelAvailabilityQuery[QUERIES];
+
+        for (int i = 0; i < QUERIES; i++) {
+            List<String> interviewersNames = new ArrayList<>();
+
+            while (interviewersNames.size() < panelSize) {
+                String interviewerName = populationGenerator.getInterviewerName(random.nextInt(interviewers));
+
+                if (!interviewersNames.contains(interviewerName)) {
+                    interviewersNames.add(interviewerName);
+                }
+            }
+
+            interviewSlotsQueries[i] = InterviewSlotsQuery.Builder.interviewSlotsQueryModelWith()
+                                                                  .withCandidateName(
+                                                                          populationGenerator.getCandidateName(
+                                                                                  random.nextInt(CANDIDATES)))
+                                                                  .withInterviewersNames(interviewersNames)
+                                                                  .build();
+            panelAvailabilityQueries[i] = PanelAvailabilityQuery.Builder.panelAvailabilityQueryWith()
+                                                                        .withInterviewersNames(interviewersNames)
+                                                                        .withMinimumInterviewers(
+                                                                                Math.max(1, panelSize / 2))
+                                                                        .withFrom(firstDay)
+                                                                        .withTo(firstDay.plusDays(DAYS - 1))
+                                                                        .build();
+        }
+    }
+}
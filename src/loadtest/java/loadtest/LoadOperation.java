@@ -0,0 +1,53 @@
+package loadtest;
+
+/**
+ * Requests of the Postman collection that the load test replays. Creating and deleting participants is left out so that
+ * the population stays the same for the whole run. Path templates name the participant with {@code {candidate}} or
+ * {@code {interviewer}}.
+ */
+public enum LoadOperation {
+    LIST_CANDIDATES("list-candidates", "GET", "/api/v1/candidates"),
+    GET_CANDIDATE("get-candidate", "GET", "/api/v1/candidates/{candidate}"),
+    CREATE_CANDIDATE_AVAILABILITY("create-candidate-availability", "POST", "/api/v1/candidates/availability"),
+    LIST_CANDIDATES_AVAILABILITY("list-candidates-availability", "GET", "/api/v1/candidates/availability"),
+    GET_CANDIDATE_AVAILABILITY("get-candidate-availability", "GET", "/api/v1/candidates/availability/{candidate}"),
+    LIST_INTERVIEWERS("list-interviewers", "GET", "/api/v1/interviewers"),
+    GET_INTERVIEWER("get-interviewer", "GET", "/api/v1/interviewers/{interviewer}"),
+    CREATE_INTERVIEWER_AVAILABILITY("create-interviewer-availability", "POST", "/api/v1/interviewers/availability"),
+    LIST_INTERVIEWERS_AVAILABILITY("list-interviewers-availability", "GET", "/api/v1/interviewers/availability"),
+    GET_INTERVIEWER_AVAILABILITY("get-interviewer-availability", "GET",
+                                 "/api/v1/interviewers/availability/{interviewer}"),
+    INTERVIEW_SLOTS("interview-slots", "GET", "/api/v1/interview-slots");
+
+    private final String key;
+    private final String method;
+    private final String pathTemplate;
+
+    LoadOperation(String key, String method, String pathTemplate) {
+        this.key = key;
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+    }
+
+    public static LoadOperation fromKey(String key) {
+        for (LoadOperation loadOperation : values()) {
+            if (loadOperation.key.equals(key)) {
+                return loadOperation;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown operation '" + key + "'");
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+}
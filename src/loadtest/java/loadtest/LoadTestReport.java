@@ -0,0 +1,111 @@
+package loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints throughput and latency percentiles per operation and checks them against the objectives. Rejected (429) and
+ * dropped requests count as errors towards the error rate objective, as the caller did not get an answer either way.
+ */
+public class LoadTestReport {
+    private static final String ROW_FORMAT = "%-32s %9s %9s %7s %8s %7s %9s %9s %9s %9s %9s%n";
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LoadTestSettings settings;
+    private final Map<LoadOperation, OperationResults> results;
+
+    public LoadTestReport(LoadTestSettings settings, Map<LoadOperation, OperationResults> results) {
+        this.settings = settings;
+        this.results = results;
+    }
+
+    /**
+     * Prints the report and returns the objectives that were missed.
+     */
+    public List<String> print(PrintStream out) {
+        double seconds = settings.getDuration().toMillis() / 1000.0;
+        Histogram totalLatencies = OperationResults.newHistogram();
+        long totalErrors = 0;
+        long totalRejected = 0;
+        long totalDropped = 0;
+
+        out.printf("Open model at %.1f requests/s for %s after %s of warmup, seed %d%n", settings.getRate(),
+                   settings.getDuration(), settings.getWarmup(), settings.getSeed());
+        out.printf(ROW_FORMAT, "operation", "requests", "req/s", "errors", "rejected", "dropped", "p50 ms", "p90 ms",
+                   "p99 ms", "p99.9 ms", "max ms");
+
+        for (Map.Entry<LoadOperation, OperationResults> result : results.entrySet()) {
+            OperationResults operationResults = result.getValue();
+
+            printRow(out, result.getKey().getKey(), operationResults.getLatencies(), operationResults.getErrors(),
+                     operationResults.getRejected(), operationResults.getDropped(), seconds);
+            totalLatencies.add(operationResults.getLatencies());
+            totalErrors += operationResults.getErrors();
+            totalRejected += operationResults.getRejected();
+            totalDropped += operationResults.getDropped();
+        }
+
+        printRow(out, "total", totalLatencies, totalErrors, totalRejected, totalDropped, seconds);
+
+        List<String> violations = checkObjectives();
+
+        for (String violation : violations) {
+            out.println("SLO MISSED " + violation);
+        }
+
+        out.println(violations.isEmpty() ? "All objectives met" : violations.size() + " objective(s) missed");
+
+        return violations;
+    }
+
+    private void printRow(PrintStream out, String name, Histogram latencies, long errors, long rejected, long dropped,
+                          double seconds) {
+        Object[] columns = new Object[11];
+        columns[0] = name;
+        columns[1] = Long.toString(latencies.getTotalCount());
+        columns[2] = String.format("%.1f", latencies.getTotalCount() / seconds);
+        columns[3] = Long.toString(errors);
+        columns[4] = Long.toString(rejected);
+        columns[5] = Long.toString(dropped);
+
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            columns[6 + i] = toMillis(latencies.getValueAtPercentile(PERCENTILES[i]));
+        }
+
+        columns[10] = toMillis(latencies.getMaxValue());
+
+        out.printf(ROW_FORMAT, columns);
+    }
+
+    private List<String> checkObjectives() {
+        List<String> violations = new ArrayList<>();
+
+        for (Map.Entry<LoadOperation, OperationResults> result : results.entrySet()) {
+            LoadOperation loadOperation = result.getKey();
+            OperationResults operationResults = result.getValue();
+            Long p99MillisObjective = settings.getP99MillisObjective(loadOperation);
+            double p99Millis = operationResults.getLatencies().getValueAtPercentile(99) / 1000.0;
+
+            if (p99MillisObjective != null && p99Millis > p99MillisObjective) {
+                violations.add(String.format("%s p99 %.1f ms > %d ms", loadOperation.getKey(), p99Millis,
+                                             p99MillisObjective));
+            }
+
+            if (operationResults.getErrorRate() > settings.getMaxErrorRate()) {
+                violations.add(String.format("%s error rate %.2f%% > %.2f%%", loadOperation.getKey(),
+                                             operationResults.getErrorRate() * 100,
+                                             settings.getMaxErrorRate() * 100));
+            }
+        }
+
+        return violations;
+    }
+
+    private String toMillis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
@@ -0,0 +1,71 @@
+package loadtest;
+
+import app.CalendarApi;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import population.PopulationGenerator;
+import population.PopulationShape;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Boots the application on a random port, seeds a synthetic population, replays the Postman requests of the mix at the
+ * target rate and exits with status 1 when an objective is missed. Run it through the {@code load-test} profile.
+ */
+public class LoadTestRunner {
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        new PostmanCollection(new File(settings.getCollection())).verifyContains(settings.getMix().keySet());
+
+        ConfigurableApplicationContext applicationContext =
+                new SpringApplicationBuilder(CalendarApi.class).profiles(splitProfiles(settings.getProfiles()))
+                                                               .properties("server.port=0")
+                                                               .run(args);
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(
+                Math.max(4, Runtime.getRuntime().availableProcessors()));
+        List<String> violations;
+
+        try {
+            int port = applicationContext.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpClient httpClient = HttpClient.newBuilder()
+                                              .version(HttpClient.Version.HTTP_1_1)
+                                              .connectTimeout(Duration.ofSeconds(10))
+                                              .executor(httpExecutor)
+                                              .build();
+            PopulationGenerator populationGenerator = new PopulationGenerator(
+                    PopulationShape.Builder.populationShapeWith()
+                                           .withCandidates(settings.getCandidates())
+                                           .withInterviewers(settings.getInterviewers())
+                                           .withDays(settings.getDays())
+                                           .build(),
+                    settings.getSeed());
+            SyntheticPopulation syntheticPopulation = new SyntheticPopulation(URI.create("http://localhost:" + port),
+                                                                              populationGenerator,
+                                                                              settings.getPanelSize());
+            Random random = new Random(settings.getSeed());
+
+            syntheticPopulation.seed(applicationContext);
+
+            violations = new LoadTestReport(settings, new OpenModelLoadGenerator(httpClient, syntheticPopulation,
+                                                                                 settings, random).run())
+                    .print(System.out);
+        } finally {
+            httpExecutor.shutdownNow();
+            applicationContext.close();
+        }
+
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    private static String[] splitProfiles(String profiles) {
+        return profiles.isBlank() ? new String[0] : profiles.split("\\s*,\\s*");
+    }
+}
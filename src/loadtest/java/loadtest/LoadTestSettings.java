@@ -0,0 +1,157 @@
+package loadtest;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, read from the {@code loadtest.*} system properties that the {@code load-test} profile
+ * passes on. Mixes and objectives are comma separated {@code key:value} pairs; {@code *} in the p99 objectives applies
+ * to every operation without an objective of its own.
+ */
+public class LoadTestSettings {
+    private static final String DEFAULT_MIX = "interview-slots:50,get-candidate-availability:10,"
+                                              + "get-interviewer-availability:10,create-interviewer-availability:10,"
+                                              + "create-candidate-availability:5,get-candidate:5,get-interviewer:5,"
+                                              + "list-candidates:2,list-interviewers:3";
+    private static final String DEFAULT_P99_MILLIS = "interview-slots:250,*:100";
+    private static final String ANY_OPERATION = "*";
+
+    private final String collection;
+    private final String profiles;
+    private final long seed;
+    private final int candidates;
+    private final int interviewers;
+    private final int days;
+    private final int panelSize;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int maxOutstanding;
+    private final Map<LoadOperation, Integer> mix;
+    private final Map<String, Long> p99MillisObjectives;
+    private final double maxErrorRate;
+
+    private LoadTestSettings() {
+        this.collection = property("loadtest.collection", "postman_collections/Java_Tech_Challenge_Tammmana.json");
+        this.profiles = property("loadtest.profiles", "");
+        this.seed = Long.parseLong(property("loadtest.seed", "42"));
+        this.candidates = Integer.parseInt(property("loadtest.candidates", "200"));
+        this.interviewers = Integer.parseInt(property("loadtest.interviewers", "100"));
+        this.days = Integer.parseInt(property("loadtest.days", "20"));
+        this.panelSize = Integer.parseInt(property("loadtest.panel-size", "3"));
+        this.rate = Double.parseDouble(property("loadtest.rate", "200"));
+        this.warmup = Duration.ofSeconds(Long.parseLong(property("loadtest.warmup-seconds", "10")));
+        this.duration = Duration.ofSeconds(Long.parseLong(property("loadtest.duration-seconds", "60")));
+        this.maxOutstanding = Integer.parseInt(property("loadtest.max-outstanding", "2000"));
+        this.mix = parseMix(property("loadtest.mix", DEFAULT_MIX));
+        this.p99MillisObjectives = parsePairs(property("loadtest.slo.p99-millis", DEFAULT_P99_MILLIS));
+        this.maxErrorRate = Double.parseDouble(property("loadtest.slo.max-error-rate", "0.01"));
+
+        if (panelSize > interviewers) {
+            throw new IllegalArgumentException("Panel size " + panelSize + " is larger than the " + interviewers
+                                               + " interviewers of the population");
+        }
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public String getProfiles() {
+        return profiles;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getCandidates() {
+        return candidates;
+    }
+
+    public int getInterviewers() {
+        return interviewers;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public int getPanelSize() {
+        return panelSize;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public int getMaxOutstanding() {
+        return maxOutstanding;
+    }
+
+    public Map<LoadOperation, Integer> getMix() {
+        return mix;
+    }
+
+    public Long getP99MillisObjective(LoadOperation loadOperation) {
+        Long objective = p99MillisObjectives.get(loadOperation.getKey());
+
+        return objective != null ? objective : p99MillisObjectives.get(ANY_OPERATION);
+    }
+
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty(name);
+
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    private static Map<LoadOperation, Integer> parseMix(String value) {
+        Map<LoadOperation, Integer> mix = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Long> weight : parsePairs(value).entrySet()) {
+            if (weight.getValue() > 0) {
+                mix.put(LoadOperation.fromKey(weight.getKey()), Math.toIntExact(weight.getValue()));
+            }
+        }
+
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The mix must give at least one operation a positive weight");
+        }
+
+        return Collections.unmodifiableMap(mix);
+    }
+
+    private static Map<String, Long> parsePairs(String value) {
+        Map<String, Long> pairs = new LinkedHashMap<>();
+
+        for (String pair : value.split(",")) {
+            String[] keyAndValue = pair.trim().split(":");
+
+            if (keyAndValue.length != 2) {
+                throw new IllegalArgumentException("Expected key:value but got '" + pair + "'");
+            }
+
+            pairs.put(keyAndValue[0].trim(), Long.parseLong(keyAndValue[1].trim()));
+        }
+
+        return pairs;
+    }
+}
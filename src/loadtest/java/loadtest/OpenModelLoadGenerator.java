@@ -0,0 +1,128 @@
+package loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests on a Poisson arrival schedule at the target rate whether or not earlier requests have completed, as
+ * independent users would. Requests due during the warmup are sent but not recorded. Requests that find
+ * {@code maxOutstanding} requests in flight are dropped and counted rather than delayed, so the schedule never slips.
+ */
+public class OpenModelLoadGenerator {
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final HttpClient httpClient;
+    private final SyntheticPopulation syntheticPopulation;
+    private final LoadTestSettings settings;
+    private final Random random;
+    private final LoadOperation[] loadOperations;
+    private final int[] cumulativeWeights;
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    public OpenModelLoadGenerator(HttpClient httpClient, SyntheticPopulation syntheticPopulation,
+                                  LoadTestSettings settings, Random random) {
+        this.httpClient = httpClient;
+        this.syntheticPopulation = syntheticPopulation;
+        this.settings = settings;
+        this.random = random;
+        this.loadOperations = settings.getMix().keySet().toArray(new LoadOperation[0]);
+        this.cumulativeWeights = new int[loadOperations.length];
+
+        int totalWeight = 0;
+
+        for (int i = 0; i < loadOperations.length; i++) {
+            totalWeight += settings.getMix().get(loadOperations[i]);
+            cumulativeWeights[i] = totalWeight;
+        }
+    }
+
+    public Map<LoadOperation, OperationResults> run() throws InterruptedException {
+        Map<LoadOperation, OperationResults> results = new EnumMap<>(LoadOperation.class);
+
+        for (LoadOperation loadOperation : loadOperations) {
+            results.put(loadOperation, new OperationResults());
+        }
+
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.getRate();
+        long startNanos = System.nanoTime();
+        long measurementStartNanos = startNanos + settings.getWarmup().toNanos();
+        long endNanos = measurementStartNanos + settings.getDuration().toNanos();
+        double nextArrivalNanos = startNanos;
+
+        while (true) {
+            nextArrivalNanos += -Math.log(1 - random.nextDouble()) * meanIntervalNanos;
+
+            long dueNanos = (long) nextArrivalNanos;
+
+            if (dueNanos - endNanos >= 0) {
+                break;
+            }
+
+            LoadOperation loadOperation = pickOperation();
+            HttpRequest httpRequest = syntheticPopulation.buildRequest(loadOperation, random);
+            OperationResults operationResults = dueNanos - measurementStartNanos >= 0 ? results.get(loadOperation)
+                                                                                       : null;
+
+            parkUntil(dueNanos);
+
+            if (outstanding.get() >= settings.getMaxOutstanding()) {
+                if (operationResults != null) {
+                    operationResults.recordDropped();
+                }
+
+                continue;
+            }
+
+            outstanding.incrementAndGet();
+            httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.discarding())
+                      .whenComplete((response, failure) -> {
+                          if (operationResults != null) {
+                              operationResults.record(System.nanoTime() - dueNanos,
+                                                      failure == null ? response.statusCode()
+                                                                      : OperationResults.TRANSPORT_FAILURE);
+                          }
+
+                          outstanding.decrementAndGet();
+                      });
+        }
+
+        awaitOutstanding();
+
+        return results;
+    }
+
+    private LoadOperation pickOperation() {
+        int weight = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (weight < cumulativeWeights[i]) {
+                return loadOperations[i];
+            }
+        }
+
+        throw new IllegalStateException("Weight " + weight + " is outside of the mix");
+    }
+
+    private void parkUntil(long dueNanos) {
+        long remainingNanos;
+
+        while ((remainingNanos = dueNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remainingNanos);
+        }
+    }
+
+    private void awaitOutstanding() throws InterruptedException {
+        long deadlineNanos = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+
+        while (outstanding.get() > 0 && deadlineNanos - System.nanoTime() > 0) {
+            Thread.sleep(10);
+        }
+    }
+}
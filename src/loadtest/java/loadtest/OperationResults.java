@@ -0,0 +1,72 @@
+package loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome of the measured requests of one operation. Latencies are in microseconds from the time the request was due,
+ * not from the time it was sent, so a stalled server also shows in the latency of the requests queued behind it.
+ */
+public class OperationResults {
+    public static final int TRANSPORT_FAILURE = -1;
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    public void record(long latencyNanos, int statusCode) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        requests.increment();
+
+        if (statusCode == 429) {
+            rejected.increment();
+        } else if (statusCode == TRANSPORT_FAILURE || statusCode >= 400) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Counts a request that was due but not sent because too many requests were outstanding.
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    public Histogram getLatencies() {
+        return latencies;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public double getErrorRate() {
+        long attempts = getRequests() + getDropped();
+
+        return attempts == 0 ? 0 : (double) (getErrors() + getRejected() + getDropped()) / attempts;
+    }
+}
@@ -0,0 +1,68 @@
+package loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The requests of the Postman collection as method and path template. The collection names its participants John Doe,
+ * Jane Doe and John Smith, which are replaced by the placeholders of {@link LoadOperation} so that every operation of a
+ * mix can be checked against the collection before the run starts.
+ */
+public class PostmanCollection {
+    private static final Map<String, String> EXAMPLE_PARTICIPANTS = Map.of("John Doe", "{candidate}",
+                                                                           "Jane Doe", "{interviewer}",
+                                                                           "John Smith", "{interviewer}");
+
+    private final Set<String> requests = new HashSet<>();
+
+    public PostmanCollection(File file) throws IOException {
+        collectRequests(new ObjectMapper().readTree(file).path("item"));
+    }
+
+    public void verifyContains(Set<LoadOperation> loadOperations) {
+        Set<LoadOperation> missingOperations = EnumSet.noneOf(LoadOperation.class);
+
+        for (LoadOperation loadOperation : loadOperations) {
+            if (!requests.contains(loadOperation.getMethod() + " " + loadOperation.getPathTemplate())) {
+                missingOperations.add(loadOperation);
+            }
+        }
+
+        if (!missingOperations.isEmpty()) {
+            throw new IllegalStateException("The Postman collection has no request for " + missingOperations);
+        }
+    }
+
+    private void collectRequests(JsonNode items) {
+        for (JsonNode item : items) {
+            if (item.has("item")) {
+                collectRequests(item.get("item"));
+                continue;
+            }
+
+            JsonNode request = item.path("request");
+            JsonNode url = request.path("url");
+            String rawUrl = url.isObject() ? url.path("raw").asText() : url.asText();
+
+            requests.add(request.path("method").asText() + " " + toPathTemplate(rawUrl));
+        }
+    }
+
+    private String toPathTemplate(String rawUrl) {
+        String path = rawUrl.replaceFirst("^[a-z]+://[^/]+", "").replaceFirst("[?#].*$", "");
+
+        for (Map.Entry<String, String> exampleParticipant : EXAMPLE_PARTICIPANTS.entrySet()) {
+            path = path.replace(exampleParticipant.getKey(), exampleParticipant.getValue())
+                       .replace(exampleParticipant.getKey().replace(" ", "%20"), exampleParticipant.getValue());
+        }
+
+        return path;
+    }
+}
@@ -0,0 +1,155 @@
+package loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ApplicationContext;
+import population.PopulationGenerator;
+import population.PopulationLoader;
+import population.PopulationShape;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * A generated population and the requests of every {@link LoadOperation} against it. Availability writes add whole
+ * hours between 08:00 and 18:00 on a few days of the population's period, as the Postman collection does. When
+ * requests are built from one thread, the same seed always yields the same request sequence.
+ */
+public class SyntheticPopulation {
+    private static final int FIRST_HOUR = 8;
+    private static final int LAST_HOUR = 18;
+    private static final int MAX_DAYS_PER_WRITE = 3;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+    private final PopulationGenerator populationGenerator;
+    private final PopulationShape populationShape;
+    private final int panelSize;
+
+    public SyntheticPopulation(URI baseUri, PopulationGenerator populationGenerator, int panelSize) {
+        this.baseUri = baseUri;
+        this.populationGenerator = populationGenerator;
+        this.populationShape = populationGenerator.getPopulationShape();
+        this.panelSize = panelSize;
+    }
+
+    /**
+     * Saves the population straight into the repositories of the running application and publishes its availability
+     * to the indexes, which is far quicker than creating a large population over the API.
+     */
+    public void seed(ApplicationContext applicationContext) {
+        PopulationLoader.fromApplicationContext(applicationContext).load(populationGenerator);
+    }
+
+    public HttpRequest buildRequest(LoadOperation loadOperation, Random random) {
+        String candidateName = pickCandidate(random);
+        String interviewerName = pickInterviewer(random);
+        String path = loadOperation.getPathTemplate()
+                                   .replace("{candidate}", candidateName)
+                                   .replace("{interviewer}", interviewerName);
+
+        switch (loadOperation) {
+            case CREATE_CANDIDATE_AVAILABILITY:
+                return post(path, availability("candidateName", candidateName, writeDays(random), random));
+            case CREATE_INTERVIEWER_AVAILABILITY:
+                return post(path, availability("interviewerName", interviewerName, writeDays(random), random));
+            case INTERVIEW_SLOTS:
+                // The collection sends the query as the body of a GET, so the load test does the same.
+                Map<String, Object> query = new LinkedHashMap<>();
+                query.put("candidateName", candidateName);
+                query.put("interviewersNames", pickPanel(random));
+
+                return request(path).method("GET", HttpRequest.BodyPublishers.ofString(toJson(query))).build();
+            default:
+                return request(path).method(loadOperation.getMethod(), HttpRequest.BodyPublishers.noBody()).build();
+        }
+    }
+
+    private List<Integer> writeDays(Random random) {
+        List<Integer> dayOffsets = new ArrayList<>();
+        int days = populationShape.getDays();
+        int firstDay = random.nextInt(days);
+
+        for (int day = firstDay; day < Math.min(days, firstDay + 1 + random.nextInt(MAX_DAYS_PER_WRITE)); day++) {
+            dayOffsets.add(day);
+        }
+
+        return dayOffsets;
+    }
+
+    private Map<String, Object> availability(String nameField, String name, List<Integer> dayOffsets, Random random) {
+        List<Map<String, Object>> availabilitySlotList = new ArrayList<>();
+
+        for (int dayOffset : dayOffsets) {
+            int fromHour = FIRST_HOUR + random.nextInt(LAST_HOUR - FIRST_HOUR);
+            int toHour = fromHour + 1 + random.nextInt(LAST_HOUR - fromHour);
+            Map<String, Object> availabilitySlot = new LinkedHashMap<>();
+
+            availabilitySlot.put("day", populationShape.getFirstDay().plusDays(dayOffset).toString());
+            availabilitySlot.put("timeSlotList", List.of(Map.of("from", String.format("%02d:00", fromHour),
+                                                                "to", String.format("%02d:00", toHour))));
+            availabilitySlotList.add(availabilitySlot);
+        }
+
+        Map<String, Object> availability = new LinkedHashMap<>();
+        availability.put(nameField, name);
+        availability.put("availabilitySlotList", availabilitySlotList);
+
+        return availability;
+    }
+
+    private List<String> pickPanel(Random random) {
+        List<String> panel = new ArrayList<>();
+
+        while (panel.size() < panelSize) {
+            String interviewerName = pickInterviewer(random);
+
+            if (!panel.contains(interviewerName)) {
+                panel.add(interviewerName);
+            }
+        }
+
+        return panel;
+    }
+
+    private String pickCandidate(Random random) {
+        return populationGenerator.getCandidateName(random.nextInt(populationShape.getCandidates()));
+    }
+
+    private String pickInterviewer(Random random) {
+        return populationGenerator.getInterviewerName(random.nextInt(populationShape.getInterviewers()));
+    }
+
+    private HttpRequest post(String path, Object body) {
+        return request(path).POST(HttpRequest.BodyPublishers.ofString(toJson(body))).build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        try {
+            URI uri = new URI(baseUri.getScheme(), null, baseUri.getHost(), baseUri.getPort(), path, null, null);
+
+            return HttpRequest.newBuilder(uri)
+                              .timeout(REQUEST_TIMEOUT)
+                              .header("Content-Type", "application/json")
+                              .header("Accept", "application/json");
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid path " + path, e);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Body cannot be serialized", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package app.config;
+
+import app.controller.utils.AdmissionControlInterceptor;
+import app.service.admission.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Slot queries and availability writes are admitted through separate adaptive limits, so a spike of one kind is shed
+ * before it can take the capacity of the other.
+ */
+@Configuration
+public class AdmissionControlConfiguration implements WebMvcConfigurer {
+    public static final String SLOT_QUERY_LIMITER = "slotQueryLimiter";
+    public static final String AVAILABILITY_WRITE_LIMITER = "availabilityWriteLimiter";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD");
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final AdaptiveConcurrencyLimiter slotQueryLimiter;
+    private final AdaptiveConcurrencyLimiter availabilityWriteLimiter;
+    private final long retryAfterSeconds;
+
+    public AdmissionControlConfiguration(@Qualifier(SLOT_QUERY_LIMITER) AdaptiveConcurrencyLimiter slotQueryLimiter,
+                                         @Qualifier(AVAILABILITY_WRITE_LIMITER)
+                                                 AdaptiveConcurrencyLimiter availabilityWriteLimiter,
+                                         @Value("${calendar.admission.retry-after-seconds:1}")
+                                                 long retryAfterSeconds) {
+        this.slotQueryLimiter = slotQueryLimiter;
+        this.availabilityWriteLimiter = availabilityWriteLimiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Bean(name = SLOT_QUERY_LIMITER)
+    public static AdaptiveConcurrencyLimiter slotQueryLimiter(
+            @Value("${calendar.admission.reads.initial-limit:20}") int initialLimit,
+            @Value("${calendar.admission.reads.min-limit:2}") int minLimit,
+            @Value("${calendar.admission.reads.max-limit:200}") int maxLimit,
+            @Value("${calendar.admission.reads.latency-threshold-millis:1000}") long latencyThresholdMillis,
+            @Value("${calendar.admission.backoff-ratio:0.9}") double backoffRatio) {
+        return new AdaptiveConcurrencyLimiter(SLOT_QUERY_LIMITER, initialLimit, minLimit, maxLimit,
+                                              Duration.ofMillis(latencyThresholdMillis), backoffRatio);
+    }
+
+    @Bean(name = AVAILABILITY_WRITE_LIMITER)
+    public static AdaptiveConcurrencyLimiter availabilityWriteLimiter(
+            @Value("${calendar.admission.writes.initial-limit:10}") int initialLimit,
+            @Value("${calendar.admission.writes.min-limit:1}") int minLimit,
+            @Value("${calendar.admission.writes.max-limit:50}") int maxLimit,
+            @Value("${calendar.admission.writes.latency-threshold-millis:500}") long latencyThresholdMillis,
+            @Value("${calendar.admission.backoff-ratio:0.9}") double backoffRatio) {
+        return new AdaptiveConcurrencyLimiter(AVAILABILITY_WRITE_LIMITER, initialLimit, minLimit, maxLimit,
+                                              Duration.ofMillis(latencyThresholdMillis), backoffRatio);
+    }
+
+    @Bean
+    public static MeterBinder admissionControlMetrics(
+            @Qualifier(SLOT_QUERY_LIMITER) AdaptiveConcurrencyLimiter slotQueryLimiter,
+            @Qualifier(AVAILABILITY_WRITE_LIMITER) AdaptiveConcurrencyLimiter availabilityWriteLimiter) {
+        return meterRegistry -> {
+            bindLimiter(meterRegistry, slotQueryLimiter);
+            bindLimiter(meterRegistry, availabilityWriteLimiter);
+        };
+    }
+
+    private static void bindLimiter(MeterRegistry meterRegistry, AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("calendar.admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+             .tag("limiter", limiter.getName())
+             .register(meterRegistry);
+        Gauge.builder("calendar.admission.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+             .tag("limiter", limiter.getName())
+             .register(meterRegistry);
+        FunctionCounter.builder("calendar.admission.rejected", limiter, AdaptiveConcurrencyLimiter::getRejectedCount)
+                       .tag("limiter", limiter.getName())
+                       .register(meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionControlInterceptor(slotQueryLimiter, READ_METHODS, retryAfterSeconds))
+                .addPathPatterns("/api/v1/interview-slots/**")
+                .excludePathPatterns("/api/v1/interview-slots/coalescing-statistics",
+                                     "/api/v1/interview-slots/subscriptions");
+        registry.addInterceptor(new AdmissionControlInterceptor(availabilityWriteLimiter, WRITE_METHODS,
+                                                                retryAfterSeconds))
+                .addPathPatterns("/api/v1/candidates/availability/**", "/api/v1/interviewers/availability/**");
+    }
+}
@@ -0,0 +1,38 @@
+package app.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Lets clients ask for Smile ({@code application/x-jackson-smile}) or CBOR ({@code application/cbor}) instead of JSON
+ * through the {@code Accept} header. Both mappers get the same customizations as the JSON mapper, so every format
+ * carries the same fields and date representations.
+ */
+@Configuration
+public class BinaryMessageConvertersConfiguration {
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            ObjectProvider<Jackson2ObjectMapperBuilderCustomizer> customizers) {
+        return new MappingJackson2SmileHttpMessageConverter(customize(Jackson2ObjectMapperBuilder.smile(),
+                                                                      customizers).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            ObjectProvider<Jackson2ObjectMapperBuilderCustomizer> customizers) {
+        return new MappingJackson2CborHttpMessageConverter(customize(Jackson2ObjectMapperBuilder.cbor(),
+                                                                     customizers).build());
+    }
+
+    private Jackson2ObjectMapperBuilder customize(Jackson2ObjectMapperBuilder builder,
+                                                  ObjectProvider<Jackson2ObjectMapperBuilderCustomizer> customizers) {
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+
+        return builder;
+    }
+}
@@ -0,0 +1,94 @@
+package app.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public call into a service or repository bean, tagged with the service or repository interface, the
+ * method and the outcome. Timers of successful calls are cached per method so that the hot path does not build meter
+ * ids; failures are rare enough to be looked up in the registry.
+ */
+@Aspect
+@Component
+public class CallMetricsAspect {
+    public static final String SERVICE_CALLS = "calendar.service.calls";
+    public static final String REPOSITORY_CALLS = "calendar.repository.calls";
+
+    private static final String SUCCESS = "success";
+    private static final Duration MINIMUM_EXPECTED_DURATION = Duration.ofMillis(1);
+    private static final Duration MAXIMUM_EXPECTED_DURATION = Duration.ofSeconds(10);
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Timer> successTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, String> componentNames = new ConcurrentHashMap<>();
+
+    public CallMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * app.service..*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_CALLS, "service", joinPoint);
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))"
+            + " && target(org.springframework.data.repository.Repository)")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_CALLS, "repository", joinPoint);
+    }
+
+    private Object time(String metricName, String componentTag, ProceedingJoinPoint joinPoint) throws Throwable {
+        String componentName = componentNames.computeIfAbsent(joinPoint.getTarget().getClass(),
+                                                              CallMetricsAspect::getComponentName);
+        String methodName = joinPoint.getSignature().getName();
+        long startNanos = System.nanoTime();
+
+        try {
+            Object result = joinPoint.proceed();
+
+            successTimers.computeIfAbsent(metricName + '|' + componentName + '|' + methodName,
+                                          key -> timer(metricName, componentTag, componentName, methodName, SUCCESS))
+                         .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+            return result;
+        } catch (Throwable throwable) {
+            timer(metricName, componentTag, componentName, methodName, throwable.getClass().getSimpleName())
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+            throw throwable;
+        }
+    }
+
+    private Timer timer(String metricName, String componentTag, String componentName, String methodName,
+                        String outcome) {
+        return Timer.builder(metricName)
+                    .tag(componentTag, componentName)
+                    .tag("method", methodName)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MINIMUM_EXPECTED_DURATION)
+                    .maximumExpectedValue(MAXIMUM_EXPECTED_DURATION)
+                    .register(meterRegistry);
+    }
+
+    // Repository beans are proxies or in-memory classes; both implement exactly one of the application's interfaces.
+    private static String getComponentName(Class<?> targetClass) {
+        for (Class<?> implementedInterface : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (implementedInterface.getName().startsWith("app.")) {
+                return implementedInterface.getSimpleName();
+            }
+        }
+
+        return ClassUtils.getUserClass(targetClass).getSimpleName();
+    }
+}
@@ -0,0 +1,39 @@
+package app.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Scheduling jobs run one at a time on their own thread, with a few jobs allowed to wait. The components of a job are
+ * scheduled on a separate pool, so a job waiting for its components never holds a thread they need.
+ */
+@Configuration
+public class SchedulingExecutorConfiguration {
+    public static final String SCHEDULING_JOB_EXECUTOR = "schedulingJobExecutor";
+    public static final String SCHEDULING_COMPONENT_EXECUTOR = "schedulingComponentExecutor";
+
+    @Bean(name = SCHEDULING_JOB_EXECUTOR)
+    public ThreadPoolTaskExecutor schedulingJobExecutor(@Value("${calendar.scheduling.queue-capacity:10}")
+                                                                int queueCapacity) {
+        ThreadPoolTaskExecutor schedulingJobExecutor = new ThreadPoolTaskExecutor();
+        schedulingJobExecutor.setCorePoolSize(1);
+        schedulingJobExecutor.setMaxPoolSize(1);
+        schedulingJobExecutor.setQueueCapacity(queueCapacity);
+        schedulingJobExecutor.setThreadNamePrefix("scheduling-job-");
+
+        return schedulingJobExecutor;
+    }
+
+    @Bean(name = SCHEDULING_COMPONENT_EXECUTOR)
+    public ThreadPoolTaskExecutor schedulingComponentExecutor(@Value("${calendar.scheduling.pool-size:4}")
+                                                                      int poolSize) {
+        ThreadPoolTaskExecutor schedulingComponentExecutor = new ThreadPoolTaskExecutor();
+        schedulingComponentExecutor.setCorePoolSize(poolSize);
+        schedulingComponentExecutor.setMaxPoolSize(poolSize);
+        schedulingComponentExecutor.setThreadNamePrefix("scheduling-");
+
+        return schedulingComponentExecutor;
+    }
+}
@@ -0,0 +1,18 @@
+package app.config;
+
+import app.controller.utils.SlotQueryTimingInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Records a flight recorder event with the phases of every slot query request.
+ */
+@Configuration
+public class ServerTimingConfiguration implements WebMvcConfigurer {
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SlotQueryTimingInterceptor())
+                .addPathPatterns("/api/v1/interview-slots", "/api/v1/interview-slots/panels");
+    }
+}
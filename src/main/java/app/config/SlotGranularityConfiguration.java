@@ -0,0 +1,29 @@
+package app.config;
+
+import app.model.utils.SlotGranularity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+/**
+ * The granularity availability is validated, merged and intersected at. The mapped file storage keeps a day as an
+ * hour mask, so it only works with hour slots.
+ */
+@Configuration
+public class SlotGranularityConfiguration {
+    @Bean
+    public SlotGranularity slotGranularity(@Value("${calendar.availability.granularity-minutes:60}")
+                                                   int granularityMinutes,
+                                           Environment environment) {
+        SlotGranularity slotGranularity = new SlotGranularity(granularityMinutes);
+
+        if (slotGranularity.getMinutes() != SlotGranularity.HOUR.getMinutes()
+            && environment.acceptsProfiles(Profiles.of("mapped-file"))) {
+            throw new IllegalStateException("The mapped file storage only supports a granularity of 60 minutes!");
+        }
+
+        return slotGranularity;
+    }
+}
@@ -0,0 +1,32 @@
+package app.config;
+
+import app.repository.utils.StatementCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Slot queries run on their own bounded pool so that a burst of expensive queries cannot occupy the request threads
+ * serving the cheap endpoints. Once the queue is full further queries are rejected instead of waiting. Tasks carry the
+ * SQL statement count of the request that submitted them.
+ */
+@Configuration
+public class SlotQueryExecutorConfiguration {
+    public static final String SLOT_QUERY_EXECUTOR = "slotQueryExecutor";
+
+    @Bean(name = SLOT_QUERY_EXECUTOR)
+    public ThreadPoolTaskExecutor slotQueryExecutor(@Value("${calendar.slot-queries.pool-size:4}") int poolSize,
+                                                    @Value("${calendar.slot-queries.queue-capacity:100}")
+                                                            int queueCapacity) {
+        ThreadPoolTaskExecutor slotQueryExecutor = new ThreadPoolTaskExecutor();
+        slotQueryExecutor.setCorePoolSize(poolSize);
+        slotQueryExecutor.setMaxPoolSize(poolSize);
+        slotQueryExecutor.setQueueCapacity(queueCapacity);
+        slotQueryExecutor.setThreadNamePrefix("slot-query-");
+        slotQueryExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        slotQueryExecutor.setTaskDecorator(StatementCounter::propagate);
+
+        return slotQueryExecutor;
+    }
+}
@@ -0,0 +1,41 @@
+package app.config;
+
+import app.controller.utils.StatementCountInterceptor;
+import app.repository.utils.StatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Counts the SQL statements Hibernate prepares for every API request and warns about requests above
+ * {@code calendar.statement-accounting.warn-threshold}.
+ */
+@Configuration
+public class StatementAccountingConfiguration implements WebMvcConfigurer {
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public StatementAccountingConfiguration(MeterRegistry meterRegistry,
+                                            @Value("${calendar.statement-accounting.warn-threshold:10}")
+                                                    int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Bean
+    public static HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                                                              new StatementCounter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementCountInterceptor(meterRegistry, warnThreshold))
+                .addPathPatterns("/api/**");
+    }
+}
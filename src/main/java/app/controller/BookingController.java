@@ -0,0 +1,41 @@
+package app.controller;
+
+import app.model.booking.Booking;
+import app.service.booking.BookingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("api/v1/bookings")
+public class BookingController {
+    @Autowired
+    private BookingService bookingService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Booking createBooking(@RequestBody Booking bookingModel) {
+        return bookingService.createBooking(bookingModel);
+    }
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public List<Booking> getAllBookings() {
+        return bookingService.getAllBookings();
+    }
+
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Optional<Booking> getBookingById(@PathVariable Long id) {
+        return bookingService.getBookingById(id);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void cancelBooking(@PathVariable Long id) {
+        bookingService.cancelBooking(id);
+    }
+}
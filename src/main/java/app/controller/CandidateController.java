@@ -1,7 +1,9 @@
 package app.controller;
 
 import app.model.candidate.CandidateAvailability;
+import app.model.candidate.CandidateAvailabilityView;
 import app.model.candidate.Candidate;
+import app.model.candidate.CandidateView;
 import app.service.candidate.CandidateService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -25,13 +27,13 @@ public class CandidateController {
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public List<Candidate> getAllCandidates() {
+    public List<CandidateView> getAllCandidates() {
         return candidateService.getAllCandidates();
     }
 
     @GetMapping("/{name}")
     @ResponseStatus(HttpStatus.OK)
-    public Optional<Candidate> getCandidateByName(@PathVariable String name) {
+    public Optional<CandidateView> getCandidateByName(@PathVariable String name) {
         return candidateService.getCandidateByName(name);
     }
 
@@ -50,13 +52,13 @@ public class CandidateController {
 
     @GetMapping("/availability")
     @ResponseStatus(HttpStatus.OK)
-    public List<CandidateAvailability> getAllCandidatesAvailability() {
+    public List<CandidateAvailabilityView> getAllCandidatesAvailability() {
         return candidateService.getAllCandidatesAvailability();
     }
 
     @GetMapping("/availability/{name}")
     @ResponseStatus(HttpStatus.OK)
-    public CandidateAvailability getCandidateAvailabilityByName(@PathVariable String name) {
+    public CandidateAvailabilityView getCandidateAvailabilityByName(@PathVariable String name) {
         return candidateService.getCandidateAvailabilityByName(name);
     }
 
@@ -1,24 +1,187 @@
 package app.controller;
 
+import app.config.SlotQueryExecutorConfiguration;
+import app.controller.utils.SlotQueryTimingInterceptor;
+import app.model.interviewslots.InterviewLoopQuery;
+import app.model.interviewslots.InterviewLoopReturn;
 import app.model.interviewslots.InterviewSlotsQuery;
 import app.model.interviewslots.InterviewSlotsReturn;
+import app.model.interviewslots.PanelAvailabilityQuery;
+import app.model.interviewslots.PanelAvailabilityReturn;
+import app.model.interviewslots.SlotQueryCoalescingStatistics;
 import app.service.interviewslots.InterviewSlotsService;
+import app.service.interviewslots.SlotQueryContext;
+import app.service.slowqueries.SlowQueryService;
+import app.service.subscriptions.SlotSubscriptionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.Valid;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("api/v1/interview-slots")
 public class InterviewSlotsController {
     @Autowired
     private InterviewSlotsService interviewSlotsService;
+    @Autowired
+    private SlotSubscriptionService slotSubscriptionService;
+    @Autowired
+    private SlowQueryService slowQueryService;
+    @Autowired
+    @Qualifier(SlotQueryExecutorConfiguration.SLOT_QUERY_EXECUTOR)
+    private Executor slotQueryExecutor;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Value("${calendar.slot-queries.deadline-millis:5000}")
+    private long slotQueryDeadlineMillis;
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public InterviewSlotsReturn getInterviewSlots(
+    public CompletableFuture<InterviewSlotsReturn> getInterviewSlots(
+            @Valid @RequestBody InterviewSlotsQuery interviewSlotsQueryModel) {
+        SlotQueryContext slotQueryContext = newSlotQueryContext();
+
+        return supplySlotQuery(
+                () -> interviewSlotsService.getInterviewSlots(interviewSlotsQueryModel, slotQueryContext))
+                .whenComplete((interviewSlotsReturn, failure) ->
+                        slowQueryService.capture(interviewSlotsQueryModel, slotQueryContext, failure));
+    }
+
+    @GetMapping(params = "candidateName")
+    public CompletableFuture<ResponseEntity<InterviewSlotsReturn>> getInterviewSlots(
+            @RequestParam String candidateName,
+            @RequestParam List<String> interviewersNames,
+            WebRequest webRequest) {
+        InterviewSlotsQuery interviewSlotsQueryModel = InterviewSlotsQuery.Builder.interviewSlotsQueryModelWith()
+                                                                                  .withCandidateName(candidateName)
+                                                                                  .withInterviewersNames(
+                                                                                          interviewersNames)
+                                                                                  .build();
+        String eTag = "\"" + interviewSlotsService.getInterviewSlotsVersionTag(interviewSlotsQueryModel) + "\"";
+
+        if (webRequest.checkNotModified(eTag)) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache())
+                                  .build());
+        }
+
+        SlotQueryContext slotQueryContext = newSlotQueryContext();
+
+        return supplySlotQuery(
+                () -> ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache())
+                                    .body(interviewSlotsService.getInterviewSlots(interviewSlotsQueryModel,
+                                                                                  slotQueryContext)))
+                .whenComplete((interviewSlotsReturn, failure) ->
+                        slowQueryService.capture(interviewSlotsQueryModel, slotQueryContext, failure));
+    }
+
+    @GetMapping("/panels")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<PanelAvailabilityReturn> getPanelAvailability(
+            @RequestParam List<String> interviewersNames,
+            @RequestParam(required = false) Integer minimumInterviewers,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        PanelAvailabilityQuery panelAvailabilityQueryModel =
+                PanelAvailabilityQuery.Builder.panelAvailabilityQueryWith()
+                                              .withInterviewersNames(interviewersNames)
+                                              .withMinimumInterviewers(minimumInterviewers)
+                                              .withFrom(from)
+                                              .withTo(to)
+                                              .build();
+        SlotQueryContext slotQueryContext = newSlotQueryContext();
+
+        return supplySlotQuery(
+                () -> interviewSlotsService.getPanelAvailability(panelAvailabilityQueryModel, slotQueryContext));
+    }
+
+    /**
+     * Runs a slot query on the slot query pool inside a read-only transaction. The pool threads are outside the
+     * session the request thread has open, so without one the lazy availability collections could not be loaded.
+     */
+    private <T> CompletableFuture<T> supplySlotQuery(Supplier<T> slotQuery) {
+        TransactionTemplate readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+
+        return CompletableFuture.supplyAsync(() -> readOnlyTransactionTemplate.execute(status -> slotQuery.get()),
+                                             slotQueryExecutor);
+    }
+
+    @GetMapping("/loops")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<InterviewLoopReturn> getInterviewLoops(
+            @Valid @RequestBody InterviewLoopQuery interviewLoopQueryModel) {
+        SlotQueryContext slotQueryContext = newSlotQueryContext();
+
+        return supplySlotQuery(
+                () -> interviewSlotsService.getInterviewLoops(interviewLoopQueryModel, slotQueryContext));
+    }
+
+    @PostMapping("/registrations")
+    @ResponseStatus(HttpStatus.CREATED)
+    public InterviewSlotsReturn registerInterviewPanel(
             @Valid @RequestBody InterviewSlotsQuery interviewSlotsQueryModel) {
-        return interviewSlotsService.getInterviewSlots(interviewSlotsQueryModel);
+        return interviewSlotsService.registerInterviewPanel(interviewSlotsQueryModel);
+    }
+
+    @GetMapping("/registrations")
+    @ResponseStatus(HttpStatus.OK)
+    public List<InterviewSlotsQuery> getRegisteredInterviewPanels() {
+        return interviewSlotsService.getRegisteredInterviewPanels();
+    }
+
+    @DeleteMapping("/registrations")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void unregisterInterviewPanel(@RequestParam String candidateName,
+                                         @RequestParam List<String> interviewersNames) {
+        interviewSlotsService.unregisterInterviewPanel(InterviewSlotsQuery.Builder.interviewSlotsQueryModelWith()
+                                                                                  .withCandidateName(candidateName)
+                                                                                  .withInterviewersNames(
+                                                                                          interviewersNames)
+                                                                                  .build());
+    }
+
+    @GetMapping(path = "/subscriptions", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToInterviewSlots(@RequestParam String candidateName,
+                                                @RequestParam List<String> interviewersNames) {
+        return slotSubscriptionService.subscribe(InterviewSlotsQuery.Builder.interviewSlotsQueryModelWith()
+                                                                            .withCandidateName(candidateName)
+                                                                            .withInterviewersNames(interviewersNames)
+                                                                            .build());
+    }
+
+    @GetMapping("/coalescing-statistics")
+    @ResponseStatus(HttpStatus.OK)
+    public SlotQueryCoalescingStatistics getSlotQueryCoalescingStatistics() {
+        return interviewSlotsService.getSlotQueryCoalescingStatistics();
+    }
+
+    private SlotQueryContext newSlotQueryContext() {
+        SlotQueryContext slotQueryContext = SlotQueryContext.withTimeout(Duration.ofMillis(slotQueryDeadlineMillis));
+
+        RequestContextHolder.currentRequestAttributes()
+                            .setAttribute(SlotQueryTimingInterceptor.SLOT_QUERY_CONTEXT_ATTRIBUTE, slotQueryContext,
+                                          RequestAttributes.SCOPE_REQUEST);
+
+        return slotQueryContext;
     }
 }
@@ -1,13 +1,20 @@
 package app.controller;
 
+import app.model.interviewer.AvailabilityHeatmap;
+import app.model.interviewer.DayAvailabilitySummary;
 import app.model.interviewer.InterviewerAvailability;
+import app.model.interviewer.InterviewerAvailabilityView;
 import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerView;
+import app.model.interviewer.InterviewerDayAvailability;
 import app.service.interviewer.InterviewerService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,13 +32,13 @@ public class InterviewerController {
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public List<Interviewer> getAllInterviewers() {
+    public List<InterviewerView> getAllInterviewers() {
         return interviewerService.getAllInterviewers();
     }
 
     @GetMapping("/{name}")
     @ResponseStatus(HttpStatus.OK)
-    public Optional<Interviewer> getInterviewerByName(@PathVariable String name) {
+    public Optional<InterviewerView> getInterviewerByName(@PathVariable String name) {
         return interviewerService.getInterviewerByName(name);
     }
 
@@ -50,13 +57,13 @@ public class InterviewerController {
 
     @GetMapping("/availability")
     @ResponseStatus(HttpStatus.OK)
-    public List<InterviewerAvailability> getAllInterviewersAvailability() {
+    public List<InterviewerAvailabilityView> getAllInterviewersAvailability() {
         return interviewerService.getAllInterviewersAvailability();
     }
 
     @GetMapping("/availability/{name}")
     @ResponseStatus(HttpStatus.OK)
-    public InterviewerAvailability getCandidateAvailabilityByName(@PathVariable String name) {
+    public InterviewerAvailabilityView getCandidateAvailabilityByName(@PathVariable String name) {
         return interviewerService.getInterviewerAvailabilityByName(name);
     }
 
@@ -65,4 +72,36 @@ public class InterviewerController {
     public void deleteInterviewerAvailabilityByName(@PathVariable String name) {
         interviewerService.deleteInterviewerAvailabilityByName(name);
     }
+
+    @GetMapping("/availability/days")
+    @ResponseStatus(HttpStatus.OK)
+    public List<DayAvailabilitySummary> getDaysAvailabilitySummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return interviewerService.getDaysAvailabilitySummary(from, to);
+    }
+
+    @GetMapping("/availability/days/busiest")
+    @ResponseStatus(HttpStatus.OK)
+    public Optional<DayAvailabilitySummary> getBusiestDay(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return interviewerService.getBusiestDay(from, to);
+    }
+
+    @GetMapping("/availability/heatmap")
+    @ResponseStatus(HttpStatus.OK)
+    public AvailabilityHeatmap getAvailabilityHeatmap(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<String> interviewersNames) {
+        return interviewerService.getAvailabilityHeatmap(from, to, interviewersNames);
+    }
+
+    @GetMapping("/availability/days/{day}")
+    @ResponseStatus(HttpStatus.OK)
+    public List<InterviewerDayAvailability> getInterviewersAvailabilityByDay(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day) {
+        return interviewerService.getInterviewersAvailabilityByDay(day);
+    }
 }
@@ -0,0 +1,29 @@
+package app.controller;
+
+import app.model.scheduling.SchedulingJobStatus;
+import app.model.scheduling.SchedulingRequest;
+import app.service.scheduling.SchedulingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("api/v1/scheduling-jobs")
+public class SchedulingController {
+    @Autowired
+    private SchedulingService schedulingService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SchedulingJobStatus submitSchedulingJob(@RequestBody SchedulingRequest schedulingRequestModel) {
+        return schedulingService.submitSchedulingJob(schedulingRequestModel);
+    }
+
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Optional<SchedulingJobStatus> getSchedulingJob(@PathVariable Long id) {
+        return schedulingService.getSchedulingJob(id);
+    }
+}
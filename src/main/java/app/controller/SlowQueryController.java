@@ -0,0 +1,34 @@
+package app.controller;
+
+import app.model.interviewslots.SlowSlotQuery;
+import app.service.slowqueries.SlowQueryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/admin/slow-queries")
+public class SlowQueryController {
+    @Autowired
+    private SlowQueryService slowQueryService;
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public List<SlowSlotQuery> getSlowQueries() {
+        return slowQueryService.getSlowQueries();
+    }
+
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void clearSlowQueries() {
+        slowQueryService.clearSlowQueries();
+    }
+
+    @PostMapping("/replay")
+    @ResponseStatus(HttpStatus.OK)
+    public List<SlowSlotQuery> replaySlowQueries(@RequestBody List<SlowSlotQuery> slowSlotQueries) {
+        return slowQueryService.replaySlowQueries(slowSlotQueries);
+    }
+}
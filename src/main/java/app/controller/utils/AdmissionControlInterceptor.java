@@ -0,0 +1,63 @@
+package app.controller.utils;
+
+import app.exception.DeadlineExceededException;
+import app.exception.OverloadException;
+import app.service.admission.AdaptiveConcurrencyLimiter;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Set;
+
+/**
+ * Admits requests through an {@link AdaptiveConcurrencyLimiter} and rejects the excess with an
+ * {@link OverloadException}. A permit taken on the initial dispatch of an asynchronous request is only released once
+ * the async dispatch completes, so queued slot queries keep counting against the limit.
+ */
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Set<String> limitedMethods;
+    private final long retryAfterSeconds;
+    private final String permitAttribute;
+
+    public AdmissionControlInterceptor(AdaptiveConcurrencyLimiter limiter, Set<String> limitedMethods,
+                                       long retryAfterSeconds) {
+        this.limiter = limiter;
+        this.limitedMethods = limitedMethods;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.permitAttribute = AdmissionControlInterceptor.class.getName() + "." + limiter.getName();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !limitedMethods.contains(request.getMethod())) {
+            return true;
+        }
+
+        if (!limiter.tryAcquire()) {
+            throw new OverloadException("Too many concurrent requests, try again later!", retryAfterSeconds);
+        }
+
+        request.setAttribute(permitAttribute, System.nanoTime());
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception exception) {
+        Object acquiredAtNanos = request.getAttribute(permitAttribute);
+
+        if (acquiredAtNanos == null) {
+            return;
+        }
+
+        request.removeAttribute(permitAttribute);
+
+        boolean overloaded = exception instanceof DeadlineExceededException
+                             || response.getStatus() == HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+
+        limiter.release(System.nanoTime() - (Long) acquiredAtNanos, overloaded);
+    }
+}
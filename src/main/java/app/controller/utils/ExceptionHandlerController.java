@@ -3,13 +3,19 @@ package app.controller.utils;
 import app.error.BusinessError;
 import app.error.RestError;
 import app.error.TechnicalError;
+import app.exception.DeadlineExceededException;
+import app.exception.OverloadException;
 import app.exception.UserException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.RejectedExecutionException;
 
 @ControllerAdvice
 public class ExceptionHandlerController {
@@ -18,7 +24,18 @@ public class ExceptionHandlerController {
     public RestError handleBusinessRuleValidationError(
             HttpServletRequest request, HttpServletResponse response, Exception exception) {
 
-        response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        if (exception instanceof OverloadException) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER,
+                               Long.toString(((OverloadException) exception).getRetryAfterSeconds()));
+        } else if (exception instanceof DeadlineExceededException || exception instanceof RejectedExecutionException) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        } else if (exception instanceof OptimisticLockingFailureException) {
+            // Still conflicting after the retries of the write; the client can send it again.
+            response.setStatus(HttpServletResponse.SC_CONFLICT);
+        } else {
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
 
         if (exception instanceof UserException) {
             UserException userException = (UserException) exception;
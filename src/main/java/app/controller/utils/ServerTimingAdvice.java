@@ -0,0 +1,76 @@
+package app.controller.utils;
+
+import app.service.interviewslots.SlotQueryContext;
+import app.service.interviewslots.SlotQueryPhase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * Adds a {@code Server-Timing} header with the phases of a slot query when {@code calendar.server-timing.enabled} is
+ * set. Headers are written before the body, so serialization is only covered by the {@link SlotQueryEvent}.
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private final boolean enabled;
+
+    public ServerTimingAdvice(@Value("${calendar.server-timing.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest) {
+            Object slotQueryContext = ((ServletServerHttpRequest) request).getServletRequest()
+                    .getAttribute(SlotQueryTimingInterceptor.SLOT_QUERY_CONTEXT_ATTRIBUTE);
+
+            if (slotQueryContext != null) {
+                response.getHeaders().add(SERVER_TIMING, toServerTiming((SlotQueryContext) slotQueryContext));
+            }
+        }
+
+        return body;
+    }
+
+    public static String toServerTiming(SlotQueryContext slotQueryContext) {
+        StringBuilder serverTiming = new StringBuilder();
+
+        for (SlotQueryPhase slotQueryPhase : SlotQueryPhase.values()) {
+            long phaseNanos = slotQueryContext.getPhaseNanos(slotQueryPhase);
+
+            if (phaseNanos > 0) {
+                appendMetric(serverTiming, slotQueryPhase.getMetricName(), phaseNanos);
+                serverTiming.append(";desc=\"").append(slotQueryPhase.getDescription()).append('"');
+            }
+        }
+
+        appendMetric(serverTiming, "total", slotQueryContext.getElapsedNanos());
+
+        return serverTiming.toString();
+    }
+
+    private static void appendMetric(StringBuilder serverTiming, String metricName, long nanos) {
+        if (serverTiming.length() > 0) {
+            serverTiming.append(", ");
+        }
+
+        serverTiming.append(metricName).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1e6));
+    }
+}
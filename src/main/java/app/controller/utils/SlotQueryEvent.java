@@ -0,0 +1,63 @@
+package app.controller.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event of one slot query request, spanning the whole request with the time of every phase. It is
+ * disabled unless a recording enables {@code app.SlotQuery}, and it costs nothing more than an allocation then.
+ */
+@Name("app.SlotQuery")
+@Label("Slot Query")
+@Category({"Interview Calendar", "Slot Queries"})
+@Description("Phases of an interview slot or panel availability query")
+@StackTrace(false)
+public class SlotQueryEvent extends jdk.jfr.Event {
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Queue")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queue;
+
+    @Label("Result Store")
+    @Timespan(Timespan.NANOSECONDS)
+    public long resultStore;
+
+    @Label("Coalesced")
+    @Timespan(Timespan.NANOSECONDS)
+    public long coalesced;
+
+    @Label("Existence Checks")
+    @Timespan(Timespan.NANOSECONDS)
+    public long existenceChecks;
+
+    @Label("Load Availability")
+    @Timespan(Timespan.NANOSECONDS)
+    public long loadAvailability;
+
+    @Label("Common Days")
+    @Timespan(Timespan.NANOSECONDS)
+    public long commonDays;
+
+    @Label("Intersection")
+    @Timespan(Timespan.NANOSECONDS)
+    public long intersection;
+
+    @Label("Query")
+    @Description("From the start of the request until the query completed")
+    @Timespan(Timespan.NANOSECONDS)
+    public long query;
+
+    @Label("Response")
+    @Description("From the completion of the query until the response was written, mostly serialization")
+    @Timespan(Timespan.NANOSECONDS)
+    public long response;
+}
@@ -0,0 +1,79 @@
+package app.controller.utils;
+
+import app.service.interviewslots.SlotQueryContext;
+import app.service.interviewslots.SlotQueryPhase;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Commits a {@link SlotQueryEvent} once a slot query request completes, including the async dispatch that serializes
+ * the response. The controller exposes the {@link SlotQueryContext} of the query under
+ * {@link #SLOT_QUERY_CONTEXT_ATTRIBUTE}.
+ */
+public class SlotQueryTimingInterceptor implements AsyncHandlerInterceptor {
+    public static final String SLOT_QUERY_CONTEXT_ATTRIBUTE = SlotQueryTimingInterceptor.class.getName() + ".context";
+
+    private static final String EVENT_ATTRIBUTE = SlotQueryTimingInterceptor.class.getName() + ".event";
+    private static final String START_ATTRIBUTE = SlotQueryTimingInterceptor.class.getName() + ".start";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+
+        SlotQueryEvent slotQueryEvent = new SlotQueryEvent();
+
+        if (slotQueryEvent.isEnabled()) {
+            slotQueryEvent.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, slotQueryEvent);
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception exception) {
+        Object slotQueryEvent = request.getAttribute(EVENT_ATTRIBUTE);
+        Object slotQueryContext = request.getAttribute(SLOT_QUERY_CONTEXT_ATTRIBUTE);
+
+        if (slotQueryEvent == null || slotQueryContext == null) {
+            return;
+        }
+
+        request.removeAttribute(EVENT_ATTRIBUTE);
+
+        commit((SlotQueryEvent) slotQueryEvent, (SlotQueryContext) slotQueryContext, request, response);
+    }
+
+    private void commit(SlotQueryEvent slotQueryEvent, SlotQueryContext slotQueryContext, HttpServletRequest request,
+                        HttpServletResponse response) {
+        slotQueryEvent.end();
+
+        if (!slotQueryEvent.shouldCommit()) {
+            return;
+        }
+
+        long requestNanos = System.nanoTime() - (long) request.getAttribute(START_ATTRIBUTE);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        slotQueryEvent.endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        slotQueryEvent.status = response.getStatus();
+        slotQueryEvent.queue = slotQueryContext.getPhaseNanos(SlotQueryPhase.QUEUE);
+        slotQueryEvent.resultStore = slotQueryContext.getPhaseNanos(SlotQueryPhase.RESULT_STORE);
+        slotQueryEvent.coalesced = slotQueryContext.getPhaseNanos(SlotQueryPhase.COALESCED);
+        slotQueryEvent.existenceChecks = slotQueryContext.getPhaseNanos(SlotQueryPhase.EXISTENCE_CHECKS);
+        slotQueryEvent.loadAvailability = slotQueryContext.getPhaseNanos(SlotQueryPhase.LOAD_AVAILABILITY);
+        slotQueryEvent.commonDays = slotQueryContext.getPhaseNanos(SlotQueryPhase.COMMON_DAYS);
+        slotQueryEvent.intersection = slotQueryContext.getPhaseNanos(SlotQueryPhase.INTERSECTION);
+        slotQueryEvent.query = slotQueryContext.getElapsedNanos();
+        slotQueryEvent.response = Math.max(0, requestNanos - slotQueryContext.getElapsedNanos());
+        slotQueryEvent.commit();
+    }
+}
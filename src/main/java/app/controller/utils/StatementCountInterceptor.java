@@ -0,0 +1,114 @@
+package app.controller.utils;
+
+import app.repository.utils.StatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements of every request, including those of the slot query pool, and records them per endpoint.
+ * Requests above the threshold are counted and logged with their most repeated statement, which is usually the query
+ * of an N+1 loop. The count is reported once the async dispatch of an asynchronous request completes.
+ */
+public class StatementCountInterceptor implements AsyncHandlerInterceptor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementCountInterceptor.class);
+    private static final String SCOPE_ATTRIBUTE = StatementCountInterceptor.class.getName() + ".scope";
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public StatementCountInterceptor(MeterRegistry meterRegistry, int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST) {
+            request.setAttribute(SCOPE_ATTRIBUTE, StatementCounter.open());
+        }
+
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        Object scope = request.getAttribute(SCOPE_ATTRIBUTE);
+
+        if (scope != null) {
+            ((StatementCounter.Scope) scope).close();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception exception) {
+        Object scope = request.getAttribute(SCOPE_ATTRIBUTE);
+
+        if (scope == null) {
+            return;
+        }
+
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+
+        StatementCounter.Scope statementScope = (StatementCounter.Scope) scope;
+        statementScope.close();
+
+        report(request, statementScope);
+    }
+
+    private void report(HttpServletRequest request, StatementCounter.Scope statementScope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        int statements = statementScope.getCount();
+
+        DistributionSummary.builder("calendar.request.statements")
+                           .tag("method", request.getMethod())
+                           .tag("uri", uri)
+                           .baseUnit("statements")
+                           .register(meterRegistry)
+                           .record(statements);
+
+        if (statements <= warnThreshold) {
+            return;
+        }
+
+        Counter.builder("calendar.request.statements.exceeded")
+               .tag("method", request.getMethod())
+               .tag("uri", uri)
+               .register(meterRegistry)
+               .increment();
+
+        Map.Entry<String, Integer> mostRepeatedStatement = getMostRepeatedStatement(statementScope);
+
+        LOGGER.warn("{} {} ran {} SQL statements, more than {}; most repeated ({} times): {}", request.getMethod(),
+                    uri, statements, warnThreshold, mostRepeatedStatement.getValue(),
+                    mostRepeatedStatement.getKey());
+    }
+
+    private Map.Entry<String, Integer> getMostRepeatedStatement(StatementCounter.Scope statementScope) {
+        Map<String, Integer> repetitions = new HashMap<>();
+        Map.Entry<String, Integer> mostRepeatedStatement = Map.entry("", 0);
+
+        for (String statement : statementScope.getStatements()) {
+            int statementRepetitions = repetitions.merge(statement, 1, Integer::sum);
+
+            if (statementRepetitions > mostRepeatedStatement.getValue()) {
+                mostRepeatedStatement = Map.entry(statement, statementRepetitions);
+            }
+        }
+
+        return mostRepeatedStatement;
+    }
+}
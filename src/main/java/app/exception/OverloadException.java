@@ -0,0 +1,14 @@
+package app.exception;
+
+public class OverloadException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public OverloadException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
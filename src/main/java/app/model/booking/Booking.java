@@ -0,0 +1,85 @@
+package app.model.booking;
+
+import app.model.utils.TimeSlot;
+import lombok.Getter;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.util.List;
+
+@Entity
+@Table(name = "booking")
+@Getter
+public class Booking {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private String candidateName;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @OrderColumn
+    private List<String> interviewersNames;
+
+    @Column(name = "booking_day")
+    private LocalDate day;
+
+    @Column(length = Integer.MAX_VALUE)
+    private TimeSlot timeSlot;
+
+    public Booking() {}
+
+    public Booking(Builder builder) {
+        this.id = builder.id;
+        this.candidateName = builder.candidateName;
+        this.interviewersNames = builder.interviewersNames;
+        this.day = builder.day;
+        this.timeSlot = builder.timeSlot;
+    }
+
+    public static class Builder {
+        private Long id;
+        private String candidateName;
+        private List<String> interviewersNames;
+        private LocalDate day;
+        private TimeSlot timeSlot;
+
+        public static Builder bookingWith() {
+            return new Builder();
+        }
+
+        public Builder withId(Long id) {
+            this.id = id;
+
+            return this;
+        }
+
+        public Builder withCandidateName(String candidateName) {
+            this.candidateName = candidateName;
+
+            return this;
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withTimeSlot(TimeSlot timeSlot) {
+            this.timeSlot = timeSlot;
+
+            return this;
+        }
+
+        public Booking build() {
+            return new Booking(this);
+        }
+    }
+}
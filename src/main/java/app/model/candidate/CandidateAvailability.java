@@ -1,6 +1,7 @@
 package app.model.candidate;
 
 import app.model.utils.AvailabilitySlot;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -17,6 +18,10 @@ public class CandidateAvailability {
     @GeneratedValue
     private Long id;
 
+    @Version
+    @JsonIgnore
+    private Long version;
+
     @OneToOne
     @JsonProperty("candidateName")
     @JoinColumn(name = "name", nullable = false)
@@ -30,11 +35,15 @@ public class CandidateAvailability {
     public CandidateAvailability(){}
 
     public CandidateAvailability(Builder builder) {
+        this.id = builder.id;
+        this.version = builder.version;
         this.candidateModel = builder.candidateModel;
         this.availabilitySlotList = builder.availabilitySlotList;
     }
 
     public static class Builder {
+        private Long id;
+        private Long version;
         private Candidate candidateModel;
         private List<AvailabilitySlot> availabilitySlotList;
 
@@ -42,6 +51,29 @@ public class CandidateAvailability {
             return new Builder();
         }
 
+        /**
+         * Starts from a copy of the given availability, keeping its id and version, so changing a read availability
+         * means saving a changed copy of it.
+         */
+        public static Builder candidateAvailabilityModelFrom(CandidateAvailability candidateAvailabilityModel) {
+            return new Builder().withId(candidateAvailabilityModel.getId())
+                                .withVersion(candidateAvailabilityModel.getVersion())
+                                .withCandidateModel(candidateAvailabilityModel.getCandidateModel())
+                                .withAvailabilitySlotList(candidateAvailabilityModel.getAvailabilitySlotList());
+        }
+
+        public Builder withId(Long id) {
+            this.id = id;
+
+            return this;
+        }
+
+        public Builder withVersion(Long version) {
+            this.version = version;
+
+            return this;
+        }
+
         public Builder withCandidateModel(Candidate candidateModel) {
             this.candidateModel = candidateModel;
 
@@ -0,0 +1,23 @@
+package app.model.candidate;
+
+import app.model.utils.AvailabilitySlot;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CandidateAvailabilityView {
+    private final Long id;
+
+    @JsonProperty("candidateName")
+    private final CandidateView candidateModel;
+
+    private final List<AvailabilitySlot> availabilitySlotList;
+
+    public CandidateAvailabilityView(Long id, String candidateName, List<AvailabilitySlot> availabilitySlotList) {
+        this.id = id;
+        this.candidateModel = new CandidateView(candidateName);
+        this.availabilitySlotList = availabilitySlotList;
+    }
+}
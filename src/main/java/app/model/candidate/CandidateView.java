@@ -0,0 +1,12 @@
+package app.model.candidate;
+
+import lombok.Getter;
+
+@Getter
+public class CandidateView {
+    private final String name;
+
+    public CandidateView(String name) {
+        this.name = name;
+    }
+}
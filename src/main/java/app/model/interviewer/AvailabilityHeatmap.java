@@ -0,0 +1,80 @@
+package app.model.interviewer;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class AvailabilityHeatmap {
+    private LocalDate from;
+    private LocalDate to;
+    private List<String> interviewersNames;
+    private long freeHoursCount;
+    private List<Long> freeHoursCountByHour;
+    private List<AvailabilityHeatmapDay> days;
+
+    public AvailabilityHeatmap() {}
+
+    public AvailabilityHeatmap(Builder builder) {
+        this.from = builder.from;
+        this.to = builder.to;
+        this.interviewersNames = builder.interviewersNames;
+        this.freeHoursCount = builder.freeHoursCount;
+        this.freeHoursCountByHour = builder.freeHoursCountByHour;
+        this.days = builder.days;
+    }
+
+    public static class Builder {
+        private LocalDate from;
+        private LocalDate to;
+        private List<String> interviewersNames;
+        private long freeHoursCount;
+        private List<Long> freeHoursCountByHour;
+        private List<AvailabilityHeatmapDay> days;
+
+        public static Builder availabilityHeatmapWith() {
+            return new Builder();
+        }
+
+        public Builder withFrom(LocalDate from) {
+            this.from = from;
+
+            return this;
+        }
+
+        public Builder withTo(LocalDate to) {
+            this.to = to;
+
+            return this;
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public Builder withFreeHoursCount(long freeHoursCount) {
+            this.freeHoursCount = freeHoursCount;
+
+            return this;
+        }
+
+        public Builder withFreeHoursCountByHour(List<Long> freeHoursCountByHour) {
+            this.freeHoursCountByHour = freeHoursCountByHour;
+
+            return this;
+        }
+
+        public Builder withDays(List<AvailabilityHeatmapDay> days) {
+            this.days = days;
+
+            return this;
+        }
+
+        public AvailabilityHeatmap build() {
+            return new AvailabilityHeatmap(this);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package app.model.interviewer;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class AvailabilityHeatmapDay {
+    private LocalDate day;
+    private List<Integer> freeInterviewersByHour;
+    private int freeHoursCount;
+
+    public AvailabilityHeatmapDay() {}
+
+    public AvailabilityHeatmapDay(Builder builder) {
+        this.day = builder.day;
+        this.freeInterviewersByHour = builder.freeInterviewersByHour;
+        this.freeHoursCount = builder.freeHoursCount;
+    }
+
+    public static class Builder {
+        private LocalDate day;
+        private List<Integer> freeInterviewersByHour;
+        private int freeHoursCount;
+
+        public static Builder availabilityHeatmapDayWith() {
+            return new Builder();
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withFreeInterviewersByHour(List<Integer> freeInterviewersByHour) {
+            this.freeInterviewersByHour = freeInterviewersByHour;
+
+            return this;
+        }
+
+        public Builder withFreeHoursCount(int freeHoursCount) {
+            this.freeHoursCount = freeHoursCount;
+
+            return this;
+        }
+
+        public AvailabilityHeatmapDay build() {
+            return new AvailabilityHeatmapDay(this);
+        }
+    }
+}
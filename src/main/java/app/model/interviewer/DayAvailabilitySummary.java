@@ -0,0 +1,52 @@
+package app.model.interviewer;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class DayAvailabilitySummary {
+    private LocalDate day;
+    private int interviewersCount;
+    private int freeHoursCount;
+
+    public DayAvailabilitySummary() {}
+
+    public DayAvailabilitySummary(Builder builder) {
+        this.day = builder.day;
+        this.interviewersCount = builder.interviewersCount;
+        this.freeHoursCount = builder.freeHoursCount;
+    }
+
+    public static class Builder {
+        private LocalDate day;
+        private int interviewersCount;
+        private int freeHoursCount;
+
+        public static Builder dayAvailabilitySummaryWith() {
+            return new Builder();
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withInterviewersCount(int interviewersCount) {
+            this.interviewersCount = interviewersCount;
+
+            return this;
+        }
+
+        public Builder withFreeHoursCount(int freeHoursCount) {
+            this.freeHoursCount = freeHoursCount;
+
+            return this;
+        }
+
+        public DayAvailabilitySummary build() {
+            return new DayAvailabilitySummary(this);
+        }
+    }
+}
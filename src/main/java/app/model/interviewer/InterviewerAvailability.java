@@ -1,6 +1,7 @@
 package app.model.interviewer;
 
 import app.model.utils.AvailabilitySlot;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -17,6 +18,10 @@ public class InterviewerAvailability {
     @GeneratedValue
     private Long id;
 
+    @Version
+    @JsonIgnore
+    private Long version;
+
     @OneToOne
     @JsonProperty("interviewerName")
     @JoinColumn(name = "name", nullable = false)
@@ -30,11 +35,15 @@ public class InterviewerAvailability {
     public InterviewerAvailability(){}
 
     public InterviewerAvailability(Builder builder) {
+        this.id = builder.id;
+        this.version = builder.version;
         this.interviewerModel = builder.interviewerModel;
         this.availabilitySlotList = builder.availabilitySlotList;
     }
 
     public static class Builder {
+        private Long id;
+        private Long version;
         private Interviewer interviewerModel;
         private List<AvailabilitySlot> availabilitySlotList;
 
@@ -42,6 +51,29 @@ public class InterviewerAvailability {
             return new Builder();
         }
 
+        /**
+         * Starts from a copy of the given availability, keeping its id and version, so changing a read availability
+         * means saving a changed copy of it.
+         */
+        public static Builder interviewerAvailabilityModelFrom(InterviewerAvailability interviewerAvailabilityModel) {
+            return new Builder().withId(interviewerAvailabilityModel.getId())
+                                .withVersion(interviewerAvailabilityModel.getVersion())
+                                .withInterviewerModel(interviewerAvailabilityModel.getInterviewerModel())
+                                .withAvailabilitySlotList(interviewerAvailabilityModel.getAvailabilitySlotList());
+        }
+
+        public Builder withId(Long id) {
+            this.id = id;
+
+            return this;
+        }
+
+        public Builder withVersion(Long version) {
+            this.version = version;
+
+            return this;
+        }
+
         public Builder withInterviewerModel(Interviewer interviewerModel) {
             this.interviewerModel = interviewerModel;
 
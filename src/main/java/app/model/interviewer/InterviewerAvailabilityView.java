@@ -0,0 +1,23 @@
+package app.model.interviewer;
+
+import app.model.utils.AvailabilitySlot;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class InterviewerAvailabilityView {
+    private final Long id;
+
+    @JsonProperty("interviewerName")
+    private final InterviewerView interviewerModel;
+
+    private final List<AvailabilitySlot> availabilitySlotList;
+
+    public InterviewerAvailabilityView(Long id, String interviewerName, List<AvailabilitySlot> availabilitySlotList) {
+        this.id = id;
+        this.interviewerModel = new InterviewerView(interviewerName);
+        this.availabilitySlotList = availabilitySlotList;
+    }
+}
@@ -0,0 +1,44 @@
+package app.model.interviewer;
+
+import app.model.utils.TimeSlot;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class InterviewerDayAvailability {
+    private String interviewerName;
+    private List<TimeSlot> timeSlotList;
+
+    public InterviewerDayAvailability() {}
+
+    public InterviewerDayAvailability(Builder builder) {
+        this.interviewerName = builder.interviewerName;
+        this.timeSlotList = builder.timeSlotList;
+    }
+
+    public static class Builder {
+        private String interviewerName;
+        private List<TimeSlot> timeSlotList;
+
+        public static Builder interviewerDayAvailabilityWith() {
+            return new Builder();
+        }
+
+        public Builder withInterviewerName(String interviewerName) {
+            this.interviewerName = interviewerName;
+
+            return this;
+        }
+
+        public Builder withTimeSlotList(List<TimeSlot> timeSlotList) {
+            this.timeSlotList = timeSlotList;
+
+            return this;
+        }
+
+        public InterviewerDayAvailability build() {
+            return new InterviewerDayAvailability(this);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package app.model.interviewer;
+
+import lombok.Getter;
+
+@Getter
+public class InterviewerView {
+    private final String name;
+
+    public InterviewerView(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,63 @@
+package app.model.interviewslots;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+public class InterviewLoop {
+    private LocalDate day;
+    private LocalTime from;
+    private LocalTime to;
+    private List<PanelSlot> stageSlotList;
+
+    public InterviewLoop() {}
+
+    public InterviewLoop(Builder builder) {
+        this.day = builder.day;
+        this.from = builder.from;
+        this.to = builder.to;
+        this.stageSlotList = builder.stageSlotList;
+    }
+
+    public static class Builder {
+        private LocalDate day;
+        private LocalTime from;
+        private LocalTime to;
+        private List<PanelSlot> stageSlotList;
+
+        public static Builder interviewLoopWith() {
+            return new Builder();
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withFrom(LocalTime from) {
+            this.from = from;
+
+            return this;
+        }
+
+        public Builder withTo(LocalTime to) {
+            this.to = to;
+
+            return this;
+        }
+
+        public Builder withStageSlotList(List<PanelSlot> stageSlotList) {
+            this.stageSlotList = stageSlotList;
+
+            return this;
+        }
+
+        public InterviewLoop build() {
+            return new InterviewLoop(this);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package app.model.interviewslots;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class InterviewLoopQuery {
+    private String candidateName;
+    private List<InterviewLoopStage> stageList;
+    private Integer maximumGapMinutes;
+    private Integer maximumLoops;
+
+    public InterviewLoopQuery() {}
+
+    public InterviewLoopQuery(Builder builder) {
+        this.candidateName = builder.candidateName;
+        this.stageList = builder.stageList;
+        this.maximumGapMinutes = builder.maximumGapMinutes;
+        this.maximumLoops = builder.maximumLoops;
+    }
+
+    public static class Builder {
+        private String candidateName;
+        private List<InterviewLoopStage> stageList;
+        private Integer maximumGapMinutes;
+        private Integer maximumLoops;
+
+        public static Builder interviewLoopQueryWith() {
+            return new Builder();
+        }
+
+        public Builder withCandidateName(String candidateName) {
+            this.candidateName = candidateName;
+
+            return this;
+        }
+
+        public Builder withStageList(List<InterviewLoopStage> stageList) {
+            this.stageList = stageList;
+
+            return this;
+        }
+
+        public Builder withMaximumGapMinutes(Integer maximumGapMinutes) {
+            this.maximumGapMinutes = maximumGapMinutes;
+
+            return this;
+        }
+
+        public Builder withMaximumLoops(Integer maximumLoops) {
+            this.maximumLoops = maximumLoops;
+
+            return this;
+        }
+
+        public InterviewLoopQuery build() {
+            return new InterviewLoopQuery(this);
+        }
+    }
+}
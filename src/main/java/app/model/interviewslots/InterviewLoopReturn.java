@@ -0,0 +1,43 @@
+package app.model.interviewslots;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class InterviewLoopReturn {
+    private String candidateName;
+    private List<InterviewLoop> interviewLoopList;
+
+    public InterviewLoopReturn() {}
+
+    public InterviewLoopReturn(Builder builder) {
+        this.candidateName = builder.candidateName;
+        this.interviewLoopList = builder.interviewLoopList;
+    }
+
+    public static class Builder {
+        private String candidateName;
+        private List<InterviewLoop> interviewLoopList;
+
+        public static Builder interviewLoopReturnWith() {
+            return new Builder();
+        }
+
+        public Builder withCandidateName(String candidateName) {
+            this.candidateName = candidateName;
+
+            return this;
+        }
+
+        public Builder withInterviewLoopList(List<InterviewLoop> interviewLoopList) {
+            this.interviewLoopList = interviewLoopList;
+
+            return this;
+        }
+
+        public InterviewLoopReturn build() {
+            return new InterviewLoopReturn(this);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package app.model.interviewslots;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class InterviewLoopStage {
+    private List<String> interviewersNames;
+    private Integer durationMinutes;
+
+    public InterviewLoopStage() {}
+
+    public InterviewLoopStage(Builder builder) {
+        this.interviewersNames = builder.interviewersNames;
+        this.durationMinutes = builder.durationMinutes;
+    }
+
+    public static class Builder {
+        private List<String> interviewersNames;
+        private Integer durationMinutes;
+
+        public static Builder interviewLoopStageWith() {
+            return new Builder();
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public Builder withDurationMinutes(Integer durationMinutes) {
+            this.durationMinutes = durationMinutes;
+
+            return this;
+        }
+
+        public InterviewLoopStage build() {
+            return new InterviewLoopStage(this);
+        }
+    }
+}
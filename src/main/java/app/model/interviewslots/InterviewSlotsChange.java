@@ -0,0 +1,63 @@
+package app.model.interviewslots;
+
+import app.model.utils.AvailabilitySlot;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class InterviewSlotsChange {
+    private String candidateName;
+    private List<String> interviewersNames;
+    private List<LocalDate> changedDays;
+    private List<AvailabilitySlot> interviewAvailabilitySlotList;
+
+    public InterviewSlotsChange() {}
+
+    public InterviewSlotsChange(Builder builder) {
+        this.candidateName = builder.candidateName;
+        this.interviewersNames = builder.interviewersNames;
+        this.changedDays = builder.changedDays;
+        this.interviewAvailabilitySlotList = builder.interviewAvailabilitySlotList;
+    }
+
+    public static class Builder {
+        private String candidateName;
+        private List<String> interviewersNames;
+        private List<LocalDate> changedDays;
+        private List<AvailabilitySlot> interviewAvailabilitySlotList;
+
+        public static Builder interviewSlotsChangeWith() {
+            return new Builder();
+        }
+
+        public Builder withCandidateName(String candidateName) {
+            this.candidateName = candidateName;
+
+            return this;
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public Builder withChangedDays(List<LocalDate> changedDays) {
+            this.changedDays = changedDays;
+
+            return this;
+        }
+
+        public Builder withInterviewAvailabilitySlotList(List<AvailabilitySlot> interviewAvailabilitySlotList) {
+            this.interviewAvailabilitySlotList = interviewAvailabilitySlotList;
+
+            return this;
+        }
+
+        public InterviewSlotsChange build() {
+            return new InterviewSlotsChange(this);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package app.model.interviewslots;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class PanelAvailabilityQuery {
+    private List<String> interviewersNames;
+    private Integer minimumInterviewers;
+    private LocalDate from;
+    private LocalDate to;
+
+    public PanelAvailabilityQuery() {}
+
+    public PanelAvailabilityQuery(Builder builder) {
+        this.interviewersNames = builder.interviewersNames;
+        this.minimumInterviewers = builder.minimumInterviewers;
+        this.from = builder.from;
+        this.to = builder.to;
+    }
+
+    public static class Builder {
+        private List<String> interviewersNames;
+        private Integer minimumInterviewers;
+        private LocalDate from;
+        private LocalDate to;
+
+        public static Builder panelAvailabilityQueryWith() {
+            return new Builder();
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public Builder withMinimumInterviewers(Integer minimumInterviewers) {
+            this.minimumInterviewers = minimumInterviewers;
+
+            return this;
+        }
+
+        public Builder withFrom(LocalDate from) {
+            this.from = from;
+
+            return this;
+        }
+
+        public Builder withTo(LocalDate to) {
+            this.to = to;
+
+            return this;
+        }
+
+        public PanelAvailabilityQuery build() {
+            return new PanelAvailabilityQuery(this);
+        }
+    }
+}
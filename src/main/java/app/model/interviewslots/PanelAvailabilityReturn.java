@@ -0,0 +1,52 @@
+package app.model.interviewslots;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PanelAvailabilityReturn {
+    private List<String> interviewersNames;
+    private int minimumInterviewers;
+    private List<PanelSlot> panelSlotList;
+
+    public PanelAvailabilityReturn() {}
+
+    public PanelAvailabilityReturn(Builder builder) {
+        this.interviewersNames = builder.interviewersNames;
+        this.minimumInterviewers = builder.minimumInterviewers;
+        this.panelSlotList = builder.panelSlotList;
+    }
+
+    public static class Builder {
+        private List<String> interviewersNames;
+        private int minimumInterviewers;
+        private List<PanelSlot> panelSlotList;
+
+        public static Builder panelAvailabilityReturnWith() {
+            return new Builder();
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public Builder withMinimumInterviewers(int minimumInterviewers) {
+            this.minimumInterviewers = minimumInterviewers;
+
+            return this;
+        }
+
+        public Builder withPanelSlotList(List<PanelSlot> panelSlotList) {
+            this.panelSlotList = panelSlotList;
+
+            return this;
+        }
+
+        public PanelAvailabilityReturn build() {
+            return new PanelAvailabilityReturn(this);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package app.model.interviewslots;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+public class PanelSlot {
+    private LocalDate day;
+    private LocalTime from;
+    private LocalTime to;
+    private List<String> availableInterviewersNames;
+
+    public PanelSlot() {}
+
+    public PanelSlot(Builder builder) {
+        this.day = builder.day;
+        this.from = builder.from;
+        this.to = builder.to;
+        this.availableInterviewersNames = builder.availableInterviewersNames;
+    }
+
+    public static class Builder {
+        private LocalDate day;
+        private LocalTime from;
+        private LocalTime to;
+        private List<String> availableInterviewersNames;
+
+        public static Builder panelSlotWith() {
+            return new Builder();
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withFrom(LocalTime from) {
+            this.from = from;
+
+            return this;
+        }
+
+        public Builder withTo(LocalTime to) {
+            this.to = to;
+
+            return this;
+        }
+
+        public Builder withAvailableInterviewersNames(List<String> availableInterviewersNames) {
+            this.availableInterviewersNames = availableInterviewersNames;
+
+            return this;
+        }
+
+        public PanelSlot build() {
+            return new PanelSlot(this);
+        }
+    }
+}
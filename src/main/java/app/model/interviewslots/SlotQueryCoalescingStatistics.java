@@ -0,0 +1,50 @@
+package app.model.interviewslots;
+
+import lombok.Getter;
+
+@Getter
+public class SlotQueryCoalescingStatistics {
+    private long executedQueries;
+    private long coalescedQueries;
+    private int inFlightQueries;
+
+    public SlotQueryCoalescingStatistics() {}
+
+    public SlotQueryCoalescingStatistics(Builder builder) {
+        this.executedQueries = builder.executedQueries;
+        this.coalescedQueries = builder.coalescedQueries;
+        this.inFlightQueries = builder.inFlightQueries;
+    }
+
+    public static class Builder {
+        private long executedQueries;
+        private long coalescedQueries;
+        private int inFlightQueries;
+
+        public static Builder slotQueryCoalescingStatisticsWith() {
+            return new Builder();
+        }
+
+        public Builder withExecutedQueries(long executedQueries) {
+            this.executedQueries = executedQueries;
+
+            return this;
+        }
+
+        public Builder withCoalescedQueries(long coalescedQueries) {
+            this.coalescedQueries = coalescedQueries;
+
+            return this;
+        }
+
+        public Builder withInFlightQueries(int inFlightQueries) {
+            this.inFlightQueries = inFlightQueries;
+
+            return this;
+        }
+
+        public SlotQueryCoalescingStatistics build() {
+            return new SlotQueryCoalescingStatistics(this);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package app.model.interviewslots;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+public class SlowSlotQuery {
+    private Instant capturedAt;
+    private InterviewSlotsQuery query;
+    private double elapsedMillis;
+    private int participants;
+    private int days;
+    private int timeSlots;
+    private Map<String, Double> phaseMillis;
+    private String error;
+
+    public SlowSlotQuery() {}
+
+    public SlowSlotQuery(Builder builder) {
+        this.capturedAt = builder.capturedAt;
+        this.query = builder.query;
+        this.elapsedMillis = builder.elapsedMillis;
+        this.participants = builder.participants;
+        this.days = builder.days;
+        this.timeSlots = builder.timeSlots;
+        this.phaseMillis = builder.phaseMillis;
+        this.error = builder.error;
+    }
+
+    public static class Builder {
+        private Instant capturedAt;
+        private InterviewSlotsQuery query;
+        private double elapsedMillis;
+        private int participants;
+        private int days;
+        private int timeSlots;
+        private Map<String, Double> phaseMillis;
+        private String error;
+
+        public static Builder slowSlotQueryWith() {
+            return new Builder();
+        }
+
+        public Builder withCapturedAt(Instant capturedAt) {
+            this.capturedAt = capturedAt;
+
+            return this;
+        }
+
+        public Builder withQuery(InterviewSlotsQuery query) {
+            this.query = query;
+
+            return this;
+        }
+
+        public Builder withElapsedMillis(double elapsedMillis) {
+            this.elapsedMillis = elapsedMillis;
+
+            return this;
+        }
+
+        public Builder withParticipants(int participants) {
+            this.participants = participants;
+
+            return this;
+        }
+
+        public Builder withDays(int days) {
+            this.days = days;
+
+            return this;
+        }
+
+        public Builder withTimeSlots(int timeSlots) {
+            this.timeSlots = timeSlots;
+
+            return this;
+        }
+
+        public Builder withPhaseMillis(Map<String, Double> phaseMillis) {
+            this.phaseMillis = phaseMillis;
+
+            return this;
+        }
+
+        public Builder withError(String error) {
+            this.error = error;
+
+            return this;
+        }
+
+        public SlowSlotQuery build() {
+            return new SlowSlotQuery(this);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package app.model.retention;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class RetentionReport {
+    private LocalDate cutoffDay;
+    private long availabilitiesScanned;
+    private long availabilitiesUpdated;
+    private long availabilitiesSkipped;
+    private long availabilitiesConflicted;
+    private long rowsReclaimed;
+    private long bytesReclaimed;
+
+    public RetentionReport() {}
+
+    public RetentionReport(Builder builder) {
+        this.cutoffDay = builder.cutoffDay;
+        this.availabilitiesScanned = builder.availabilitiesScanned;
+        this.availabilitiesUpdated = builder.availabilitiesUpdated;
+        this.availabilitiesSkipped = builder.availabilitiesSkipped;
+        this.availabilitiesConflicted = builder.availabilitiesConflicted;
+        this.rowsReclaimed = builder.rowsReclaimed;
+        this.bytesReclaimed = builder.bytesReclaimed;
+    }
+
+    @Override
+    public String toString() {
+        return "RetentionReport{cutoffDay=" + cutoffDay
+               + ", availabilitiesScanned=" + availabilitiesScanned
+               + ", availabilitiesUpdated=" + availabilitiesUpdated
+               + ", availabilitiesSkipped=" + availabilitiesSkipped
+               + ", availabilitiesConflicted=" + availabilitiesConflicted
+               + ", rowsReclaimed=" + rowsReclaimed
+               + ", bytesReclaimed=" + bytesReclaimed + "}";
+    }
+
+    public static class Builder {
+        private LocalDate cutoffDay;
+        private long availabilitiesScanned;
+        private long availabilitiesUpdated;
+        private long availabilitiesSkipped;
+        private long availabilitiesConflicted;
+        private long rowsReclaimed;
+        private long bytesReclaimed;
+
+        public static Builder retentionReportWith() {
+            return new Builder();
+        }
+
+        public Builder withCutoffDay(LocalDate cutoffDay) {
+            this.cutoffDay = cutoffDay;
+
+            return this;
+        }
+
+        public Builder withAvailabilitiesScanned(long availabilitiesScanned) {
+            this.availabilitiesScanned = availabilitiesScanned;
+
+            return this;
+        }
+
+        public Builder withAvailabilitiesUpdated(long availabilitiesUpdated) {
+            this.availabilitiesUpdated = availabilitiesUpdated;
+
+            return this;
+        }
+
+        public Builder withAvailabilitiesSkipped(long availabilitiesSkipped) {
+            this.availabilitiesSkipped = availabilitiesSkipped;
+
+            return this;
+        }
+
+        public Builder withAvailabilitiesConflicted(long availabilitiesConflicted) {
+            this.availabilitiesConflicted = availabilitiesConflicted;
+
+            return this;
+        }
+
+        public Builder withRowsReclaimed(long rowsReclaimed) {
+            this.rowsReclaimed = rowsReclaimed;
+
+            return this;
+        }
+
+        public Builder withBytesReclaimed(long bytesReclaimed) {
+            this.bytesReclaimed = bytesReclaimed;
+
+            return this;
+        }
+
+        public RetentionReport build() {
+            return new RetentionReport(this);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package app.model.scheduling;
+
+import app.model.utils.TimeSlot;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class ScheduledInterview {
+    private String candidateName;
+    private List<String> interviewersNames;
+    private LocalDate day;
+    private TimeSlot timeSlot;
+    private Long bookingId;
+
+    public ScheduledInterview() {}
+
+    public ScheduledInterview(Builder builder) {
+        this.candidateName = builder.candidateName;
+        this.interviewersNames = builder.interviewersNames;
+        this.day = builder.day;
+        this.timeSlot = builder.timeSlot;
+        this.bookingId = builder.bookingId;
+    }
+
+    public static class Builder {
+        private String candidateName;
+        private List<String> interviewersNames;
+        private LocalDate day;
+        private TimeSlot timeSlot;
+        private Long bookingId;
+
+        public static Builder scheduledInterviewWith() {
+            return new Builder();
+        }
+
+        public Builder withCandidateName(String candidateName) {
+            this.candidateName = candidateName;
+
+            return this;
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withTimeSlot(TimeSlot timeSlot) {
+            this.timeSlot = timeSlot;
+
+            return this;
+        }
+
+        public Builder withBookingId(Long bookingId) {
+            this.bookingId = bookingId;
+
+            return this;
+        }
+
+        public ScheduledInterview build() {
+            return new ScheduledInterview(this);
+        }
+    }
+}
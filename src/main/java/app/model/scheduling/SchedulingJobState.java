@@ -0,0 +1,10 @@
+package app.model.scheduling;
+
+public enum SchedulingJobState {
+    QUEUED,
+    LOADING,
+    SCHEDULING,
+    BOOKING,
+    COMPLETED,
+    FAILED
+}
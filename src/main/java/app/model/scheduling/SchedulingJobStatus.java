@@ -0,0 +1,124 @@
+package app.model.scheduling;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SchedulingJobStatus {
+    private Long id;
+    private SchedulingJobState state;
+    private int totalCandidates;
+    private int processedCandidates;
+    private int scheduledCandidates;
+    private int totalComponents;
+    private int completedComponents;
+    private long elapsedMillis;
+    private List<ScheduledInterview> scheduledInterviews;
+    private List<String> unscheduledCandidatesNames;
+    private String error;
+
+    public SchedulingJobStatus() {}
+
+    public SchedulingJobStatus(Builder builder) {
+        this.id = builder.id;
+        this.state = builder.state;
+        this.totalCandidates = builder.totalCandidates;
+        this.processedCandidates = builder.processedCandidates;
+        this.scheduledCandidates = builder.scheduledCandidates;
+        this.totalComponents = builder.totalComponents;
+        this.completedComponents = builder.completedComponents;
+        this.elapsedMillis = builder.elapsedMillis;
+        this.scheduledInterviews = builder.scheduledInterviews;
+        this.unscheduledCandidatesNames = builder.unscheduledCandidatesNames;
+        this.error = builder.error;
+    }
+
+    public static class Builder {
+        private Long id;
+        private SchedulingJobState state;
+        private int totalCandidates;
+        private int processedCandidates;
+        private int scheduledCandidates;
+        private int totalComponents;
+        private int completedComponents;
+        private long elapsedMillis;
+        private List<ScheduledInterview> scheduledInterviews;
+        private List<String> unscheduledCandidatesNames;
+        private String error;
+
+        public static Builder schedulingJobStatusWith() {
+            return new Builder();
+        }
+
+        public Builder withId(Long id) {
+            this.id = id;
+
+            return this;
+        }
+
+        public Builder withState(SchedulingJobState state) {
+            this.state = state;
+
+            return this;
+        }
+
+        public Builder withTotalCandidates(int totalCandidates) {
+            this.totalCandidates = totalCandidates;
+
+            return this;
+        }
+
+        public Builder withProcessedCandidates(int processedCandidates) {
+            this.processedCandidates = processedCandidates;
+
+            return this;
+        }
+
+        public Builder withScheduledCandidates(int scheduledCandidates) {
+            this.scheduledCandidates = scheduledCandidates;
+
+            return this;
+        }
+
+        public Builder withTotalComponents(int totalComponents) {
+            this.totalComponents = totalComponents;
+
+            return this;
+        }
+
+        public Builder withCompletedComponents(int completedComponents) {
+            this.completedComponents = completedComponents;
+
+            return this;
+        }
+
+        public Builder withElapsedMillis(long elapsedMillis) {
+            this.elapsedMillis = elapsedMillis;
+
+            return this;
+        }
+
+        public Builder withScheduledInterviews(List<ScheduledInterview> scheduledInterviews) {
+            this.scheduledInterviews = scheduledInterviews;
+
+            return this;
+        }
+
+        public Builder withUnscheduledCandidatesNames(List<String> unscheduledCandidatesNames) {
+            this.unscheduledCandidatesNames = unscheduledCandidatesNames;
+
+            return this;
+        }
+
+        public Builder withError(String error) {
+            this.error = error;
+
+            return this;
+        }
+
+        public SchedulingJobStatus build() {
+            return new SchedulingJobStatus(this);
+        }
+    }
+}
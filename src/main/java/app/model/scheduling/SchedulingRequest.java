@@ -0,0 +1,98 @@
+package app.model.scheduling;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class SchedulingRequest {
+    private List<String> candidatesNames;
+    private List<String> interviewersNames;
+    private Integer panelSize;
+    private Integer durationHours;
+    private Integer maximumInterviewsPerInterviewer;
+    private LocalDate from;
+    private LocalDate to;
+    private boolean book;
+
+    public SchedulingRequest() {}
+
+    public SchedulingRequest(Builder builder) {
+        this.candidatesNames = builder.candidatesNames;
+        this.interviewersNames = builder.interviewersNames;
+        this.panelSize = builder.panelSize;
+        this.durationHours = builder.durationHours;
+        this.maximumInterviewsPerInterviewer = builder.maximumInterviewsPerInterviewer;
+        this.from = builder.from;
+        this.to = builder.to;
+        this.book = builder.book;
+    }
+
+    public static class Builder {
+        private List<String> candidatesNames;
+        private List<String> interviewersNames;
+        private Integer panelSize;
+        private Integer durationHours;
+        private Integer maximumInterviewsPerInterviewer;
+        private LocalDate from;
+        private LocalDate to;
+        private boolean book;
+
+        public static Builder schedulingRequestWith() {
+            return new Builder();
+        }
+
+        public Builder withCandidatesNames(List<String> candidatesNames) {
+            this.candidatesNames = candidatesNames;
+
+            return this;
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public Builder withPanelSize(Integer panelSize) {
+            this.panelSize = panelSize;
+
+            return this;
+        }
+
+        public Builder withDurationHours(Integer durationHours) {
+            this.durationHours = durationHours;
+
+            return this;
+        }
+
+        public Builder withMaximumInterviewsPerInterviewer(Integer maximumInterviewsPerInterviewer) {
+            this.maximumInterviewsPerInterviewer = maximumInterviewsPerInterviewer;
+
+            return this;
+        }
+
+        public Builder withFrom(LocalDate from) {
+            this.from = from;
+
+            return this;
+        }
+
+        public Builder withTo(LocalDate to) {
+            this.to = to;
+
+            return this;
+        }
+
+        public Builder withBook(boolean book) {
+            this.book = book;
+
+            return this;
+        }
+
+        public SchedulingRequest build() {
+            return new SchedulingRequest(this);
+        }
+    }
+}
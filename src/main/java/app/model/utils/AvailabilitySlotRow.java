@@ -0,0 +1,20 @@
+package app.model.utils;
+
+import lombok.Getter;
+
+/**
+ * One availability slot together with the availability and owner it belongs to, as returned by a single flat query.
+ * The slot is {@code null} for an availability without any slots.
+ */
+@Getter
+public class AvailabilitySlotRow {
+    private final Long availabilityId;
+    private final String ownerName;
+    private final AvailabilitySlot availabilitySlot;
+
+    public AvailabilitySlotRow(Long availabilityId, String ownerName, AvailabilitySlot availabilitySlot) {
+        this.availabilityId = availabilityId;
+        this.ownerName = ownerName;
+        this.availabilitySlot = availabilitySlot;
+    }
+}
@@ -0,0 +1,93 @@
+package app.model.utils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A day of availability as a 24-bit mask: bit {@code h} is set when the whole hour starting at {@code h} is free.
+ * Time slots are combined in quarter hours first, so adjacent slots shorter than an hour still make up that hour.
+ */
+public final class HourMasks {
+    public static final int HOURS_PER_DAY = 24;
+
+    private static final SlotGranularity QUARTER_HOURS = new SlotGranularity(15);
+    private static final int QUARTER_HOURS_PER_HOUR = 4;
+    private static final long WHOLE_HOUR_QUARTERS = 0xFL;
+
+    private HourMasks() {
+    }
+
+    public static int toHourMask(List<TimeSlot> timeSlotList) {
+        return toHourMask(QUARTER_HOURS.toSlotMask(timeSlotList));
+    }
+
+    public static Map<LocalDate, Integer> toHourMasksByDay(Collection<AvailabilitySlot> availabilitySlotList) {
+        Map<LocalDate, Integer> hourMasksByDay = new HashMap<>();
+
+        QUARTER_HOURS.toSlotMasksByDay(availabilitySlotList).forEach(
+                (day, quarterHourMask) -> hourMasksByDay.put(day, toHourMask(quarterHourMask)));
+
+        return hourMasksByDay;
+    }
+
+    public static List<TimeSlot> toTimeSlots(int hourMask) {
+        List<TimeSlot> timeSlotList = new ArrayList<>();
+        int hour = 0;
+
+        while (hour < HOURS_PER_DAY) {
+            if ((hourMask & (1 << hour)) == 0) {
+                hour++;
+                continue;
+            }
+
+            int fromHour = hour;
+
+            while (hour < HOURS_PER_DAY && (hourMask & (1 << hour)) != 0) {
+                hour++;
+            }
+
+            timeSlotList.add(TimeSlot.Builder.timeSlotWith()
+                                             .withFrom(toLocalTime(fromHour))
+                                             .withTo(toLocalTime(hour))
+                                             .build());
+        }
+
+        return timeSlotList;
+    }
+
+    public static LocalTime toLocalTime(int hour) {
+        return hour < HOURS_PER_DAY ? LocalTime.of(hour, 0) : LocalTime.MAX;
+    }
+
+    private static int toHourMask(long[] quarterHourMask) {
+        int hourMask = 0;
+
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            // The four quarters of an hour never straddle two words.
+            int quarter = hour * QUARTER_HOURS_PER_HOUR;
+
+            if (((quarterHourMask[quarter / Long.SIZE] >>> quarter) & WHOLE_HOUR_QUARTERS) == WHOLE_HOUR_QUARTERS) {
+                hourMask |= 1 << hour;
+            }
+        }
+
+        return hourMask;
+    }
+
+    public static Set<LocalDate> getDays(Collection<AvailabilitySlot> availabilitySlotList) {
+        Set<LocalDate> days = new HashSet<>();
+
+        for (AvailabilitySlot availabilitySlot : availabilitySlotList) {
+            days.add(availabilitySlot.getDay());
+        }
+
+        return days;
+    }
+}
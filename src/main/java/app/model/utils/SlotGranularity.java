@@ -0,0 +1,239 @@
+package app.model.utils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Slots of 15, 30 or 60 minutes, and a day of availability as a fixed-width bitset of them: bit {@code s} is set when
+ * the whole slot starting {@code s * minutes} after midnight is free. A day takes two words with 15 minute slots and
+ * one otherwise, so combining days costs the same few word operations whatever the granularity.
+ */
+public class SlotGranularity {
+    public static final SlotGranularity HOUR = new SlotGranularity(60);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    private final int minutes;
+    private final int slotsPerDay;
+    private final int wordsPerDay;
+
+    public SlotGranularity(int minutes) {
+        if (minutes != 15 && minutes != 30 && minutes != 60) {
+            throw new IllegalArgumentException("Granularity must be 15, 30 or 60 minutes: " + minutes);
+        }
+
+        this.minutes = minutes;
+        this.slotsPerDay = MINUTES_PER_DAY / minutes;
+        this.wordsPerDay = (slotsPerDay + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    public int getMinutes() {
+        return minutes;
+    }
+
+    public int getSlotsPerDay() {
+        return slotsPerDay;
+    }
+
+    public int getWordsPerDay() {
+        return wordsPerDay;
+    }
+
+    public boolean isAligned(LocalTime time) {
+        return time.getNano() == 0 && time.toSecondOfDay() % (minutes * SECONDS_PER_MINUTE) == 0;
+    }
+
+    /**
+     * Message for a time slot, named by {@code slotName}, that does not start and end on a slot boundary.
+     */
+    public String getAlignmentMessage(String slotName) {
+        if (minutes == HOUR.getMinutes()) {
+            return slotName + " must be from the beginning of the hour until the beginning of the next hour!";
+        }
+
+        return slotName + " must start and end on a multiple of " + minutes + " minutes!";
+    }
+
+    public long[] newSlotMask() {
+        return new long[wordsPerDay];
+    }
+
+    /**
+     * Only slots that lie entirely within a time slot are set, so a time slot that is not aligned to the granularity
+     * is rounded inwards.
+     */
+    public long[] toSlotMask(List<TimeSlot> timeSlotList) {
+        long[] slotMask = newSlotMask();
+
+        for (TimeSlot timeSlot : timeSlotList) {
+            setSlots(slotMask, toSlotAtOrAfter(timeSlot.getFrom()), toSlotAtOrBefore(timeSlot.getTo()));
+        }
+
+        return slotMask;
+    }
+
+    public Map<LocalDate, long[]> toSlotMasksByDay(Collection<AvailabilitySlot> availabilitySlotList) {
+        Map<LocalDate, long[]> slotMasksByDay = new HashMap<>();
+
+        for (AvailabilitySlot availabilitySlot : availabilitySlotList) {
+            long[] slotMask = toSlotMask(availabilitySlot.getTimeSlotList());
+            long[] existingSlotMask = slotMasksByDay.putIfAbsent(availabilitySlot.getDay(), slotMask);
+
+            if (existingSlotMask != null) {
+                or(existingSlotMask, slotMask);
+            }
+        }
+
+        return slotMasksByDay;
+    }
+
+    public List<TimeSlot> toTimeSlots(long[] slotMask) {
+        List<TimeSlot> timeSlotList = new ArrayList<>();
+        int fromSlot = nextSetSlot(slotMask, 0);
+
+        while (fromSlot >= 0) {
+            int toSlot = nextClearSlot(slotMask, fromSlot);
+
+            timeSlotList.add(TimeSlot.Builder.timeSlotWith()
+                                             .withFrom(toLocalTime(fromSlot))
+                                             .withTo(toLocalTime(toSlot))
+                                             .build());
+
+            fromSlot = nextSetSlot(slotMask, toSlot);
+        }
+
+        return timeSlotList;
+    }
+
+    public LocalTime toLocalTime(int slot) {
+        return slot < slotsPerDay
+               ? LocalTime.ofSecondOfDay((long) slot * minutes * SECONDS_PER_MINUTE)
+               : LocalTime.MAX;
+    }
+
+    public static void and(long[] slotMask, long[] otherSlotMask) {
+        for (int word = 0; word < slotMask.length; word++) {
+            slotMask[word] &= otherSlotMask[word];
+        }
+    }
+
+    public static void or(long[] slotMask, long[] otherSlotMask) {
+        for (int word = 0; word < slotMask.length; word++) {
+            slotMask[word] |= otherSlotMask[word];
+        }
+    }
+
+    public static void andNot(long[] slotMask, long[] otherSlotMask) {
+        for (int word = 0; word < slotMask.length; word++) {
+            slotMask[word] &= ~otherSlotMask[word];
+        }
+    }
+
+    public static boolean contains(long[] slotMask, long[] otherSlotMask) {
+        for (int word = 0; word < slotMask.length; word++) {
+            if ((otherSlotMask[word] & ~slotMask[word]) != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public static boolean intersects(long[] slotMask, long[] otherSlotMask) {
+        for (int word = 0; word < slotMask.length; word++) {
+            if ((slotMask[word] & otherSlotMask[word]) != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public static boolean isEmpty(long[] slotMask) {
+        for (long word : slotMask) {
+            if (word != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int toSlotAtOrAfter(LocalTime time) {
+        int slotSeconds = minutes * SECONDS_PER_MINUTE;
+        int secondOfDay = time.toSecondOfDay() + (time.getNano() > 0 ? 1 : 0);
+
+        return Math.min((secondOfDay + slotSeconds - 1) / slotSeconds, slotsPerDay);
+    }
+
+    private int toSlotAtOrBefore(LocalTime time) {
+        // LocalTime.MAX is how a slot that lasts until midnight ends.
+        return time.equals(LocalTime.MAX) ? slotsPerDay : time.toSecondOfDay() / (minutes * SECONDS_PER_MINUTE);
+    }
+
+    private static void setSlots(long[] slotMask, int fromSlot, int toSlot) {
+        if (fromSlot >= toSlot) {
+            return;
+        }
+
+        int fromWord = fromSlot / Long.SIZE;
+        int toWord = (toSlot - 1) / Long.SIZE;
+        // Shift distances are taken modulo 64, so these keep the bits from fromSlot and those below toSlot in a word.
+        long fromWordMask = -1L << fromSlot;
+        long toWordMask = -1L >>> -toSlot;
+
+        if (fromWord == toWord) {
+            slotMask[fromWord] |= fromWordMask & toWordMask;
+            return;
+        }
+
+        slotMask[fromWord] |= fromWordMask;
+
+        for (int word = fromWord + 1; word < toWord; word++) {
+            slotMask[word] = -1L;
+        }
+
+        slotMask[toWord] |= toWordMask;
+    }
+
+    public static int nextSetSlot(long[] slotMask, int fromSlot) {
+        int word = fromSlot / Long.SIZE;
+
+        if (word >= slotMask.length) {
+            return -1;
+        }
+
+        long bits = slotMask[word] & (-1L << fromSlot);
+
+        while (bits == 0) {
+            if (++word == slotMask.length) {
+                return -1;
+            }
+
+            bits = slotMask[word];
+        }
+
+        return word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+    }
+
+    private int nextClearSlot(long[] slotMask, int fromSlot) {
+        int word = fromSlot / Long.SIZE;
+        long bits = ~slotMask[word] & (-1L << fromSlot);
+
+        while (bits == 0) {
+            if (++word == slotMask.length) {
+                return slotsPerDay;
+            }
+
+            bits = ~slotMask[word];
+        }
+
+        return Math.min(word * Long.SIZE + Long.numberOfTrailingZeros(bits), slotsPerDay);
+    }
+}
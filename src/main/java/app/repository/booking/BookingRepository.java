@@ -0,0 +1,9 @@
+package app.repository.booking;
+
+import app.model.booking.Booking;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BookingRepository extends JpaRepository<Booking, Long> {
+}
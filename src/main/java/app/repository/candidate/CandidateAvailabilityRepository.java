@@ -1,12 +1,35 @@
 package app.repository.candidate;
 
 import app.model.candidate.CandidateAvailability;
+import app.model.candidate.CandidateAvailabilityView;
+import app.model.utils.AvailabilitySlotRow;
+import app.repository.utils.AvailabilitySlotRows;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CandidateAvailabilityRepository extends JpaRepository<CandidateAvailability, Long> {
     @Query("select ca from CandidateAvailability ca where ca.candidateModel.name = :name")
     CandidateAvailability getAvailability(String name);
+
+    @Query("select new app.model.utils.AvailabilitySlotRow(ca.id, c.name, s) from CandidateAvailability ca "
+           + "join ca.candidateModel c left join ca.availabilitySlotList s order by ca.id")
+    List<AvailabilitySlotRow> findAllAvailabilitySlotRows();
+
+    @Query("select new app.model.utils.AvailabilitySlotRow(ca.id, c.name, s) from CandidateAvailability ca "
+           + "join ca.candidateModel c left join ca.availabilitySlotList s where c.name = :name")
+    List<AvailabilitySlotRow> findAvailabilitySlotRowsByName(String name);
+
+    default List<CandidateAvailabilityView> findAllViews() {
+        return AvailabilitySlotRows.group(findAllAvailabilitySlotRows(), CandidateAvailabilityView::new);
+    }
+
+    default Optional<CandidateAvailabilityView> findViewByName(String name) {
+        return AvailabilitySlotRows.group(findAvailabilitySlotRowsByName(name), CandidateAvailabilityView::new)
+                                   .stream().findFirst();
+    }
 }
@@ -1,14 +1,22 @@
 package app.repository.candidate;
 
 import app.model.candidate.Candidate;
+import app.model.candidate.CandidateView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CandidateRepository extends JpaRepository<Candidate, String> {
     @Query("select c.name from Candidate c")
     List<String> getAllNames();
+
+    @Query("select new app.model.candidate.CandidateView(c.name) from Candidate c order by c.name")
+    List<CandidateView> findAllViews();
+
+    @Query("select new app.model.candidate.CandidateView(c.name) from Candidate c where c.name = :name")
+    Optional<CandidateView> findViewByName(String name);
 }
@@ -1,12 +1,36 @@
 package app.repository.interviewer;
 
 import app.model.interviewer.InterviewerAvailability;
+import app.model.interviewer.InterviewerAvailabilityView;
+import app.model.utils.AvailabilitySlotRow;
+import app.repository.utils.AvailabilitySlotRows;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface InterviewerAvailabilityRepository extends JpaRepository<InterviewerAvailability, Long> {
-    @Query("select ia from InterviewerAvailability ia where ia.interviewerModel.name = :name")
+    @Query("select distinct ia from InterviewerAvailability ia join fetch ia.interviewerModel i "
+           + "left join fetch ia.availabilitySlotList where i.name = :name")
     InterviewerAvailability getInterviewerAvailabilityByInterviewerName(String name);
+
+    @Query("select new app.model.utils.AvailabilitySlotRow(ia.id, i.name, s) from InterviewerAvailability ia "
+           + "join ia.interviewerModel i left join ia.availabilitySlotList s order by ia.id")
+    List<AvailabilitySlotRow> findAllAvailabilitySlotRows();
+
+    @Query("select new app.model.utils.AvailabilitySlotRow(ia.id, i.name, s) from InterviewerAvailability ia "
+           + "join ia.interviewerModel i left join ia.availabilitySlotList s where i.name = :name")
+    List<AvailabilitySlotRow> findAvailabilitySlotRowsByName(String name);
+
+    default List<InterviewerAvailabilityView> findAllViews() {
+        return AvailabilitySlotRows.group(findAllAvailabilitySlotRows(), InterviewerAvailabilityView::new);
+    }
+
+    default Optional<InterviewerAvailabilityView> findViewByName(String name) {
+        return AvailabilitySlotRows.group(findAvailabilitySlotRowsByName(name), InterviewerAvailabilityView::new)
+                                   .stream().findFirst();
+    }
 }
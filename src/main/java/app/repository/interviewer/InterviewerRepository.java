@@ -1,14 +1,29 @@
 package app.repository.interviewer;
 
 import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InterviewerRepository extends JpaRepository<Interviewer, String> {
     @Query("select i.name from Interviewer i")
     List<String> getAllNames();
+
+    /**
+     * Names only, so checking that interviewers exist does not also load each one's availability.
+     */
+    @Query("select i.name from Interviewer i where i.name in :names")
+    List<String> findExistingNames(Collection<String> names);
+
+    @Query("select new app.model.interviewer.InterviewerView(i.name) from Interviewer i order by i.name")
+    List<InterviewerView> findAllViews();
+
+    @Query("select new app.model.interviewer.InterviewerView(i.name) from Interviewer i where i.name = :name")
+    Optional<InterviewerView> findViewByName(String name);
 }
@@ -0,0 +1,568 @@
+package app.repository.mapped;
+
+import app.exception.TechnicalException;
+import app.exception.UserException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Stores owners and their per-day hour masks in fixed-size records of a memory-mapped file.
+ * <p>
+ * The file starts with a header followed by {@value #RECORD_SIZE}-byte records. An owner record holds the owner name,
+ * the identifier and version of its availability and the index of its first day record; day records form a chain
+ * ordered by day. Deleted records are pushed onto a free list and reused before the file grows. Only the owner
+ * directory (name to record index) lives on the heap and it is rebuilt by scanning the records on open.
+ * <p>
+ * Writes are not journaled. A new day chain is written completely before the owner record is switched to it, so a
+ * crash at worst leaks records instead of exposing a half written availability.
+ */
+@Component
+@Profile("mapped-file")
+public class MappedAvailabilityFile {
+    public static final int MAX_NAME_BYTES = 40;
+
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 64;
+
+    private static final int MAGIC = 0x41564C42;
+    private static final int FORMAT_VERSION = 1;
+    private static final int NO_RECORD = -1;
+
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_FORMAT_VERSION = 4;
+    private static final int HEADER_RECORD_COUNT = 8;
+    private static final int HEADER_FREE_LIST_HEAD = 12;
+    private static final int HEADER_NEXT_AVAILABILITY_ID = 16;
+
+    private static final byte KIND_FREE = 0;
+    private static final byte KIND_OWNER = 1;
+    private static final byte KIND_DAY = 2;
+
+    private static final int RECORD_KIND = 0;
+    private static final int RECORD_NEXT = 4;
+
+    private static final int OWNER_TYPE = 1;
+    private static final int OWNER_HAS_AVAILABILITY = 2;
+    private static final int OWNER_NAME_LENGTH = 3;
+    private static final int OWNER_AVAILABILITY_ID = 8;
+    private static final int OWNER_AVAILABILITY_VERSION = 16;
+    private static final int OWNER_NAME = 24;
+
+    private static final int DAY_EPOCH_DAY = 8;
+    private static final int DAY_HOUR_MASK = 16;
+
+    public enum OwnerType {
+        CANDIDATE, INTERVIEWER
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<OwnerType, Map<String, Integer>> ownerRecordIndexes = new EnumMap<>(OwnerType.class);
+    private final Map<Long, Integer> availabilityRecordIndexes = new HashMap<>();
+    private final FileChannel fileChannel;
+    private MappedByteBuffer buffer;
+
+    @Autowired
+    public MappedAvailabilityFile(@Value("${calendar.storage.mapped-file.path:data/availability.db}") String path,
+                                  @Value("${calendar.storage.mapped-file.initial-records:1024}") int initialRecords) {
+        for (OwnerType ownerType : OwnerType.values()) {
+            ownerRecordIndexes.put(ownerType, new HashMap<>());
+        }
+
+        try {
+            Path filePath = Paths.get(path).toAbsolutePath();
+            Files.createDirectories(filePath.getParent());
+
+            fileChannel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                           StandardOpenOption.WRITE);
+
+            if (fileChannel.size() == 0) {
+                initialize(Math.max(initialRecords, 1));
+            } else {
+                open();
+            }
+        } catch (IOException e) {
+            throw new TechnicalException("Availability file " + path + " could not be opened: " + e.getMessage());
+        }
+    }
+
+    public boolean ownerExists(OwnerType ownerType, String name) {
+        lock.readLock().lock();
+
+        try {
+            return ownerRecordIndexes.get(ownerType).containsKey(name);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<String> getOwnerNames(OwnerType ownerType) {
+        lock.readLock().lock();
+
+        try {
+            return new ArrayList<>(ownerRecordIndexes.get(ownerType).keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void saveOwner(OwnerType ownerType, String name) {
+        byte[] nameBytes = toNameBytes(name);
+
+        lock.writeLock().lock();
+
+        try {
+            if (ownerRecordIndexes.get(ownerType).containsKey(name)) {
+                return;
+            }
+
+            int ownerRecordIndex = allocateRecord();
+            int offset = recordOffset(ownerRecordIndex);
+
+            buffer.put(offset + OWNER_TYPE, (byte) ownerType.ordinal());
+            buffer.put(offset + OWNER_HAS_AVAILABILITY, (byte) 0);
+            buffer.put(offset + OWNER_NAME_LENGTH, (byte) nameBytes.length);
+            buffer.putInt(offset + RECORD_NEXT, NO_RECORD);
+            buffer.putLong(offset + OWNER_AVAILABILITY_ID, 0L);
+            buffer.putLong(offset + OWNER_AVAILABILITY_VERSION, 0L);
+
+            for (int i = 0; i < nameBytes.length; i++) {
+                buffer.put(offset + OWNER_NAME + i, nameBytes[i]);
+            }
+
+            buffer.put(offset + RECORD_KIND, KIND_OWNER);
+            ownerRecordIndexes.get(ownerType).put(name, ownerRecordIndex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean deleteOwner(OwnerType ownerType, String name) {
+        lock.writeLock().lock();
+
+        try {
+            Integer ownerRecordIndex = ownerRecordIndexes.get(ownerType).remove(name);
+
+            if (ownerRecordIndex == null) {
+                return false;
+            }
+
+            int offset = recordOffset(ownerRecordIndex);
+
+            if (buffer.get(offset + OWNER_HAS_AVAILABILITY) != 0) {
+                availabilityRecordIndexes.remove(buffer.getLong(offset + OWNER_AVAILABILITY_ID));
+            }
+
+            int firstDayRecordIndex = buffer.getInt(offset + RECORD_NEXT);
+            freeRecord(ownerRecordIndex);
+            freeDayChain(firstDayRecordIndex);
+
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<AvailabilityRecord> getAvailability(OwnerType ownerType, String name) {
+        lock.readLock().lock();
+
+        try {
+            Integer ownerRecordIndex = ownerRecordIndexes.get(ownerType).get(name);
+
+            return ownerRecordIndex != null ? readAvailability(ownerRecordIndex) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<AvailabilityRecord> findAvailabilityById(OwnerType ownerType, long availabilityId) {
+        lock.readLock().lock();
+
+        try {
+            Integer ownerRecordIndex = availabilityRecordIndexes.get(availabilityId);
+
+            if (ownerRecordIndex == null || readOwnerType(ownerRecordIndex) != ownerType) {
+                return Optional.empty();
+            }
+
+            return readAvailability(ownerRecordIndex);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<AvailabilityRecord> getAvailabilities(OwnerType ownerType) {
+        lock.readLock().lock();
+
+        try {
+            List<AvailabilityRecord> availabilityRecords = new ArrayList<>();
+
+            for (int ownerRecordIndex : ownerRecordIndexes.get(ownerType).values()) {
+                readAvailability(ownerRecordIndex).ifPresent(availabilityRecords::add);
+            }
+
+            return availabilityRecords;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the availability of an owner. {@code expectedVersion} must be {@code null} when the owner has no
+     * availability yet and equal to the stored version otherwise; days with an empty mask are not stored.
+     */
+    public AvailabilityRecord saveAvailability(OwnerType ownerType, String name, Long expectedVersion,
+                                               Map<LocalDate, Integer> hourMasksByDay) {
+        lock.writeLock().lock();
+
+        try {
+            Integer ownerRecordIndex = ownerRecordIndexes.get(ownerType).get(name);
+
+            if (ownerRecordIndex == null) {
+                throw new DataIntegrityViolationException(
+                        String.format("No %s owner with name %s exists!", ownerType, name));
+            }
+
+            int offset = recordOffset(ownerRecordIndex);
+            boolean hasAvailability = buffer.get(offset + OWNER_HAS_AVAILABILITY) != 0;
+            Long currentVersion = hasAvailability ? buffer.getLong(offset + OWNER_AVAILABILITY_VERSION) : null;
+
+            if (currentVersion == null ? expectedVersion != null : !currentVersion.equals(expectedVersion)) {
+                throw new OptimisticLockingFailureException(
+                        String.format("Availability of %s owner %s was updated concurrently!", ownerType, name));
+            }
+
+            long availabilityId = hasAvailability
+                                  ? buffer.getLong(offset + OWNER_AVAILABILITY_ID)
+                                  : nextAvailabilityId();
+            long version = currentVersion != null ? currentVersion + 1 : 0L;
+            int oldFirstDayRecordIndex = buffer.getInt(offset + RECORD_NEXT);
+            int newFirstDayRecordIndex = writeDayChain(hourMasksByDay);
+
+            buffer.putLong(offset + OWNER_AVAILABILITY_ID, availabilityId);
+            buffer.putLong(offset + OWNER_AVAILABILITY_VERSION, version);
+            buffer.putInt(offset + RECORD_NEXT, newFirstDayRecordIndex);
+            buffer.put(offset + OWNER_HAS_AVAILABILITY, (byte) 1);
+            availabilityRecordIndexes.put(availabilityId, ownerRecordIndex);
+
+            freeDayChain(oldFirstDayRecordIndex);
+
+            return readAvailability(ownerRecordIndex).orElseThrow(IllegalStateException::new);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean deleteAvailability(OwnerType ownerType, long availabilityId) {
+        lock.writeLock().lock();
+
+        try {
+            Integer ownerRecordIndex = availabilityRecordIndexes.get(availabilityId);
+
+            if (ownerRecordIndex == null || readOwnerType(ownerRecordIndex) != ownerType) {
+                return false;
+            }
+
+            int offset = recordOffset(ownerRecordIndex);
+            int firstDayRecordIndex = buffer.getInt(offset + RECORD_NEXT);
+
+            buffer.put(offset + OWNER_HAS_AVAILABILITY, (byte) 0);
+            buffer.putInt(offset + RECORD_NEXT, NO_RECORD);
+            availabilityRecordIndexes.remove(availabilityId);
+
+            freeDayChain(firstDayRecordIndex);
+
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int getRecordCount() {
+        lock.readLock().lock();
+
+        try {
+            return buffer.getInt(HEADER_RECORD_COUNT);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.writeLock().lock();
+
+        try {
+            buffer.force();
+            fileChannel.close();
+        } catch (IOException e) {
+            throw new TechnicalException("Availability file could not be closed: " + e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void initialize(int recordCount) throws IOException {
+        buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(recordCount));
+        buffer.putInt(HEADER_MAGIC, MAGIC);
+        buffer.putInt(HEADER_FORMAT_VERSION, FORMAT_VERSION);
+        buffer.putInt(HEADER_RECORD_COUNT, recordCount);
+        buffer.putInt(HEADER_FREE_LIST_HEAD, NO_RECORD);
+        buffer.putLong(HEADER_NEXT_AVAILABILITY_ID, 1L);
+
+        linkFreeRecords(0, recordCount);
+    }
+
+    private void open() throws IOException {
+        buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileChannel.size());
+
+        if (buffer.getInt(HEADER_MAGIC) != MAGIC || buffer.getInt(HEADER_FORMAT_VERSION) != FORMAT_VERSION) {
+            throw new IOException("not an availability file of format version " + FORMAT_VERSION);
+        }
+
+        int recordCount = buffer.getInt(HEADER_RECORD_COUNT);
+
+        for (int recordIndex = 0; recordIndex < recordCount; recordIndex++) {
+            int offset = recordOffset(recordIndex);
+
+            if (buffer.get(offset + RECORD_KIND) != KIND_OWNER) {
+                continue;
+            }
+
+            ownerRecordIndexes.get(readOwnerType(recordIndex)).put(readOwnerName(recordIndex), recordIndex);
+
+            if (buffer.get(offset + OWNER_HAS_AVAILABILITY) != 0) {
+                availabilityRecordIndexes.put(buffer.getLong(offset + OWNER_AVAILABILITY_ID), recordIndex);
+            }
+        }
+    }
+
+    private Optional<AvailabilityRecord> readAvailability(int ownerRecordIndex) {
+        int offset = recordOffset(ownerRecordIndex);
+
+        if (buffer.get(offset + OWNER_HAS_AVAILABILITY) == 0) {
+            return Optional.empty();
+        }
+
+        SortedMap<LocalDate, Integer> hourMasksByDay = new TreeMap<>();
+        int dayRecordIndex = buffer.getInt(offset + RECORD_NEXT);
+
+        while (dayRecordIndex != NO_RECORD) {
+            int dayOffset = recordOffset(dayRecordIndex);
+
+            hourMasksByDay.put(LocalDate.ofEpochDay(buffer.getLong(dayOffset + DAY_EPOCH_DAY)),
+                               buffer.getInt(dayOffset + DAY_HOUR_MASK));
+            dayRecordIndex = buffer.getInt(dayOffset + RECORD_NEXT);
+        }
+
+        return Optional.of(AvailabilityRecord.Builder.availabilityRecordWith()
+                                                     .withId(buffer.getLong(offset + OWNER_AVAILABILITY_ID))
+                                                     .withVersion(buffer.getLong(offset + OWNER_AVAILABILITY_VERSION))
+                                                     .withOwnerName(readOwnerName(ownerRecordIndex))
+                                                     .withHourMasksByDay(Collections.unmodifiableSortedMap(
+                                                             hourMasksByDay))
+                                                     .build());
+    }
+
+    private OwnerType readOwnerType(int ownerRecordIndex) {
+        return OwnerType.values()[buffer.get(recordOffset(ownerRecordIndex) + OWNER_TYPE)];
+    }
+
+    private String readOwnerName(int ownerRecordIndex) {
+        int offset = recordOffset(ownerRecordIndex);
+        byte[] nameBytes = new byte[buffer.get(offset + OWNER_NAME_LENGTH)];
+
+        for (int i = 0; i < nameBytes.length; i++) {
+            nameBytes[i] = buffer.get(offset + OWNER_NAME + i);
+        }
+
+        return new String(nameBytes, StandardCharsets.UTF_8);
+    }
+
+    private int writeDayChain(Map<LocalDate, Integer> hourMasksByDay) {
+        List<LocalDate> days = new ArrayList<>(new TreeMap<>(hourMasksByDay).keySet());
+        int nextDayRecordIndex = NO_RECORD;
+
+        for (int i = days.size() - 1; i >= 0; i--) {
+            int hourMask = hourMasksByDay.get(days.get(i));
+
+            if (hourMask == 0) {
+                continue;
+            }
+
+            int dayRecordIndex = allocateRecord();
+            int offset = recordOffset(dayRecordIndex);
+
+            buffer.putInt(offset + RECORD_NEXT, nextDayRecordIndex);
+            buffer.putLong(offset + DAY_EPOCH_DAY, days.get(i).toEpochDay());
+            buffer.putInt(offset + DAY_HOUR_MASK, hourMask);
+            buffer.put(offset + RECORD_KIND, KIND_DAY);
+
+            nextDayRecordIndex = dayRecordIndex;
+        }
+
+        return nextDayRecordIndex;
+    }
+
+    private void freeDayChain(int firstDayRecordIndex) {
+        int dayRecordIndex = firstDayRecordIndex;
+
+        while (dayRecordIndex != NO_RECORD) {
+            int nextDayRecordIndex = buffer.getInt(recordOffset(dayRecordIndex) + RECORD_NEXT);
+
+            freeRecord(dayRecordIndex);
+            dayRecordIndex = nextDayRecordIndex;
+        }
+    }
+
+    private int allocateRecord() {
+        if (buffer.getInt(HEADER_FREE_LIST_HEAD) == NO_RECORD) {
+            grow();
+        }
+
+        int recordIndex = buffer.getInt(HEADER_FREE_LIST_HEAD);
+
+        buffer.putInt(HEADER_FREE_LIST_HEAD, buffer.getInt(recordOffset(recordIndex) + RECORD_NEXT));
+
+        return recordIndex;
+    }
+
+    private void freeRecord(int recordIndex) {
+        int offset = recordOffset(recordIndex);
+
+        buffer.put(offset + RECORD_KIND, KIND_FREE);
+        buffer.putInt(offset + RECORD_NEXT, buffer.getInt(HEADER_FREE_LIST_HEAD));
+        buffer.putInt(HEADER_FREE_LIST_HEAD, recordIndex);
+    }
+
+    private void grow() {
+        int recordCount = buffer.getInt(HEADER_RECORD_COUNT);
+        int newRecordCount = recordCount * 2;
+
+        if (fileSize(newRecordCount) > Integer.MAX_VALUE) {
+            throw new TechnicalException("Availability file reached its maximum size!");
+        }
+
+        try {
+            buffer.force();
+            buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(newRecordCount));
+        } catch (IOException e) {
+            throw new TechnicalException("Availability file could not be grown: " + e.getMessage());
+        }
+
+        buffer.putInt(HEADER_RECORD_COUNT, newRecordCount);
+        linkFreeRecords(recordCount, newRecordCount);
+    }
+
+    private void linkFreeRecords(int fromRecordIndex, int toRecordIndex) {
+        for (int recordIndex = toRecordIndex - 1; recordIndex >= fromRecordIndex; recordIndex--) {
+            freeRecord(recordIndex);
+        }
+    }
+
+    private long nextAvailabilityId() {
+        long availabilityId = buffer.getLong(HEADER_NEXT_AVAILABILITY_ID);
+
+        buffer.putLong(HEADER_NEXT_AVAILABILITY_ID, availabilityId + 1);
+
+        return availabilityId;
+    }
+
+    private byte[] toNameBytes(String name) {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+
+        if (nameBytes.length > MAX_NAME_BYTES) {
+            throw new UserException("Name must not be longer than " + MAX_NAME_BYTES + " bytes!");
+        }
+
+        return nameBytes;
+    }
+
+    private static long fileSize(int recordCount) {
+        return HEADER_SIZE + (long) recordCount * RECORD_SIZE;
+    }
+
+    private static int recordOffset(int recordIndex) {
+        return HEADER_SIZE + recordIndex * RECORD_SIZE;
+    }
+
+    @Getter
+    public static class AvailabilityRecord {
+        private long id;
+        private long version;
+        private String ownerName;
+        private SortedMap<LocalDate, Integer> hourMasksByDay;
+
+        public AvailabilityRecord(Builder builder) {
+            this.id = builder.id;
+            this.version = builder.version;
+            this.ownerName = builder.ownerName;
+            this.hourMasksByDay = builder.hourMasksByDay;
+        }
+
+        public static class Builder {
+            private long id;
+            private long version;
+            private String ownerName;
+            private SortedMap<LocalDate, Integer> hourMasksByDay;
+
+            public static Builder availabilityRecordWith() {
+                return new Builder();
+            }
+
+            public Builder withId(long id) {
+                this.id = id;
+
+                return this;
+            }
+
+            public Builder withVersion(long version) {
+                this.version = version;
+
+                return this;
+            }
+
+            public Builder withOwnerName(String ownerName) {
+                this.ownerName = ownerName;
+
+                return this;
+            }
+
+            public Builder withHourMasksByDay(SortedMap<LocalDate, Integer> hourMasksByDay) {
+                this.hourMasksByDay = hourMasksByDay;
+
+                return this;
+            }
+
+            public AvailabilityRecord build() {
+                return new AvailabilityRecord(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package app.repository.mapped;
+
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.HourMasks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+final class MappedAvailabilitySlots {
+    private MappedAvailabilitySlots() {
+    }
+
+    static List<AvailabilitySlot> toAvailabilitySlots(Map<LocalDate, Integer> hourMasksByDay) {
+        List<AvailabilitySlot> availabilitySlotList = new ArrayList<>(hourMasksByDay.size());
+
+        for (Map.Entry<LocalDate, Integer> hourMaskOfDay : hourMasksByDay.entrySet()) {
+            availabilitySlotList.add(AvailabilitySlot.Builder.availabilitySlotWith()
+                                                             .withDay(hourMaskOfDay.getKey())
+                                                             .withTimeSlotList(HourMasks.toTimeSlots(
+                                                                     hourMaskOfDay.getValue()))
+                                                             .build());
+        }
+
+        return availabilitySlotList;
+    }
+}
@@ -0,0 +1,122 @@
+package app.repository.mapped;
+
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.utils.AvailabilitySlotRow;
+import app.model.utils.HourMasks;
+import app.repository.candidate.CandidateAvailabilityRepository;
+import app.repository.mapped.MappedAvailabilityFile.AvailabilityRecord;
+import app.repository.mapped.MappedAvailabilityFile.OwnerType;
+import app.repository.utils.AbstractCustomRepository;
+import app.repository.utils.AvailabilitySlotRows;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Candidate availability kept as hour masks in the {@link MappedAvailabilityFile}. Slots are stored with hour
+ * granularity, so overlapping or adjacent slots of a day are returned merged.
+ */
+@Repository
+@Profile("mapped-file")
+public class MappedCandidateAvailabilityRepository extends AbstractCustomRepository<CandidateAvailability, Long>
+        implements CandidateAvailabilityRepository {
+    private final MappedAvailabilityFile availabilityFile;
+
+    @Autowired
+    public MappedCandidateAvailabilityRepository(MappedAvailabilityFile availabilityFile) {
+        this.availabilityFile = availabilityFile;
+    }
+
+    @Override
+    public CandidateAvailability getAvailability(String name) {
+        return availabilityFile.getAvailability(OwnerType.CANDIDATE, name).map(this::toCandidateAvailability)
+                               .orElse(null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends CandidateAvailability> S save(S candidateAvailability) {
+        AvailabilityRecord availabilityRecord = availabilityFile.saveAvailability(
+                OwnerType.CANDIDATE,
+                candidateAvailability.getCandidateModel().getName(),
+                candidateAvailability.getVersion(),
+                HourMasks.toHourMasksByDay(candidateAvailability.getAvailabilitySlotList()));
+
+        return (S) toCandidateAvailability(availabilityRecord);
+    }
+
+    @Override
+    public Optional<CandidateAvailability> findById(Long id) {
+        return availabilityFile.findAvailabilityById(OwnerType.CANDIDATE, id).map(this::toCandidateAvailability);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        if (!availabilityFile.deleteAvailability(OwnerType.CANDIDATE, id)) {
+            throw entityNotFound(CandidateAvailability.class, id);
+        }
+    }
+
+    @Override
+    public List<AvailabilitySlotRow> findAllAvailabilitySlotRows() {
+        List<AvailabilitySlotRow> availabilitySlotRows = new ArrayList<>();
+
+        for (CandidateAvailability candidateAvailability : findAll()) {
+            String candidateName = candidateAvailability.getCandidateModel().getName();
+
+            availabilitySlotRows.addAll(AvailabilitySlotRows.toRows(candidateAvailability.getId(), candidateName,
+                                                                    candidateAvailability.getAvailabilitySlotList()));
+        }
+
+        return availabilitySlotRows;
+    }
+
+    @Override
+    public List<AvailabilitySlotRow> findAvailabilitySlotRowsByName(String name) {
+        CandidateAvailability candidateAvailability = getAvailability(name);
+
+        if (candidateAvailability == null) {
+            return Collections.emptyList();
+        }
+
+        return AvailabilitySlotRows.toRows(candidateAvailability.getId(), name,
+                                           candidateAvailability.getAvailabilitySlotList());
+    }
+
+    @Override
+    protected Long getId(CandidateAvailability candidateAvailability) {
+        return candidateAvailability.getId();
+    }
+
+    @Override
+    protected String getIdPropertyName() {
+        return "id";
+    }
+
+    @Override
+    protected List<CandidateAvailability> findAllUnordered() {
+        List<CandidateAvailability> candidateAvailabilities = new ArrayList<>();
+
+        for (AvailabilityRecord availabilityRecord : availabilityFile.getAvailabilities(OwnerType.CANDIDATE)) {
+            candidateAvailabilities.add(toCandidateAvailability(availabilityRecord));
+        }
+
+        return candidateAvailabilities;
+    }
+
+    private CandidateAvailability toCandidateAvailability(AvailabilityRecord availabilityRecord) {
+        return CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                            .withId(availabilityRecord.getId())
+                                            .withVersion(availabilityRecord.getVersion())
+                                            .withCandidateModel(new Candidate(availabilityRecord.getOwnerName()))
+                                            .withAvailabilitySlotList(MappedAvailabilitySlots.toAvailabilitySlots(
+                                                    availabilityRecord.getHourMasksByDay()))
+                                            .build();
+    }
+}
@@ -0,0 +1,90 @@
+package app.repository.mapped;
+
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateView;
+import app.repository.candidate.CandidateRepository;
+import app.repository.mapped.MappedAvailabilityFile.OwnerType;
+import app.repository.utils.AbstractCustomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile("mapped-file")
+public class MappedCandidateRepository extends AbstractCustomRepository<Candidate, String>
+        implements CandidateRepository {
+    private final MappedAvailabilityFile availabilityFile;
+
+    @Autowired
+    public MappedCandidateRepository(MappedAvailabilityFile availabilityFile) {
+        this.availabilityFile = availabilityFile;
+    }
+
+    @Override
+    public List<String> getAllNames() {
+        return availabilityFile.getOwnerNames(OwnerType.CANDIDATE);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends Candidate> S save(S candidate) {
+        availabilityFile.saveOwner(OwnerType.CANDIDATE, candidate.getName());
+
+        return (S) new Candidate(candidate.getName());
+    }
+
+    @Override
+    public Optional<Candidate> findById(String name) {
+        return availabilityFile.ownerExists(OwnerType.CANDIDATE, name)
+               ? Optional.of(new Candidate(name))
+               : Optional.empty();
+    }
+
+    @Override
+    public void deleteById(String name) {
+        if (!availabilityFile.deleteOwner(OwnerType.CANDIDATE, name)) {
+            throw entityNotFound(Candidate.class, name);
+        }
+    }
+
+    @Override
+    public List<CandidateView> findAllViews() {
+        List<CandidateView> candidateViews = new ArrayList<>();
+
+        for (Candidate candidate : findAll()) {
+            candidateViews.add(new CandidateView(candidate.getName()));
+        }
+
+        return candidateViews;
+    }
+
+    @Override
+    public Optional<CandidateView> findViewByName(String name) {
+        return findById(name).map(candidate -> new CandidateView(candidate.getName()));
+    }
+
+    @Override
+    protected String getId(Candidate candidate) {
+        return candidate.getName();
+    }
+
+    @Override
+    protected String getIdPropertyName() {
+        return "name";
+    }
+
+    @Override
+    protected List<Candidate> findAllUnordered() {
+        List<Candidate> candidates = new ArrayList<>();
+
+        for (String name : availabilityFile.getOwnerNames(OwnerType.CANDIDATE)) {
+            candidates.add(new Candidate(name));
+        }
+
+        return candidates;
+    }
+}
@@ -0,0 +1,122 @@
+package app.repository.mapped;
+
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.AvailabilitySlotRow;
+import app.model.utils.HourMasks;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.repository.mapped.MappedAvailabilityFile.AvailabilityRecord;
+import app.repository.mapped.MappedAvailabilityFile.OwnerType;
+import app.repository.utils.AbstractCustomRepository;
+import app.repository.utils.AvailabilitySlotRows;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interviewer availability kept as hour masks in the {@link MappedAvailabilityFile}. Slots are stored with hour
+ * granularity, so overlapping or adjacent slots of a day are returned merged.
+ */
+@Repository
+@Profile("mapped-file")
+public class MappedInterviewerAvailabilityRepository extends AbstractCustomRepository<InterviewerAvailability, Long>
+        implements InterviewerAvailabilityRepository {
+    private final MappedAvailabilityFile availabilityFile;
+
+    @Autowired
+    public MappedInterviewerAvailabilityRepository(MappedAvailabilityFile availabilityFile) {
+        this.availabilityFile = availabilityFile;
+    }
+
+    @Override
+    public InterviewerAvailability getInterviewerAvailabilityByInterviewerName(String name) {
+        return availabilityFile.getAvailability(OwnerType.INTERVIEWER, name).map(this::toInterviewerAvailability)
+                               .orElse(null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends InterviewerAvailability> S save(S interviewerAvailability) {
+        AvailabilityRecord availabilityRecord = availabilityFile.saveAvailability(
+                OwnerType.INTERVIEWER,
+                interviewerAvailability.getInterviewerModel().getName(),
+                interviewerAvailability.getVersion(),
+                HourMasks.toHourMasksByDay(interviewerAvailability.getAvailabilitySlotList()));
+
+        return (S) toInterviewerAvailability(availabilityRecord);
+    }
+
+    @Override
+    public Optional<InterviewerAvailability> findById(Long id) {
+        return availabilityFile.findAvailabilityById(OwnerType.INTERVIEWER, id).map(this::toInterviewerAvailability);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        if (!availabilityFile.deleteAvailability(OwnerType.INTERVIEWER, id)) {
+            throw entityNotFound(InterviewerAvailability.class, id);
+        }
+    }
+
+    @Override
+    public List<AvailabilitySlotRow> findAllAvailabilitySlotRows() {
+        List<AvailabilitySlotRow> availabilitySlotRows = new ArrayList<>();
+
+        for (InterviewerAvailability interviewerAvailability : findAll()) {
+            String interviewerName = interviewerAvailability.getInterviewerModel().getName();
+
+            availabilitySlotRows.addAll(AvailabilitySlotRows.toRows(interviewerAvailability.getId(), interviewerName,
+                                                                    interviewerAvailability.getAvailabilitySlotList()));
+        }
+
+        return availabilitySlotRows;
+    }
+
+    @Override
+    public List<AvailabilitySlotRow> findAvailabilitySlotRowsByName(String name) {
+        InterviewerAvailability interviewerAvailability = getInterviewerAvailabilityByInterviewerName(name);
+
+        if (interviewerAvailability == null) {
+            return Collections.emptyList();
+        }
+
+        return AvailabilitySlotRows.toRows(interviewerAvailability.getId(), name,
+                                           interviewerAvailability.getAvailabilitySlotList());
+    }
+
+    @Override
+    protected Long getId(InterviewerAvailability interviewerAvailability) {
+        return interviewerAvailability.getId();
+    }
+
+    @Override
+    protected String getIdPropertyName() {
+        return "id";
+    }
+
+    @Override
+    protected List<InterviewerAvailability> findAllUnordered() {
+        List<InterviewerAvailability> interviewerAvailabilities = new ArrayList<>();
+
+        for (AvailabilityRecord availabilityRecord : availabilityFile.getAvailabilities(OwnerType.INTERVIEWER)) {
+            interviewerAvailabilities.add(toInterviewerAvailability(availabilityRecord));
+        }
+
+        return interviewerAvailabilities;
+    }
+
+    private InterviewerAvailability toInterviewerAvailability(AvailabilityRecord availabilityRecord) {
+        return InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                              .withId(availabilityRecord.getId())
+                                              .withVersion(availabilityRecord.getVersion())
+                                              .withInterviewerModel(new Interviewer(availabilityRecord.getOwnerName()))
+                                              .withAvailabilitySlotList(MappedAvailabilitySlots.toAvailabilitySlots(
+                                                      availabilityRecord.getHourMasksByDay()))
+                                              .build();
+    }
+}
@@ -0,0 +1,105 @@
+package app.repository.mapped;
+
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerView;
+import app.repository.interviewer.InterviewerRepository;
+import app.repository.mapped.MappedAvailabilityFile.OwnerType;
+import app.repository.utils.AbstractCustomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile("mapped-file")
+public class MappedInterviewerRepository extends AbstractCustomRepository<Interviewer, String>
+        implements InterviewerRepository {
+    private final MappedAvailabilityFile availabilityFile;
+
+    @Autowired
+    public MappedInterviewerRepository(MappedAvailabilityFile availabilityFile) {
+        this.availabilityFile = availabilityFile;
+    }
+
+    @Override
+    public List<String> getAllNames() {
+        return availabilityFile.getOwnerNames(OwnerType.INTERVIEWER);
+    }
+
+    @Override
+    public List<String> findExistingNames(Collection<String> names) {
+        List<String> existingNames = new ArrayList<>();
+
+        for (String name : new LinkedHashSet<>(names)) {
+            if (availabilityFile.ownerExists(OwnerType.INTERVIEWER, name)) {
+                existingNames.add(name);
+            }
+        }
+
+        return existingNames;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends Interviewer> S save(S interviewer) {
+        availabilityFile.saveOwner(OwnerType.INTERVIEWER, interviewer.getName());
+
+        return (S) new Interviewer(interviewer.getName());
+    }
+
+    @Override
+    public Optional<Interviewer> findById(String name) {
+        return availabilityFile.ownerExists(OwnerType.INTERVIEWER, name)
+               ? Optional.of(new Interviewer(name))
+               : Optional.empty();
+    }
+
+    @Override
+    public void deleteById(String name) {
+        if (!availabilityFile.deleteOwner(OwnerType.INTERVIEWER, name)) {
+            throw entityNotFound(Interviewer.class, name);
+        }
+    }
+
+    @Override
+    public List<InterviewerView> findAllViews() {
+        List<InterviewerView> interviewerViews = new ArrayList<>();
+
+        for (Interviewer interviewer : findAll()) {
+            interviewerViews.add(new InterviewerView(interviewer.getName()));
+        }
+
+        return interviewerViews;
+    }
+
+    @Override
+    public Optional<InterviewerView> findViewByName(String name) {
+        return findById(name).map(interviewer -> new InterviewerView(interviewer.getName()));
+    }
+
+    @Override
+    protected String getId(Interviewer interviewer) {
+        return interviewer.getName();
+    }
+
+    @Override
+    protected String getIdPropertyName() {
+        return "name";
+    }
+
+    @Override
+    protected List<Interviewer> findAllUnordered() {
+        List<Interviewer> interviewers = new ArrayList<>();
+
+        for (String name : availabilityFile.getOwnerNames(OwnerType.INTERVIEWER)) {
+            interviewers.add(new Interviewer(name));
+        }
+
+        return interviewers;
+    }
+}
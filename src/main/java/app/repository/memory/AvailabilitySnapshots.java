@@ -0,0 +1,24 @@
+package app.repository.memory;
+
+import app.model.utils.AvailabilitySlot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+final class AvailabilitySnapshots {
+    private AvailabilitySnapshots() {
+    }
+
+    static List<AvailabilitySlot> freeze(List<AvailabilitySlot> availabilitySlotList) {
+        List<AvailabilitySlot> frozenAvailabilitySlotList = new ArrayList<>(availabilitySlotList.size());
+
+        for (AvailabilitySlot availabilitySlot : availabilitySlotList) {
+            frozenAvailabilitySlotList.add(new AvailabilitySlot(
+                    availabilitySlot.getDay(),
+                    Collections.unmodifiableList(new ArrayList<>(availabilitySlot.getTimeSlotList()))));
+        }
+
+        return Collections.unmodifiableList(frozenAvailabilitySlotList);
+    }
+}
@@ -0,0 +1,70 @@
+package app.repository.memory;
+
+import app.model.booking.Booking;
+import app.repository.booking.BookingRepository;
+import app.repository.utils.AbstractCustomRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bookings of the storage profiles without JPA. The mapped file only has records for availability, so its profile
+ * keeps the bookings here as well.
+ */
+@Repository
+@Profile({"in-memory", "mapped-file"})
+public class InMemoryBookingRepository extends AbstractCustomRepository<Booking, Long> implements BookingRepository {
+    private final ConcurrentMap<Long, Booking> bookings = new ConcurrentHashMap<>();
+    private final AtomicLong bookingIds = new AtomicLong();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends Booking> S save(S booking) {
+        Booking savedBooking = Booking.Builder.bookingWith()
+                                              .withId(booking.getId() != null
+                                                      ? booking.getId()
+                                                      : bookingIds.incrementAndGet())
+                                              .withCandidateName(booking.getCandidateName())
+                                              .withInterviewersNames(List.copyOf(booking.getInterviewersNames()))
+                                              .withDay(booking.getDay())
+                                              .withTimeSlot(booking.getTimeSlot())
+                                              .build();
+
+        bookings.put(savedBooking.getId(), savedBooking);
+
+        return (S) savedBooking;
+    }
+
+    @Override
+    public Optional<Booking> findById(Long id) {
+        return Optional.ofNullable(bookings.get(id));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        if (bookings.remove(id) == null) {
+            throw entityNotFound(Booking.class, id);
+        }
+    }
+
+    @Override
+    protected Long getId(Booking booking) {
+        return booking.getId();
+    }
+
+    @Override
+    protected String getIdPropertyName() {
+        return "id";
+    }
+
+    @Override
+    protected List<Booking> findAllUnordered() {
+        return new ArrayList<>(bookings.values());
+    }
+}
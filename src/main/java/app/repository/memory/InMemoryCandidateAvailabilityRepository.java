@@ -0,0 +1,162 @@
+package app.repository.memory;
+
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.utils.AvailabilitySlotRow;
+import app.repository.candidate.CandidateAvailabilityRepository;
+import app.repository.utils.AbstractCustomRepository;
+import app.repository.utils.AvailabilitySlotRows;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one frozen snapshot per candidate, indexed by name and by id. Writers publish a new version through
+ * {@link ConcurrentMap#compute}, readers take the current snapshot without locking or copying. Snapshots are read-only,
+ * so a change is saved as a copy carrying the version it was read at.
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryCandidateAvailabilityRepository extends AbstractCustomRepository<CandidateAvailability, Long>
+        implements CandidateAvailabilityRepository {
+    private final ConcurrentMap<String, CandidateAvailability> candidateAvailabilitySnapshots =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, String> candidateNamesById = new ConcurrentHashMap<>();
+    private final AtomicLong idSequence = new AtomicLong();
+
+    @Override
+    public CandidateAvailability getAvailability(String name) {
+        return candidateAvailabilitySnapshots.get(name);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends CandidateAvailability> S save(S candidateAvailability) {
+        String candidateName = candidateAvailability.getCandidateModel().getName();
+
+        CandidateAvailability publishedSnapshot = candidateAvailabilitySnapshots.compute(
+                candidateName,
+                (name, currentSnapshot) -> publish(currentSnapshot, candidateAvailability));
+
+        return (S) publishedSnapshot;
+    }
+
+    @Override
+    public Optional<CandidateAvailability> findById(Long id) {
+        String candidateName = candidateNamesById.get(id);
+        CandidateAvailability candidateAvailabilitySnapshot =
+                candidateName != null ? candidateAvailabilitySnapshots.get(candidateName) : null;
+
+        // The name may have been deleted and saved again under a new id since the index was read.
+        if (candidateAvailabilitySnapshot == null || !candidateAvailabilitySnapshot.getId().equals(id)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(candidateAvailabilitySnapshot);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        String candidateName = candidateNamesById.get(id);
+        AtomicBoolean removed = new AtomicBoolean();
+
+        if (candidateName != null) {
+            candidateAvailabilitySnapshots.computeIfPresent(candidateName, (name, currentSnapshot) -> {
+                if (!currentSnapshot.getId().equals(id)) {
+                    return currentSnapshot;
+                }
+
+                candidateNamesById.remove(id);
+                removed.set(true);
+
+                return null;
+            });
+        }
+
+        if (!removed.get()) {
+            throw entityNotFound(CandidateAvailability.class, id);
+        }
+    }
+
+    void deleteByCandidateName(String candidateName) {
+        candidateAvailabilitySnapshots.computeIfPresent(candidateName, (name, currentSnapshot) -> {
+            candidateNamesById.remove(currentSnapshot.getId());
+
+            return null;
+        });
+    }
+
+    @Override
+    public List<AvailabilitySlotRow> findAllAvailabilitySlotRows() {
+        List<AvailabilitySlotRow> availabilitySlotRows = new ArrayList<>();
+
+        for (CandidateAvailability candidateAvailability : findAll()) {
+            String candidateName = candidateAvailability.getCandidateModel().getName();
+
+            availabilitySlotRows.addAll(AvailabilitySlotRows.toRows(candidateAvailability.getId(), candidateName,
+                                                                    candidateAvailability.getAvailabilitySlotList()));
+        }
+
+        return availabilitySlotRows;
+    }
+
+    @Override
+    public List<AvailabilitySlotRow> findAvailabilitySlotRowsByName(String name) {
+        CandidateAvailability candidateAvailability = getAvailability(name);
+
+        if (candidateAvailability == null) {
+            return Collections.emptyList();
+        }
+
+        return AvailabilitySlotRows.toRows(candidateAvailability.getId(), name,
+                                           candidateAvailability.getAvailabilitySlotList());
+    }
+
+    @Override
+    protected Long getId(CandidateAvailability candidateAvailability) {
+        return candidateAvailability.getId();
+    }
+
+    @Override
+    protected String getIdPropertyName() {
+        return "id";
+    }
+
+    @Override
+    protected List<CandidateAvailability> findAllUnordered() {
+        return new ArrayList<>(candidateAvailabilitySnapshots.values());
+    }
+
+    private CandidateAvailability publish(CandidateAvailability currentSnapshot,
+                                          CandidateAvailability candidateAvailability) {
+        Long currentVersion = currentSnapshot != null ? currentSnapshot.getVersion() : null;
+
+        if (!Objects.equals(currentVersion, candidateAvailability.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(CandidateAvailability.class,
+                                                              candidateAvailability.getId());
+        }
+
+        String candidateName = candidateAvailability.getCandidateModel().getName();
+        Long id = currentSnapshot != null ? currentSnapshot.getId() : idSequence.incrementAndGet();
+
+        candidateNamesById.put(id, candidateName);
+
+        return CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                            .withId(id)
+                                            .withVersion(currentVersion != null ? currentVersion + 1 : 0L)
+                                            .withCandidateModel(new Candidate(candidateName))
+                                            .withAvailabilitySlotList(AvailabilitySnapshots.freeze(
+                                                    candidateAvailability.getAvailabilitySlotList()))
+                                            .build();
+    }
+}
@@ -0,0 +1,88 @@
+package app.repository.memory;
+
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateView;
+import app.repository.candidate.CandidateRepository;
+import app.repository.utils.AbstractCustomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryCandidateRepository extends AbstractCustomRepository<Candidate, String>
+        implements CandidateRepository {
+    private final ConcurrentMap<String, Candidate> candidateSnapshots = new ConcurrentHashMap<>();
+    private final InMemoryCandidateAvailabilityRepository candidateAvailabilityRepository;
+
+    @Autowired
+    public InMemoryCandidateRepository(InMemoryCandidateAvailabilityRepository candidateAvailabilityRepository) {
+        this.candidateAvailabilityRepository = candidateAvailabilityRepository;
+    }
+
+    @Override
+    public List<String> getAllNames() {
+        return new ArrayList<>(candidateSnapshots.keySet());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends Candidate> S save(S candidate) {
+        Candidate candidateSnapshot = new Candidate(candidate.getName());
+
+        candidateSnapshots.put(candidateSnapshot.getName(), candidateSnapshot);
+
+        return (S) candidateSnapshot;
+    }
+
+    @Override
+    public Optional<Candidate> findById(String name) {
+        return Optional.ofNullable(candidateSnapshots.get(name));
+    }
+
+    @Override
+    public void deleteById(String name) {
+        if (candidateSnapshots.remove(name) == null) {
+            throw entityNotFound(Candidate.class, name);
+        }
+
+        candidateAvailabilityRepository.deleteByCandidateName(name);
+    }
+
+    @Override
+    public List<CandidateView> findAllViews() {
+        List<CandidateView> candidateViews = new ArrayList<>();
+
+        for (Candidate candidate : findAll()) {
+            candidateViews.add(new CandidateView(candidate.getName()));
+        }
+
+        return candidateViews;
+    }
+
+    @Override
+    public Optional<CandidateView> findViewByName(String name) {
+        return findById(name).map(candidate -> new CandidateView(candidate.getName()));
+    }
+
+    @Override
+    protected String getId(Candidate candidate) {
+        return candidate.getName();
+    }
+
+    @Override
+    protected String getIdPropertyName() {
+        return "name";
+    }
+
+    @Override
+    protected List<Candidate> findAllUnordered() {
+        return new ArrayList<>(candidateSnapshots.values());
+    }
+}
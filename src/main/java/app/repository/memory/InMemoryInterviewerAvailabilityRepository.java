@@ -0,0 +1,162 @@
+package app.repository.memory;
+
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.AvailabilitySlotRow;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.repository.utils.AbstractCustomRepository;
+import app.repository.utils.AvailabilitySlotRows;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one frozen snapshot per interviewer, indexed by name and by id. Writers publish a new version through
+ * {@link ConcurrentMap#compute}, readers take the current snapshot without locking or copying. Snapshots are read-only,
+ * so a change is saved as a copy carrying the version it was read at.
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryInterviewerAvailabilityRepository extends AbstractCustomRepository<InterviewerAvailability, Long>
+        implements InterviewerAvailabilityRepository {
+    private final ConcurrentMap<String, InterviewerAvailability> interviewerAvailabilitySnapshots =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, String> interviewerNamesById = new ConcurrentHashMap<>();
+    private final AtomicLong idSequence = new AtomicLong();
+
+    @Override
+    public InterviewerAvailability getInterviewerAvailabilityByInterviewerName(String name) {
+        return interviewerAvailabilitySnapshots.get(name);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends InterviewerAvailability> S save(S interviewerAvailability) {
+        String interviewerName = interviewerAvailability.getInterviewerModel().getName();
+
+        InterviewerAvailability publishedSnapshot = interviewerAvailabilitySnapshots.compute(
+                interviewerName,
+                (name, currentSnapshot) -> publish(currentSnapshot, interviewerAvailability));
+
+        return (S) publishedSnapshot;
+    }
+
+    @Override
+    public Optional<InterviewerAvailability> findById(Long id) {
+        String interviewerName = interviewerNamesById.get(id);
+        InterviewerAvailability interviewerAvailabilitySnapshot =
+                interviewerName != null ? interviewerAvailabilitySnapshots.get(interviewerName) : null;
+
+        // The name may have been deleted and saved again under a new id since the index was read.
+        if (interviewerAvailabilitySnapshot == null || !interviewerAvailabilitySnapshot.getId().equals(id)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(interviewerAvailabilitySnapshot);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        String interviewerName = interviewerNamesById.get(id);
+        AtomicBoolean removed = new AtomicBoolean();
+
+        if (interviewerName != null) {
+            interviewerAvailabilitySnapshots.computeIfPresent(interviewerName, (name, currentSnapshot) -> {
+                if (!currentSnapshot.getId().equals(id)) {
+                    return currentSnapshot;
+                }
+
+                interviewerNamesById.remove(id);
+                removed.set(true);
+
+                return null;
+            });
+        }
+
+        if (!removed.get()) {
+            throw entityNotFound(InterviewerAvailability.class, id);
+        }
+    }
+
+    void deleteByInterviewerName(String interviewerName) {
+        interviewerAvailabilitySnapshots.computeIfPresent(interviewerName, (name, currentSnapshot) -> {
+            interviewerNamesById.remove(currentSnapshot.getId());
+
+            return null;
+        });
+    }
+
+    @Override
+    public List<AvailabilitySlotRow> findAllAvailabilitySlotRows() {
+        List<AvailabilitySlotRow> availabilitySlotRows = new ArrayList<>();
+
+        for (InterviewerAvailability interviewerAvailability : findAll()) {
+            String interviewerName = interviewerAvailability.getInterviewerModel().getName();
+
+            availabilitySlotRows.addAll(AvailabilitySlotRows.toRows(interviewerAvailability.getId(), interviewerName,
+                                                                    interviewerAvailability.getAvailabilitySlotList()));
+        }
+
+        return availabilitySlotRows;
+    }
+
+    @Override
+    public List<AvailabilitySlotRow> findAvailabilitySlotRowsByName(String name) {
+        InterviewerAvailability interviewerAvailability = getInterviewerAvailabilityByInterviewerName(name);
+
+        if (interviewerAvailability == null) {
+            return Collections.emptyList();
+        }
+
+        return AvailabilitySlotRows.toRows(interviewerAvailability.getId(), name,
+                                           interviewerAvailability.getAvailabilitySlotList());
+    }
+
+    @Override
+    protected Long getId(InterviewerAvailability interviewerAvailability) {
+        return interviewerAvailability.getId();
+    }
+
+    @Override
+    protected String getIdPropertyName() {
+        return "id";
+    }
+
+    @Override
+    protected List<InterviewerAvailability> findAllUnordered() {
+        return new ArrayList<>(interviewerAvailabilitySnapshots.values());
+    }
+
+    private InterviewerAvailability publish(InterviewerAvailability currentSnapshot,
+                                          InterviewerAvailability interviewerAvailability) {
+        Long currentVersion = currentSnapshot != null ? currentSnapshot.getVersion() : null;
+
+        if (!Objects.equals(currentVersion, interviewerAvailability.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(InterviewerAvailability.class,
+                                                              interviewerAvailability.getId());
+        }
+
+        String interviewerName = interviewerAvailability.getInterviewerModel().getName();
+        Long id = currentSnapshot != null ? currentSnapshot.getId() : idSequence.incrementAndGet();
+
+        interviewerNamesById.put(id, interviewerName);
+
+        return InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                            .withId(id)
+                                            .withVersion(currentVersion != null ? currentVersion + 1 : 0L)
+                                            .withInterviewerModel(new Interviewer(interviewerName))
+                                            .withAvailabilitySlotList(AvailabilitySnapshots.freeze(
+                                                    interviewerAvailability.getAvailabilitySlotList()))
+                                            .build();
+    }
+}
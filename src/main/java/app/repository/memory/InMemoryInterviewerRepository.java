@@ -0,0 +1,103 @@
+package app.repository.memory;
+
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerView;
+import app.repository.interviewer.InterviewerRepository;
+import app.repository.utils.AbstractCustomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryInterviewerRepository extends AbstractCustomRepository<Interviewer, String>
+        implements InterviewerRepository {
+    private final ConcurrentMap<String, Interviewer> interviewerSnapshots = new ConcurrentHashMap<>();
+    private final InMemoryInterviewerAvailabilityRepository interviewerAvailabilityRepository;
+
+    @Autowired
+    public InMemoryInterviewerRepository(InMemoryInterviewerAvailabilityRepository interviewerAvailabilityRepository) {
+        this.interviewerAvailabilityRepository = interviewerAvailabilityRepository;
+    }
+
+    @Override
+    public List<String> getAllNames() {
+        return new ArrayList<>(interviewerSnapshots.keySet());
+    }
+
+    @Override
+    public List<String> findExistingNames(Collection<String> names) {
+        List<String> existingNames = new ArrayList<>();
+
+        for (String name : new LinkedHashSet<>(names)) {
+            if (interviewerSnapshots.containsKey(name)) {
+                existingNames.add(name);
+            }
+        }
+
+        return existingNames;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends Interviewer> S save(S interviewer) {
+        Interviewer interviewerSnapshot = new Interviewer(interviewer.getName());
+
+        interviewerSnapshots.put(interviewerSnapshot.getName(), interviewerSnapshot);
+
+        return (S) interviewerSnapshot;
+    }
+
+    @Override
+    public Optional<Interviewer> findById(String name) {
+        return Optional.ofNullable(interviewerSnapshots.get(name));
+    }
+
+    @Override
+    public void deleteById(String name) {
+        if (interviewerSnapshots.remove(name) == null) {
+            throw entityNotFound(Interviewer.class, name);
+        }
+
+        interviewerAvailabilityRepository.deleteByInterviewerName(name);
+    }
+
+    @Override
+    public List<InterviewerView> findAllViews() {
+        List<InterviewerView> interviewerViews = new ArrayList<>();
+
+        for (Interviewer interviewer : findAll()) {
+            interviewerViews.add(new InterviewerView(interviewer.getName()));
+        }
+
+        return interviewerViews;
+    }
+
+    @Override
+    public Optional<InterviewerView> findViewByName(String name) {
+        return findById(name).map(interviewer -> new InterviewerView(interviewer.getName()));
+    }
+
+    @Override
+    protected String getId(Interviewer interviewer) {
+        return interviewer.getName();
+    }
+
+    @Override
+    protected String getIdPropertyName() {
+        return "name";
+    }
+
+    @Override
+    protected List<Interviewer> findAllUnordered() {
+        return new ArrayList<>(interviewerSnapshots.values());
+    }
+}
@@ -0,0 +1,187 @@
+package app.repository.utils;
+
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Base for repository backends that live outside JPA. Subclasses provide the four primitive operations and
+ * everything else the services may call on a {@link JpaRepository} is derived from them. Results are always
+ * ordered by identifier; query-by-example is not supported.
+ */
+public abstract class AbstractCustomRepository<T, ID extends Comparable<? super ID>> implements JpaRepository<T, ID> {
+    protected abstract ID getId(T entity);
+
+    protected abstract String getIdPropertyName();
+
+    protected abstract List<T> findAllUnordered();
+
+    @Override
+    public abstract <S extends T> S save(S entity);
+
+    @Override
+    public abstract Optional<T> findById(ID id);
+
+    @Override
+    public abstract void deleteById(ID id);
+
+    protected EmptyResultDataAccessException entityNotFound(Class<?> entityClass, ID id) {
+        return new EmptyResultDataAccessException(
+                String.format("No %s entity with id %s exists!", entityClass.getName(), id), 1);
+    }
+
+    @Override
+    public List<T> findAll() {
+        List<T> entities = findAllUnordered();
+
+        entities.sort(Comparator.comparing(this::getId));
+
+        return entities;
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        verifySortIsSupported(sort);
+
+        return findAll();
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll());
+        }
+
+        verifySortIsSupported(pageable.getSort());
+
+        List<T> entities = findAll();
+        int fromIndex = (int) Math.min(pageable.getOffset(), entities.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), entities.size());
+
+        return new PageImpl<>(new ArrayList<>(entities.subList(fromIndex, toIndex)), pageable, entities.size());
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<ID> ids) {
+        List<T> entities = new ArrayList<>();
+
+        for (ID id : ids) {
+            findById(id).ifPresent(entities::add);
+        }
+
+        return entities;
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> savedEntities = new ArrayList<>();
+
+        for (S entity : entities) {
+            savedEntities.add(save(entity));
+        }
+
+        return savedEntities;
+    }
+
+    @Override
+    public <S extends T> S saveAndFlush(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return findById(id).isPresent();
+    }
+
+    @Override
+    public long count() {
+        return findAllUnordered().size();
+    }
+
+    @Override
+    public T getOne(ID id) {
+        return findById(id).orElseThrow(() -> entityNotFound(Object.class, id));
+    }
+
+    @Override
+    public void delete(T entity) {
+        deleteById(getId(entity));
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        for (T entity : entities) {
+            delete(entity);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        deleteAll(findAll());
+    }
+
+    @Override
+    public void deleteInBatch(Iterable<T> entities) {
+        deleteAll(entities);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        deleteAll();
+    }
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    private void verifySortIsSupported(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!order.getProperty().equals(getIdPropertyName()) || order.isDescending()) {
+                throw new UnsupportedOperationException("Only ascending sort by identifier is supported!");
+            }
+        }
+    }
+
+    private UnsupportedOperationException queryByExampleNotSupported() {
+        return new UnsupportedOperationException("Query by example is not supported!");
+    }
+}
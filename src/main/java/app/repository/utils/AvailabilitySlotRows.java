@@ -0,0 +1,64 @@
+package app.repository.utils;
+
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.AvailabilitySlotRow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class AvailabilitySlotRows {
+    private AvailabilitySlotRows() {
+    }
+
+    public interface AvailabilityViewFactory<T> {
+        T create(Long availabilityId, String ownerName, List<AvailabilitySlot> availabilitySlotList);
+    }
+
+    public static List<AvailabilitySlotRow> toRows(Long availabilityId, String ownerName,
+                                                   List<AvailabilitySlot> availabilitySlotList) {
+        if (availabilitySlotList.isEmpty()) {
+            return Collections.singletonList(new AvailabilitySlotRow(availabilityId, ownerName, null));
+        }
+
+        List<AvailabilitySlotRow> availabilitySlotRows = new ArrayList<>(availabilitySlotList.size());
+
+        for (AvailabilitySlot availabilitySlot : availabilitySlotList) {
+            availabilitySlotRows.add(new AvailabilitySlotRow(availabilityId, ownerName, availabilitySlot));
+        }
+
+        return availabilitySlotRows;
+    }
+
+    /**
+     * Groups rows by availability, keeping the order in which each availability first appears.
+     */
+    public static <T> List<T> group(List<AvailabilitySlotRow> availabilitySlotRows,
+                                    AvailabilityViewFactory<T> availabilityViewFactory) {
+        Map<Long, List<AvailabilitySlot>> availabilitySlotsById = new LinkedHashMap<>();
+        Map<Long, String> ownerNamesById = new LinkedHashMap<>();
+
+        for (AvailabilitySlotRow availabilitySlotRow : availabilitySlotRows) {
+            List<AvailabilitySlot> availabilitySlotList = availabilitySlotsById.computeIfAbsent(
+                    availabilitySlotRow.getAvailabilityId(), availabilityId -> new ArrayList<>());
+
+            ownerNamesById.put(availabilitySlotRow.getAvailabilityId(), availabilitySlotRow.getOwnerName());
+
+            if (availabilitySlotRow.getAvailabilitySlot() != null) {
+                availabilitySlotList.add(availabilitySlotRow.getAvailabilitySlot());
+            }
+        }
+
+        List<T> availabilityViews = new ArrayList<>(availabilitySlotsById.size());
+
+        for (Map.Entry<Long, List<AvailabilitySlot>> availabilitySlotsOfId : availabilitySlotsById.entrySet()) {
+            availabilityViews.add(availabilityViewFactory.create(availabilitySlotsOfId.getKey(),
+                                                                 ownerNamesById.get(availabilitySlotsOfId.getKey()),
+                                                                 availabilitySlotsOfId.getValue()));
+        }
+
+        return availabilityViews;
+    }
+}
@@ -0,0 +1,112 @@
+package app.repository.utils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the SQL statements Hibernate prepares while a scope is open on the current thread. Scopes nest, so a
+ * statement also counts towards every enclosing scope, and {@link #propagate(Runnable)} carries the current scope to
+ * tasks that run on other threads. Storage that does not go through Hibernate never reports a statement.
+ */
+public class StatementCounter implements StatementInspector {
+    private static final ThreadLocal<Scope> CURRENT_SCOPE = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT_SCOPE.get();
+
+        if (scope != null) {
+            scope.record(sql);
+        }
+
+        return sql;
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT_SCOPE.get());
+        CURRENT_SCOPE.set(scope);
+
+        return scope;
+    }
+
+    public static Runnable propagate(Runnable task) {
+        Scope scope = CURRENT_SCOPE.get();
+
+        if (scope == null) {
+            return task;
+        }
+
+        return () -> {
+            Scope previousScope = CURRENT_SCOPE.get();
+            CURRENT_SCOPE.set(scope);
+
+            try {
+                task.run();
+            } finally {
+                restore(previousScope);
+            }
+        };
+    }
+
+    private static void restore(Scope scope) {
+        if (scope != null) {
+            CURRENT_SCOPE.set(scope);
+        } else {
+            CURRENT_SCOPE.remove();
+        }
+    }
+
+    /**
+     * Statements counted since the scope was opened. Only the first {@value #MAX_RECORDED_STATEMENTS} statements are
+     * kept, which is plenty to see which one repeats.
+     */
+    public static final class Scope implements AutoCloseable {
+        public static final int MAX_RECORDED_STATEMENTS = 100;
+
+        private final Scope parent;
+        private final AtomicInteger count = new AtomicInteger();
+        private final List<String> statements = new ArrayList<>();
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int getCount() {
+            return count.get();
+        }
+
+        public List<String> getStatements() {
+            synchronized (statements) {
+                return Collections.unmodifiableList(new ArrayList<>(statements));
+            }
+        }
+
+        /**
+         * Stops counting on the current thread; tasks the scope was propagated to keep counting until they end.
+         */
+        @Override
+        public void close() {
+            if (CURRENT_SCOPE.get() == this) {
+                restore(parent);
+            }
+        }
+
+        private void record(String sql) {
+            count.incrementAndGet();
+
+            synchronized (statements) {
+                if (statements.size() < MAX_RECORDED_STATEMENTS) {
+                    statements.add(sql);
+                }
+            }
+
+            if (parent != null) {
+                parent.record(sql);
+            }
+        }
+    }
+}
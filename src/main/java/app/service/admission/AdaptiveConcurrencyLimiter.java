@@ -0,0 +1,76 @@
+package app.service.admission;
+
+import java.time.Duration;
+
+/**
+ * Concurrency limit that adapts to latency with additive increase and multiplicative decrease. A request that is
+ * slower than the latency threshold or that failed from overload shrinks the limit, a fast request grows it by one
+ * while at least half of the limit is in use, so an idle limiter does not drift up to its maximum.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+    private long rejectedCount;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      Duration latencyThreshold, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits of " + name + " must satisfy 1 <= min <= initial <= max!");
+        }
+
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio of " + name + " must be between 0 and 1!");
+        }
+
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= getLimit()) {
+            rejectedCount++;
+
+            return false;
+        }
+
+        inFlight++;
+
+        return true;
+    }
+
+    public synchronized void release(long latencyNanos, boolean overloaded) {
+        if (overloaded || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+
+        inFlight--;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+}
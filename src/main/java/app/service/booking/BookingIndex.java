@@ -0,0 +1,167 @@
+package app.service.booking;
+
+import app.model.booking.Booking;
+import app.model.utils.SlotGranularity;
+import app.repository.booking.BookingRepository;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Booked slots of every participant as one slot mask per day, rebuilt from the stored bookings on startup. Writes
+ * happen under the lock stripes of the participants involved, taken in stripe order, so bookings without a common
+ * stripe never wait on each other and overlapping ones cannot deadlock. Reads do not lock; a write replaces the slot
+ * mask of a day instead of changing it in place.
+ */
+@Component
+public class BookingIndex {
+    private static final int STRIPES = 64;
+
+    private final BookingRepository bookingRepository;
+    private final SlotGranularity slotGranularity;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final ConcurrentMap<Participant, ConcurrentMap<LocalDate, long[]>> bookedSlotMasks =
+            new ConcurrentHashMap<>();
+
+    @Autowired
+    public BookingIndex(BookingRepository bookingRepository, SlotGranularity slotGranularity) {
+        this.bookingRepository = bookingRepository;
+        this.slotGranularity = slotGranularity;
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    public static class Participant {
+        private final ParticipantType participantType;
+        private final String name;
+
+        public Participant(ParticipantType participantType, String name) {
+            this.participantType = participantType;
+            this.name = name;
+        }
+    }
+
+    public static List<Participant> getParticipants(Booking booking) {
+        List<Participant> participants = new ArrayList<>();
+
+        participants.add(new Participant(ParticipantType.CANDIDATE, booking.getCandidateName()));
+
+        for (String interviewerName : booking.getInterviewersNames()) {
+            participants.add(new Participant(ParticipantType.INTERVIEWER, interviewerName));
+        }
+
+        return participants;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Booking> bookings = bookingRepository.findAll();
+        List<Participant> allParticipants = new ArrayList<>();
+
+        for (Booking booking : bookings) {
+            allParticipants.addAll(getParticipants(booking));
+        }
+
+        whileLocked(allParticipants, () -> {
+            bookedSlotMasks.clear();
+
+            for (Booking booking : bookings) {
+                long[] slotMask = slotGranularity.toSlotMask(Collections.singletonList(booking.getTimeSlot()));
+
+                for (Participant participant : getParticipants(booking)) {
+                    book(participant, booking.getDay(), slotMask);
+                }
+            }
+
+            return null;
+        });
+    }
+
+    public <T> T whileLocked(Collection<Participant> participants, Supplier<T> action) {
+        SortedSet<Integer> stripeIndexes = new TreeSet<>();
+
+        for (Participant participant : participants) {
+            stripeIndexes.add(Math.floorMod(participant.hashCode(), STRIPES));
+        }
+
+        for (int stripeIndex : stripeIndexes) {
+            stripes[stripeIndex].lock();
+        }
+
+        try {
+            return action.get();
+        } finally {
+            for (int stripeIndex : stripeIndexes) {
+                stripes[stripeIndex].unlock();
+            }
+        }
+    }
+
+    public boolean isBooked(Participant participant, LocalDate day, long[] slotMask) {
+        ConcurrentMap<LocalDate, long[]> bookedSlotMasksByDay = bookedSlotMasks.get(participant);
+        long[] bookedSlotMask = bookedSlotMasksByDay != null ? bookedSlotMasksByDay.get(day) : null;
+
+        return bookedSlotMask != null && SlotGranularity.intersects(bookedSlotMask, slotMask);
+    }
+
+    /**
+     * Whether any of the slots is booked for the participant. Call it from {@link #whileLocked} to keep a booking
+     * from being made before the caller is done with the slots.
+     */
+    public boolean isAnyBooked(Participant participant, Map<LocalDate, long[]> slotMasksByDay) {
+        for (Map.Entry<LocalDate, long[]> daySlotMask : slotMasksByDay.entrySet()) {
+            if (isBooked(participant, daySlotMask.getKey(), daySlotMask.getValue())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Marks the slots as booked. Call it from {@link #whileLocked} after checking the slots are still free.
+     */
+    public void book(Participant participant, LocalDate day, long[] slotMask) {
+        bookedSlotMasks.computeIfAbsent(participant, key -> new ConcurrentHashMap<>())
+                       .merge(day, slotMask.clone(), (bookedSlotMask, addedSlotMask) -> {
+                           long[] mergedSlotMask = bookedSlotMask.clone();
+                           SlotGranularity.or(mergedSlotMask, addedSlotMask);
+
+                           return mergedSlotMask;
+                       });
+    }
+
+    public void release(Participant participant, LocalDate day, long[] slotMask) {
+        ConcurrentMap<LocalDate, long[]> bookedSlotMasksByDay = bookedSlotMasks.get(participant);
+
+        if (bookedSlotMasksByDay != null) {
+            bookedSlotMasksByDay.computeIfPresent(day, (key, bookedSlotMask) -> {
+                long[] remainingSlotMask = bookedSlotMask.clone();
+                SlotGranularity.andNot(remainingSlotMask, slotMask);
+
+                return !SlotGranularity.isEmpty(remainingSlotMask) ? remainingSlotMask : null;
+            });
+        }
+    }
+}
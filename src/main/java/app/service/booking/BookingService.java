@@ -0,0 +1,16 @@
+package app.service.booking;
+
+import app.model.booking.Booking;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingService {
+    Booking createBooking(Booking bookingModel);
+
+    List<Booking> getAllBookings();
+
+    Optional<Booking> getBookingById(Long id);
+
+    void cancelBooking(Long id);
+}
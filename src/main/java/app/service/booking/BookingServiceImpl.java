@@ -0,0 +1,336 @@
+package app.service.booking;
+
+import app.exception.UserException;
+import app.model.booking.Booking;
+import app.model.candidate.CandidateAvailability;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.SlotGranularity;
+import app.model.utils.TimeSlot;
+import app.repository.booking.BookingRepository;
+import app.repository.candidate.CandidateAvailabilityRepository;
+import app.repository.candidate.CandidateRepository;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.repository.interviewer.InterviewerRepository;
+import app.service.booking.BookingIndex.Participant;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+import app.service.transaction.OptimisticLockRetry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Books a time slot for a candidate and panel by taking it out of the availability of every participant, so slot
+ * queries stop offering it. Conflicts are checked against the {@link BookingIndex} under the lock stripes of the
+ * participants, and the availability of all participants is written in the same transaction as the booking, so a
+ * booking takes the time of all participants or of none. Cancelling gives the time back and deletes the booking in
+ * one transaction as well.
+ */
+@Service
+public class BookingServiceImpl implements BookingService {
+    private final CandidateRepository candidateRepository;
+    private final CandidateAvailabilityRepository candidateAvailabilityRepository;
+    private final InterviewerRepository interviewerRepository;
+    private final InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingIndex bookingIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final SlotGranularity slotGranularity;
+
+    @Autowired
+    public BookingServiceImpl(CandidateRepository candidateRepository,
+                              CandidateAvailabilityRepository candidateAvailabilityRepository,
+                              InterviewerRepository interviewerRepository,
+                              InterviewerAvailabilityRepository interviewerAvailabilityRepository,
+                              BookingRepository bookingRepository,
+                              BookingIndex bookingIndex,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher applicationEventPublisher,
+                              SlotGranularity slotGranularity) {
+        this.candidateRepository = candidateRepository;
+        this.candidateAvailabilityRepository = candidateAvailabilityRepository;
+        this.interviewerRepository = interviewerRepository;
+        this.interviewerAvailabilityRepository = interviewerAvailabilityRepository;
+        this.bookingRepository = bookingRepository;
+        this.bookingIndex = bookingIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.slotGranularity = slotGranularity;
+    }
+
+    @Override
+    public Booking createBooking(Booking bookingModel) {
+        verifyBookingIsValid(bookingModel);
+
+        List<String> interviewersNames = bookingModel.getInterviewersNames().stream()
+                                                     .distinct()
+                                                     .collect(Collectors.toList());
+
+        verifyParticipantsExist(bookingModel.getCandidateName(), interviewersNames);
+
+        Booking booking = Booking.Builder.bookingWith()
+                                         .withCandidateName(bookingModel.getCandidateName())
+                                         .withInterviewersNames(interviewersNames)
+                                         .withDay(bookingModel.getDay())
+                                         .withTimeSlot(bookingModel.getTimeSlot())
+                                         .build();
+        List<Participant> participants = BookingIndex.getParticipants(booking);
+
+        return bookingIndex.whileLocked(participants, () -> reserve(booking, participants));
+    }
+
+    @Override
+    public List<Booking> getAllBookings() {
+        return bookingRepository.findAll(Sort.by("id"));
+    }
+
+    @Override
+    public Optional<Booking> getBookingById(Long id) {
+        return bookingRepository.findById(id);
+    }
+
+    @Override
+    public void cancelBooking(Long id) {
+        Booking booking = bookingRepository.findById(id)
+                                           .orElseThrow(() -> new UserException("Booking does not exist!",
+                                                                                String.valueOf(id)));
+        List<Participant> participants = BookingIndex.getParticipants(booking);
+
+        bookingIndex.whileLocked(participants, () -> {
+            // Another cancellation of the booking may have held the locks first.
+            if (!bookingRepository.existsById(id)) {
+                throw new UserException("Booking does not exist!", String.valueOf(id));
+            }
+
+            release(booking, participants);
+
+            return null;
+        });
+    }
+
+    private Booking reserve(Booking booking, List<Participant> participants) {
+        LocalDate day = booking.getDay();
+        long[] slotMask = toSlotMask(booking.getTimeSlot());
+
+        for (Participant participant : participants) {
+            if (bookingIndex.isBooked(participant, day, slotMask)) {
+                throw new UserException("Time slot is already booked!", participant.getName());
+            }
+        }
+
+        Reservation reservation = OptimisticLockRetry.execute(transactionTemplate, status -> {
+            List<AvailabilityChangedEvent> events = new ArrayList<>();
+
+            for (Participant participant : participants) {
+                events.add(updateAvailability(participant, day, slotMask, true));
+            }
+
+            // A new booking every attempt, so a rolled back attempt does not leave its identifier behind.
+            Booking savedBooking = bookingRepository.save(
+                    Booking.Builder.bookingWith()
+                                   .withCandidateName(booking.getCandidateName())
+                                   .withInterviewersNames(new ArrayList<>(booking.getInterviewersNames()))
+                                   .withDay(day)
+                                   .withTimeSlot(booking.getTimeSlot())
+                                   .build());
+
+            return new Reservation(savedBooking, events);
+        });
+
+        for (Participant participant : participants) {
+            bookingIndex.book(participant, day, slotMask);
+        }
+
+        reservation.availabilityChangedEvents.forEach(applicationEventPublisher::publishEvent);
+
+        return reservation.booking;
+    }
+
+    private void release(Booking booking, List<Participant> participants) {
+        LocalDate day = booking.getDay();
+        long[] slotMask = toSlotMask(booking.getTimeSlot());
+
+        List<AvailabilityChangedEvent> availabilityChangedEvents = OptimisticLockRetry.execute(
+                transactionTemplate, status -> {
+                    List<AvailabilityChangedEvent> events = new ArrayList<>();
+
+                    for (Participant participant : participants) {
+                        AvailabilityChangedEvent availabilityChangedEvent =
+                                updateAvailability(participant, day, slotMask, false);
+
+                        if (availabilityChangedEvent != null) {
+                            events.add(availabilityChangedEvent);
+                        }
+                    }
+
+                    bookingRepository.deleteById(booking.getId());
+
+                    return events;
+                });
+
+        for (Participant participant : participants) {
+            bookingIndex.release(participant, day, slotMask);
+        }
+
+        availabilityChangedEvents.forEach(applicationEventPublisher::publishEvent);
+    }
+
+    /**
+     * Takes the slots out of the participant's availability on the day, or gives them back. Returns null when there
+     * is no availability left to give the slots back to.
+     */
+    private AvailabilityChangedEvent updateAvailability(Participant participant, LocalDate day, long[] slotMask,
+                                                        boolean consume) {
+        String name = participant.getName();
+        List<AvailabilitySlot> availabilitySlotList;
+        Long availabilityId;
+        Long availabilityVersion;
+
+        if (participant.getParticipantType() == ParticipantType.CANDIDATE) {
+            CandidateAvailability candidateAvailability = candidateAvailabilityRepository.getAvailability(name);
+
+            if (candidateAvailability == null && consume) {
+                throw new UserException("Candidate has no availability defined!", name);
+            } else if (candidateAvailability == null) {
+                return null;
+            }
+
+            availabilitySlotList = updateSlotMask(candidateAvailability.getAvailabilitySlotList(), name, day,
+                                                  slotMask, consume);
+            // Flushed, so the saved availability carries the version its event is ordered by.
+            CandidateAvailability savedCandidateAvailability = candidateAvailabilityRepository.saveAndFlush(
+                    CandidateAvailability.Builder.candidateAvailabilityModelFrom(candidateAvailability)
+                                                 .withAvailabilitySlotList(availabilitySlotList)
+                                                 .build());
+            availabilityId = savedCandidateAvailability.getId();
+            availabilityVersion = savedCandidateAvailability.getVersion();
+        } else {
+            InterviewerAvailability interviewerAvailability =
+                    interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(name);
+
+            if (interviewerAvailability == null && consume) {
+                throw new UserException("Interviewer has no availability defined!", name);
+            } else if (interviewerAvailability == null) {
+                return null;
+            }
+
+            availabilitySlotList = updateSlotMask(interviewerAvailability.getAvailabilitySlotList(), name, day,
+                                                  slotMask, consume);
+            InterviewerAvailability savedInterviewerAvailability = interviewerAvailabilityRepository.saveAndFlush(
+                    InterviewerAvailability.Builder.interviewerAvailabilityModelFrom(interviewerAvailability)
+                                                   .withAvailabilitySlotList(availabilitySlotList)
+                                                   .build());
+            availabilityId = savedInterviewerAvailability.getId();
+            availabilityVersion = savedInterviewerAvailability.getVersion();
+        }
+
+        return AvailabilityChangedEvent.Builder.availabilityChangedEventWith()
+                                               .withParticipantType(participant.getParticipantType())
+                                               .withParticipantName(name)
+                                               .withChangedDays(Collections.singleton(day))
+                                               .withAvailabilitySlotList(availabilitySlotList)
+                                               .withAvailabilityId(availabilityId)
+                                               .withAvailabilityVersion(availabilityVersion)
+                                               .build();
+    }
+
+    private List<AvailabilitySlot> updateSlotMask(List<AvailabilitySlot> availabilitySlotList, String name,
+                                                  LocalDate day, long[] slotMask, boolean consume) {
+        Map<LocalDate, long[]> slotMasksByDay = slotGranularity.toSlotMasksByDay(availabilitySlotList);
+        long[] daySlotMask = slotMasksByDay.getOrDefault(day, slotGranularity.newSlotMask());
+
+        if (consume && !SlotGranularity.contains(daySlotMask, slotMask)) {
+            throw new UserException("Participant is not available for the whole time slot!", name);
+        }
+
+        if (consume) {
+            SlotGranularity.andNot(daySlotMask, slotMask);
+        } else {
+            SlotGranularity.or(daySlotMask, slotMask);
+        }
+
+        List<AvailabilitySlot> updatedAvailabilitySlotList = new ArrayList<>(availabilitySlotList);
+
+        updatedAvailabilitySlotList.removeIf(availabilitySlot -> availabilitySlot.getDay().equals(day));
+
+        if (!SlotGranularity.isEmpty(daySlotMask)) {
+            updatedAvailabilitySlotList.add(AvailabilitySlot.Builder.availabilitySlotWith()
+                                                                    .withDay(day)
+                                                                    .withTimeSlotList(
+                                                                            slotGranularity.toTimeSlots(daySlotMask))
+                                                                    .build());
+        }
+
+        return updatedAvailabilitySlotList;
+    }
+
+    private long[] toSlotMask(TimeSlot timeSlot) {
+        return slotGranularity.toSlotMask(Collections.singletonList(timeSlot));
+    }
+
+    private void verifyBookingIsValid(Booking bookingModel) {
+        if (bookingModel.getCandidateName() == null || bookingModel.getCandidateName().isBlank()) {
+            throw new UserException("You must provide a candidate!");
+        }
+
+        if (bookingModel.getInterviewersNames() == null || bookingModel.getInterviewersNames().isEmpty()) {
+            throw new UserException("You must provide at least one interviewer!");
+        }
+
+        TimeSlot timeSlot = bookingModel.getTimeSlot();
+
+        if (bookingModel.getDay() == null || timeSlot == null || timeSlot.getFrom() == null
+            || timeSlot.getTo() == null) {
+            throw new UserException("You must provide a day and a time slot!");
+        }
+
+        LocalTime from = timeSlot.getFrom();
+        LocalTime to = timeSlot.getTo();
+
+        if (!from.isBefore(to)) {
+            throw new UserException("Start hour of slot must be before end hour of slot!",
+                                    "From: " + from, "To: " + to);
+        }
+
+        if (!slotGranularity.isAligned(from) || !slotGranularity.isAligned(to)) {
+            throw new UserException(slotGranularity.getAlignmentMessage("Booked time slot"),
+                                    "From: " + from, "To: " + to);
+        }
+    }
+
+    private void verifyParticipantsExist(String candidateName, List<String> interviewersNames) {
+        if (!candidateRepository.existsById(candidateName)) {
+            throw new UserException("Candidate does not exist!", candidateName);
+        }
+
+        for (String interviewerName : interviewersNames) {
+            if (!interviewerRepository.existsById(interviewerName)) {
+                throw new UserException("Interviewer does not exist!", interviewerName);
+            }
+        }
+    }
+
+    private static class Reservation {
+        private final Booking booking;
+        private final List<AvailabilityChangedEvent> availabilityChangedEvents;
+
+        private Reservation(Booking booking, List<AvailabilityChangedEvent> availabilityChangedEvents) {
+            this.booking = booking;
+            this.availabilityChangedEvents = availabilityChangedEvents;
+        }
+    }
+}
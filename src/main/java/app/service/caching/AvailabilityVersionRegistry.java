@@ -0,0 +1,105 @@
+package app.service.caching;
+
+import app.exception.TechnicalException;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+import app.service.events.AvailabilityVersions;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts availability changes per participant. Counters are never reset, so a participant that is deleted and created
+ * again does not reuse an old version, and every tag also covers a random epoch chosen at startup because the
+ * counters themselves are not persisted.
+ */
+@Component
+public class AvailabilityVersionRegistry {
+    private static final int VERSION_TAG_BYTES = 16;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final long epoch = new SecureRandom().nextLong();
+    private final Map<ParticipantType, ConcurrentMap<String, AtomicLong>> versions =
+            new EnumMap<>(ParticipantType.class);
+    private final AvailabilityVersions availabilityVersions = new AvailabilityVersions();
+
+    public AvailabilityVersionRegistry() {
+        for (ParticipantType participantType : ParticipantType.values()) {
+            versions.put(participantType, new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener
+    public void onAvailabilityChanged(AvailabilityChangedEvent availabilityChangedEvent) {
+        // An event older than one already counted changes nothing the counted one did not.
+        if (availabilityVersions.advance(availabilityChangedEvent).isEmpty()) {
+            return;
+        }
+
+        versions.get(availabilityChangedEvent.getParticipantType())
+                .computeIfAbsent(availabilityChangedEvent.getParticipantName(), name -> new AtomicLong())
+                .incrementAndGet();
+    }
+
+    public long getVersion(ParticipantType participantType, String participantName) {
+        AtomicLong version = versions.get(participantType).get(participantName);
+
+        return version != null ? version.get() : 0L;
+    }
+
+    /**
+     * Tags the interview slots of a candidate and interviewers in the given order. Read the tag before computing the
+     * slots: a change in between then yields newer slots under an older tag, which the next request corrects.
+     */
+    public String getInterviewSlotsVersionTag(String candidateName, List<String> interviewersNames) {
+        MessageDigest messageDigest = newMessageDigest();
+
+        update(messageDigest, Long.toString(epoch));
+        update(messageDigest, candidateName);
+        update(messageDigest, Long.toString(getVersion(ParticipantType.CANDIDATE, candidateName)));
+
+        for (String interviewerName : interviewersNames) {
+            update(messageDigest, interviewerName);
+            update(messageDigest, Long.toString(getVersion(ParticipantType.INTERVIEWER, interviewerName)));
+        }
+
+        return toHex(messageDigest.digest());
+    }
+
+    private void update(MessageDigest messageDigest, String value) {
+        byte[] valueBytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+
+        messageDigest.update(Integer.toString(valueBytes.length).getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) ':');
+        messageDigest.update(valueBytes);
+    }
+
+    private MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new TechnicalException("SHA-256 is not available: " + e.getMessage());
+        }
+    }
+
+    private String toHex(byte[] digest) {
+        char[] hex = new char[VERSION_TAG_BYTES * 2];
+
+        for (int i = 0; i < VERSION_TAG_BYTES; i++) {
+            hex[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xF];
+        }
+
+        return new String(hex);
+    }
+}
@@ -0,0 +1,115 @@
+package app.service.caching;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent computations of the same key: the first caller computes the value and every caller arriving
+ * while it is in flight waits for and receives the same value or exception. Nothing is kept once the flight lands, so
+ * the key must capture everything the value depends on.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    public Landing<V> execute(K key, Supplier<V> computation) {
+        return execute(key, computation, Long.MAX_VALUE, () -> new IllegalStateException("Flight never landed!"));
+    }
+
+    /**
+     * Like {@link #execute(Object, Supplier)}, but a caller joining a flight waits for it at most
+     * {@code maximumWaitNanos} and then gives up with the exception of {@code waitTimeout}. The flight itself keeps
+     * going for its leader and the callers still waiting.
+     */
+    public Landing<V> execute(K key, Supplier<V> computation, long maximumWaitNanos,
+                              Supplier<? extends RuntimeException> waitTimeout) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existingFlight = flights.putIfAbsent(key, flight);
+
+        if (existingFlight != null) {
+            coalescedCount.incrementAndGet();
+
+            return new Landing<>(await(existingFlight, maximumWaitNanos, waitTimeout), false);
+        }
+
+        executedCount.incrementAndGet();
+
+        try {
+            V value = computation.get();
+            flight.complete(value);
+
+            return new Landing<>(value, true);
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public int getInFlightCount() {
+        return flights.size();
+    }
+
+    private V await(CompletableFuture<V> flight, long maximumWaitNanos,
+                    Supplier<? extends RuntimeException> waitTimeout) {
+        try {
+            return flight.get(maximumWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw waitTimeout.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Interrupted while waiting for an identical computation!", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * The value of a flight and whether this caller computed it or joined the flight of another caller.
+     */
+    public static final class Landing<V> {
+        private final V value;
+        private final boolean led;
+
+        private Landing(V value, boolean led) {
+            this.value = value;
+            this.led = led;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public boolean isLed() {
+            return led;
+        }
+    }
+}
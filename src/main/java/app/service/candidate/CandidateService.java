@@ -1,7 +1,9 @@
 package app.service.candidate;
 
 import app.model.candidate.CandidateAvailability;
+import app.model.candidate.CandidateAvailabilityView;
 import app.model.candidate.Candidate;
+import app.model.candidate.CandidateView;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,17 +11,17 @@ import java.util.Optional;
 public interface CandidateService {
     Candidate createCandidate(Candidate candidateModel);
 
-    List<Candidate> getAllCandidates();
+    List<CandidateView> getAllCandidates();
 
-    Optional<Candidate> getCandidateByName(String name);
+    Optional<CandidateView> getCandidateByName(String name);
 
     void deleteCandidateByName(String name);
 
     CandidateAvailability createCandidateAvailability(CandidateAvailability candidateAvailabilityModel);
 
-    List<CandidateAvailability> getAllCandidatesAvailability();
+    List<CandidateAvailabilityView> getAllCandidatesAvailability();
 
-    CandidateAvailability getCandidateAvailabilityByName(String name);
+    CandidateAvailabilityView getCandidateAvailabilityByName(String name);
 
     void deleteCandidateAvailabilityByName(String name);
 }
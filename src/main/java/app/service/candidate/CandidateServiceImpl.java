@@ -2,19 +2,34 @@ package app.service.candidate;
 
 import app.exception.UserException;
 import app.model.candidate.CandidateAvailability;
+import app.model.candidate.CandidateAvailabilityView;
 import app.model.candidate.Candidate;
+import app.model.candidate.CandidateView;
 import app.model.utils.AvailabilitySlot;
+import app.model.utils.HourMasks;
+import app.model.utils.SlotGranularity;
 import app.model.utils.TimeSlot;
 import app.repository.candidate.CandidateAvailabilityRepository;
 import app.repository.candidate.CandidateRepository;
+import app.service.booking.BookingIndex;
+import app.service.booking.BookingIndex.Participant;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+import app.service.transaction.OptimisticLockRetry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class CandidateServiceImpl implements CandidateService {
@@ -22,6 +37,14 @@ public class CandidateServiceImpl implements CandidateService {
     private CandidateRepository candidateRepository;
     @Autowired
     private CandidateAvailabilityRepository candidateAvailabilityRepository;
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Autowired
+    private SlotGranularity slotGranularity;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private BookingIndex bookingIndex;
 
     public CandidateServiceImpl(){}
 
@@ -32,18 +55,35 @@ public class CandidateServiceImpl implements CandidateService {
     }
 
     @Override
-    public List<Candidate> getAllCandidates() {
-        return candidateRepository.findAll();
+    public List<CandidateView> getAllCandidates() {
+        return candidateRepository.findAllViews();
     }
 
     @Override
-    public Optional<Candidate> getCandidateByName(String name) {
-        return candidateRepository.findById(name);
+    public Optional<CandidateView> getCandidateByName(String name) {
+        return candidateRepository.findViewByName(name);
     }
 
     @Override
     public void deleteCandidateByName(String name) {
-        candidateRepository.deleteById(name);
+        AvailabilityChangedEvent availabilityRemovedEvent =
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    CandidateAvailability candidateAvailabilityToBeDeleted =
+                            candidateAvailabilityRepository.getAvailability(name);
+                    AvailabilityChangedEvent event = null;
+
+                    if (candidateAvailabilityToBeDeleted != null) {
+                        event = buildAvailabilityRemovedEvent(candidateAvailabilityToBeDeleted);
+                    }
+
+                    candidateRepository.deleteById(name);
+
+                    return event;
+                });
+
+        if (availabilityRemovedEvent != null) {
+            applicationEventPublisher.publishEvent(availabilityRemovedEvent);
+        }
     }
 
     @Override
@@ -51,35 +91,87 @@ public class CandidateServiceImpl implements CandidateService {
             CandidateAvailability candidateAvailabilityModel) {
         verifyValidityOfCandidateAvailability(candidateAvailabilityModel);
 
-        CandidateAvailability existingCandidate = alreadyExists(
-                candidateAvailabilityModel);
-
-        if (existingCandidate != null) {
-            addNewAvailability(existingCandidate, candidateAvailabilityModel);
-
-            return candidateAvailabilityRepository.save(existingCandidate);
-        }
-
-        return candidateAvailabilityRepository.save(candidateAvailabilityModel);
+        Set<LocalDate> changedDays = HourMasks.getDays(candidateAvailabilityModel.getAvailabilitySlotList());
+        String candidateName = candidateAvailabilityModel.getCandidateModel().getName();
+        Participant participant = new Participant(ParticipantType.CANDIDATE, candidateName);
+        Map<LocalDate, long[]> addedSlotMasks =
+                slotGranularity.toSlotMasksByDay(candidateAvailabilityModel.getAvailabilitySlotList());
+        CandidateAvailability savedCandidateAvailability = bookingIndex.whileLocked(
+                Collections.singletonList(participant), () -> {
+                    if (bookingIndex.isAnyBooked(participant, addedSlotMasks)) {
+                        throw new UserException("Availability overlaps a booked time slot!", candidateName);
+                    }
+
+                    return OptimisticLockRetry.execute(new TransactionTemplate(transactionManager), status -> {
+                        CandidateAvailability existingCandidate = alreadyExists(candidateAvailabilityModel);
+
+                        if (existingCandidate != null) {
+                            return candidateAvailabilityRepository.save(
+                                    CandidateAvailability.Builder.candidateAvailabilityModelFrom(existingCandidate)
+                                                                 .withAvailabilitySlotList(addNewAvailability(
+                                                                         existingCandidate,
+                                                                         candidateAvailabilityModel))
+                                                                 .build());
+                        }
+
+                        return candidateAvailabilityRepository.save(candidateAvailabilityModel);
+                    });
+                });
+
+        applicationEventPublisher.publishEvent(buildAvailabilityChangedEvent(
+                savedCandidateAvailability, changedDays, savedCandidateAvailability.getVersion(),
+                savedCandidateAvailability.getAvailabilitySlotList()));
+
+        return savedCandidateAvailability;
     }
 
     @Override
-    public List<CandidateAvailability> getAllCandidatesAvailability() {
-        return candidateAvailabilityRepository.findAll();
+    public List<CandidateAvailabilityView> getAllCandidatesAvailability() {
+        return candidateAvailabilityRepository.findAllViews();
     }
 
     @Override
-    public CandidateAvailability getCandidateAvailabilityByName(String name) {
-        return candidateAvailabilityRepository.getAvailability(name);
+    public CandidateAvailabilityView getCandidateAvailabilityByName(String name) {
+        return candidateAvailabilityRepository.findViewByName(name).orElse(null);
     }
 
     @Override
     public void deleteCandidateAvailabilityByName(String name) {
-        CandidateAvailability availability = candidateAvailabilityRepository.getAvailability(name);
-        if(availability == null) {
-            throw new UserException("Candidate does not exist!", name);
-        }
-        candidateAvailabilityRepository.deleteById(availability.getId());
+        AvailabilityChangedEvent availabilityRemovedEvent =
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    CandidateAvailability availability = candidateAvailabilityRepository.getAvailability(name);
+                    if(availability == null) {
+                        throw new UserException("Candidate does not exist!", name);
+                    }
+                    AvailabilityChangedEvent event = buildAvailabilityRemovedEvent(availability);
+
+                    candidateAvailabilityRepository.deleteById(availability.getId());
+
+                    return event;
+                });
+
+        applicationEventPublisher.publishEvent(availabilityRemovedEvent);
+    }
+
+    private AvailabilityChangedEvent buildAvailabilityRemovedEvent(CandidateAvailability removedAvailability) {
+        return buildAvailabilityChangedEvent(removedAvailability,
+                                             HourMasks.getDays(removedAvailability.getAvailabilitySlotList()),
+                                             removedAvailability.getVersion() + 1, Collections.emptyList());
+    }
+
+    private AvailabilityChangedEvent buildAvailabilityChangedEvent(CandidateAvailability candidateAvailability,
+                                                                   Set<LocalDate> changedDays,
+                                                                   Long availabilityVersion,
+                                                                   List<AvailabilitySlot> availabilitySlotList) {
+        return AvailabilityChangedEvent.Builder.availabilityChangedEventWith()
+                                               .withParticipantType(AvailabilityChangedEvent.ParticipantType.CANDIDATE)
+                                               .withParticipantName(
+                                                       candidateAvailability.getCandidateModel().getName())
+                                               .withChangedDays(changedDays)
+                                               .withAvailabilitySlotList(availabilitySlotList)
+                                               .withAvailabilityId(candidateAvailability.getId())
+                                               .withAvailabilityVersion(availabilityVersion)
+                                               .build();
     }
 
     private void isValid(Candidate candidateModel) {
@@ -133,11 +225,9 @@ public class CandidateServiceImpl implements CandidateService {
                                                 "To: " + newTimeSlotToTime);
                 }
 
-                if (newTimeSlotFromTime.getMinute() != 0 || newTimeSlotToTime.getMinute() != 0) {
-                    throw new UserException(
-                            "Availability slot must be from the beginning of the hour until the beginning of the next"
-                            + " hour!",
-                            "From: " + newTimeSlotFromTime, "To: " + newTimeSlotToTime);
+                if (!slotGranularity.isAligned(newTimeSlotFromTime) || !slotGranularity.isAligned(newTimeSlotToTime)) {
+                    throw new UserException(slotGranularity.getAlignmentMessage("Availability slot"),
+                                                "From: " + newTimeSlotFromTime, "To: " + newTimeSlotToTime);
                 }
             }
         }
@@ -150,26 +240,27 @@ public class CandidateServiceImpl implements CandidateService {
         return candidateAvailabilityRepository.getAvailability(candidateName);
     }
 
-    private void addNewAvailability(CandidateAvailability candidateExistingAvailabilityModel,
-                                    CandidateAvailability candidateAvailabilityModel) {
-        List<AvailabilitySlot> existingAvailabilitySlotList =
-                candidateExistingAvailabilityModel.getAvailabilitySlotList();
-        List<AvailabilitySlot> newAvailabilitySlotList = candidateAvailabilityModel.getAvailabilitySlotList();
+    private List<AvailabilitySlot> addNewAvailability(CandidateAvailability candidateExistingAvailabilityModel,
+                                                      CandidateAvailability candidateAvailabilityModel) {
+        List<AvailabilitySlot> newAvailabilitySlotList =
+                new ArrayList<>(candidateAvailabilityModel.getAvailabilitySlotList());
+        List<AvailabilitySlot> mergedAvailabilitySlotList = addNewAvailabilityToExistingDay(
+                candidateExistingAvailabilityModel.getAvailabilitySlotList(), newAvailabilitySlotList);
 
-        List<AvailabilitySlot> remainingNewAvailabilitySlotList = addNewAvailabilityToExistingDay(
-                existingAvailabilitySlotList, newAvailabilitySlotList);
-
-        if (!remainingNewAvailabilitySlotList.isEmpty()) {
-            addNewAvailabilityToNewDay(existingAvailabilitySlotList, remainingNewAvailabilitySlotList);
+        if (!newAvailabilitySlotList.isEmpty()) {
+            addNewAvailabilityToNewDay(mergedAvailabilitySlotList, newAvailabilitySlotList);
         }
+
+        return mergedAvailabilitySlotList;
     }
 
     private List<AvailabilitySlot> addNewAvailabilityToExistingDay(
             List<AvailabilitySlot> existingAvailabilitySlotList, List<AvailabilitySlot> newAvailabilitySlotList) {
+        List<AvailabilitySlot> mergedAvailabilitySlotList = new ArrayList<>();
         List<AvailabilitySlot> addedAvailabilitiesList = new ArrayList<>();
 
         for (AvailabilitySlot existingAvailabilitySlot : existingAvailabilitySlotList) {
-            List<TimeSlot> existingTimeSlotList = existingAvailabilitySlot.getTimeSlotList();
+            List<TimeSlot> mergedTimeSlotList = existingAvailabilitySlot.getTimeSlotList();
             LocalDate existingDay = existingAvailabilitySlot.getDay();
 
             for (AvailabilitySlot newAvailabilitySlot : newAvailabilitySlotList) {
@@ -177,21 +268,31 @@ public class CandidateServiceImpl implements CandidateService {
                 LocalDate newDay = newAvailabilitySlot.getDay();
 
                 if (existingDay.isEqual(newDay)) {
-                    existingTimeSlotList.addAll(newTimeSlotList);
+                    mergedTimeSlotList = mergeTimeSlots(mergedTimeSlotList, newTimeSlotList);
                     addedAvailabilitiesList.add(newAvailabilitySlot);
                 }
             }
+
+            mergedAvailabilitySlotList.add(new AvailabilitySlot(existingDay, mergedTimeSlotList));
         }
 
         if (!addedAvailabilitiesList.isEmpty()) {
             newAvailabilitySlotList.removeAll(addedAvailabilitiesList);
         }
 
-        return newAvailabilitySlotList;
+        return mergedAvailabilitySlotList;
+    }
+
+    private List<TimeSlot> mergeTimeSlots(List<TimeSlot> existingTimeSlotList, List<TimeSlot> newTimeSlotList) {
+        long[] slotMask = slotGranularity.toSlotMask(existingTimeSlotList);
+
+        SlotGranularity.or(slotMask, slotGranularity.toSlotMask(newTimeSlotList));
+
+        return slotGranularity.toTimeSlots(slotMask);
     }
 
-    private void addNewAvailabilityToNewDay(List<AvailabilitySlot> existingAvailabilitySlotList,
+    private void addNewAvailabilityToNewDay(List<AvailabilitySlot> mergedAvailabilitySlotList,
                                             List<AvailabilitySlot> remainingNewAvailabilitySlotList) {
-        existingAvailabilitySlotList.addAll(remainingNewAvailabilitySlotList);
+        mergedAvailabilitySlotList.addAll(remainingNewAvailabilitySlotList);
     }
 }
@@ -0,0 +1,95 @@
+package app.service.events;
+
+import app.model.utils.AvailabilitySlot;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Published after an availability write has been saved. Carries the days the write touched and the participant's
+ * whole resulting availability; a day missing from the list is no longer available at all.
+ * <p>
+ * Events of concurrent writes are published in no particular order, so each one also carries the id and
+ * {@code @Version} of the availability it was built from. Listeners drop an event older than what they already
+ * applied, which is why an event carries the whole availability: the newer event applied instead also holds the
+ * changes of the dropped one. A removal carries the version after the removed availability's last one, and is built
+ * before the delete, while the lazily loaded slots of the removed availability can still be read.
+ */
+@Getter
+public class AvailabilityChangedEvent {
+    public enum ParticipantType {
+        CANDIDATE,
+        INTERVIEWER
+    }
+
+    private final ParticipantType participantType;
+    private final String participantName;
+    private final Set<LocalDate> changedDays;
+    private final List<AvailabilitySlot> availabilitySlotList;
+    private final Long availabilityId;
+    private final Long availabilityVersion;
+
+    public AvailabilityChangedEvent(Builder builder) {
+        this.participantType = builder.participantType;
+        this.participantName = builder.participantName;
+        this.changedDays = builder.changedDays;
+        this.availabilitySlotList = builder.availabilitySlotList;
+        this.availabilityId = builder.availabilityId;
+        this.availabilityVersion = builder.availabilityVersion;
+    }
+
+    public static class Builder {
+        private ParticipantType participantType;
+        private String participantName;
+        private Set<LocalDate> changedDays;
+        private List<AvailabilitySlot> availabilitySlotList;
+        private Long availabilityId;
+        private Long availabilityVersion;
+
+        public static Builder availabilityChangedEventWith() {
+            return new Builder();
+        }
+
+        public Builder withParticipantType(ParticipantType participantType) {
+            this.participantType = participantType;
+
+            return this;
+        }
+
+        public Builder withParticipantName(String participantName) {
+            this.participantName = participantName;
+
+            return this;
+        }
+
+        public Builder withChangedDays(Set<LocalDate> changedDays) {
+            this.changedDays = changedDays;
+
+            return this;
+        }
+
+        public Builder withAvailabilitySlotList(List<AvailabilitySlot> availabilitySlotList) {
+            this.availabilitySlotList = availabilitySlotList;
+
+            return this;
+        }
+
+        public Builder withAvailabilityId(Long availabilityId) {
+            this.availabilityId = availabilityId;
+
+            return this;
+        }
+
+        public Builder withAvailabilityVersion(Long availabilityVersion) {
+            this.availabilityVersion = availabilityVersion;
+
+            return this;
+        }
+
+        public AvailabilityChangedEvent build() {
+            return new AvailabilityChangedEvent(this);
+        }
+    }
+}
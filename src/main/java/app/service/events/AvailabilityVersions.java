@@ -0,0 +1,94 @@
+package app.service.events;
+
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.HourMasks;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The newest availability a listener has applied per participant: its version and the days it has. Versions are
+ * ordered by availability id first, since an availability deleted and created again gets a new, higher id and starts
+ * its versions over.
+ */
+public class AvailabilityVersions {
+    private final Map<ParticipantType, ConcurrentMap<String, AppliedAvailability>> appliedAvailabilities =
+            new EnumMap<>(ParticipantType.class);
+
+    public AvailabilityVersions() {
+        for (ParticipantType participantType : ParticipantType.values()) {
+            appliedAvailabilities.put(participantType, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Records an availability the listener read itself, as when it rebuilds from the repository.
+     */
+    public void record(ParticipantType participantType, String participantName, Long availabilityId,
+                       Long availabilityVersion, List<AvailabilitySlot> availabilitySlotList) {
+        appliedAvailabilities.get(participantType).put(
+                participantName, new AppliedAvailability(availabilityId, availabilityVersion,
+                                                         HourMasks.getDays(availabilitySlotList)));
+    }
+
+    /**
+     * Records the availability of the event and returns the days the listener has to set to it, or returns an empty
+     * set when the event is not newer than the availability already applied and should be dropped. Besides the days
+     * of the event these are the days of the availability applied before, whose changes may have come in an event
+     * that was dropped.
+     */
+    public Set<LocalDate> advance(AvailabilityChangedEvent availabilityChangedEvent) {
+        Set<LocalDate> eventDays = HourMasks.getDays(availabilityChangedEvent.getAvailabilitySlotList());
+        AppliedAvailability eventAvailability = new AppliedAvailability(
+                availabilityChangedEvent.getAvailabilityId(), availabilityChangedEvent.getAvailabilityVersion(),
+                eventDays);
+        Set<LocalDate> daysToUpdate = new HashSet<>();
+
+        appliedAvailabilities.get(availabilityChangedEvent.getParticipantType()).compute(
+                availabilityChangedEvent.getParticipantName(), (participantName, appliedAvailability) -> {
+                    if (appliedAvailability != null && !appliedAvailability.isOlderThan(eventAvailability)) {
+                        return appliedAvailability;
+                    }
+
+                    if (appliedAvailability != null) {
+                        daysToUpdate.addAll(appliedAvailability.days);
+                    }
+
+                    daysToUpdate.addAll(availabilityChangedEvent.getChangedDays());
+                    daysToUpdate.addAll(eventDays);
+
+                    return eventAvailability;
+                });
+
+        return daysToUpdate;
+    }
+
+    public void clear() {
+        appliedAvailabilities.values().forEach(Map::clear);
+    }
+
+    private static class AppliedAvailability {
+        private final long availabilityId;
+        private final long availabilityVersion;
+        private final Set<LocalDate> days;
+
+        private AppliedAvailability(long availabilityId, long availabilityVersion, Set<LocalDate> days) {
+            this.availabilityId = availabilityId;
+            this.availabilityVersion = availabilityVersion;
+            this.days = days;
+        }
+
+        private boolean isOlderThan(AppliedAvailability appliedAvailability) {
+            return availabilityId != appliedAvailability.availabilityId
+                   ? availabilityId < appliedAvailability.availabilityId
+                   : availabilityVersion < appliedAvailability.availabilityVersion;
+        }
+    }
+}
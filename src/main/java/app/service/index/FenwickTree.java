@@ -0,0 +1,40 @@
+package app.service.index;
+
+/**
+ * Binary indexed tree over positions {@code 0} to {@code size - 1}: adding to a position and summing a range both take
+ * O(log n).
+ */
+public class FenwickTree {
+    private final long[] tree;
+
+    public FenwickTree(int size) {
+        this.tree = new long[size + 1];
+    }
+
+    public int size() {
+        return tree.length - 1;
+    }
+
+    public void add(int index, long delta) {
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Sums the positions from {@code 0} to {@code index}, both included. Positions past the end count as zero.
+     */
+    public long prefixSum(int index) {
+        long sum = 0;
+
+        for (int i = Math.min(index + 1, size()); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+
+        return sum;
+    }
+
+    public long rangeSum(int fromIndex, int toIndex) {
+        return prefixSum(toIndex) - prefixSum(fromIndex - 1);
+    }
+}
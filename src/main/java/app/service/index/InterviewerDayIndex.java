@@ -0,0 +1,106 @@
+package app.service.index;
+
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.HourMasks;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Secondary index of interviewer availability partitioned by epoch day: day -> (interviewer name -> hour mask).
+ * Writers are serialized; readers go straight to a single day's partition without locking.
+ */
+@Component
+public class InterviewerDayIndex {
+    private final InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    private final ConcurrentNavigableMap<Long, ConcurrentMap<String, Integer>> dayPartitions =
+            new ConcurrentSkipListMap<>();
+    private final AvailabilityVersions availabilityVersions = new AvailabilityVersions();
+
+    @Autowired
+    public InterviewerDayIndex(InterviewerAvailabilityRepository interviewerAvailabilityRepository) {
+        this.interviewerAvailabilityRepository = interviewerAvailabilityRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        dayPartitions.clear();
+        availabilityVersions.clear();
+
+        for (InterviewerAvailability interviewerAvailability : interviewerAvailabilityRepository.findAll()) {
+            String interviewerName = interviewerAvailability.getInterviewerModel().getName();
+            Map<LocalDate, Integer> hourMasksByDay =
+                    HourMasks.toHourMasksByDay(interviewerAvailability.getAvailabilitySlotList());
+
+            availabilityVersions.record(AvailabilityChangedEvent.ParticipantType.INTERVIEWER, interviewerName,
+                                        interviewerAvailability.getId(), interviewerAvailability.getVersion(),
+                                        interviewerAvailability.getAvailabilitySlotList());
+            hourMasksByDay.forEach((day, hourMask) -> updateHourMask(day, interviewerName, hourMask));
+        }
+    }
+
+    @EventListener
+    public synchronized void onAvailabilityChanged(AvailabilityChangedEvent availabilityChangedEvent) {
+        if (availabilityChangedEvent.getParticipantType() != AvailabilityChangedEvent.ParticipantType.INTERVIEWER) {
+            return;
+        }
+
+        String interviewerName = availabilityChangedEvent.getParticipantName();
+        Map<LocalDate, Integer> hourMasksByDay =
+                HourMasks.toHourMasksByDay(availabilityChangedEvent.getAvailabilitySlotList());
+
+        for (LocalDate changedDay : availabilityVersions.advance(availabilityChangedEvent)) {
+            updateHourMask(changedDay, interviewerName, hourMasksByDay.getOrDefault(changedDay, 0));
+        }
+    }
+
+    public Map<String, Integer> getHourMasksOfDay(LocalDate day) {
+        ConcurrentMap<String, Integer> dayPartition = dayPartitions.get(day.toEpochDay());
+
+        return dayPartition != null ? new HashMap<>(dayPartition) : Collections.emptyMap();
+    }
+
+    public NavigableMap<LocalDate, Map<String, Integer>> getHourMasksOfDays(LocalDate from, LocalDate to) {
+        NavigableMap<LocalDate, Map<String, Integer>> hourMasksOfDays = new TreeMap<>();
+
+        dayPartitions.subMap(from.toEpochDay(), true, to.toEpochDay(), true).forEach(
+                (epochDay, dayPartition) -> hourMasksOfDays.put(LocalDate.ofEpochDay(epochDay),
+                                                                new HashMap<>(dayPartition)));
+
+        return hourMasksOfDays;
+    }
+
+    private void updateHourMask(LocalDate day, String interviewerName, int hourMask) {
+        long epochDay = day.toEpochDay();
+
+        if (hourMask != 0) {
+            dayPartitions.computeIfAbsent(epochDay, key -> new ConcurrentHashMap<>()).put(interviewerName, hourMask);
+            return;
+        }
+
+        ConcurrentMap<String, Integer> dayPartition = dayPartitions.get(epochDay);
+
+        if (dayPartition != null) {
+            dayPartition.remove(interviewerName);
+
+            if (dayPartition.isEmpty()) {
+                dayPartitions.remove(epochDay);
+            }
+        }
+    }
+}
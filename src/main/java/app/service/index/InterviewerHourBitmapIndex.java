@@ -0,0 +1,186 @@
+package app.service.index;
+
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.HourMasks;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityVersions;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Hour-major index of free interviewers: for every (day, hour) a compressed bitmap of the interviewer ids free for
+ * that whole hour. A day's bitmaps are copied on write and published as a new array, so readers never lock and
+ * never observe a half-applied update.
+ */
+@Component
+public class InterviewerHourBitmapIndex {
+    private final InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    private final InterviewerIdDictionary interviewerIdDictionary;
+    private final ConcurrentNavigableMap<Long, RoaringBitmap[]> hourBitmapsByDay = new ConcurrentSkipListMap<>();
+    private final AvailabilityVersions availabilityVersions = new AvailabilityVersions();
+
+    @Autowired
+    public InterviewerHourBitmapIndex(InterviewerAvailabilityRepository interviewerAvailabilityRepository,
+                                      InterviewerIdDictionary interviewerIdDictionary) {
+        this.interviewerAvailabilityRepository = interviewerAvailabilityRepository;
+        this.interviewerIdDictionary = interviewerIdDictionary;
+    }
+
+    public interface FreeInterviewersConsumer {
+        void accept(LocalDate day, int hour, RoaringBitmap freeInterviewerIds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        hourBitmapsByDay.clear();
+        availabilityVersions.clear();
+
+        for (InterviewerAvailability interviewerAvailability : interviewerAvailabilityRepository.findAll()) {
+            String interviewerName = interviewerAvailability.getInterviewerModel().getName();
+            int interviewerId = interviewerIdDictionary.getOrAssignId(interviewerName);
+            Map<LocalDate, Integer> hourMasksByDay =
+                    HourMasks.toHourMasksByDay(interviewerAvailability.getAvailabilitySlotList());
+
+            availabilityVersions.record(AvailabilityChangedEvent.ParticipantType.INTERVIEWER, interviewerName,
+                                        interviewerAvailability.getId(), interviewerAvailability.getVersion(),
+                                        interviewerAvailability.getAvailabilitySlotList());
+            hourMasksByDay.forEach((day, hourMask) -> updateHourMask(day, interviewerId, hourMask));
+        }
+    }
+
+    @EventListener
+    public synchronized void onAvailabilityChanged(AvailabilityChangedEvent availabilityChangedEvent) {
+        if (availabilityChangedEvent.getParticipantType() != AvailabilityChangedEvent.ParticipantType.INTERVIEWER) {
+            return;
+        }
+
+        int interviewerId = interviewerIdDictionary.getOrAssignId(availabilityChangedEvent.getParticipantName());
+        Map<LocalDate, Integer> hourMasksByDay =
+                HourMasks.toHourMasksByDay(availabilityChangedEvent.getAvailabilitySlotList());
+
+        for (LocalDate changedDay : availabilityVersions.advance(availabilityChangedEvent)) {
+            updateHourMask(changedDay, interviewerId, hourMasksByDay.getOrDefault(changedDay, 0));
+        }
+    }
+
+    public RoaringBitmap toInterviewerIds(Iterable<String> interviewersNames) {
+        RoaringBitmap interviewerIds = new RoaringBitmap();
+
+        for (String interviewerName : interviewersNames) {
+            int interviewerId = interviewerIdDictionary.getId(interviewerName);
+
+            if (interviewerId != InterviewerIdDictionary.UNKNOWN_ID) {
+                interviewerIds.add(interviewerId);
+            }
+        }
+
+        return interviewerIds;
+    }
+
+    public List<String> toInterviewersNames(RoaringBitmap interviewerIds) {
+        return interviewerIdDictionary.getNames(interviewerIds.toArray());
+    }
+
+    /**
+     * Visits every (day, hour) in the period where at least {@code minimumFree} of {@code panelInterviewerIds} are
+     * free, passing the free panel members. Hours below the minimum are rejected by a cardinality-only AND.
+     */
+    public void forEachHourWithFreeInterviewers(LocalDate from, LocalDate to, RoaringBitmap panelInterviewerIds,
+                                                int minimumFree, FreeInterviewersConsumer freeInterviewersConsumer) {
+        ConcurrentNavigableMap<Long, RoaringBitmap[]> hourBitmapsOfPeriod =
+                hourBitmapsByDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true);
+
+        for (Map.Entry<Long, RoaringBitmap[]> hourBitmapsOfDay : hourBitmapsOfPeriod.entrySet()) {
+            LocalDate day = LocalDate.ofEpochDay(hourBitmapsOfDay.getKey());
+            RoaringBitmap[] hourBitmaps = hourBitmapsOfDay.getValue();
+
+            for (int hour = 0; hour < HourMasks.HOURS_PER_DAY; hour++) {
+                RoaringBitmap hourBitmap = hourBitmaps[hour];
+
+                if (hourBitmap == null || RoaringBitmap.andCardinality(hourBitmap, panelInterviewerIds) < minimumFree) {
+                    continue;
+                }
+
+                freeInterviewersConsumer.accept(day, hour, RoaringBitmap.and(hourBitmap, panelInterviewerIds));
+            }
+        }
+    }
+
+    /**
+     * Counts the free interviewers among {@code interviewerIds} for every hour of every day in the period that has any
+     * free interviewer, with a cardinality-only AND per hour.
+     */
+    public NavigableMap<LocalDate, int[]> countFreeInterviewers(LocalDate from, LocalDate to,
+                                                                RoaringBitmap interviewerIds) {
+        NavigableMap<LocalDate, int[]> freeCountsOfDays = new TreeMap<>();
+        ConcurrentNavigableMap<Long, RoaringBitmap[]> hourBitmapsOfPeriod =
+                hourBitmapsByDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true);
+
+        for (Map.Entry<Long, RoaringBitmap[]> hourBitmapsOfDay : hourBitmapsOfPeriod.entrySet()) {
+            RoaringBitmap[] hourBitmaps = hourBitmapsOfDay.getValue();
+            int[] freeCounts = new int[HourMasks.HOURS_PER_DAY];
+            boolean dayHasFreeInterviewers = false;
+
+            for (int hour = 0; hour < HourMasks.HOURS_PER_DAY; hour++) {
+                if (hourBitmaps[hour] != null) {
+                    freeCounts[hour] = RoaringBitmap.andCardinality(hourBitmaps[hour], interviewerIds);
+                    dayHasFreeInterviewers |= freeCounts[hour] != 0;
+                }
+            }
+
+            if (dayHasFreeInterviewers) {
+                freeCountsOfDays.put(LocalDate.ofEpochDay(hourBitmapsOfDay.getKey()), freeCounts);
+            }
+        }
+
+        return freeCountsOfDays;
+    }
+
+    private void updateHourMask(LocalDate day, int interviewerId, int hourMask) {
+        long epochDay = day.toEpochDay();
+        RoaringBitmap[] currentHourBitmaps = hourBitmapsByDay.get(epochDay);
+        RoaringBitmap[] updatedHourBitmaps = currentHourBitmaps != null
+                                             ? currentHourBitmaps.clone()
+                                             : new RoaringBitmap[HourMasks.HOURS_PER_DAY];
+        boolean dayHasFreeInterviewers = false;
+
+        for (int hour = 0; hour < HourMasks.HOURS_PER_DAY; hour++) {
+            boolean isFree = (hourMask & (1 << hour)) != 0;
+            RoaringBitmap hourBitmap = updatedHourBitmaps[hour];
+            boolean wasFree = hourBitmap != null && hourBitmap.contains(interviewerId);
+
+            if (isFree != wasFree) {
+                hourBitmap = hourBitmap != null ? hourBitmap.clone() : new RoaringBitmap();
+
+                if (isFree) {
+                    hourBitmap.add(interviewerId);
+                } else {
+                    hourBitmap.remove(interviewerId);
+                }
+
+                hourBitmap.runOptimize();
+                updatedHourBitmaps[hour] = hourBitmap.isEmpty() ? null : hourBitmap;
+            }
+
+            dayHasFreeInterviewers |= updatedHourBitmaps[hour] != null;
+        }
+
+        if (dayHasFreeInterviewers) {
+            hourBitmapsByDay.put(epochDay, updatedHourBitmaps);
+        } else {
+            hourBitmapsByDay.remove(epochDay);
+        }
+    }
+}
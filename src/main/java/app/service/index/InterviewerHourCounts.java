@@ -0,0 +1,245 @@
+package app.service.index;
+
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.HourMasks;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Number of interviewers free for each whole hour of each day, updated by the difference between an interviewer's old
+ * and new hour mask on every availability write. Every hour of the day also has a Fenwick tree over the days, so the
+ * free hours of any period come from prefix sums instead of a scan. The trees cover a range of days that doubles
+ * whenever a write falls outside it, up to a limit; days beyond that are summed from the day counts directly.
+ */
+@Component
+public class InterviewerHourCounts {
+    private static final int INITIAL_DAYS = 128;
+    private static final int MAXIMUM_DAYS = 1 << 14;
+
+    private final InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    private final Map<String, Map<Long, Integer>> hourMasksByInterviewer = new HashMap<>();
+    private final NavigableMap<Long, int[]> freeCountsByDay = new TreeMap<>();
+    private final AvailabilityVersions availabilityVersions = new AvailabilityVersions();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private FenwickTree[] freeCountsByHour;
+    private long firstEpochDay;
+
+    @Autowired
+    public InterviewerHourCounts(InterviewerAvailabilityRepository interviewerAvailabilityRepository) {
+        this.interviewerAvailabilityRepository = interviewerAvailabilityRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+
+        try {
+            hourMasksByInterviewer.clear();
+            freeCountsByDay.clear();
+            freeCountsByHour = null;
+            availabilityVersions.clear();
+
+            for (InterviewerAvailability interviewerAvailability : interviewerAvailabilityRepository.findAll()) {
+                String interviewerName = interviewerAvailability.getInterviewerModel().getName();
+
+                availabilityVersions.record(AvailabilityChangedEvent.ParticipantType.INTERVIEWER, interviewerName,
+                                            interviewerAvailability.getId(), interviewerAvailability.getVersion(),
+                                            interviewerAvailability.getAvailabilitySlotList());
+                HourMasks.toHourMasksByDay(interviewerAvailability.getAvailabilitySlotList()).forEach(
+                        (day, hourMask) -> updateHourMask(interviewerName, day.toEpochDay(), hourMask));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onAvailabilityChanged(AvailabilityChangedEvent availabilityChangedEvent) {
+        if (availabilityChangedEvent.getParticipantType() != AvailabilityChangedEvent.ParticipantType.INTERVIEWER) {
+            return;
+        }
+
+        String interviewerName = availabilityChangedEvent.getParticipantName();
+        Map<LocalDate, Integer> hourMasksByDay =
+                HourMasks.toHourMasksByDay(availabilityChangedEvent.getAvailabilitySlotList());
+
+        lock.writeLock().lock();
+
+        try {
+            for (LocalDate changedDay : availabilityVersions.advance(availabilityChangedEvent)) {
+                updateHourMask(interviewerName, changedDay.toEpochDay(), hourMasksByDay.getOrDefault(changedDay, 0));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Free interviewers per hour of every day in the period that has any.
+     */
+    public NavigableMap<LocalDate, int[]> getFreeCountsOfDays(LocalDate from, LocalDate to) {
+        NavigableMap<LocalDate, int[]> freeCountsOfDays = new TreeMap<>();
+
+        lock.readLock().lock();
+
+        try {
+            freeCountsByDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true).forEach(
+                    (epochDay, freeCounts) -> freeCountsOfDays.put(LocalDate.ofEpochDay(epochDay),
+                                                                   freeCounts.clone()));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return freeCountsOfDays;
+    }
+
+    /**
+     * Free interviewer hours of the period for every hour of the day, in O(log n) per hour.
+     */
+    public long[] getFreeHoursByHour(LocalDate from, LocalDate to) {
+        long[] freeHoursByHour = new long[HourMasks.HOURS_PER_DAY];
+
+        lock.readLock().lock();
+
+        try {
+            if (freeCountsByHour == null) {
+                return freeHoursByHour;
+            }
+
+            long fromEpochDay = from.toEpochDay();
+            long toEpochDay = to.toEpochDay();
+            long coveredFromEpochDay = Math.max(fromEpochDay, firstEpochDay);
+            long coveredToEpochDay = Math.min(toEpochDay, firstEpochDay + freeCountsByHour[0].size() - 1);
+
+            if (coveredFromEpochDay > coveredToEpochDay) {
+                addFreeCounts(freeHoursByHour, fromEpochDay, toEpochDay);
+                return freeHoursByHour;
+            }
+
+            for (int hour = 0; hour < HourMasks.HOURS_PER_DAY; hour++) {
+                freeHoursByHour[hour] = freeCountsByHour[hour].rangeSum((int) (coveredFromEpochDay - firstEpochDay),
+                                                                        (int) (coveredToEpochDay - firstEpochDay));
+            }
+
+            addFreeCounts(freeHoursByHour, fromEpochDay, coveredFromEpochDay - 1);
+            addFreeCounts(freeHoursByHour, coveredToEpochDay + 1, toEpochDay);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return freeHoursByHour;
+    }
+
+    private void updateHourMask(String interviewerName, long epochDay, int hourMask) {
+        Map<Long, Integer> hourMasksOfInterviewer =
+                hourMasksByInterviewer.computeIfAbsent(interviewerName, name -> new HashMap<>());
+        Integer previousHourMask = hourMask != 0
+                                   ? hourMasksOfInterviewer.put(epochDay, hourMask)
+                                   : hourMasksOfInterviewer.remove(epochDay);
+
+        if (hourMasksOfInterviewer.isEmpty()) {
+            hourMasksByInterviewer.remove(interviewerName);
+        }
+
+        int changedHours = (previousHourMask != null ? previousHourMask : 0) ^ hourMask;
+
+        if (changedHours == 0) {
+            return;
+        }
+
+        boolean covered = ensureCovered(epochDay);
+        int[] freeCounts = freeCountsByDay.computeIfAbsent(epochDay, key -> new int[HourMasks.HOURS_PER_DAY]);
+        boolean dayHasFreeInterviewers = false;
+
+        for (int hour = 0; hour < HourMasks.HOURS_PER_DAY; hour++) {
+            if ((changedHours & (1 << hour)) != 0) {
+                int delta = (hourMask & (1 << hour)) != 0 ? 1 : -1;
+
+                freeCounts[hour] += delta;
+
+                if (covered) {
+                    freeCountsByHour[hour].add((int) (epochDay - firstEpochDay), delta);
+                }
+            }
+
+            dayHasFreeInterviewers |= freeCounts[hour] != 0;
+        }
+
+        if (!dayHasFreeInterviewers) {
+            freeCountsByDay.remove(epochDay);
+        }
+    }
+
+    private boolean ensureCovered(long epochDay) {
+        if (freeCountsByHour == null) {
+            firstEpochDay = epochDay - INITIAL_DAYS / 2;
+            freeCountsByHour = newTrees(INITIAL_DAYS);
+            return true;
+        }
+
+        int days = freeCountsByHour[0].size();
+        long lastEpochDay = firstEpochDay + days - 1;
+
+        if (epochDay >= firstEpochDay && epochDay <= lastEpochDay) {
+            return true;
+        }
+
+        long neededDays = Math.max(lastEpochDay, epochDay) - Math.min(firstEpochDay, epochDay) + 1;
+
+        if (neededDays > MAXIMUM_DAYS) {
+            return false;
+        }
+
+        int grownDays = (int) Math.min(Math.max(2L * days, neededDays), MAXIMUM_DAYS);
+
+        // The room gained goes to the side the write fell on, which is where the next writes are likely to fall too.
+        firstEpochDay = epochDay < firstEpochDay ? lastEpochDay - grownDays + 1 : firstEpochDay;
+        freeCountsByHour = newTrees(grownDays);
+
+        for (Map.Entry<Long, int[]> freeCountsOfDay
+                : freeCountsByDay.subMap(firstEpochDay, true, firstEpochDay + grownDays - 1, true).entrySet()) {
+            int dayIndex = (int) (freeCountsOfDay.getKey() - firstEpochDay);
+
+            for (int hour = 0; hour < HourMasks.HOURS_PER_DAY; hour++) {
+                freeCountsByHour[hour].add(dayIndex, freeCountsOfDay.getValue()[hour]);
+            }
+        }
+
+        return true;
+    }
+
+    private void addFreeCounts(long[] freeHoursByHour, long fromEpochDay, long toEpochDay) {
+        if (fromEpochDay > toEpochDay) {
+            return;
+        }
+
+        for (int[] freeCounts : freeCountsByDay.subMap(fromEpochDay, true, toEpochDay, true).values()) {
+            for (int hour = 0; hour < HourMasks.HOURS_PER_DAY; hour++) {
+                freeHoursByHour[hour] += freeCounts[hour];
+            }
+        }
+    }
+
+    private FenwickTree[] newTrees(int days) {
+        FenwickTree[] trees = new FenwickTree[HourMasks.HOURS_PER_DAY];
+
+        for (int hour = 0; hour < HourMasks.HOURS_PER_DAY; hour++) {
+            trees[hour] = new FenwickTree(days);
+        }
+
+        return trees;
+    }
+}
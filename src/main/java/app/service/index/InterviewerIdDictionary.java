@@ -0,0 +1,59 @@
+package app.service.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Dictionary-encodes interviewer names to dense int ids so that sets of interviewers can be kept as bitmaps.
+ * Ids are never reused while the application runs.
+ */
+@Component
+public class InterviewerIdDictionary {
+    public static final int UNKNOWN_ID = -1;
+
+    private final ConcurrentMap<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final List<String> namesById = new ArrayList<>();
+
+    public int getOrAssignId(String interviewerName) {
+        Integer id = idsByName.get(interviewerName);
+
+        return id != null ? id : assignId(interviewerName);
+    }
+
+    public int getId(String interviewerName) {
+        return idsByName.getOrDefault(interviewerName, UNKNOWN_ID);
+    }
+
+    public synchronized String getName(int id) {
+        return namesById.get(id);
+    }
+
+    public synchronized List<String> getNames(int[] ids) {
+        List<String> names = new ArrayList<>(ids.length);
+
+        for (int id : ids) {
+            names.add(namesById.get(id));
+        }
+
+        return names;
+    }
+
+    private synchronized int assignId(String interviewerName) {
+        Integer id = idsByName.get(interviewerName);
+
+        if (id != null) {
+            return id;
+        }
+
+        int assignedId = namesById.size();
+
+        namesById.add(interviewerName);
+        idsByName.put(interviewerName, assignedId);
+
+        return assignedId;
+    }
+}
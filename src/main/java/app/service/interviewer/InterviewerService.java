@@ -1,26 +1,40 @@
 package app.service.interviewer;
 
+import app.model.interviewer.AvailabilityHeatmap;
+import app.model.interviewer.DayAvailabilitySummary;
 import app.model.interviewer.InterviewerAvailability;
+import app.model.interviewer.InterviewerAvailabilityView;
 import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerView;
+import app.model.interviewer.InterviewerDayAvailability;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 public interface InterviewerService {
     Interviewer createInterviewer(Interviewer interviewerModel);
 
-    List<Interviewer> getAllInterviewers();
+    List<InterviewerView> getAllInterviewers();
 
-    Optional<Interviewer> getInterviewerByName(String name);
+    Optional<InterviewerView> getInterviewerByName(String name);
 
     void deleteInterviewerByName(String name);
 
     InterviewerAvailability createInterviewerAvailability(
             InterviewerAvailability interviewerAvailabilityModel);
 
-    List<InterviewerAvailability> getAllInterviewersAvailability();
+    List<InterviewerAvailabilityView> getAllInterviewersAvailability();
 
-    InterviewerAvailability getInterviewerAvailabilityByName(String name);
+    InterviewerAvailabilityView getInterviewerAvailabilityByName(String name);
 
     void deleteInterviewerAvailabilityByName(String name);
+
+    List<InterviewerDayAvailability> getInterviewersAvailabilityByDay(LocalDate day);
+
+    List<DayAvailabilitySummary> getDaysAvailabilitySummary(LocalDate from, LocalDate to);
+
+    Optional<DayAvailabilitySummary> getBusiestDay(LocalDate from, LocalDate to);
+
+    AvailabilityHeatmap getAvailabilityHeatmap(LocalDate from, LocalDate to, List<String> interviewersNames);
 }
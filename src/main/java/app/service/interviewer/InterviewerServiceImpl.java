@@ -1,31 +1,72 @@
 package app.service.interviewer;
 
 import app.exception.UserException;
+import app.model.interviewer.AvailabilityHeatmap;
+import app.model.interviewer.AvailabilityHeatmapDay;
+import app.model.interviewer.DayAvailabilitySummary;
 import app.model.interviewer.InterviewerAvailability;
+import app.model.interviewer.InterviewerAvailabilityView;
 import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerView;
+import app.model.interviewer.InterviewerDayAvailability;
 import app.model.utils.AvailabilitySlot;
+import app.model.utils.HourMasks;
+import app.model.utils.SlotGranularity;
 import app.model.utils.TimeSlot;
 import app.repository.interviewer.InterviewerAvailabilityRepository;
 import app.repository.interviewer.InterviewerRepository;
+import app.service.booking.BookingIndex;
+import app.service.booking.BookingIndex.Participant;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+import app.service.index.InterviewerDayIndex;
+import app.service.index.InterviewerHourBitmapIndex;
+import app.service.index.InterviewerHourCounts;
+import app.service.transaction.OptimisticLockRetry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
 
 @Service
 public class InterviewerServiceImpl implements InterviewerService {
+    private static final int MAXIMUM_HEATMAP_DAYS = 366;
+
     private final InterviewerRepository interviewerRepository;
     private final InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    private final InterviewerDayIndex interviewerDayIndex;
+    private final InterviewerHourCounts interviewerHourCounts;
+    private final InterviewerHourBitmapIndex interviewerHourBitmapIndex;
+    private final BookingIndex bookingIndex;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final SlotGranularity slotGranularity;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public InterviewerServiceImpl(InterviewerRepository interviewerRepository,
-                                  InterviewerAvailabilityRepository interviewerAvailabilityRepository) {
+                                  InterviewerAvailabilityRepository interviewerAvailabilityRepository,
+                                  InterviewerDayIndex interviewerDayIndex,
+                                  InterviewerHourCounts interviewerHourCounts,
+                                  InterviewerHourBitmapIndex interviewerHourBitmapIndex,
+                                  BookingIndex bookingIndex,
+                                  ApplicationEventPublisher applicationEventPublisher,
+                                  SlotGranularity slotGranularity,
+                                  PlatformTransactionManager transactionManager) {
         this.interviewerRepository = interviewerRepository;
         this.interviewerAvailabilityRepository = interviewerAvailabilityRepository;
+        this.interviewerDayIndex = interviewerDayIndex;
+        this.interviewerHourCounts = interviewerHourCounts;
+        this.interviewerHourBitmapIndex = interviewerHourBitmapIndex;
+        this.bookingIndex = bookingIndex;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.slotGranularity = slotGranularity;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -36,18 +77,32 @@ public class InterviewerServiceImpl implements InterviewerService {
     }
 
     @Override
-    public List<Interviewer> getAllInterviewers() {
-        return interviewerRepository.findAll();
+    public List<InterviewerView> getAllInterviewers() {
+        return interviewerRepository.findAllViews();
     }
 
     @Override
-    public Optional<Interviewer> getInterviewerByName(String name) {
-        return interviewerRepository.findById(name);
+    public Optional<InterviewerView> getInterviewerByName(String name) {
+        return interviewerRepository.findViewByName(name);
     }
 
     @Override
     public void deleteInterviewerByName(String name) {
-        interviewerRepository.deleteById(name);
+        AvailabilityChangedEvent availabilityRemovedEvent = transactionTemplate.execute(status -> {
+            InterviewerAvailability interviewerAvailabilityToBeDeleted =
+                    interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(name);
+            AvailabilityChangedEvent event = interviewerAvailabilityToBeDeleted != null
+                                             ? buildAvailabilityRemovedEvent(interviewerAvailabilityToBeDeleted)
+                                             : null;
+
+            interviewerRepository.deleteById(name);
+
+            return event;
+        });
+
+        if (availabilityRemovedEvent != null) {
+            applicationEventPublisher.publishEvent(availabilityRemovedEvent);
+        }
     }
 
     @Override
@@ -55,34 +110,242 @@ public class InterviewerServiceImpl implements InterviewerService {
             InterviewerAvailability interviewerAvailabilityModel) {
         verifyValidityOfInterviewerAvailability(interviewerAvailabilityModel);
 
-        InterviewerAvailability interviewerExistingAvailability = verifyIfInterviewerHasAvailabilityCreated(
-                interviewerAvailabilityModel);
+        Set<LocalDate> changedDays = HourMasks.getDays(interviewerAvailabilityModel.getAvailabilitySlotList());
+        String interviewerName = interviewerAvailabilityModel.getInterviewerModel().getName();
+        Participant participant = new Participant(ParticipantType.INTERVIEWER, interviewerName);
+        Map<LocalDate, long[]> addedSlotMasks =
+                slotGranularity.toSlotMasksByDay(interviewerAvailabilityModel.getAvailabilitySlotList());
+        InterviewerAvailability savedInterviewerAvailability = bookingIndex.whileLocked(
+                Collections.singletonList(participant), () -> {
+                    if (bookingIndex.isAnyBooked(participant, addedSlotMasks)) {
+                        throw new UserException("Availability overlaps a booked time slot!", interviewerName);
+                    }
+
+                    return OptimisticLockRetry.execute(transactionTemplate, status -> {
+                        InterviewerAvailability interviewerExistingAvailability =
+                                verifyIfInterviewerHasAvailabilityCreated(interviewerAvailabilityModel);
+
+                        if (interviewerExistingAvailability != null) {
+                            return interviewerAvailabilityRepository.save(
+                                    InterviewerAvailability.Builder
+                                            .interviewerAvailabilityModelFrom(interviewerExistingAvailability)
+                                            .withAvailabilitySlotList(addNewAvailability(
+                                                    interviewerExistingAvailability, interviewerAvailabilityModel))
+                                            .build());
+                        }
+
+                        return interviewerAvailabilityRepository.save(interviewerAvailabilityModel);
+                    });
+                });
+
+        applicationEventPublisher.publishEvent(buildAvailabilityChangedEvent(
+                savedInterviewerAvailability, changedDays, savedInterviewerAvailability.getVersion(),
+                savedInterviewerAvailability.getAvailabilitySlotList()));
+
+        return savedInterviewerAvailability;
+    }
+
+    @Override
+    public List<InterviewerAvailabilityView> getAllInterviewersAvailability() {
+        return interviewerAvailabilityRepository.findAllViews();
+    }
 
-        if (interviewerExistingAvailability != null) {
-            addNewAvailability(interviewerExistingAvailability, interviewerAvailabilityModel);
+    @Override
+    public InterviewerAvailabilityView getInterviewerAvailabilityByName(String name) {
+        return interviewerAvailabilityRepository.findViewByName(name).orElse(null);
+    }
+
+    @Override
+    public void deleteInterviewerAvailabilityByName(String name) {
+        AvailabilityChangedEvent availabilityRemovedEvent = transactionTemplate.execute(status -> {
+            InterviewerAvailability interviewerAvailabilityToBeDeleted =
+                    interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(name);
+            AvailabilityChangedEvent event = buildAvailabilityRemovedEvent(interviewerAvailabilityToBeDeleted);
+
+            interviewerAvailabilityRepository.deleteById(interviewerAvailabilityToBeDeleted.getId());
+
+            return event;
+        });
+
+        applicationEventPublisher.publishEvent(availabilityRemovedEvent);
+    }
 
-            return interviewerAvailabilityRepository.save(interviewerExistingAvailability);
+    @Override
+    public List<InterviewerDayAvailability> getInterviewersAvailabilityByDay(LocalDate day) {
+        Map<String, Integer> hourMasksOfDay = interviewerDayIndex.getHourMasksOfDay(day);
+        List<InterviewerDayAvailability> interviewersDayAvailability = new ArrayList<>();
+
+        for (Map.Entry<String, Integer> hourMaskOfInterviewer : new TreeMap<>(hourMasksOfDay).entrySet()) {
+            interviewersDayAvailability.add(
+                    InterviewerDayAvailability.Builder.interviewerDayAvailabilityWith()
+                                                      .withInterviewerName(hourMaskOfInterviewer.getKey())
+                                                      .withTimeSlotList(HourMasks.toTimeSlots(
+                                                              hourMaskOfInterviewer.getValue()))
+                                                      .build());
         }
 
-        return interviewerAvailabilityRepository.save(interviewerAvailabilityModel);
+        return interviewersDayAvailability;
     }
 
     @Override
-    public List<InterviewerAvailability> getAllInterviewersAvailability() {
-        return interviewerAvailabilityRepository.findAll();
+    public List<DayAvailabilitySummary> getDaysAvailabilitySummary(LocalDate from, LocalDate to) {
+        verifyPeriodOfDaysIsValid(from, to);
+
+        List<DayAvailabilitySummary> daysAvailabilitySummary = new ArrayList<>();
+
+        interviewerDayIndex.getHourMasksOfDays(from, to).forEach(
+                (day, hourMasksOfDay) -> daysAvailabilitySummary.add(getDayAvailabilitySummary(day, hourMasksOfDay)));
+
+        return daysAvailabilitySummary;
     }
 
     @Override
-    public InterviewerAvailability getInterviewerAvailabilityByName(String name) {
-        return interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(name);
+    public Optional<DayAvailabilitySummary> getBusiestDay(LocalDate from, LocalDate to) {
+        List<DayAvailabilitySummary> daysAvailabilitySummary = getDaysAvailabilitySummary(from, to);
+
+        return daysAvailabilitySummary.stream().max(
+                Comparator.comparingInt(DayAvailabilitySummary::getFreeHoursCount)
+                          .thenComparingInt(DayAvailabilitySummary::getInterviewersCount));
     }
 
+    /**
+     * Counts of all interviewers come from counters kept up to date on every availability write, and the totals of the
+     * period from their prefix sums. Counts of a group of interviewers come from the hour bitmap index instead.
+     */
     @Override
-    public void deleteInterviewerAvailabilityByName(String name) {
-        Long interviewerAvailabilityIdToBeDeleted =
-                interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(name).getId();
+    public AvailabilityHeatmap getAvailabilityHeatmap(LocalDate from, LocalDate to, List<String> interviewersNames) {
+        verifyPeriodOfDaysIsValid(from, to);
+        verifyPeriodOfHeatmapIsNotTooLong(from, to);
+
+        NavigableMap<LocalDate, int[]> freeCountsOfDays;
+        long[] freeHoursCountByHour;
+
+        if (interviewersNames == null || interviewersNames.isEmpty()) {
+            freeCountsOfDays = interviewerHourCounts.getFreeCountsOfDays(from, to);
+            freeHoursCountByHour = interviewerHourCounts.getFreeHoursByHour(from, to);
+        } else {
+            Set<String> distinctInterviewersNames = new LinkedHashSet<>(interviewersNames);
 
-        interviewerAvailabilityRepository.deleteById(interviewerAvailabilityIdToBeDeleted);
+            verifyInterviewersExist(distinctInterviewersNames);
+
+            freeCountsOfDays = interviewerHourBitmapIndex.countFreeInterviewers(
+                    from, to, interviewerHourBitmapIndex.toInterviewerIds(distinctInterviewersNames));
+            freeHoursCountByHour = sumFreeCountsByHour(freeCountsOfDays.values());
+        }
+
+        List<AvailabilityHeatmapDay> heatmapDays = new ArrayList<>();
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            heatmapDays.add(getAvailabilityHeatmapDay(day, freeCountsOfDays.get(day)));
+        }
+
+        List<Long> freeHoursCountByHourList = new ArrayList<>();
+        long freeHoursCount = 0;
+
+        for (long freeHoursCountOfHour : freeHoursCountByHour) {
+            freeHoursCountByHourList.add(freeHoursCountOfHour);
+            freeHoursCount += freeHoursCountOfHour;
+        }
+
+        return AvailabilityHeatmap.Builder.availabilityHeatmapWith()
+                                          .withFrom(from)
+                                          .withTo(to)
+                                          .withInterviewersNames(interviewersNames)
+                                          .withFreeHoursCount(freeHoursCount)
+                                          .withFreeHoursCountByHour(freeHoursCountByHourList)
+                                          .withDays(heatmapDays)
+                                          .build();
+    }
+
+    private AvailabilityHeatmapDay getAvailabilityHeatmapDay(LocalDate day, int[] freeCounts) {
+        List<Integer> freeInterviewersByHour = new ArrayList<>();
+        int freeHoursCount = 0;
+
+        for (int hour = 0; hour < HourMasks.HOURS_PER_DAY; hour++) {
+            int freeInterviewers = freeCounts != null ? freeCounts[hour] : 0;
+
+            freeInterviewersByHour.add(freeInterviewers);
+            freeHoursCount += freeInterviewers;
+        }
+
+        return AvailabilityHeatmapDay.Builder.availabilityHeatmapDayWith()
+                                             .withDay(day)
+                                             .withFreeInterviewersByHour(freeInterviewersByHour)
+                                             .withFreeHoursCount(freeHoursCount)
+                                             .build();
+    }
+
+    private long[] sumFreeCountsByHour(Collection<int[]> freeCountsOfDays) {
+        long[] freeHoursCountByHour = new long[HourMasks.HOURS_PER_DAY];
+
+        for (int[] freeCounts : freeCountsOfDays) {
+            for (int hour = 0; hour < HourMasks.HOURS_PER_DAY; hour++) {
+                freeHoursCountByHour[hour] += freeCounts[hour];
+            }
+        }
+
+        return freeHoursCountByHour;
+    }
+
+    private DayAvailabilitySummary getDayAvailabilitySummary(LocalDate day, Map<String, Integer> hourMasksOfDay) {
+        int freeHoursCount = 0;
+
+        for (int hourMask : hourMasksOfDay.values()) {
+            freeHoursCount += Integer.bitCount(hourMask);
+        }
+
+        return DayAvailabilitySummary.Builder.dayAvailabilitySummaryWith()
+                                             .withDay(day)
+                                             .withInterviewersCount(hourMasksOfDay.size())
+                                             .withFreeHoursCount(freeHoursCount)
+                                             .build();
+    }
+
+    private void verifyPeriodOfDaysIsValid(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new UserException("Start day of period must not be after end day of period!",
+                                        "From: " + from, "To: " + to);
+        }
+    }
+
+    private void verifyPeriodOfHeatmapIsNotTooLong(LocalDate from, LocalDate to) {
+        if (ChronoUnit.DAYS.between(from, to) >= MAXIMUM_HEATMAP_DAYS) {
+            throw new UserException("Period must not be longer than " + MAXIMUM_HEATMAP_DAYS + " days!",
+                                        "From: " + from, "To: " + to);
+        }
+    }
+
+    private void verifyInterviewersExist(Set<String> interviewersNames) {
+        Set<String> existingInterviewersNames =
+                new HashSet<>(interviewerRepository.findExistingNames(interviewersNames));
+
+        for (String interviewerName : interviewersNames) {
+            if (!existingInterviewersNames.contains(interviewerName)) {
+                throw new UserException("Interviewer does not exist!", interviewerName);
+            }
+        }
+    }
+
+    private AvailabilityChangedEvent buildAvailabilityRemovedEvent(InterviewerAvailability removedAvailability) {
+        return buildAvailabilityChangedEvent(removedAvailability,
+                                             HourMasks.getDays(removedAvailability.getAvailabilitySlotList()),
+                                             removedAvailability.getVersion() + 1, Collections.emptyList());
+    }
+
+    private AvailabilityChangedEvent buildAvailabilityChangedEvent(InterviewerAvailability interviewerAvailability,
+                                                                   Set<LocalDate> changedDays,
+                                                                   Long availabilityVersion,
+                                                                   List<AvailabilitySlot> availabilitySlotList) {
+        return AvailabilityChangedEvent.Builder.availabilityChangedEventWith()
+                                               .withParticipantType(
+                                                       AvailabilityChangedEvent.ParticipantType.INTERVIEWER)
+                                               .withParticipantName(
+                                                       interviewerAvailability.getInterviewerModel().getName())
+                                               .withChangedDays(changedDays)
+                                               .withAvailabilitySlotList(availabilitySlotList)
+                                               .withAvailabilityId(interviewerAvailability.getId())
+                                               .withAvailabilityVersion(availabilityVersion)
+                                               .build();
     }
 
     private void verifyValidityOfInterviewer(Interviewer interviewerModel) {
@@ -139,11 +402,9 @@ public class InterviewerServiceImpl implements InterviewerService {
                                                 "To: " + newTimeSlotToTime);
                 }
 
-                if (newTimeSlotFromTime.getMinute() != 0 || newTimeSlotToTime.getMinute() != 0) {
-                    throw new UserException(
-                            "Availability slot must be from the beginning of the hour until the beginning of the next "
-                            + "hour!",
-                            "From: " + newTimeSlotFromTime, "To: " + newTimeSlotToTime);
+                if (!slotGranularity.isAligned(newTimeSlotFromTime) || !slotGranularity.isAligned(newTimeSlotToTime)) {
+                    throw new UserException(slotGranularity.getAlignmentMessage("Availability slot"),
+                                                "From: " + newTimeSlotFromTime, "To: " + newTimeSlotToTime);
                 }
             }
         }
@@ -156,26 +417,27 @@ public class InterviewerServiceImpl implements InterviewerService {
         return interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName);
     }
 
-    private void addNewAvailability(InterviewerAvailability interviewerExistingAvailabilityModel,
-                                    InterviewerAvailability interviewerAvailabilityModel) {
-        List<AvailabilitySlot> existingAvailabilitySlotList =
-                interviewerExistingAvailabilityModel.getAvailabilitySlotList();
-        List<AvailabilitySlot> newAvailabilitySlotList = interviewerAvailabilityModel.getAvailabilitySlotList();
-
-        List<AvailabilitySlot> remainingNewAvailabilitySlotList = addNewAvailabilityToExistingDay(
-                existingAvailabilitySlotList, newAvailabilitySlotList);
+    private List<AvailabilitySlot> addNewAvailability(InterviewerAvailability interviewerExistingAvailabilityModel,
+                                                      InterviewerAvailability interviewerAvailabilityModel) {
+        List<AvailabilitySlot> newAvailabilitySlotList =
+                new ArrayList<>(interviewerAvailabilityModel.getAvailabilitySlotList());
+        List<AvailabilitySlot> mergedAvailabilitySlotList = addNewAvailabilityToExistingDay(
+                interviewerExistingAvailabilityModel.getAvailabilitySlotList(), newAvailabilitySlotList);
 
-        if (!remainingNewAvailabilitySlotList.isEmpty()) {
-            addNewAvailabilityToNewDay(existingAvailabilitySlotList, remainingNewAvailabilitySlotList);
+        if (!newAvailabilitySlotList.isEmpty()) {
+            addNewAvailabilityToNewDay(mergedAvailabilitySlotList, newAvailabilitySlotList);
         }
+
+        return mergedAvailabilitySlotList;
     }
 
     private List<AvailabilitySlot> addNewAvailabilityToExistingDay(
             List<AvailabilitySlot> existingAvailabilitySlotList, List<AvailabilitySlot> newAvailabilitySlotList) {
+        List<AvailabilitySlot> mergedAvailabilitySlotList = new ArrayList<>();
         List<AvailabilitySlot> addedAvailabilitiesList = new ArrayList<>();
 
         for (AvailabilitySlot existingAvailabilitySlot : existingAvailabilitySlotList) {
-            List<TimeSlot> existingTimeSlotList = existingAvailabilitySlot.getTimeSlotList();
+            List<TimeSlot> mergedTimeSlotList = existingAvailabilitySlot.getTimeSlotList();
             LocalDate existingDay = existingAvailabilitySlot.getDay();
 
             for (AvailabilitySlot newAvailabilitySlot : newAvailabilitySlotList) {
@@ -183,21 +445,31 @@ public class InterviewerServiceImpl implements InterviewerService {
                 LocalDate newDay = newAvailabilitySlot.getDay();
 
                 if (existingDay.isEqual(newDay)) {
-                    existingTimeSlotList.addAll(newTimeSlotList);
+                    mergedTimeSlotList = mergeTimeSlots(mergedTimeSlotList, newTimeSlotList);
                     addedAvailabilitiesList.add(newAvailabilitySlot);
                 }
             }
+
+            mergedAvailabilitySlotList.add(new AvailabilitySlot(existingDay, mergedTimeSlotList));
         }
 
         if (!addedAvailabilitiesList.isEmpty()) {
             newAvailabilitySlotList.removeAll(addedAvailabilitiesList);
         }
 
-        return newAvailabilitySlotList;
+        return mergedAvailabilitySlotList;
+    }
+
+    private List<TimeSlot> mergeTimeSlots(List<TimeSlot> existingTimeSlotList, List<TimeSlot> newTimeSlotList) {
+        long[] slotMask = slotGranularity.toSlotMask(existingTimeSlotList);
+
+        SlotGranularity.or(slotMask, slotGranularity.toSlotMask(newTimeSlotList));
+
+        return slotGranularity.toTimeSlots(slotMask);
     }
 
-    private void addNewAvailabilityToNewDay(List<AvailabilitySlot> existingAvailabilitySlotList,
+    private void addNewAvailabilityToNewDay(List<AvailabilitySlot> mergedAvailabilitySlotList,
                                             List<AvailabilitySlot> remainingNewAvailabilitySlotList) {
-        existingAvailabilitySlotList.addAll(remainingNewAvailabilitySlotList);
+        mergedAvailabilitySlotList.addAll(remainingNewAvailabilitySlotList);
     }
 }
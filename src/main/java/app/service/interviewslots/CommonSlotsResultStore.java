@@ -0,0 +1,79 @@
+package app.service.interviewslots;
+
+import app.exception.UserException;
+import app.model.interviewslots.InterviewSlotsReturn;
+import app.service.events.AvailabilityChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Common slots of registered interview panels, kept up to date from availability changes so that reading them is a
+ * lookup. A change costs one recomputation per changed day and affected panel.
+ */
+@Component
+public class CommonSlotsResultStore {
+    private final LiveInterviewSlotsLoader liveInterviewSlotsLoader;
+    private final int maxRegisteredPanels;
+
+    // Guarded by this. A panel is loaded under the lock, so a write is either part of the loaded result or its event
+    // finds the panel registered afterwards.
+    private final InterviewPanelIndex<LiveInterviewSlots> results = new InterviewPanelIndex<>();
+
+    @Autowired
+    public CommonSlotsResultStore(LiveInterviewSlotsLoader liveInterviewSlotsLoader,
+                                  @Value("${calendar.slot-results.max-registered-panels:1000}")
+                                          int maxRegisteredPanels) {
+        this.liveInterviewSlotsLoader = liveInterviewSlotsLoader;
+        this.maxRegisteredPanels = maxRegisteredPanels;
+    }
+
+    public synchronized InterviewSlotsReturn register(InterviewPanel interviewPanel) {
+        LiveInterviewSlots liveInterviewSlots = results.get(interviewPanel);
+
+        if (liveInterviewSlots == null) {
+            if (results.size() >= maxRegisteredPanels) {
+                throw new UserException("Too many registered interview panels!",
+                                        "Maximum: " + maxRegisteredPanels);
+            }
+
+            liveInterviewSlots = liveInterviewSlotsLoader.load(interviewPanel);
+            results.put(interviewPanel, liveInterviewSlots);
+        }
+
+        return liveInterviewSlots.getInterviewSlots();
+    }
+
+    public synchronized boolean unregister(InterviewPanel interviewPanel) {
+        return results.remove(interviewPanel) != null;
+    }
+
+    public synchronized Optional<InterviewSlotsReturn> getInterviewSlots(InterviewPanel interviewPanel) {
+        LiveInterviewSlots liveInterviewSlots = results.get(interviewPanel);
+
+        return liveInterviewSlots != null ? Optional.of(liveInterviewSlots.getInterviewSlots()) : Optional.empty();
+    }
+
+    public synchronized List<InterviewPanel> getRegisteredPanels() {
+        return new ArrayList<>(results.getInterviewPanels());
+    }
+
+    /**
+     * Runs before the other listeners, in particular before the version registry moves on: a reader that sees the
+     * new version tag also sees the updated result.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void onAvailabilityChanged(AvailabilityChangedEvent availabilityChangedEvent) {
+        for (LiveInterviewSlots liveInterviewSlots : results.getAffectedValues(availabilityChangedEvent)) {
+            liveInterviewSlots.applyChange(availabilityChangedEvent);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package app.service.interviewslots;
+
+import app.model.utils.SlotGranularity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Places the stages of an interview loop on one day, in order, each stage starting when the previous one ends or at
+ * most a maximum gap later. Every stage comes with the slot mask of the slots its panel and the candidate are free.
+ * <p>
+ * A forward sweep turns those masks into the slots every stage can start at once the stages before it have taken
+ * place, by shifting the reachable starts of a stage by its duration and spreading them over the gap. A backward sweep
+ * then keeps only the starts that the later stages can still follow, so reading loops off the masks never runs into a
+ * dead end and costs the same few word operations per stage however many combinations there are.
+ */
+public class InterviewLoopPlanner {
+    private final int[] durationSlots;
+    private final int maximumGapSlots;
+
+    public InterviewLoopPlanner(int[] durationSlots, int maximumGapSlots) {
+        this.durationSlots = durationSlots;
+        this.maximumGapSlots = maximumGapSlots;
+    }
+
+    /**
+     * Start slots of every stage of up to {@code maximumLoops} loops, one per start of the first stage and earliest
+     * first. Each loop takes the earliest start of every later stage that still completes the loop.
+     */
+    public List<int[]> planLoops(long[][] stageSlotMasks, int maximumLoops) {
+        int stages = durationSlots.length;
+        long[][] loopStartMasks = new long[stages][];
+
+        loopStartMasks[0] = toStartMask(stageSlotMasks[0], durationSlots[0]);
+
+        for (int stage = 1; stage < stages; stage++) {
+            long[] nextStartMask = spread(shiftLeft(loopStartMasks[stage - 1], durationSlots[stage - 1]), false);
+
+            SlotGranularity.and(nextStartMask, toStartMask(stageSlotMasks[stage], durationSlots[stage]));
+
+            if (SlotGranularity.isEmpty(nextStartMask)) {
+                return new ArrayList<>();
+            }
+
+            loopStartMasks[stage] = nextStartMask;
+        }
+
+        for (int stage = stages - 2; stage >= 0; stage--) {
+            SlotGranularity.and(loopStartMasks[stage],
+                                shiftRight(spread(loopStartMasks[stage + 1], true), durationSlots[stage]));
+        }
+
+        List<int[]> loops = new ArrayList<>();
+        int firstStart = SlotGranularity.nextSetSlot(loopStartMasks[0], 0);
+
+        while (firstStart >= 0 && loops.size() < maximumLoops) {
+            int[] starts = new int[stages];
+
+            starts[0] = firstStart;
+
+            for (int stage = 1; stage < stages; stage++) {
+                starts[stage] = SlotGranularity.nextSetSlot(loopStartMasks[stage],
+                                                            starts[stage - 1] + durationSlots[stage - 1]);
+            }
+
+            loops.add(starts);
+            firstStart = SlotGranularity.nextSetSlot(loopStartMasks[0], firstStart + 1);
+        }
+
+        return loops;
+    }
+
+    /**
+     * Slots a stage of {@code duration} slots can start at, which are the slots followed by enough free ones.
+     */
+    private long[] toStartMask(long[] slotMask, int duration) {
+        long[] startMask = slotMask.clone();
+
+        for (int slot = 1; slot < duration; slot++) {
+            SlotGranularity.and(startMask, shiftRight(slotMask, slot));
+        }
+
+        return startMask;
+    }
+
+    /**
+     * Sets every slot up to the maximum gap after a set slot, or before it when spreading backwards, in as many shifts
+     * as it takes to double the covered width up to the gap.
+     */
+    private long[] spread(long[] slotMask, boolean backwards) {
+        long[] spreadMask = slotMask.clone();
+        int coveredSlots = 1;
+
+        while (coveredSlots <= maximumGapSlots) {
+            int shift = Math.min(coveredSlots, maximumGapSlots + 1 - coveredSlots);
+
+            SlotGranularity.or(spreadMask, backwards ? shiftRight(spreadMask, shift) : shiftLeft(spreadMask, shift));
+            coveredSlots += shift;
+        }
+
+        return spreadMask;
+    }
+
+    private static long[] shiftLeft(long[] slotMask, int slots) {
+        long[] shiftedMask = new long[slotMask.length];
+        int wordShift = slots / Long.SIZE;
+        int bitShift = slots % Long.SIZE;
+
+        for (int word = slotMask.length - 1; word >= wordShift; word--) {
+            shiftedMask[word] = slotMask[word - wordShift] << bitShift;
+
+            if (bitShift != 0 && word - wordShift > 0) {
+                shiftedMask[word] |= slotMask[word - wordShift - 1] >>> (Long.SIZE - bitShift);
+            }
+        }
+
+        return shiftedMask;
+    }
+
+    private static long[] shiftRight(long[] slotMask, int slots) {
+        long[] shiftedMask = new long[slotMask.length];
+        int wordShift = slots / Long.SIZE;
+        int bitShift = slots % Long.SIZE;
+
+        for (int word = 0; word + wordShift < slotMask.length; word++) {
+            shiftedMask[word] = slotMask[word + wordShift] >>> bitShift;
+
+            if (bitShift != 0 && word + wordShift + 1 < slotMask.length) {
+                shiftedMask[word] |= slotMask[word + wordShift + 1] << (Long.SIZE - bitShift);
+            }
+        }
+
+        return shiftedMask;
+    }
+}
@@ -0,0 +1,43 @@
+package app.service.interviewslots;
+
+import app.exception.UserException;
+import app.model.interviewslots.InterviewSlotsQuery;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A candidate with a set of interviewers. Interviewer order and duplicates do not matter, so two queries for the same
+ * panel in a different order share all maintained state.
+ */
+@Getter
+@EqualsAndHashCode
+public final class InterviewPanel {
+    private final String candidateName;
+    private final List<String> interviewersNames;
+
+    private InterviewPanel(String candidateName, List<String> interviewersNames) {
+        this.candidateName = candidateName;
+        this.interviewersNames = interviewersNames;
+    }
+
+    public static InterviewPanel of(InterviewSlotsQuery interviewSlotsQueryModel) {
+        List<String> interviewersNames = interviewSlotsQueryModel.getInterviewersNames();
+
+        if (interviewersNames == null || interviewersNames.isEmpty()) {
+            throw new UserException("You must provide at least one interviewer!");
+        }
+
+        return new InterviewPanel(interviewSlotsQueryModel.getCandidateName(),
+                                  interviewersNames.stream().distinct().sorted().collect(Collectors.toList()));
+    }
+
+    public InterviewSlotsQuery toInterviewSlotsQuery() {
+        return InterviewSlotsQuery.Builder.interviewSlotsQueryModelWith()
+                                          .withCandidateName(candidateName)
+                                          .withInterviewersNames(interviewersNames)
+                                          .build();
+    }
+}
@@ -0,0 +1,106 @@
+package app.service.interviewslots;
+
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Values per interview panel, also reachable through each participant so that an availability change finds the
+ * panels it affects without scanning all of them. Not thread-safe.
+ */
+public class InterviewPanelIndex<T> {
+    private final Map<InterviewPanel, T> values = new HashMap<>();
+    private final Map<ParticipantType, Map<String, Set<InterviewPanel>>> panelsByParticipant =
+            new EnumMap<>(ParticipantType.class);
+
+    public InterviewPanelIndex() {
+        for (ParticipantType participantType : ParticipantType.values()) {
+            panelsByParticipant.put(participantType, new HashMap<>());
+        }
+    }
+
+    public T get(InterviewPanel interviewPanel) {
+        return values.get(interviewPanel);
+    }
+
+    public void put(InterviewPanel interviewPanel, T value) {
+        if (values.put(interviewPanel, value) != null) {
+            return;
+        }
+
+        addParticipant(ParticipantType.CANDIDATE, interviewPanel.getCandidateName(), interviewPanel);
+
+        for (String interviewerName : interviewPanel.getInterviewersNames()) {
+            addParticipant(ParticipantType.INTERVIEWER, interviewerName, interviewPanel);
+        }
+    }
+
+    public T remove(InterviewPanel interviewPanel) {
+        T value = values.remove(interviewPanel);
+
+        if (value != null) {
+            removeParticipant(ParticipantType.CANDIDATE, interviewPanel.getCandidateName(), interviewPanel);
+
+            for (String interviewerName : interviewPanel.getInterviewersNames()) {
+                removeParticipant(ParticipantType.INTERVIEWER, interviewerName, interviewPanel);
+            }
+        }
+
+        return value;
+    }
+
+    public List<T> getAffectedValues(AvailabilityChangedEvent availabilityChangedEvent) {
+        Set<InterviewPanel> interviewPanels =
+                panelsByParticipant.get(availabilityChangedEvent.getParticipantType())
+                                   .getOrDefault(availabilityChangedEvent.getParticipantName(),
+                                                 Collections.emptySet());
+        List<T> affectedValues = new ArrayList<>();
+
+        for (InterviewPanel interviewPanel : interviewPanels) {
+            affectedValues.add(values.get(interviewPanel));
+        }
+
+        return affectedValues;
+    }
+
+    public Set<InterviewPanel> getInterviewPanels() {
+        return values.keySet();
+    }
+
+    public Collection<T> getValues() {
+        return values.values();
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    private void addParticipant(ParticipantType participantType, String participantName,
+                                InterviewPanel interviewPanel) {
+        panelsByParticipant.get(participantType).computeIfAbsent(participantName, name -> new HashSet<>())
+                           .add(interviewPanel);
+    }
+
+    private void removeParticipant(ParticipantType participantType, String participantName,
+                                   InterviewPanel interviewPanel) {
+        Map<String, Set<InterviewPanel>> panelsByName = panelsByParticipant.get(participantType);
+        Set<InterviewPanel> interviewPanels = panelsByName.get(participantName);
+
+        if (interviewPanels != null) {
+            interviewPanels.remove(interviewPanel);
+
+            if (interviewPanels.isEmpty()) {
+                panelsByName.remove(participantName);
+            }
+        }
+    }
+}
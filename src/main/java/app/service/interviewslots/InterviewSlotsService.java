@@ -1,8 +1,38 @@
 package app.service.interviewslots;
 
+import app.model.interviewslots.InterviewLoopQuery;
+import app.model.interviewslots.InterviewLoopReturn;
 import app.model.interviewslots.InterviewSlotsQuery;
 import app.model.interviewslots.InterviewSlotsReturn;
+import app.model.interviewslots.PanelAvailabilityQuery;
+import app.model.interviewslots.PanelAvailabilityReturn;
+import app.model.interviewslots.SlotQueryCoalescingStatistics;
+
+import java.util.List;
 
 public interface InterviewSlotsService {
     InterviewSlotsReturn getInterviewSlots(InterviewSlotsQuery interviewSlotsQueryModel);
+
+    InterviewSlotsReturn getInterviewSlots(InterviewSlotsQuery interviewSlotsQueryModel,
+                                           SlotQueryContext slotQueryContext);
+
+    String getInterviewSlotsVersionTag(InterviewSlotsQuery interviewSlotsQueryModel);
+
+    InterviewSlotsReturn registerInterviewPanel(InterviewSlotsQuery interviewSlotsQueryModel);
+
+    void unregisterInterviewPanel(InterviewSlotsQuery interviewSlotsQueryModel);
+
+    List<InterviewSlotsQuery> getRegisteredInterviewPanels();
+
+    SlotQueryCoalescingStatistics getSlotQueryCoalescingStatistics();
+
+    PanelAvailabilityReturn getPanelAvailability(PanelAvailabilityQuery panelAvailabilityQueryModel);
+
+    PanelAvailabilityReturn getPanelAvailability(PanelAvailabilityQuery panelAvailabilityQueryModel,
+                                                 SlotQueryContext slotQueryContext);
+
+    InterviewLoopReturn getInterviewLoops(InterviewLoopQuery interviewLoopQueryModel);
+
+    InterviewLoopReturn getInterviewLoops(InterviewLoopQuery interviewLoopQueryModel,
+                                          SlotQueryContext slotQueryContext);
 }
@@ -4,47 +4,128 @@ import app.exception.UserException;
 import app.model.candidate.CandidateAvailability;
 import app.model.candidate.Candidate;
 import app.model.interviewer.InterviewerAvailability;
-import app.model.interviewer.Interviewer;
+import app.model.interviewslots.InterviewLoop;
+import app.model.interviewslots.InterviewLoopQuery;
+import app.model.interviewslots.InterviewLoopReturn;
+import app.model.interviewslots.InterviewLoopStage;
 import app.model.interviewslots.InterviewSlotsQuery;
 import app.model.interviewslots.InterviewSlotsReturn;
+import app.model.interviewslots.PanelAvailabilityQuery;
+import app.model.interviewslots.PanelAvailabilityReturn;
+import app.model.interviewslots.PanelSlot;
+import app.model.interviewslots.SlotQueryCoalescingStatistics;
 import app.model.utils.AvailabilitySlot;
-import app.model.utils.TimeSlot;
+import app.model.utils.HourMasks;
+import app.model.utils.SlotGranularity;
 import app.repository.candidate.CandidateAvailabilityRepository;
 import app.repository.candidate.CandidateRepository;
 import app.repository.interviewer.InterviewerAvailabilityRepository;
 import app.repository.interviewer.InterviewerRepository;
+import app.service.caching.AvailabilityVersionRegistry;
+import app.service.caching.SingleFlight;
+import app.service.index.InterviewerHourBitmapIndex;
+import app.service.metrics.SlotQueryMetrics;
+import lombok.EqualsAndHashCode;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class InterviewSlotsServiceImpl implements InterviewSlotsService {
+    private static final int MAXIMUM_INTERVIEW_LOOPS = 50;
+
     private final CandidateRepository candidateRepository;
     private final CandidateAvailabilityRepository candidateAvailabilityRepository;
     private final InterviewerRepository interviewerRepository;
     private final InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    private final InterviewerHourBitmapIndex interviewerHourBitmapIndex;
+    private final AvailabilityVersionRegistry availabilityVersionRegistry;
+    private final CommonSlotsResultStore commonSlotsResultStore;
+    private final SlotQueryMetrics slotQueryMetrics;
+    private final SlotGranularity slotGranularity;
+    private final SingleFlight<InterviewSlotsFlightKey, List<AvailabilitySlot>> interviewSlotsFlights =
+            new SingleFlight<>();
 
     @Autowired
     public InterviewSlotsServiceImpl(CandidateRepository candidateRepository,
                                      CandidateAvailabilityRepository candidateAvailabilityRepository,
                                      InterviewerRepository interviewerRepository,
-                                     InterviewerAvailabilityRepository interviewerAvailabilityRepository) {
+                                     InterviewerAvailabilityRepository interviewerAvailabilityRepository,
+                                     InterviewerHourBitmapIndex interviewerHourBitmapIndex,
+                                     AvailabilityVersionRegistry availabilityVersionRegistry,
+                                     CommonSlotsResultStore commonSlotsResultStore,
+                                     SlotQueryMetrics slotQueryMetrics,
+                                     SlotGranularity slotGranularity) {
         this.candidateRepository = candidateRepository;
         this.candidateAvailabilityRepository = candidateAvailabilityRepository;
         this.interviewerRepository = interviewerRepository;
         this.interviewerAvailabilityRepository = interviewerAvailabilityRepository;
+        this.interviewerHourBitmapIndex = interviewerHourBitmapIndex;
+        this.availabilityVersionRegistry = availabilityVersionRegistry;
+        this.commonSlotsResultStore = commonSlotsResultStore;
+        this.slotQueryMetrics = slotQueryMetrics;
+        this.slotGranularity = slotGranularity;
     }
 
     @Override
     public InterviewSlotsReturn getInterviewSlots(InterviewSlotsQuery interviewSlotsQueryModel) {
-        verifyCandidateAndInterviewersExist(interviewSlotsQueryModel);
+        return getInterviewSlots(interviewSlotsQueryModel, SlotQueryContext.withoutDeadline());
+    }
+
+    @Override
+    public InterviewSlotsReturn getInterviewSlots(InterviewSlotsQuery interviewSlotsQueryModel,
+                                                  SlotQueryContext slotQueryContext) {
+        slotQueryContext.markStarted();
+        slotQueryContext.checkDeadline();
 
         String candidateName = interviewSlotsQueryModel.getCandidateName();
         List<String> interviewersNames = interviewSlotsQueryModel.getInterviewersNames();
-        List<AvailabilitySlot> interviewAvailabilitySlots = getInterviewAvailabilitySlots(interviewSlotsQueryModel);
+        long resultStoreStartNanos = slotQueryContext.startPhase();
+        Optional<InterviewSlotsReturn> registeredInterviewSlots = getRegisteredInterviewSlots(interviewSlotsQueryModel);
+
+        slotQueryContext.endPhase(SlotQueryPhase.RESULT_STORE, resultStoreStartNanos);
+
+        if (registeredInterviewSlots.isPresent()) {
+            List<AvailabilitySlot> registeredAvailabilitySlots =
+                    registeredInterviewSlots.get().getInterviewAvailabilitySlotList();
+
+            slotQueryMetrics.recordInterviewSlotsResult(registeredAvailabilitySlots);
+            slotQueryContext.markCompleted();
+
+            return InterviewSlotsReturn.Builder.interviewSlotsReturnModelWith()
+                                               .withCandidateName(candidateName)
+                                               .withInterviewerNameList(interviewersNames)
+                                               .withInterviewAvailabilitySlotList(registeredAvailabilitySlots)
+                                               .build();
+        }
+
+        // Identical concurrent queries share one computation, which runs under the deadline of the query that started
+        // it. The queries joining it wait only until their own deadline, and their time is spent waiting rather than
+        // in the phases of the computation.
+        List<AvailabilitySlot> interviewAvailabilitySlots;
+
+        if (interviewersNames != null) {
+            long flightStartNanos = slotQueryContext.startPhase();
+            SingleFlight.Landing<List<AvailabilitySlot>> landing = interviewSlotsFlights.execute(
+                    newInterviewSlotsFlightKey(candidateName, interviewersNames),
+                    () -> computeInterviewAvailabilitySlots(interviewSlotsQueryModel, slotQueryContext),
+                    slotQueryContext.getRemainingNanos(), slotQueryContext::newDeadlineExceededException);
+
+            if (!landing.isLed()) {
+                slotQueryContext.endPhase(SlotQueryPhase.COALESCED, flightStartNanos);
+            }
+
+            interviewAvailabilitySlots = landing.getValue();
+        } else {
+            interviewAvailabilitySlots = computeInterviewAvailabilitySlots(interviewSlotsQueryModel, slotQueryContext);
+        }
+
+        slotQueryMetrics.recordInterviewSlotsResult(interviewAvailabilitySlots);
+        slotQueryContext.markCompleted();
 
         InterviewSlotsReturn interviewSlotsReturnModel =
                 InterviewSlotsReturn.Builder.interviewSlotsReturnModelWith()
@@ -56,12 +137,382 @@ public class InterviewSlotsServiceImpl implements InterviewSlotsService {
         return interviewSlotsReturnModel;
     }
 
+    @Override
+    public String getInterviewSlotsVersionTag(InterviewSlotsQuery interviewSlotsQueryModel) {
+        return availabilityVersionRegistry.getInterviewSlotsVersionTag(interviewSlotsQueryModel.getCandidateName(),
+                                                                       interviewSlotsQueryModel.getInterviewersNames());
+    }
+
+    @Override
+    public InterviewSlotsReturn registerInterviewPanel(InterviewSlotsQuery interviewSlotsQueryModel) {
+        return commonSlotsResultStore.register(InterviewPanel.of(interviewSlotsQueryModel));
+    }
+
+    @Override
+    public void unregisterInterviewPanel(InterviewSlotsQuery interviewSlotsQueryModel) {
+        InterviewPanel interviewPanel = InterviewPanel.of(interviewSlotsQueryModel);
+
+        if (!commonSlotsResultStore.unregister(interviewPanel)) {
+            throw new UserException("Interview panel is not registered!", interviewPanel.getCandidateName());
+        }
+    }
+
+    @Override
+    public List<InterviewSlotsQuery> getRegisteredInterviewPanels() {
+        List<InterviewSlotsQuery> registeredInterviewPanels = new ArrayList<>();
+
+        for (InterviewPanel interviewPanel : commonSlotsResultStore.getRegisteredPanels()) {
+            registeredInterviewPanels.add(interviewPanel.toInterviewSlotsQuery());
+        }
+
+        return registeredInterviewPanels;
+    }
+
+    @Override
+    public SlotQueryCoalescingStatistics getSlotQueryCoalescingStatistics() {
+        return SlotQueryCoalescingStatistics.Builder.slotQueryCoalescingStatisticsWith()
+                                                    .withExecutedQueries(interviewSlotsFlights.getExecutedCount())
+                                                    .withCoalescedQueries(interviewSlotsFlights.getCoalescedCount())
+                                                    .withInFlightQueries(interviewSlotsFlights.getInFlightCount())
+                                                    .build();
+    }
+
+    @Override
+    public PanelAvailabilityReturn getPanelAvailability(PanelAvailabilityQuery panelAvailabilityQueryModel) {
+        return getPanelAvailability(panelAvailabilityQueryModel, SlotQueryContext.withoutDeadline());
+    }
+
+    @Override
+    public PanelAvailabilityReturn getPanelAvailability(PanelAvailabilityQuery panelAvailabilityQueryModel,
+                                                        SlotQueryContext slotQueryContext) {
+        slotQueryContext.markStarted();
+        slotQueryContext.checkDeadline();
+        verifyPanelAvailabilityQueryIsValid(panelAvailabilityQueryModel);
+
+        Set<String> interviewersNames = new LinkedHashSet<>(panelAvailabilityQueryModel.getInterviewersNames());
+        int minimumInterviewers = getMinimumInterviewers(panelAvailabilityQueryModel);
+        long existenceChecksStartNanos = slotQueryContext.startPhase();
+
+        verifyAllInterviewersExist(interviewersNames);
+        slotQueryContext.endPhase(SlotQueryPhase.EXISTENCE_CHECKS, existenceChecksStartNanos);
+
+        long intersectionStartNanos = slotQueryContext.startPhase();
+        RoaringBitmap panelInterviewerIds = interviewerHourBitmapIndex.toInterviewerIds(interviewersNames);
+        PanelSlotsCollector panelSlotsCollector = new PanelSlotsCollector(slotQueryContext);
+
+        interviewerHourBitmapIndex.forEachHourWithFreeInterviewers(panelAvailabilityQueryModel.getFrom(),
+                                                                   panelAvailabilityQueryModel.getTo(),
+                                                                   panelInterviewerIds,
+                                                                   minimumInterviewers,
+                                                                   panelSlotsCollector::add);
+
+        List<PanelSlot> panelSlots = panelSlotsCollector.getPanelSlots();
+
+        slotQueryContext.endPhase(SlotQueryPhase.INTERSECTION, intersectionStartNanos);
+        slotQueryMetrics.recordPanelAvailability(interviewersNames.size(), panelSlots.size());
+        slotQueryContext.markCompleted();
+
+        return PanelAvailabilityReturn.Builder.panelAvailabilityReturnWith()
+                                              .withInterviewersNames(new ArrayList<>(interviewersNames))
+                                              .withMinimumInterviewers(minimumInterviewers)
+                                              .withPanelSlotList(panelSlots)
+                                              .build();
+    }
+
+    @Override
+    public InterviewLoopReturn getInterviewLoops(InterviewLoopQuery interviewLoopQueryModel) {
+        return getInterviewLoops(interviewLoopQueryModel, SlotQueryContext.withoutDeadline());
+    }
+
+    /**
+     * The stages of the loop are intersected with the candidate into one slot mask per stage and day, and the days
+     * are planned in order until enough loops are found.
+     */
+    @Override
+    public InterviewLoopReturn getInterviewLoops(InterviewLoopQuery interviewLoopQueryModel,
+                                                 SlotQueryContext slotQueryContext) {
+        slotQueryContext.markStarted();
+        slotQueryContext.checkDeadline();
+        verifyInterviewLoopQueryIsValid(interviewLoopQueryModel);
+
+        String candidateName = interviewLoopQueryModel.getCandidateName();
+        List<InterviewLoopStage> stages = interviewLoopQueryModel.getStageList();
+        List<List<String>> stagesInterviewersNames = new ArrayList<>();
+        Set<String> interviewersNames = new LinkedHashSet<>();
+
+        for (InterviewLoopStage stage : stages) {
+            List<String> stageInterviewersNames = new ArrayList<>(new LinkedHashSet<>(stage.getInterviewersNames()));
+
+            stagesInterviewersNames.add(stageInterviewersNames);
+            interviewersNames.addAll(stageInterviewersNames);
+        }
+
+        long existenceChecksStartNanos = slotQueryContext.startPhase();
+
+        verifyCandidateExists(candidateName);
+        verifyAllInterviewersExist(interviewersNames);
+        slotQueryContext.endPhase(SlotQueryPhase.EXISTENCE_CHECKS, existenceChecksStartNanos);
+
+        long loadStartNanos = slotQueryContext.startPhase();
+        NavigableMap<LocalDate, long[]> candidateSlotMasks = new TreeMap<>(slotGranularity.toSlotMasksByDay(
+                getCandidateAvailability(candidateName).getAvailabilitySlotList()));
+        Map<String, Map<LocalDate, long[]>> interviewersSlotMasks = new HashMap<>();
+
+        for (String interviewerName : interviewersNames) {
+            slotQueryContext.checkDeadline();
+
+            interviewersSlotMasks.put(interviewerName, slotGranularity.toSlotMasksByDay(
+                    getInterviewerAvailability(interviewerName).getAvailabilitySlotList()));
+        }
+
+        slotQueryContext.endPhase(SlotQueryPhase.LOAD_AVAILABILITY, loadStartNanos);
+
+        long intersectionStartNanos = slotQueryContext.startPhase();
+        int[] durationSlots = new int[stages.size()];
+
+        for (int stage = 0; stage < stages.size(); stage++) {
+            durationSlots[stage] = stages.get(stage).getDurationMinutes() / slotGranularity.getMinutes();
+        }
+
+        int maximumGapSlots = Math.min(getMaximumGapMinutes(interviewLoopQueryModel) / slotGranularity.getMinutes(),
+                                       slotGranularity.getSlotsPerDay());
+        int maximumLoops = getMaximumLoops(interviewLoopQueryModel);
+        InterviewLoopPlanner interviewLoopPlanner = new InterviewLoopPlanner(durationSlots, maximumGapSlots);
+        List<InterviewLoop> interviewLoops = new ArrayList<>();
+
+        for (Map.Entry<LocalDate, long[]> candidateSlotMask : candidateSlotMasks.entrySet()) {
+            if (interviewLoops.size() == maximumLoops) {
+                break;
+            }
+
+            slotQueryContext.checkDeadline();
+
+            LocalDate day = candidateSlotMask.getKey();
+            long[][] stageSlotMasks = getStageSlotMasks(day, candidateSlotMask.getValue(), stagesInterviewersNames,
+                                                        interviewersSlotMasks);
+
+            if (stageSlotMasks == null) {
+                continue;
+            }
+
+            for (int[] stageStarts : interviewLoopPlanner.planLoops(stageSlotMasks,
+                                                                    maximumLoops - interviewLoops.size())) {
+                interviewLoops.add(toInterviewLoop(day, stageStarts, durationSlots, stagesInterviewersNames));
+            }
+        }
+
+        slotQueryContext.endPhase(SlotQueryPhase.INTERSECTION, intersectionStartNanos);
+        slotQueryContext.markCompleted();
+
+        return InterviewLoopReturn.Builder.interviewLoopReturnWith()
+                                          .withCandidateName(candidateName)
+                                          .withInterviewLoopList(interviewLoops)
+                                          .build();
+    }
+
+    private Optional<InterviewSlotsReturn> getRegisteredInterviewSlots(InterviewSlotsQuery interviewSlotsQueryModel) {
+        List<String> interviewersNames = interviewSlotsQueryModel.getInterviewersNames();
+
+        if (interviewersNames == null || interviewersNames.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return commonSlotsResultStore.getInterviewSlots(InterviewPanel.of(interviewSlotsQueryModel));
+    }
+
+    private List<AvailabilitySlot> computeInterviewAvailabilitySlots(InterviewSlotsQuery interviewSlotsQueryModel,
+                                                                     SlotQueryContext slotQueryContext) {
+        long existenceChecksStartNanos = slotQueryContext.startPhase();
+
+        verifyCandidateAndInterviewersExist(interviewSlotsQueryModel);
+        slotQueryContext.endPhase(SlotQueryPhase.EXISTENCE_CHECKS, existenceChecksStartNanos);
+
+        return getInterviewAvailabilitySlots(interviewSlotsQueryModel, slotQueryContext);
+    }
+
+    private InterviewSlotsFlightKey newInterviewSlotsFlightKey(String candidateName, List<String> interviewersNames) {
+        List<String> distinctInterviewersNames = interviewersNames.stream()
+                                                                  .distinct()
+                                                                  .sorted(Comparator.nullsFirst(
+                                                                          Comparator.naturalOrder()))
+                                                                  .collect(Collectors.toList());
+
+        // The version tag keeps a query that arrives after an availability change from joining an older flight.
+        String versionTag = availabilityVersionRegistry.getInterviewSlotsVersionTag(candidateName,
+                                                                                    distinctInterviewersNames);
+
+        return new InterviewSlotsFlightKey(candidateName, distinctInterviewersNames, versionTag);
+    }
+
+    private void verifyPanelAvailabilityQueryIsValid(PanelAvailabilityQuery panelAvailabilityQueryModel) {
+        List<String> interviewersNames = panelAvailabilityQueryModel.getInterviewersNames();
+
+        if (interviewersNames == null || interviewersNames.isEmpty()) {
+            throw new UserException("You must provide at least one interviewer!");
+        }
+
+        int minimumInterviewers = getMinimumInterviewers(panelAvailabilityQueryModel);
+        int distinctInterviewersCount = new HashSet<>(interviewersNames).size();
+
+        if (minimumInterviewers < 1 || minimumInterviewers > distinctInterviewersCount) {
+            throw new UserException("Minimum number of interviewers must be between one and the number of "
+                                    + "interviewers!",
+                                        "Minimum: " + minimumInterviewers,
+                                        "Interviewers: " + distinctInterviewersCount);
+        }
+
+        LocalDate from = panelAvailabilityQueryModel.getFrom();
+        LocalDate to = panelAvailabilityQueryModel.getTo();
+
+        if (from == null || to == null) {
+            throw new UserException("You must provide a period!");
+        }
+
+        if (from.isAfter(to)) {
+            throw new UserException("Start day of period must not be after end day of period!",
+                                        "From: " + from, "To: " + to);
+        }
+    }
+
+    private void verifyInterviewLoopQueryIsValid(InterviewLoopQuery interviewLoopQueryModel) {
+        String candidateName = interviewLoopQueryModel.getCandidateName();
+
+        if (candidateName == null || candidateName.isEmpty()) {
+            throw new UserException("You must provide a candidate!");
+        }
+
+        List<InterviewLoopStage> stages = interviewLoopQueryModel.getStageList();
+
+        if (stages == null || stages.isEmpty()) {
+            throw new UserException("You must provide at least one stage!");
+        }
+
+        int granularityMinutes = slotGranularity.getMinutes();
+
+        for (InterviewLoopStage stage : stages) {
+            List<String> interviewersNames = stage.getInterviewersNames();
+
+            if (interviewersNames == null || interviewersNames.isEmpty()) {
+                throw new UserException("You must provide at least one interviewer!");
+            }
+
+            Integer durationMinutes = stage.getDurationMinutes();
+
+            if (durationMinutes == null || durationMinutes < granularityMinutes
+                || durationMinutes > slotGranularity.getSlotsPerDay() * granularityMinutes
+                || durationMinutes % granularityMinutes != 0) {
+                throw new UserException("Stage duration must be a multiple of " + granularityMinutes
+                                        + " minutes within a day!",
+                                            "Duration: " + durationMinutes);
+            }
+        }
+
+        int maximumGapMinutes = getMaximumGapMinutes(interviewLoopQueryModel);
+
+        if (maximumGapMinutes < 0 || maximumGapMinutes % granularityMinutes != 0) {
+            throw new UserException("Maximum gap must be a multiple of " + granularityMinutes + " minutes!",
+                                        "Gap: " + maximumGapMinutes);
+        }
+
+        int maximumLoops = getMaximumLoops(interviewLoopQueryModel);
+
+        if (maximumLoops < 1 || maximumLoops > MAXIMUM_INTERVIEW_LOOPS) {
+            throw new UserException("Maximum number of loops must be between one and " + MAXIMUM_INTERVIEW_LOOPS
+                                    + "!",
+                                        "Maximum: " + maximumLoops);
+        }
+    }
+
+    private int getMaximumGapMinutes(InterviewLoopQuery interviewLoopQueryModel) {
+        Integer maximumGapMinutes = interviewLoopQueryModel.getMaximumGapMinutes();
+
+        return maximumGapMinutes != null ? maximumGapMinutes : 0;
+    }
+
+    private int getMaximumLoops(InterviewLoopQuery interviewLoopQueryModel) {
+        Integer maximumLoops = interviewLoopQueryModel.getMaximumLoops();
+
+        return maximumLoops != null ? maximumLoops : 1;
+    }
+
+    /**
+     * Slot mask of every stage on the day, or null when some stage has no free slot on it.
+     */
+    private long[][] getStageSlotMasks(LocalDate day, long[] candidateSlotMask,
+                                       List<List<String>> stagesInterviewersNames,
+                                       Map<String, Map<LocalDate, long[]>> interviewersSlotMasks) {
+        long[][] stageSlotMasks = new long[stagesInterviewersNames.size()][];
+
+        for (int stage = 0; stage < stagesInterviewersNames.size(); stage++) {
+            long[] stageSlotMask = candidateSlotMask.clone();
+
+            for (String interviewerName : stagesInterviewersNames.get(stage)) {
+                long[] interviewerSlotMask = interviewersSlotMasks.get(interviewerName).get(day);
+
+                if (interviewerSlotMask == null) {
+                    return null;
+                }
+
+                SlotGranularity.and(stageSlotMask, interviewerSlotMask);
+            }
+
+            if (SlotGranularity.isEmpty(stageSlotMask)) {
+                return null;
+            }
+
+            stageSlotMasks[stage] = stageSlotMask;
+        }
+
+        return stageSlotMasks;
+    }
+
+    private InterviewLoop toInterviewLoop(LocalDate day, int[] stageStarts, int[] durationSlots,
+                                          List<List<String>> stagesInterviewersNames) {
+        List<PanelSlot> stageSlots = new ArrayList<>();
+
+        for (int stage = 0; stage < stageStarts.length; stage++) {
+            stageSlots.add(PanelSlot.Builder.panelSlotWith()
+                                            .withDay(day)
+                                            .withFrom(slotGranularity.toLocalTime(stageStarts[stage]))
+                                            .withTo(slotGranularity.toLocalTime(stageStarts[stage]
+                                                                                + durationSlots[stage]))
+                                            .withAvailableInterviewersNames(stagesInterviewersNames.get(stage))
+                                            .build());
+        }
+
+        return InterviewLoop.Builder.interviewLoopWith()
+                                    .withDay(day)
+                                    .withFrom(stageSlots.get(0).getFrom())
+                                    .withTo(stageSlots.get(stageSlots.size() - 1).getTo())
+                                    .withStageSlotList(stageSlots)
+                                    .build();
+    }
+
+    private int getMinimumInterviewers(PanelAvailabilityQuery panelAvailabilityQueryModel) {
+        Integer minimumInterviewers = panelAvailabilityQueryModel.getMinimumInterviewers();
+
+        return minimumInterviewers != null
+               ? minimumInterviewers
+               : new HashSet<>(panelAvailabilityQueryModel.getInterviewersNames()).size();
+    }
+
+    private void verifyAllInterviewersExist(Set<String> interviewersNames) {
+        Set<String> existingInterviewersNames =
+                new HashSet<>(interviewerRepository.findExistingNames(interviewersNames));
+
+        for (String interviewerName : interviewersNames) {
+            if (!existingInterviewersNames.contains(interviewerName)) {
+                throw new UserException("Interviewer does not exist!", interviewerName);
+            }
+        }
+    }
+
     private void verifyCandidateAndInterviewersExist(InterviewSlotsQuery interviewSlotsQueryModel) {
         String candidateName = interviewSlotsQueryModel.getCandidateName();
         List<String> interviewersNames = interviewSlotsQueryModel.getInterviewersNames();
 
         verifyCandidateExists(candidateName);
-        verifyInterviewersExist(interviewersNames);
+        verifyAllInterviewersExist(new LinkedHashSet<>(interviewersNames));
     }
 
     private void verifyCandidateExists(String candidateName) {
@@ -72,17 +523,9 @@ public class InterviewSlotsServiceImpl implements InterviewSlotsService {
         }
     }
 
-    private void verifyInterviewersExist(List<String> interviewersNames) {
-        for (String interviewerName : interviewersNames) {
-            Optional<Interviewer> existingInterviewer = interviewerRepository.findById(interviewerName);
-
-            if (existingInterviewer.isEmpty()) {
-                throw new UserException("Interviewer does not exist!", interviewerName);
-            }
-        }
-    }
-
-    private List<AvailabilitySlot> getInterviewAvailabilitySlots(InterviewSlotsQuery interviewSlotsQueryModel) {
+    private List<AvailabilitySlot> getInterviewAvailabilitySlots(InterviewSlotsQuery interviewSlotsQueryModel,
+                                                                 SlotQueryContext slotQueryContext) {
+        long loadStartNanos = slotQueryContext.startPhase();
         String candidateName = interviewSlotsQueryModel.getCandidateName();
         CandidateAvailability candidateAvailability = getCandidateAvailability(candidateName);
 
@@ -90,25 +533,63 @@ public class InterviewSlotsServiceImpl implements InterviewSlotsService {
         List<InterviewerAvailability> interviewersAvailabilities = new ArrayList<>();
 
         for (String interviewerName : interviewersNames) {
+            slotQueryContext.checkDeadline();
+
             InterviewerAvailability interviewerAvailability = getInterviewerAvailability(interviewerName);
 
             interviewersAvailabilities.add(interviewerAvailability);
         }
 
+        slotQueryContext.endPhase(SlotQueryPhase.LOAD_AVAILABILITY, loadStartNanos);
+        recordInterviewSlotsInput(candidateAvailability, interviewersAvailabilities, slotQueryContext);
+
+        long commonDaysStartNanos = slotQueryContext.startPhase();
         Set<LocalDate> candidateAndInterviewersAvailabilitiesCommonDays =
                 getCandidateAndInterviewersAvailabilitiesCommonDays(
                         candidateAvailability,
-                        interviewersAvailabilities);
+                        interviewersAvailabilities,
+                        slotQueryContext);
 
+        slotQueryContext.endPhase(SlotQueryPhase.COMMON_DAYS, commonDaysStartNanos);
+
+        long intersectionStartNanos = slotQueryContext.startPhase();
         List<AvailabilitySlot> interviewAvailabilitySlots = getCommonAvailabilitySlots(
                 candidateAndInterviewersAvailabilitiesCommonDays,
                 candidateAvailability,
-                interviewersAvailabilities);
+                interviewersAvailabilities,
+                slotQueryContext);
+
+        slotQueryContext.endPhase(SlotQueryPhase.INTERSECTION, intersectionStartNanos);
 
         return interviewAvailabilitySlots;
     }
 
 
+    private void recordInterviewSlotsInput(CandidateAvailability candidateAvailability,
+                                           List<InterviewerAvailability> interviewersAvailabilities,
+                                           SlotQueryContext slotQueryContext) {
+        Set<LocalDate> days = new HashSet<>();
+        int timeSlots = countTimeSlots(candidateAvailability.getAvailabilitySlotList(), days);
+
+        for (InterviewerAvailability interviewerAvailability : interviewersAvailabilities) {
+            timeSlots += countTimeSlots(interviewerAvailability.getAvailabilitySlotList(), days);
+        }
+
+        slotQueryMetrics.recordInterviewSlotsInput(1 + interviewersAvailabilities.size(), days.size(), timeSlots);
+        slotQueryContext.recordInputSize(1 + interviewersAvailabilities.size(), days.size(), timeSlots);
+    }
+
+    private int countTimeSlots(List<AvailabilitySlot> availabilitySlots, Set<LocalDate> days) {
+        int timeSlots = 0;
+
+        for (AvailabilitySlot availabilitySlot : availabilitySlots) {
+            days.add(availabilitySlot.getDay());
+            timeSlots += availabilitySlot.getTimeSlotList().size();
+        }
+
+        return timeSlots;
+    }
+
     private CandidateAvailability getCandidateAvailability(String candidateName) {
         CandidateAvailability candidateAvailability =
                 candidateAvailabilityRepository.getAvailability(candidateName);
@@ -133,148 +614,152 @@ public class InterviewSlotsServiceImpl implements InterviewSlotsService {
 
     private Set<LocalDate> getCandidateAndInterviewersAvailabilitiesCommonDays(
             CandidateAvailability candidateAvailability,
-            List<InterviewerAvailability> interviewersAvailabilities) {
-        List<AvailabilitySlot> candidateAvailabilitySlots = candidateAvailability.getAvailabilitySlotList();
-
-        Set<LocalDate> candidateAndInterviewersAvailabilitiesCommonDays = new HashSet<>();
-
-        for (AvailabilitySlot candidateAvailabilitySlot : candidateAvailabilitySlots) {
-            LocalDate candidateAvailabilityDay = candidateAvailabilitySlot.getDay();
+            List<InterviewerAvailability> interviewersAvailabilities,
+            SlotQueryContext slotQueryContext) {
+        if (interviewersAvailabilities.isEmpty()) {
+            return new HashSet<>();
+        }
 
-            for (InterviewerAvailability interviewerAvailability : interviewersAvailabilities) {
-                List<AvailabilitySlot> interviewerAvailabilitySlots = interviewerAvailability.getAvailabilitySlotList();
+        Set<LocalDate> candidateAndInterviewersAvailabilitiesCommonDays =
+                HourMasks.getDays(candidateAvailability.getAvailabilitySlotList());
 
-                for (AvailabilitySlot interviewerAvailabilitySlot : interviewerAvailabilitySlots) {
-                    LocalDate interviewerAvailabilityDay = interviewerAvailabilitySlot.getDay();
+        for (InterviewerAvailability interviewerAvailability : interviewersAvailabilities) {
+            slotQueryContext.checkDeadline();
 
-                    if (candidateAvailabilityDay.compareTo(interviewerAvailabilityDay) == 0) {
-                        candidateAndInterviewersAvailabilitiesCommonDays.add(candidateAvailabilityDay);
-                    }
-                }
-            }
+            candidateAndInterviewersAvailabilitiesCommonDays.retainAll(
+                    HourMasks.getDays(interviewerAvailability.getAvailabilitySlotList()));
         }
 
         return candidateAndInterviewersAvailabilitiesCommonDays;
     }
 
+    /**
+     * Intersects the slot masks of the common days word by word, so the cost per day does not depend on how many time
+     * slots the participants have or on how fine the granularity is.
+     */
     private List<AvailabilitySlot> getCommonAvailabilitySlots(Set<LocalDate> commonDays,
                                                               CandidateAvailability candidateAvailability,
-                                                              List<InterviewerAvailability> interviewersAvailabilities) {
-        List<AvailabilitySlot> candidateAvailabilitySlots = candidateAvailability.getAvailabilitySlotList();
-        List<AvailabilitySlot> interviewAvailabilitySlots = getAvailabilitySlotsOfCommonDays(commonDays,
-                                                                                             candidateAvailabilitySlots);
+                                                              List<InterviewerAvailability> interviewersAvailabilities,
+                                                              SlotQueryContext slotQueryContext) {
+        Map<LocalDate, long[]> commonSlotMasks =
+                getSlotMasksOfCommonDays(commonDays, candidateAvailability.getAvailabilitySlotList());
 
         for (InterviewerAvailability interviewerAvailability : interviewersAvailabilities) {
-            List<AvailabilitySlot> interviewerAllAvailabilitySlots = interviewerAvailability.getAvailabilitySlotList();
+            slotQueryContext.checkDeadline();
 
-            List<AvailabilitySlot> interviewerCommonAvailabilitySlots = getAvailabilitySlotsOfCommonDays(
-                    commonDays, interviewerAllAvailabilitySlots);
+            Map<LocalDate, long[]> interviewerSlotMasks = getSlotMasksOfCommonDays(
+                    commonSlotMasks.keySet(), interviewerAvailability.getAvailabilitySlotList());
 
-            interviewAvailabilitySlots = getOverlappingAvailabilitySlots(interviewAvailabilitySlots,
-                                                                         interviewerCommonAvailabilitySlots);
+            commonSlotMasks.entrySet().removeIf(commonSlotMask -> {
+                long[] interviewerSlotMask = interviewerSlotMasks.get(commonSlotMask.getKey());
+
+                if (interviewerSlotMask == null) {
+                    return true;
+                }
+
+                SlotGranularity.and(commonSlotMask.getValue(), interviewerSlotMask);
+
+                return SlotGranularity.isEmpty(commonSlotMask.getValue());
+            });
         }
 
+        List<AvailabilitySlot> interviewAvailabilitySlots = new ArrayList<>();
+
+        commonSlotMasks.forEach((day, slotMask) -> interviewAvailabilitySlots.add(
+                AvailabilitySlot.Builder.availabilitySlotWith()
+                                        .withDay(day)
+                                        .withTimeSlotList(slotGranularity.toTimeSlots(slotMask))
+                                        .build()));
+
         return interviewAvailabilitySlots;
     }
 
-    private List<AvailabilitySlot> getAvailabilitySlotsOfCommonDays(Set<LocalDate> commonDays,
-                                                                    List<AvailabilitySlot> availabilitySlots) {
-        List<AvailabilitySlot> availabilitySlotsOfCommonDays = new ArrayList<>();
+    private Map<LocalDate, long[]> getSlotMasksOfCommonDays(Set<LocalDate> commonDays,
+                                                            List<AvailabilitySlot> availabilitySlots) {
+        Map<LocalDate, long[]> slotMasksOfCommonDays = new TreeMap<>();
 
         for (AvailabilitySlot availabilitySlot : availabilitySlots) {
-            for (LocalDate localDate : commonDays) {
-                if (availabilitySlot.getDay().compareTo(localDate) == 0) {
-                    availabilitySlotsOfCommonDays.add(availabilitySlot);
-                }
+            LocalDate day = availabilitySlot.getDay();
+
+            if (!commonDays.contains(day)) {
+                continue;
             }
-        }
 
-        return availabilitySlotsOfCommonDays;
-    }
+            long[] slotMask = slotGranularity.toSlotMask(availabilitySlot.getTimeSlotList());
+            long[] existingSlotMask = slotMasksOfCommonDays.putIfAbsent(day, slotMask);
 
-    private List<AvailabilitySlot> getOverlappingAvailabilitySlots(
-            List<AvailabilitySlot> candidateCommonAvailabilitySlots,
-            List<AvailabilitySlot> interviewerCommonAvailabilitySlots) {
-        List<AvailabilitySlot> overlappingAvailabilitySlots = calculateOverlappingAvailabilitySlots(
-                candidateCommonAvailabilitySlots, interviewerCommonAvailabilitySlots);
+            if (existingSlotMask != null) {
+                SlotGranularity.or(existingSlotMask, slotMask);
+            }
+        }
 
-        return overlappingAvailabilitySlots;
+        return slotMasksOfCommonDays;
     }
 
-    private List<AvailabilitySlot> calculateOverlappingAvailabilitySlots(
-            List<AvailabilitySlot> firstAvailabilitySlots,
-            List<AvailabilitySlot> secondAvailabilitySlots) {
-        List<AvailabilitySlot> overlappingAvailabilitySlots = new ArrayList<>();
-
-        for (AvailabilitySlot firstAvailabilitySlot : firstAvailabilitySlots) {
-            for (AvailabilitySlot secondAvailabilitySlot : secondAvailabilitySlots) {
-                LocalDate firstAvailabilitySlotDay = firstAvailabilitySlot.getDay();
-                LocalDate secondAvailabilitySlotDay = secondAvailabilitySlot.getDay();
+    @EqualsAndHashCode
+    private static final class InterviewSlotsFlightKey {
+        private final String candidateName;
+        private final List<String> interviewersNames;
+        private final String versionTag;
 
-                if (firstAvailabilitySlotDay.compareTo(secondAvailabilitySlotDay) == 0) {
-                    List<TimeSlot> firstAvailabilityTimeSlots = firstAvailabilitySlot.getTimeSlotList();
-                    List<TimeSlot> secondAvailabilityTimeSlots = secondAvailabilitySlot.getTimeSlotList();
-
-                    List<TimeSlot> overlappingTimeSlots = new ArrayList<>();
+        private InterviewSlotsFlightKey(String candidateName, List<String> interviewersNames, String versionTag) {
+            this.candidateName = candidateName;
+            this.interviewersNames = interviewersNames;
+            this.versionTag = versionTag;
+        }
+    }
 
-                    for (TimeSlot firstTimeSlot : firstAvailabilityTimeSlots) {
-                        for (TimeSlot secondTimeSlot : secondAvailabilityTimeSlots) {
-                            LocalTime firstTimeSlotFrom = firstTimeSlot.getFrom();
-                            LocalTime firstTimeSlotTo = firstTimeSlot.getTo();
-                            LocalTime secondTimeSlotFrom = secondTimeSlot.getFrom();
-                            LocalTime secondTimeSlotTo = secondTimeSlot.getTo();
+    private class PanelSlotsCollector {
+        private final List<PanelSlot> panelSlots = new ArrayList<>();
+        private final SlotQueryContext slotQueryContext;
+        private LocalDate currentDay;
+        private int currentFromHour;
+        private int currentToHour;
+        private RoaringBitmap currentFreeInterviewerIds;
 
-                            TimeSlot overlappingTimeSlot = getOverlappingTimeSlot(firstTimeSlotFrom, firstTimeSlotTo,
-                                                                                  secondTimeSlotFrom,
-                                                                                  secondTimeSlotTo);
+        private PanelSlotsCollector(SlotQueryContext slotQueryContext) {
+            this.slotQueryContext = slotQueryContext;
+        }
 
-                            if (overlappingTimeSlot.getFrom() != null && overlappingTimeSlot.getTo() != null) {
-                                overlappingTimeSlots.add(overlappingTimeSlot);
-                            }
-                        }
-                    }
+        private void add(LocalDate day, int hour, RoaringBitmap freeInterviewerIds) {
+            slotQueryContext.checkDeadline();
 
-                    if (!overlappingTimeSlots.isEmpty()) {
-                        LocalDate availabilitySlotDay = secondAvailabilitySlot.getDay();
+            // Consecutive hours of the same day with the same free interviewers become one slot.
+            if (day.equals(currentDay) && hour == currentToHour
+                && freeInterviewerIds.equals(currentFreeInterviewerIds)) {
+                currentToHour++;
+                return;
+            }
 
-                        AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith()
-                                                                                    .withDay(availabilitySlotDay)
-                                                                                    .withTimeSlotList(
-                                                                                            overlappingTimeSlots)
-                                                                                    .build();
+            flush();
 
-                        overlappingAvailabilitySlots.add(availabilitySlot);
-                    }
-                }
-            }
+            currentDay = day;
+            currentFromHour = hour;
+            currentToHour = hour + 1;
+            currentFreeInterviewerIds = freeInterviewerIds;
         }
 
-        return overlappingAvailabilitySlots;
-    }
+        private List<PanelSlot> getPanelSlots() {
+            flush();
 
-    private TimeSlot getOverlappingTimeSlot(LocalTime candidateFrom, LocalTime candidateTo, LocalTime interviewerFrom,
-                                            LocalTime interviewerTo) {
-        TimeSlot overlappingTimeSlot = new TimeSlot();
-        LocalTime overlapTimeSlotFrom;
-        LocalTime overlapTimeSlotTo;
+            return panelSlots;
+        }
 
-        if (candidateFrom.isBefore(interviewerTo) && interviewerFrom.isBefore(candidateTo)) {
-            if (candidateFrom.isBefore(interviewerFrom)) {
-                overlapTimeSlotFrom = interviewerFrom;
-            } else {
-                overlapTimeSlotFrom = candidateFrom;
+        private void flush() {
+            if (currentDay == null) {
+                return;
             }
 
-            if (candidateTo.isBefore(interviewerTo)) {
-                overlapTimeSlotTo = candidateTo;
-            } else {
-                overlapTimeSlotTo = interviewerTo;
-            }
+            panelSlots.add(PanelSlot.Builder.panelSlotWith()
+                                            .withDay(currentDay)
+                                            .withFrom(HourMasks.toLocalTime(currentFromHour))
+                                            .withTo(HourMasks.toLocalTime(currentToHour))
+                                            .withAvailableInterviewersNames(
+                                                    interviewerHourBitmapIndex.toInterviewersNames(
+                                                            currentFreeInterviewerIds))
+                                            .build());
 
-            overlappingTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(overlapTimeSlotFrom).withTo(
-                    overlapTimeSlotTo).build();
+            currentDay = null;
         }
-
-        return overlappingTimeSlot;
     }
 }
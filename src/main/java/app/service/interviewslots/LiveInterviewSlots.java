@@ -0,0 +1,161 @@
+package app.service.interviewslots;
+
+import app.model.interviewslots.InterviewSlotsChange;
+import app.model.interviewslots.InterviewSlotsReturn;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.SlotGranularity;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+import app.service.events.AvailabilityVersions;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Common interview slots of one candidate and panel, kept as slot masks per participant and day. An availability
+ * change only recomputes the days it touched and reports the days whose common slots actually changed. A change
+ * older than the availability it was loaded from or already applied is dropped.
+ */
+public class LiveInterviewSlots {
+    private final String candidateName;
+    private final List<String> interviewersNames;
+    private final SlotGranularity slotGranularity;
+    private final AvailabilityVersions availabilityVersions;
+    private final Map<LocalDate, long[]> candidateSlotMasks;
+    private final Map<String, Map<LocalDate, long[]>> interviewersSlotMasks;
+    private final NavigableMap<LocalDate, long[]> commonSlotMasks = new TreeMap<>();
+
+    public LiveInterviewSlots(String candidateName, List<String> interviewersNames,
+                              List<AvailabilitySlot> candidateAvailabilitySlots,
+                              Map<String, List<AvailabilitySlot>> interviewersAvailabilitySlots,
+                              AvailabilityVersions availabilityVersions,
+                              SlotGranularity slotGranularity) {
+        this.candidateName = candidateName;
+        this.interviewersNames = interviewersNames;
+        this.slotGranularity = slotGranularity;
+        this.availabilityVersions = availabilityVersions;
+        this.candidateSlotMasks = slotGranularity.toSlotMasksByDay(candidateAvailabilitySlots);
+        this.interviewersSlotMasks = new HashMap<>();
+
+        for (String interviewerName : interviewersNames) {
+            interviewersSlotMasks.put(interviewerName, slotGranularity.toSlotMasksByDay(
+                    interviewersAvailabilitySlots.getOrDefault(interviewerName, new ArrayList<>())));
+        }
+
+        for (LocalDate day : candidateSlotMasks.keySet()) {
+            recomputeDay(day);
+        }
+    }
+
+    public synchronized InterviewSlotsReturn getInterviewSlots() {
+        return InterviewSlotsReturn.Builder.interviewSlotsReturnModelWith()
+                                           .withCandidateName(candidateName)
+                                           .withInterviewerNameList(interviewersNames)
+                                           .withInterviewAvailabilitySlotList(toAvailabilitySlots(commonSlotMasks))
+                                           .build();
+    }
+
+    public synchronized Optional<InterviewSlotsChange> applyChange(AvailabilityChangedEvent availabilityChangedEvent) {
+        Map<LocalDate, long[]> participantSlotMasks = getParticipantSlotMasks(availabilityChangedEvent);
+
+        if (participantSlotMasks == null) {
+            return Optional.empty();
+        }
+
+        Map<LocalDate, long[]> changedSlotMasks =
+                slotGranularity.toSlotMasksByDay(availabilityChangedEvent.getAvailabilitySlotList());
+        NavigableMap<LocalDate, long[]> changedCommonSlotMasks = new TreeMap<>();
+
+        for (LocalDate changedDay : new TreeSet<>(availabilityVersions.advance(availabilityChangedEvent))) {
+            long[] slotMask = changedSlotMasks.get(changedDay);
+
+            if (slotMask != null && !SlotGranularity.isEmpty(slotMask)) {
+                participantSlotMasks.put(changedDay, slotMask);
+            } else {
+                participantSlotMasks.remove(changedDay);
+            }
+
+            long[] previousCommonSlotMask = commonSlotMasks.getOrDefault(changedDay, slotGranularity.newSlotMask());
+            long[] commonSlotMask = recomputeDay(changedDay);
+
+            if (!Arrays.equals(commonSlotMask, previousCommonSlotMask)) {
+                changedCommonSlotMasks.put(changedDay, commonSlotMask);
+            }
+        }
+
+        if (changedCommonSlotMasks.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(InterviewSlotsChange.Builder.interviewSlotsChangeWith()
+                                                       .withCandidateName(candidateName)
+                                                       .withInterviewersNames(interviewersNames)
+                                                       .withChangedDays(new ArrayList<>(
+                                                               changedCommonSlotMasks.keySet()))
+                                                       .withInterviewAvailabilitySlotList(
+                                                               toAvailabilitySlots(changedCommonSlotMasks))
+                                                       .build());
+    }
+
+    private Map<LocalDate, long[]> getParticipantSlotMasks(AvailabilityChangedEvent availabilityChangedEvent) {
+        String participantName = availabilityChangedEvent.getParticipantName();
+
+        if (availabilityChangedEvent.getParticipantType() == ParticipantType.CANDIDATE) {
+            return candidateName.equals(participantName) ? candidateSlotMasks : null;
+        }
+
+        return interviewersSlotMasks.get(participantName);
+    }
+
+    private long[] recomputeDay(LocalDate day) {
+        long[] commonSlotMask = slotGranularity.newSlotMask();
+        long[] candidateSlotMask = candidateSlotMasks.get(day);
+
+        if (candidateSlotMask != null) {
+            SlotGranularity.or(commonSlotMask, candidateSlotMask);
+        }
+
+        for (Map<LocalDate, long[]> interviewerSlotMasks : interviewersSlotMasks.values()) {
+            if (SlotGranularity.isEmpty(commonSlotMask)) {
+                break;
+            }
+
+            long[] interviewerSlotMask = interviewerSlotMasks.get(day);
+
+            if (interviewerSlotMask == null) {
+                commonSlotMask = slotGranularity.newSlotMask();
+                break;
+            }
+
+            SlotGranularity.and(commonSlotMask, interviewerSlotMask);
+        }
+
+        if (!SlotGranularity.isEmpty(commonSlotMask)) {
+            commonSlotMasks.put(day, commonSlotMask);
+        } else {
+            commonSlotMasks.remove(day);
+        }
+
+        return commonSlotMask;
+    }
+
+    private List<AvailabilitySlot> toAvailabilitySlots(NavigableMap<LocalDate, long[]> slotMasksByDay) {
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+
+        slotMasksByDay.forEach((day, slotMask) -> availabilitySlots.add(
+                AvailabilitySlot.Builder.availabilitySlotWith()
+                                        .withDay(day)
+                                        .withTimeSlotList(slotGranularity.toTimeSlots(slotMask))
+                                        .build()));
+
+        return availabilitySlots;
+    }
+}
@@ -0,0 +1,89 @@
+package app.service.interviewslots;
+
+import app.exception.UserException;
+import app.model.candidate.CandidateAvailability;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.SlotGranularity;
+import app.repository.candidate.CandidateAvailabilityRepository;
+import app.repository.candidate.CandidateRepository;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.repository.interviewer.InterviewerRepository;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+import app.service.events.AvailabilityVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class LiveInterviewSlotsLoader {
+    private final CandidateRepository candidateRepository;
+    private final CandidateAvailabilityRepository candidateAvailabilityRepository;
+    private final InterviewerRepository interviewerRepository;
+    private final InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    private final SlotGranularity slotGranularity;
+
+    @Autowired
+    public LiveInterviewSlotsLoader(CandidateRepository candidateRepository,
+                                    CandidateAvailabilityRepository candidateAvailabilityRepository,
+                                    InterviewerRepository interviewerRepository,
+                                    InterviewerAvailabilityRepository interviewerAvailabilityRepository,
+                                    SlotGranularity slotGranularity) {
+        this.candidateRepository = candidateRepository;
+        this.candidateAvailabilityRepository = candidateAvailabilityRepository;
+        this.interviewerRepository = interviewerRepository;
+        this.interviewerAvailabilityRepository = interviewerAvailabilityRepository;
+        this.slotGranularity = slotGranularity;
+    }
+
+    public LiveInterviewSlots load(InterviewPanel interviewPanel) {
+        verifyParticipantsExist(interviewPanel);
+
+        String candidateName = interviewPanel.getCandidateName();
+        CandidateAvailability candidateAvailability = candidateAvailabilityRepository.getAvailability(candidateName);
+        Map<String, List<AvailabilitySlot>> interviewersAvailabilitySlots = new HashMap<>();
+        AvailabilityVersions availabilityVersions = new AvailabilityVersions();
+
+        if (candidateAvailability != null) {
+            availabilityVersions.record(ParticipantType.CANDIDATE, candidateName, candidateAvailability.getId(),
+                                        candidateAvailability.getVersion(),
+                                        candidateAvailability.getAvailabilitySlotList());
+        }
+
+        for (String interviewerName : interviewPanel.getInterviewersNames()) {
+            InterviewerAvailability interviewerAvailability =
+                    interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName);
+
+            if (interviewerAvailability != null) {
+                interviewersAvailabilitySlots.put(interviewerName, interviewerAvailability.getAvailabilitySlotList());
+                availabilityVersions.record(ParticipantType.INTERVIEWER, interviewerName,
+                                            interviewerAvailability.getId(), interviewerAvailability.getVersion(),
+                                            interviewerAvailability.getAvailabilitySlotList());
+            }
+        }
+
+        return new LiveInterviewSlots(candidateName, interviewPanel.getInterviewersNames(),
+                                      candidateAvailability != null
+                                      ? candidateAvailability.getAvailabilitySlotList()
+                                      : Collections.emptyList(),
+                                      interviewersAvailabilitySlots,
+                                      availabilityVersions,
+                                      slotGranularity);
+    }
+
+    private void verifyParticipantsExist(InterviewPanel interviewPanel) {
+        if (!candidateRepository.existsById(interviewPanel.getCandidateName())) {
+            throw new UserException("Candidate does not exist!", interviewPanel.getCandidateName());
+        }
+
+        for (String interviewerName : interviewPanel.getInterviewersNames()) {
+            if (!interviewerRepository.existsById(interviewerName)) {
+                throw new UserException("Interviewer does not exist!", interviewerName);
+            }
+        }
+    }
+}
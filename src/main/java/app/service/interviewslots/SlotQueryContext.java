@@ -0,0 +1,113 @@
+package app.service.interviewslots;
+
+import app.exception.DeadlineExceededException;
+
+import java.time.Duration;
+
+/**
+ * Deadline of a single slot query. The computation calls {@link #checkDeadline()} between units of work and gives up
+ * with a {@link DeadlineExceededException} once the deadline has passed, including while the query was still queued.
+ * It also adds up the time spent in every {@link SlotQueryPhase}. A query runs on one thread at a time and is handed
+ * over through its future, so the phase times need no synchronization of their own.
+ */
+public class SlotQueryContext {
+    private final long startNanos;
+    private final long timeoutNanos;
+    private final long[] phaseNanos = new long[SlotQueryPhase.values().length];
+    private boolean started;
+    private boolean completed;
+    private long completedNanos;
+    private int participants;
+    private int days;
+    private int timeSlots;
+
+    private SlotQueryContext(long timeoutNanos) {
+        this.startNanos = System.nanoTime();
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    public static SlotQueryContext withoutDeadline() {
+        return new SlotQueryContext(Long.MAX_VALUE);
+    }
+
+    public static SlotQueryContext withTimeout(Duration timeout) {
+        return new SlotQueryContext(timeout.toNanos());
+    }
+
+    public boolean isDeadlineExceeded() {
+        return System.nanoTime() - startNanos >= timeoutNanos;
+    }
+
+    /**
+     * Time left until the deadline, or {@link Long#MAX_VALUE} minus the elapsed time for a query without one.
+     */
+    public long getRemainingNanos() {
+        return Math.max(0, timeoutNanos - (System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Marks the end of the time the query waited for a thread. Only the first call counts.
+     */
+    public void markStarted() {
+        if (!started) {
+            started = true;
+            endPhase(SlotQueryPhase.QUEUE, startNanos);
+        }
+    }
+
+    public void markCompleted() {
+        completed = true;
+        completedNanos = System.nanoTime();
+    }
+
+    public long startPhase() {
+        return System.nanoTime();
+    }
+
+    public void endPhase(SlotQueryPhase slotQueryPhase, long phaseStartNanos) {
+        phaseNanos[slotQueryPhase.ordinal()] += System.nanoTime() - phaseStartNanos;
+    }
+
+    /**
+     * Records how much availability went into the query, for the queries that loaded it themselves.
+     */
+    public void recordInputSize(int participants, int days, int timeSlots) {
+        this.participants = participants;
+        this.days = days;
+        this.timeSlots = timeSlots;
+    }
+
+    public int getParticipants() {
+        return participants;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public int getTimeSlots() {
+        return timeSlots;
+    }
+
+    public long getPhaseNanos(SlotQueryPhase slotQueryPhase) {
+        return phaseNanos[slotQueryPhase.ordinal()];
+    }
+
+    /**
+     * Time from the creation of the context until the query completed, or until now while it is still running.
+     */
+    public long getElapsedNanos() {
+        return (completed ? completedNanos : System.nanoTime()) - startNanos;
+    }
+
+    public void checkDeadline() {
+        if (isDeadlineExceeded()) {
+            throw newDeadlineExceededException();
+        }
+    }
+
+    public DeadlineExceededException newDeadlineExceededException() {
+        return new DeadlineExceededException("Slot query exceeded its deadline of "
+                                             + Duration.ofNanos(timeoutNanos).toMillis() + " ms and was cancelled!");
+    }
+}
@@ -0,0 +1,31 @@
+package app.service.interviewslots;
+
+/**
+ * Phases of a slot query as timed by {@link SlotQueryContext}, with the metric name they are reported under in the
+ * {@code Server-Timing} header.
+ */
+public enum SlotQueryPhase {
+    QUEUE("queue", "Waiting for a slot query thread"),
+    RESULT_STORE("store", "Looking up registered panels"),
+    COALESCED("coalesced", "Waiting for an identical query"),
+    EXISTENCE_CHECKS("exists", "Checking candidate and interviewers exist"),
+    LOAD_AVAILABILITY("load", "Loading availability"),
+    COMMON_DAYS("days", "Finding common days"),
+    INTERSECTION("intersect", "Intersecting time slots");
+
+    private final String metricName;
+    private final String description;
+
+    SlotQueryPhase(String metricName, String description) {
+        this.metricName = metricName;
+        this.description = description;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,76 @@
+package app.service.metrics;
+
+import app.model.utils.AvailabilitySlot;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Size of the input and of the result of every slot query. The histograms only publish buckets, so percentiles are
+ * computed by the metrics backend rather than on every recording.
+ */
+@Component
+public class SlotQueryMetrics {
+    private static final String INTERVIEW_SLOTS = "interview-slots";
+    private static final String PANEL_AVAILABILITY = "panel-availability";
+
+    private final DistributionSummary interviewSlotsParticipants;
+    private final DistributionSummary interviewSlotsDays;
+    private final DistributionSummary interviewSlotsTimeSlots;
+    private final DistributionSummary interviewSlotsResultDays;
+    private final DistributionSummary interviewSlotsResultTimeSlots;
+    private final DistributionSummary panelAvailabilityParticipants;
+    private final DistributionSummary panelAvailabilityResultSlots;
+
+    public SlotQueryMetrics(MeterRegistry meterRegistry) {
+        this.interviewSlotsParticipants = summary(meterRegistry, "calendar.slot.query.participants", INTERVIEW_SLOTS,
+                                                  "participants", 1_000);
+        this.interviewSlotsDays = summary(meterRegistry, "calendar.slot.query.days", INTERVIEW_SLOTS, "days",
+                                          10_000);
+        this.interviewSlotsTimeSlots = summary(meterRegistry, "calendar.slot.query.slots", INTERVIEW_SLOTS, "slots",
+                                               1_000_000);
+        this.interviewSlotsResultDays = summary(meterRegistry, "calendar.slot.query.result.days", INTERVIEW_SLOTS,
+                                                "days", 10_000);
+        this.interviewSlotsResultTimeSlots = summary(meterRegistry, "calendar.slot.query.result.slots",
+                                                     INTERVIEW_SLOTS, "slots", 100_000);
+        this.panelAvailabilityParticipants = summary(meterRegistry, "calendar.slot.query.participants",
+                                                     PANEL_AVAILABILITY, "participants", 100_000);
+        this.panelAvailabilityResultSlots = summary(meterRegistry, "calendar.slot.query.result.slots",
+                                                    PANEL_AVAILABILITY, "slots", 100_000);
+    }
+
+    public void recordInterviewSlotsInput(int participants, int days, int timeSlots) {
+        interviewSlotsParticipants.record(participants);
+        interviewSlotsDays.record(days);
+        interviewSlotsTimeSlots.record(timeSlots);
+    }
+
+    public void recordInterviewSlotsResult(List<AvailabilitySlot> interviewAvailabilitySlots) {
+        int timeSlots = 0;
+
+        for (AvailabilitySlot availabilitySlot : interviewAvailabilitySlots) {
+            timeSlots += availabilitySlot.getTimeSlotList().size();
+        }
+
+        interviewSlotsResultDays.record(interviewAvailabilitySlots.size());
+        interviewSlotsResultTimeSlots.record(timeSlots);
+    }
+
+    public void recordPanelAvailability(int participants, int panelSlots) {
+        panelAvailabilityParticipants.record(participants);
+        panelAvailabilityResultSlots.record(panelSlots);
+    }
+
+    private static DistributionSummary summary(MeterRegistry meterRegistry, String name, String query,
+                                               String baseUnit, long maximumExpectedValue) {
+        return DistributionSummary.builder(name)
+                                  .tag("query", query)
+                                  .baseUnit(baseUnit)
+                                  .publishPercentileHistogram()
+                                  .minimumExpectedValue(1L)
+                                  .maximumExpectedValue(maximumExpectedValue)
+                                  .register(meterRegistry);
+    }
+}
@@ -0,0 +1,11 @@
+package app.service.retention;
+
+import app.model.retention.RetentionReport;
+
+import java.time.LocalDate;
+
+public interface AvailabilityRetentionService {
+    RetentionReport pruneExpiredAvailability();
+
+    RetentionReport pruneAvailabilityBefore(LocalDate cutoffDay);
+}
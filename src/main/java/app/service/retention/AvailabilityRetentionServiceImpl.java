@@ -0,0 +1,308 @@
+package app.service.retention;
+
+import app.exception.TechnicalException;
+import app.model.candidate.CandidateAvailability;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.retention.RetentionReport;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.HourMasks;
+import app.repository.candidate.CandidateAvailabilityRepository;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.service.events.AvailabilityChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+@Service
+public class AvailabilityRetentionServiceImpl implements AvailabilityRetentionService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AvailabilityRetentionServiceImpl.class);
+
+    private final AvailabilityAccessor<CandidateAvailability> candidateAvailabilityAccessor;
+    private final AvailabilityAccessor<InterviewerAvailability> interviewerAvailabilityAccessor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int horizonDays;
+    private final int batchSize;
+
+    @Autowired
+    public AvailabilityRetentionServiceImpl(CandidateAvailabilityRepository candidateAvailabilityRepository,
+                                            InterviewerAvailabilityRepository interviewerAvailabilityRepository,
+                                            PlatformTransactionManager transactionManager,
+                                            ApplicationEventPublisher applicationEventPublisher,
+                                            @Value("${calendar.retention.horizon-days:0}") int horizonDays,
+                                            @Value("${calendar.retention.batch-size:100}") int batchSize) {
+        this.candidateAvailabilityAccessor = new AvailabilityAccessor<>(
+                candidateAvailabilityRepository,
+                AvailabilityChangedEvent.ParticipantType.CANDIDATE,
+                CandidateAvailability::getId,
+                CandidateAvailability::getVersion,
+                candidateAvailability -> candidateAvailability.getCandidateModel().getName(),
+                CandidateAvailability::getAvailabilitySlotList,
+                (candidateAvailability, availabilitySlotList) ->
+                        CandidateAvailability.Builder.candidateAvailabilityModelFrom(candidateAvailability)
+                                                     .withAvailabilitySlotList(availabilitySlotList)
+                                                     .build());
+        this.interviewerAvailabilityAccessor = new AvailabilityAccessor<>(
+                interviewerAvailabilityRepository,
+                AvailabilityChangedEvent.ParticipantType.INTERVIEWER,
+                InterviewerAvailability::getId,
+                InterviewerAvailability::getVersion,
+                interviewerAvailability -> interviewerAvailability.getInterviewerModel().getName(),
+                InterviewerAvailability::getAvailabilitySlotList,
+                (interviewerAvailability, availabilitySlotList) ->
+                        InterviewerAvailability.Builder.interviewerAvailabilityModelFrom(interviewerAvailability)
+                                                       .withAvailabilitySlotList(availabilitySlotList)
+                                                       .build());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${calendar.retention.cron:0 0 3 * * *}")
+    public void pruneExpiredAvailabilityOnSchedule() {
+        RetentionReport retentionReport = pruneExpiredAvailability();
+
+        LOGGER.info("Availability retention finished: {}", retentionReport);
+    }
+
+    @Override
+    public RetentionReport pruneExpiredAvailability() {
+        return pruneAvailabilityBefore(LocalDate.now().minusDays(horizonDays));
+    }
+
+    @Override
+    public RetentionReport pruneAvailabilityBefore(LocalDate cutoffDay) {
+        RetentionTotals retentionTotals = new RetentionTotals();
+
+        pruneInBatches(candidateAvailabilityAccessor, cutoffDay, retentionTotals);
+        pruneInBatches(interviewerAvailabilityAccessor, cutoffDay, retentionTotals);
+
+        return RetentionReport.Builder.retentionReportWith()
+                                      .withCutoffDay(cutoffDay)
+                                      .withAvailabilitiesScanned(retentionTotals.availabilitiesScanned)
+                                      .withAvailabilitiesUpdated(retentionTotals.availabilitiesUpdated)
+                                      .withAvailabilitiesSkipped(retentionTotals.availabilitiesSkipped)
+                                      .withAvailabilitiesConflicted(retentionTotals.availabilitiesConflicted)
+                                      .withRowsReclaimed(retentionTotals.rowsReclaimed)
+                                      .withBytesReclaimed(retentionTotals.bytesReclaimed)
+                                      .build();
+    }
+
+    private <T> void pruneInBatches(AvailabilityAccessor<T> availabilityAccessor,
+                                    LocalDate cutoffDay,
+                                    RetentionTotals retentionTotals) {
+        Pageable pageable = PageRequest.of(0, batchSize, Sort.by("id"));
+        boolean hasNextBatch = true;
+
+        while (hasNextBatch) {
+            Pageable batchPageable = pageable;
+            RetentionTotals batchTotals = new RetentionTotals();
+
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> pruneBatch(availabilityAccessor, cutoffDay, batchPageable, batchTotals));
+
+                retentionTotals.add(batchTotals);
+                batchTotals.availabilityChangedEvents.forEach(applicationEventPublisher::publishEvent);
+            } catch (OptimisticLockingFailureException exception) {
+                // A foreground write won the race for one of the rows and the whole batch was rolled back, so its
+                // availabilities are pruned again one by one from a fresh read.
+                LOGGER.debug("Availability retention batch {} retried row by row after concurrent update",
+                             batchPageable.getPageNumber());
+
+                for (Long availabilityId : batchTotals.availabilityIds) {
+                    pruneOne(availabilityAccessor, cutoffDay, availabilityId, retentionTotals);
+                }
+            }
+
+            hasNextBatch = batchTotals.hasNextBatch;
+            pageable = pageable.next();
+        }
+    }
+
+    private <T> void pruneOne(AvailabilityAccessor<T> availabilityAccessor,
+                              LocalDate cutoffDay,
+                              Long availabilityId,
+                              RetentionTotals retentionTotals) {
+        RetentionTotals rowTotals = new RetentionTotals();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Optional<T> availability = availabilityAccessor.availabilityRepository.findById(availabilityId);
+
+                if (availability.isPresent()) {
+                    pruneAvailability(availabilityAccessor, cutoffDay, availability.get(), rowTotals);
+                } else {
+                    rowTotals.availabilitiesSkipped++;
+                }
+            });
+
+            retentionTotals.add(rowTotals);
+            rowTotals.availabilityChangedEvents.forEach(applicationEventPublisher::publishEvent);
+        } catch (OptimisticLockingFailureException exception) {
+            // Lost the race again; leave the availability for the next run.
+            LOGGER.debug("Availability {} skipped by retention after concurrent update", availabilityId);
+
+            retentionTotals.availabilitiesScanned++;
+            retentionTotals.availabilitiesConflicted++;
+        }
+    }
+
+    private <T> void pruneBatch(AvailabilityAccessor<T> availabilityAccessor,
+                                LocalDate cutoffDay,
+                                Pageable pageable,
+                                RetentionTotals batchTotals) {
+        Page<T> availabilities = availabilityAccessor.availabilityRepository.findAll(pageable);
+
+        for (T availability : availabilities.getContent()) {
+            batchTotals.availabilityIds.add(availabilityAccessor.idOf.apply(availability));
+        }
+
+        batchTotals.hasNextBatch = availabilities.hasNext();
+
+        for (T availability : availabilities.getContent()) {
+            pruneAvailability(availabilityAccessor, cutoffDay, availability, batchTotals);
+        }
+    }
+
+    private <T> void pruneAvailability(AvailabilityAccessor<T> availabilityAccessor,
+                                       LocalDate cutoffDay,
+                                       T availability,
+                                       RetentionTotals totals) {
+        List<AvailabilitySlot> availabilitySlotList = availabilityAccessor.availabilitySlotListOf.apply(availability);
+        List<AvailabilitySlot> expiredAvailabilitySlots = getExpiredAvailabilitySlots(availabilitySlotList,
+                                                                                      cutoffDay);
+
+        totals.availabilitiesScanned++;
+
+        if (!expiredAvailabilitySlots.isEmpty()) {
+            List<AvailabilitySlot> keptAvailabilitySlots = new ArrayList<>(availabilitySlotList);
+
+            keptAvailabilitySlots.removeAll(expiredAvailabilitySlots);
+            // Flushed, so the saved availability carries the version its event is ordered by.
+            T savedAvailability = availabilityAccessor.availabilityRepository.saveAndFlush(
+                    availabilityAccessor.withAvailabilitySlotList.apply(availability, keptAvailabilitySlots));
+
+            totals.availabilitiesUpdated++;
+            totals.rowsReclaimed += expiredAvailabilitySlots.size();
+            totals.bytesReclaimed += getSerializedSize(expiredAvailabilitySlots);
+            totals.availabilityChangedEvents.add(
+                    AvailabilityChangedEvent.Builder.availabilityChangedEventWith()
+                                                    .withParticipantType(availabilityAccessor.participantType)
+                                                    .withParticipantName(
+                                                            availabilityAccessor.participantNameOf.apply(availability))
+                                                    .withChangedDays(HourMasks.getDays(expiredAvailabilitySlots))
+                                                    .withAvailabilitySlotList(keptAvailabilitySlots)
+                                                    .withAvailabilityId(
+                                                            availabilityAccessor.idOf.apply(savedAvailability))
+                                                    .withAvailabilityVersion(
+                                                            availabilityAccessor.versionOf.apply(savedAvailability))
+                                                    .build());
+        }
+    }
+
+    private List<AvailabilitySlot> getExpiredAvailabilitySlots(List<AvailabilitySlot> availabilitySlotList,
+                                                               LocalDate cutoffDay) {
+        List<AvailabilitySlot> expiredAvailabilitySlots = new ArrayList<>();
+
+        for (AvailabilitySlot availabilitySlot : availabilitySlotList) {
+            if (availabilitySlot.getDay().isBefore(cutoffDay)) {
+                expiredAvailabilitySlots.add(availabilitySlot);
+            }
+        }
+
+        return expiredAvailabilitySlots;
+    }
+
+    private long getSerializedSize(List<AvailabilitySlot> availabilitySlots) {
+        long serializedSize = 0;
+
+        // Each slot is stored as its own serialized element row, so measure them one by one.
+        for (AvailabilitySlot availabilitySlot : availabilitySlots) {
+            ByteArrayOutputStream serializedSlot = new ByteArrayOutputStream();
+
+            try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(serializedSlot)) {
+                objectOutputStream.writeObject(availabilitySlot);
+            } catch (IOException exception) {
+                throw new TechnicalException(exception.getMessage());
+            }
+
+            serializedSize += serializedSlot.size();
+        }
+
+        return serializedSize;
+    }
+
+    /**
+     * How the job reads and rewrites one type of availability.
+     */
+    private static class AvailabilityAccessor<T> {
+        private final JpaRepository<T, Long> availabilityRepository;
+        private final AvailabilityChangedEvent.ParticipantType participantType;
+        private final Function<T, Long> idOf;
+        private final Function<T, Long> versionOf;
+        private final Function<T, String> participantNameOf;
+        private final Function<T, List<AvailabilitySlot>> availabilitySlotListOf;
+        private final BiFunction<T, List<AvailabilitySlot>, T> withAvailabilitySlotList;
+
+        private AvailabilityAccessor(JpaRepository<T, Long> availabilityRepository,
+                                     AvailabilityChangedEvent.ParticipantType participantType,
+                                     Function<T, Long> idOf,
+                                     Function<T, Long> versionOf,
+                                     Function<T, String> participantNameOf,
+                                     Function<T, List<AvailabilitySlot>> availabilitySlotListOf,
+                                     BiFunction<T, List<AvailabilitySlot>, T> withAvailabilitySlotList) {
+            this.availabilityRepository = availabilityRepository;
+            this.participantType = participantType;
+            this.idOf = idOf;
+            this.versionOf = versionOf;
+            this.participantNameOf = participantNameOf;
+            this.availabilitySlotListOf = availabilitySlotListOf;
+            this.withAvailabilitySlotList = withAvailabilitySlotList;
+        }
+    }
+
+    private static class RetentionTotals {
+        private long availabilitiesScanned;
+        private long availabilitiesUpdated;
+        private long availabilitiesSkipped;
+        private long availabilitiesConflicted;
+        private long rowsReclaimed;
+        private long bytesReclaimed;
+        private boolean hasNextBatch;
+        private final List<Long> availabilityIds = new ArrayList<>();
+        private final List<AvailabilityChangedEvent> availabilityChangedEvents = new ArrayList<>();
+
+        private void add(RetentionTotals batchTotals) {
+            availabilitiesScanned += batchTotals.availabilitiesScanned;
+            availabilitiesUpdated += batchTotals.availabilitiesUpdated;
+            availabilitiesSkipped += batchTotals.availabilitiesSkipped;
+            availabilitiesConflicted += batchTotals.availabilitiesConflicted;
+            rowsReclaimed += batchTotals.rowsReclaimed;
+            bytesReclaimed += batchTotals.bytesReclaimed;
+        }
+    }
+}
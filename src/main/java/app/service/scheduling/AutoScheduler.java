@@ -0,0 +1,325 @@
+package app.service.scheduling;
+
+import app.model.utils.HourMasks;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Assigns interviews over availability bitsets, where bit {@code day * 24 + hour} of the horizon is set when the whole
+ * hour is free. Candidates and interviewers that share no free hour, not even through others, form independent
+ * components that are scheduled in parallel. Within a component the most constrained candidates go first, each to the
+ * start hour with the most free interviewers to spare over the candidates still waiting for it, with the least loaded
+ * of the free interviewers.
+ */
+public class AutoScheduler {
+    private final int panelSize;
+    private final int durationHours;
+    private final int maximumInterviewsPerInterviewer;
+
+    public AutoScheduler(int panelSize, int durationHours, int maximumInterviewsPerInterviewer) {
+        this.panelSize = panelSize;
+        this.durationHours = durationHours;
+        this.maximumInterviewsPerInterviewer = maximumInterviewsPerInterviewer;
+    }
+
+    public interface ProgressListener {
+        void onComponentsFound(int components);
+
+        void onCandidateProcessed(boolean scheduled);
+
+        void onComponentCompleted();
+    }
+
+    @Getter
+    public static class Assignment {
+        private final int candidateIndex;
+        private final int startSlot;
+        private final int[] interviewerIndexes;
+
+        Assignment(int candidateIndex, int startSlot, int[] interviewerIndexes) {
+            this.candidateIndex = candidateIndex;
+            this.startSlot = startSlot;
+            this.interviewerIndexes = interviewerIndexes;
+        }
+    }
+
+    private static class Component {
+        private final List<Integer> candidateIndexes = new ArrayList<>();
+        private final List<Integer> interviewerIndexes = new ArrayList<>();
+    }
+
+    public List<Assignment> schedule(int slots, BitSet[] candidateSlots, BitSet[] interviewerSlots, Executor executor,
+                                     ProgressListener progressListener) {
+        List<Component> components = findComponents(slots, candidateSlots, interviewerSlots);
+        List<CompletableFuture<List<Assignment>>> componentAssignments = new ArrayList<>();
+
+        progressListener.onComponentsFound(components.size());
+
+        for (Component component : components) {
+            componentAssignments.add(CompletableFuture.supplyAsync(
+                    () -> scheduleComponent(slots, component, candidateSlots, interviewerSlots, progressListener),
+                    executor));
+        }
+
+        List<Assignment> assignments = new ArrayList<>();
+
+        for (CompletableFuture<List<Assignment>> componentAssignment : componentAssignments) {
+            assignments.addAll(componentAssignment.join());
+        }
+
+        return assignments;
+    }
+
+    private List<Component> findComponents(int slots, BitSet[] candidateSlots, BitSet[] interviewerSlots) {
+        int candidates = candidateSlots.length;
+        BitSet[] interviewersBySlot = new BitSet[slots];
+        int[] parents = new int[candidates + interviewerSlots.length];
+
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = i;
+        }
+
+        for (int interviewer = 0; interviewer < interviewerSlots.length; interviewer++) {
+            BitSet freeSlots = interviewerSlots[interviewer];
+
+            for (int slot = freeSlots.nextSetBit(0); slot >= 0; slot = freeSlots.nextSetBit(slot + 1)) {
+                if (interviewersBySlot[slot] == null) {
+                    interviewersBySlot[slot] = new BitSet(interviewerSlots.length);
+                }
+
+                interviewersBySlot[slot].set(interviewer);
+            }
+        }
+
+        for (int candidate = 0; candidate < candidates; candidate++) {
+            BitSet freeSlots = candidateSlots[candidate];
+            BitSet sharingInterviewers = new BitSet(interviewerSlots.length);
+
+            for (int slot = freeSlots.nextSetBit(0); slot >= 0; slot = freeSlots.nextSetBit(slot + 1)) {
+                if (interviewersBySlot[slot] != null) {
+                    sharingInterviewers.or(interviewersBySlot[slot]);
+                }
+            }
+
+            for (int interviewer = sharingInterviewers.nextSetBit(0); interviewer >= 0;
+                 interviewer = sharingInterviewers.nextSetBit(interviewer + 1)) {
+                union(parents, candidate, candidates + interviewer);
+            }
+        }
+
+        Map<Integer, Component> componentsByRoot = new LinkedHashMap<>();
+
+        for (int candidate = 0; candidate < candidates; candidate++) {
+            componentsByRoot.computeIfAbsent(find(parents, candidate), root -> new Component())
+                            .candidateIndexes.add(candidate);
+        }
+
+        for (int interviewer = 0; interviewer < interviewerSlots.length; interviewer++) {
+            Component component = componentsByRoot.get(find(parents, candidates + interviewer));
+
+            if (component != null) {
+                component.interviewerIndexes.add(interviewer);
+            }
+        }
+
+        return new ArrayList<>(componentsByRoot.values());
+    }
+
+    private List<Assignment> scheduleComponent(int slots, Component component, BitSet[] candidateSlots,
+                                               BitSet[] interviewerSlots, ProgressListener progressListener) {
+        List<Assignment> assignments = new ArrayList<>();
+        int interviewers = component.interviewerIndexes.size();
+
+        if (interviewers < panelSize) {
+            component.candidateIndexes.forEach(candidate -> progressListener.onCandidateProcessed(false));
+            progressListener.onComponentCompleted();
+
+            return assignments;
+        }
+
+        // Interviewers are numbered within the component, so components never share a bitset.
+        BitSet[] freeInterviewers = new BitSet[slots];
+        int[] freeHours = new int[interviewers];
+        int[] load = new int[interviewers];
+        int[] demand = new int[slots];
+
+        for (int interviewer = 0; interviewer < interviewers; interviewer++) {
+            BitSet freeSlots = interviewerSlots[component.interviewerIndexes.get(interviewer)];
+
+            for (int slot = freeSlots.nextSetBit(0); slot >= 0; slot = freeSlots.nextSetBit(slot + 1)) {
+                if (freeInterviewers[slot] == null) {
+                    freeInterviewers[slot] = new BitSet(interviewers);
+                }
+
+                freeInterviewers[slot].set(interviewer);
+            }
+
+            freeHours[interviewer] = freeSlots.cardinality();
+        }
+
+        for (int candidate : component.candidateIndexes) {
+            BitSet freeSlots = candidateSlots[candidate];
+
+            for (int slot = freeSlots.nextSetBit(0); slot >= 0; slot = freeSlots.nextSetBit(slot + 1)) {
+                demand[slot]++;
+            }
+        }
+
+        for (int candidate : orderByFeasibleStarts(component.candidateIndexes, candidateSlots, freeInterviewers)) {
+            BitSet freeSlots = candidateSlots[candidate];
+
+            for (int slot = freeSlots.nextSetBit(0); slot >= 0; slot = freeSlots.nextSetBit(slot + 1)) {
+                demand[slot]--;
+            }
+
+            int bestStartSlot = -1;
+            int bestScore = Integer.MIN_VALUE;
+            BitSet bestFreeInterviewers = null;
+
+            for (int slot = freeSlots.nextSetBit(0); slot >= 0; slot = freeSlots.nextSetBit(slot + 1)) {
+                BitSet freeInterviewersOfWindow = getFreeInterviewers(slot, freeSlots, freeInterviewers);
+
+                if (freeInterviewersOfWindow == null) {
+                    continue;
+                }
+
+                int score = freeInterviewersOfWindow.cardinality() - getMaximumDemand(slot, demand);
+
+                if (score > bestScore) {
+                    bestStartSlot = slot;
+                    bestScore = score;
+                    bestFreeInterviewers = freeInterviewersOfWindow;
+                }
+            }
+
+            if (bestStartSlot >= 0) {
+                int[] panel = choosePanel(bestFreeInterviewers, load, freeHours);
+                int[] interviewerIndexes = new int[panelSize];
+
+                for (int i = 0; i < panelSize; i++) {
+                    assign(panel[i], bestStartSlot, load, freeHours, freeInterviewers);
+                    interviewerIndexes[i] = component.interviewerIndexes.get(panel[i]);
+                }
+
+                assignments.add(new Assignment(candidate, bestStartSlot, interviewerIndexes));
+            }
+
+            progressListener.onCandidateProcessed(bestStartSlot >= 0);
+        }
+
+        progressListener.onComponentCompleted();
+
+        return assignments;
+    }
+
+    private List<Integer> orderByFeasibleStarts(List<Integer> candidateIndexes, BitSet[] candidateSlots,
+                                                BitSet[] freeInterviewers) {
+        int[] feasibleStarts = new int[candidateSlots.length];
+
+        for (int candidate : candidateIndexes) {
+            BitSet freeSlots = candidateSlots[candidate];
+
+            for (int slot = freeSlots.nextSetBit(0); slot >= 0; slot = freeSlots.nextSetBit(slot + 1)) {
+                if (getFreeInterviewers(slot, freeSlots, freeInterviewers) != null) {
+                    feasibleStarts[candidate]++;
+                }
+            }
+        }
+
+        List<Integer> orderedCandidateIndexes = new ArrayList<>(candidateIndexes);
+
+        orderedCandidateIndexes.sort(Comparator.comparingInt((Integer candidate) -> feasibleStarts[candidate])
+                                               .thenComparingInt(candidate -> candidate));
+
+        return orderedCandidateIndexes;
+    }
+
+    /**
+     * Returns the interviewers free for the whole interview starting at the slot, or null when the candidate is not
+     * free for all of it, it runs past the end of the day or fewer interviewers than a panel are free.
+     */
+    private BitSet getFreeInterviewers(int startSlot, BitSet candidateFreeSlots, BitSet[] freeInterviewers) {
+        int endSlot = startSlot + durationHours;
+
+        if (startSlot % HourMasks.HOURS_PER_DAY + durationHours > HourMasks.HOURS_PER_DAY
+            || candidateFreeSlots.nextClearBit(startSlot) < endSlot || freeInterviewers[startSlot] == null) {
+            return null;
+        }
+
+        BitSet freeInterviewersOfWindow = (BitSet) freeInterviewers[startSlot].clone();
+
+        for (int slot = startSlot + 1; slot < endSlot; slot++) {
+            if (freeInterviewers[slot] == null) {
+                return null;
+            }
+
+            freeInterviewersOfWindow.and(freeInterviewers[slot]);
+        }
+
+        return freeInterviewersOfWindow.cardinality() >= panelSize ? freeInterviewersOfWindow : null;
+    }
+
+    private int getMaximumDemand(int startSlot, int[] demand) {
+        int maximumDemand = 0;
+
+        for (int slot = startSlot; slot < startSlot + durationHours; slot++) {
+            maximumDemand = Math.max(maximumDemand, demand[slot]);
+        }
+
+        return maximumDemand;
+    }
+
+    private int[] choosePanel(BitSet freeInterviewersOfWindow, int[] load, int[] freeHours) {
+        List<Integer> panelOptions = new ArrayList<>();
+
+        for (int interviewer = freeInterviewersOfWindow.nextSetBit(0); interviewer >= 0;
+             interviewer = freeInterviewersOfWindow.nextSetBit(interviewer + 1)) {
+            panelOptions.add(interviewer);
+        }
+
+        panelOptions.sort(Comparator.comparingInt((Integer interviewer) -> load[interviewer])
+                                          .thenComparingInt(interviewer -> freeHours[interviewer])
+                                          .thenComparingInt(interviewer -> interviewer));
+
+        return panelOptions.stream().limit(panelSize).mapToInt(Integer::intValue).toArray();
+    }
+
+    private void assign(int interviewer, int startSlot, int[] load, int[] freeHours, BitSet[] freeInterviewers) {
+        load[interviewer]++;
+
+        for (int slot = startSlot; slot < startSlot + durationHours; slot++) {
+            freeInterviewers[slot].clear(interviewer);
+            freeHours[interviewer]--;
+        }
+
+        if (load[interviewer] >= maximumInterviewsPerInterviewer) {
+            for (BitSet freeInterviewersOfSlot : freeInterviewers) {
+                if (freeInterviewersOfSlot != null && freeInterviewersOfSlot.get(interviewer)) {
+                    freeInterviewersOfSlot.clear(interviewer);
+                    freeHours[interviewer]--;
+                }
+            }
+        }
+    }
+
+    private static int find(int[] parents, int node) {
+        while (parents[node] != node) {
+            parents[node] = parents[parents[node]];
+            node = parents[node];
+        }
+
+        return node;
+    }
+
+    private static void union(int[] parents, int first, int second) {
+        parents[find(parents, first)] = find(parents, second);
+    }
+}
@@ -0,0 +1,12 @@
+package app.service.scheduling;
+
+import app.model.scheduling.SchedulingJobStatus;
+import app.model.scheduling.SchedulingRequest;
+
+import java.util.Optional;
+
+public interface SchedulingService {
+    SchedulingJobStatus submitSchedulingJob(SchedulingRequest schedulingRequestModel);
+
+    Optional<SchedulingJobStatus> getSchedulingJob(Long id);
+}
@@ -0,0 +1,431 @@
+package app.service.scheduling;
+
+import app.config.SchedulingExecutorConfiguration;
+import app.exception.UserException;
+import app.model.booking.Booking;
+import app.model.candidate.CandidateAvailability;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.scheduling.ScheduledInterview;
+import app.model.scheduling.SchedulingJobState;
+import app.model.scheduling.SchedulingJobStatus;
+import app.model.scheduling.SchedulingRequest;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.HourMasks;
+import app.model.utils.TimeSlot;
+import app.repository.candidate.CandidateAvailabilityRepository;
+import app.repository.candidate.CandidateRepository;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.repository.interviewer.InterviewerRepository;
+import app.service.booking.BookingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Runs scheduling jobs in the background: loads the availability of all participants over the horizon as bitsets,
+ * assigns interviews with the {@link AutoScheduler} and optionally books them. Jobs report their progress while they
+ * run, and the latest finished jobs are kept for their results.
+ */
+@Service
+public class SchedulingServiceImpl implements SchedulingService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchedulingServiceImpl.class);
+
+    private final CandidateRepository candidateRepository;
+    private final CandidateAvailabilityRepository candidateAvailabilityRepository;
+    private final InterviewerRepository interviewerRepository;
+    private final InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    private final BookingService bookingService;
+    private final Executor schedulingJobExecutor;
+    private final Executor schedulingComponentExecutor;
+    private final int maximumHorizonDays;
+    private final int retainedJobs;
+    private final ConcurrentMap<Long, SchedulingJob> schedulingJobs = new ConcurrentHashMap<>();
+    private final AtomicLong schedulingJobIds = new AtomicLong();
+
+    @Autowired
+    public SchedulingServiceImpl(CandidateRepository candidateRepository,
+                                 CandidateAvailabilityRepository candidateAvailabilityRepository,
+                                 InterviewerRepository interviewerRepository,
+                                 InterviewerAvailabilityRepository interviewerAvailabilityRepository,
+                                 BookingService bookingService,
+                                 @Qualifier(SchedulingExecutorConfiguration.SCHEDULING_JOB_EXECUTOR)
+                                         Executor schedulingJobExecutor,
+                                 @Qualifier(SchedulingExecutorConfiguration.SCHEDULING_COMPONENT_EXECUTOR)
+                                         Executor schedulingComponentExecutor,
+                                 @Value("${calendar.scheduling.maximum-horizon-days:92}") int maximumHorizonDays,
+                                 @Value("${calendar.scheduling.retained-jobs:20}") int retainedJobs) {
+        this.candidateRepository = candidateRepository;
+        this.candidateAvailabilityRepository = candidateAvailabilityRepository;
+        this.interviewerRepository = interviewerRepository;
+        this.interviewerAvailabilityRepository = interviewerAvailabilityRepository;
+        this.bookingService = bookingService;
+        this.schedulingJobExecutor = schedulingJobExecutor;
+        this.schedulingComponentExecutor = schedulingComponentExecutor;
+        this.maximumHorizonDays = maximumHorizonDays;
+        this.retainedJobs = retainedJobs;
+    }
+
+    @Override
+    public SchedulingJobStatus submitSchedulingJob(SchedulingRequest schedulingRequestModel) {
+        verifySchedulingRequestIsValid(schedulingRequestModel);
+
+        List<String> candidatesNames = distinct(schedulingRequestModel.getCandidatesNames());
+        List<String> interviewersNames = distinct(schedulingRequestModel.getInterviewersNames());
+
+        verifyParticipantsExist(candidatesNames, interviewersNames);
+
+        SchedulingJob schedulingJob = new SchedulingJob(schedulingJobIds.incrementAndGet(), schedulingRequestModel,
+                                                        candidatesNames, interviewersNames);
+
+        schedulingJobs.put(schedulingJob.id, schedulingJob);
+        evictFinishedJobs();
+        schedulingJobExecutor.execute(() -> run(schedulingJob));
+
+        return schedulingJob.toStatus();
+    }
+
+    @Override
+    public Optional<SchedulingJobStatus> getSchedulingJob(Long id) {
+        return Optional.ofNullable(schedulingJobs.get(id)).map(SchedulingJob::toStatus);
+    }
+
+    private void run(SchedulingJob schedulingJob) {
+        SchedulingRequest schedulingRequest = schedulingJob.schedulingRequest;
+        LocalDate from = schedulingRequest.getFrom();
+        int slots = (int) (ChronoUnit.DAYS.between(from, schedulingRequest.getTo()) + 1) * HourMasks.HOURS_PER_DAY;
+        int durationHours = getDurationHours(schedulingRequest);
+
+        try {
+            schedulingJob.state = SchedulingJobState.LOADING;
+
+            BitSet[] candidateSlots = new BitSet[schedulingJob.candidatesNames.size()];
+            BitSet[] interviewerSlots = new BitSet[schedulingJob.interviewersNames.size()];
+
+            for (int i = 0; i < candidateSlots.length; i++) {
+                CandidateAvailability candidateAvailability =
+                        candidateAvailabilityRepository.getAvailability(schedulingJob.candidatesNames.get(i));
+
+                candidateSlots[i] = toSlots(candidateAvailability != null
+                                            ? candidateAvailability.getAvailabilitySlotList()
+                                            : Collections.emptyList(), from, slots);
+            }
+
+            for (int i = 0; i < interviewerSlots.length; i++) {
+                InterviewerAvailability interviewerAvailability = interviewerAvailabilityRepository
+                        .getInterviewerAvailabilityByInterviewerName(schedulingJob.interviewersNames.get(i));
+
+                interviewerSlots[i] = toSlots(interviewerAvailability != null
+                                              ? interviewerAvailability.getAvailabilitySlotList()
+                                              : Collections.emptyList(), from, slots);
+            }
+
+            schedulingJob.state = SchedulingJobState.SCHEDULING;
+
+            AutoScheduler autoScheduler = new AutoScheduler(schedulingRequest.getPanelSize(), durationHours,
+                                                            getMaximumInterviewsPerInterviewer(schedulingRequest));
+            List<AutoScheduler.Assignment> assignments = autoScheduler.schedule(slots, candidateSlots,
+                                                                                interviewerSlots,
+                                                                                schedulingComponentExecutor,
+                                                                                schedulingJob);
+            List<ScheduledInterview> scheduledInterviews = new ArrayList<>();
+
+            for (AutoScheduler.Assignment assignment : assignments) {
+                scheduledInterviews.add(toScheduledInterview(schedulingJob, assignment, from, durationHours));
+            }
+
+            if (schedulingRequest.isBook()) {
+                schedulingJob.state = SchedulingJobState.BOOKING;
+                scheduledInterviews = book(schedulingJob, scheduledInterviews);
+            }
+
+            schedulingJob.complete(scheduledInterviews);
+        } catch (RuntimeException exception) {
+            LOGGER.warn("Scheduling job {} failed", schedulingJob.id, exception);
+
+            schedulingJob.fail(exception);
+        }
+    }
+
+    /**
+     * Books the scheduled interviews one by one. An interview whose time was taken since the availability was loaded
+     * is dropped, and its candidate counts as unscheduled.
+     */
+    private List<ScheduledInterview> book(SchedulingJob schedulingJob, List<ScheduledInterview> scheduledInterviews) {
+        List<ScheduledInterview> bookedInterviews = new ArrayList<>();
+
+        for (ScheduledInterview scheduledInterview : scheduledInterviews) {
+            try {
+                Booking booking = bookingService.createBooking(
+                        Booking.Builder.bookingWith()
+                                       .withCandidateName(scheduledInterview.getCandidateName())
+                                       .withInterviewersNames(scheduledInterview.getInterviewersNames())
+                                       .withDay(scheduledInterview.getDay())
+                                       .withTimeSlot(scheduledInterview.getTimeSlot())
+                                       .build());
+
+                bookedInterviews.add(ScheduledInterview.Builder.scheduledInterviewWith()
+                                                               .withCandidateName(booking.getCandidateName())
+                                                               .withInterviewersNames(booking.getInterviewersNames())
+                                                               .withDay(booking.getDay())
+                                                               .withTimeSlot(booking.getTimeSlot())
+                                                               .withBookingId(booking.getId())
+                                                               .build());
+            } catch (UserException exception) {
+                LOGGER.debug("Scheduling job {} could not book {}: {}", schedulingJob.id,
+                             scheduledInterview.getCandidateName(), exception.getMessage());
+
+                schedulingJob.scheduledCandidates.decrementAndGet();
+            }
+        }
+
+        return bookedInterviews;
+    }
+
+    private ScheduledInterview toScheduledInterview(SchedulingJob schedulingJob, AutoScheduler.Assignment assignment,
+                                                    LocalDate from, int durationHours) {
+        int startHour = assignment.getStartSlot() % HourMasks.HOURS_PER_DAY;
+        List<String> interviewersNames = new ArrayList<>();
+
+        for (int interviewerIndex : assignment.getInterviewerIndexes()) {
+            interviewersNames.add(schedulingJob.interviewersNames.get(interviewerIndex));
+        }
+
+        return ScheduledInterview.Builder.scheduledInterviewWith()
+                                         .withCandidateName(
+                                                 schedulingJob.candidatesNames.get(assignment.getCandidateIndex()))
+                                         .withInterviewersNames(interviewersNames)
+                                         .withDay(from.plusDays(assignment.getStartSlot() / HourMasks.HOURS_PER_DAY))
+                                         .withTimeSlot(TimeSlot.Builder.timeSlotWith()
+                                                                       .withFrom(HourMasks.toLocalTime(startHour))
+                                                                       .withTo(HourMasks.toLocalTime(
+                                                                               startHour + durationHours))
+                                                                       .build())
+                                         .build();
+    }
+
+    private BitSet toSlots(List<AvailabilitySlot> availabilitySlotList, LocalDate from, int slots) {
+        BitSet freeSlots = new BitSet(slots);
+
+        for (Map.Entry<LocalDate, Integer> hourMaskOfDay : HourMasks.toHourMasksByDay(availabilitySlotList)
+                                                                    .entrySet()) {
+            long dayOffset = ChronoUnit.DAYS.between(from, hourMaskOfDay.getKey());
+
+            if (dayOffset < 0 || dayOffset * HourMasks.HOURS_PER_DAY >= slots) {
+                continue;
+            }
+
+            for (int hour = 0; hour < HourMasks.HOURS_PER_DAY; hour++) {
+                if ((hourMaskOfDay.getValue() & (1 << hour)) != 0) {
+                    freeSlots.set((int) dayOffset * HourMasks.HOURS_PER_DAY + hour);
+                }
+            }
+        }
+
+        return freeSlots;
+    }
+
+    private void evictFinishedJobs() {
+        List<Long> finishedJobIds = schedulingJobs.values().stream()
+                                                  .filter(SchedulingJob::isFinished)
+                                                  .map(schedulingJob -> schedulingJob.id)
+                                                  .sorted()
+                                                  .collect(Collectors.toList());
+
+        for (int i = 0; i < finishedJobIds.size() - retainedJobs; i++) {
+            schedulingJobs.remove(finishedJobIds.get(i));
+        }
+    }
+
+    private void verifySchedulingRequestIsValid(SchedulingRequest schedulingRequestModel) {
+        if (schedulingRequestModel.getCandidatesNames() == null
+            || schedulingRequestModel.getCandidatesNames().isEmpty()) {
+            throw new UserException("You must provide at least one candidate!");
+        }
+
+        if (schedulingRequestModel.getInterviewersNames() == null
+            || schedulingRequestModel.getInterviewersNames().isEmpty()) {
+            throw new UserException("You must provide at least one interviewer!");
+        }
+
+        Integer panelSize = schedulingRequestModel.getPanelSize();
+        int interviewersCount = new HashSet<>(schedulingRequestModel.getInterviewersNames()).size();
+
+        if (panelSize == null || panelSize < 1 || panelSize > interviewersCount) {
+            throw new UserException("Panel size must be between one and the number of interviewers!",
+                                    "Panel size: " + panelSize, "Interviewers: " + interviewersCount);
+        }
+
+        int durationHours = getDurationHours(schedulingRequestModel);
+
+        if (durationHours < 1 || durationHours > HourMasks.HOURS_PER_DAY) {
+            throw new UserException("Duration must be between one and 24 hours!", "Duration: " + durationHours);
+        }
+
+        if (getMaximumInterviewsPerInterviewer(schedulingRequestModel) < 1) {
+            throw new UserException("Maximum number of interviews per interviewer must be at least one!");
+        }
+
+        LocalDate from = schedulingRequestModel.getFrom();
+        LocalDate to = schedulingRequestModel.getTo();
+
+        if (from == null || to == null) {
+            throw new UserException("You must provide a period!");
+        }
+
+        if (from.isAfter(to)) {
+            throw new UserException("Start day of period must not be after end day of period!",
+                                    "From: " + from, "To: " + to);
+        }
+
+        if (ChronoUnit.DAYS.between(from, to) >= maximumHorizonDays) {
+            throw new UserException("Scheduling period must not be longer than " + maximumHorizonDays + " days!",
+                                    "From: " + from, "To: " + to);
+        }
+    }
+
+    private void verifyParticipantsExist(List<String> candidatesNames, List<String> interviewersNames) {
+        Set<String> missingCandidatesNames = new HashSet<>(candidatesNames);
+
+        candidateRepository.findAllById(candidatesNames)
+                           .forEach(candidate -> missingCandidatesNames.remove(candidate.getName()));
+
+        if (!missingCandidatesNames.isEmpty()) {
+            throw new UserException("Candidate does not exist!", missingCandidatesNames.iterator().next());
+        }
+
+        Set<String> missingInterviewersNames = new HashSet<>(interviewersNames);
+
+        interviewerRepository.findAllById(interviewersNames)
+                             .forEach(interviewer -> missingInterviewersNames.remove(interviewer.getName()));
+
+        if (!missingInterviewersNames.isEmpty()) {
+            throw new UserException("Interviewer does not exist!", missingInterviewersNames.iterator().next());
+        }
+    }
+
+    private int getDurationHours(SchedulingRequest schedulingRequestModel) {
+        return schedulingRequestModel.getDurationHours() != null ? schedulingRequestModel.getDurationHours() : 1;
+    }
+
+    private int getMaximumInterviewsPerInterviewer(SchedulingRequest schedulingRequestModel) {
+        return schedulingRequestModel.getMaximumInterviewsPerInterviewer() != null
+               ? schedulingRequestModel.getMaximumInterviewsPerInterviewer()
+               : Integer.MAX_VALUE;
+    }
+
+    private List<String> distinct(List<String> names) {
+        return names.stream().distinct().collect(Collectors.toList());
+    }
+
+    private static class SchedulingJob implements AutoScheduler.ProgressListener {
+        private final long id;
+        private final SchedulingRequest schedulingRequest;
+        private final List<String> candidatesNames;
+        private final List<String> interviewersNames;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger processedCandidates = new AtomicInteger();
+        private final AtomicInteger scheduledCandidates = new AtomicInteger();
+        private final AtomicInteger completedComponents = new AtomicInteger();
+        private volatile SchedulingJobState state = SchedulingJobState.QUEUED;
+        private volatile int totalComponents;
+        private volatile long elapsedNanos;
+        private volatile List<ScheduledInterview> scheduledInterviews;
+        private volatile String error;
+
+        private SchedulingJob(long id, SchedulingRequest schedulingRequest, List<String> candidatesNames,
+                              List<String> interviewersNames) {
+            this.id = id;
+            this.schedulingRequest = schedulingRequest;
+            this.candidatesNames = candidatesNames;
+            this.interviewersNames = interviewersNames;
+        }
+
+        @Override
+        public void onComponentsFound(int components) {
+            totalComponents = components;
+        }
+
+        @Override
+        public void onCandidateProcessed(boolean scheduled) {
+            processedCandidates.incrementAndGet();
+
+            if (scheduled) {
+                scheduledCandidates.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void onComponentCompleted() {
+            completedComponents.incrementAndGet();
+        }
+
+        private boolean isFinished() {
+            return state == SchedulingJobState.COMPLETED || state == SchedulingJobState.FAILED;
+        }
+
+        private void complete(List<ScheduledInterview> scheduledInterviews) {
+            this.scheduledInterviews = scheduledInterviews;
+            this.elapsedNanos = System.nanoTime() - startNanos;
+            this.state = SchedulingJobState.COMPLETED;
+        }
+
+        private void fail(RuntimeException exception) {
+            this.error = exception.getMessage();
+            this.elapsedNanos = System.nanoTime() - startNanos;
+            this.state = SchedulingJobState.FAILED;
+        }
+
+        private SchedulingJobStatus toStatus() {
+            SchedulingJobState currentState = state;
+            List<ScheduledInterview> currentScheduledInterviews = scheduledInterviews;
+            List<String> unscheduledCandidatesNames = null;
+
+            if (currentState == SchedulingJobState.COMPLETED) {
+                Set<String> scheduledCandidatesNames = new HashSet<>();
+
+                currentScheduledInterviews.forEach(
+                        scheduledInterview -> scheduledCandidatesNames.add(scheduledInterview.getCandidateName()));
+
+                unscheduledCandidatesNames = candidatesNames.stream()
+                                                            .filter(name -> !scheduledCandidatesNames.contains(name))
+                                                            .collect(Collectors.toList());
+            }
+
+            return SchedulingJobStatus.Builder.schedulingJobStatusWith()
+                                              .withId(id)
+                                              .withState(currentState)
+                                              .withTotalCandidates(candidatesNames.size())
+                                              .withProcessedCandidates(processedCandidates.get())
+                                              .withScheduledCandidates(scheduledCandidates.get())
+                                              .withTotalComponents(totalComponents)
+                                              .withCompletedComponents(completedComponents.get())
+                                              .withElapsedMillis((isFinished() ? elapsedNanos
+                                                                               : System.nanoTime() - startNanos)
+                                                                 / 1_000_000L)
+                                              .withScheduledInterviews(currentScheduledInterviews)
+                                              .withUnscheduledCandidatesNames(unscheduledCandidatesNames)
+                                              .withError(error)
+                                              .build();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package app.service.slowqueries;
+
+import app.model.interviewslots.InterviewSlotsQuery;
+import app.model.interviewslots.SlowSlotQuery;
+import app.service.interviewslots.SlotQueryContext;
+
+import java.util.List;
+
+public interface SlowQueryService {
+    void capture(InterviewSlotsQuery interviewSlotsQueryModel, SlotQueryContext slotQueryContext, Throwable failure);
+
+    List<SlowSlotQuery> getSlowQueries();
+
+    void clearSlowQueries();
+
+    List<SlowSlotQuery> replaySlowQueries(List<SlowSlotQuery> slowSlotQueries);
+}
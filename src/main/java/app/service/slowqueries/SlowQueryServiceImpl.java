@@ -0,0 +1,153 @@
+package app.service.slowqueries;
+
+import app.exception.UserException;
+import app.model.interviewslots.InterviewSlotsQuery;
+import app.model.interviewslots.SlowSlotQuery;
+import app.service.interviewslots.InterviewSlotsService;
+import app.service.interviewslots.SlotQueryContext;
+import app.service.interviewslots.SlotQueryPhase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the latest slow interview slot queries in a fixed ring. Capturing claims a position with a single increment
+ * and overwrites whatever was there, so slot query threads never wait on each other or on a dump. A dump that races
+ * with captures may miss the newest queries or skip one that was overwritten while it was read.
+ */
+@Service
+public class SlowQueryServiceImpl implements SlowQueryService {
+    private final InterviewSlotsService interviewSlotsService;
+    private final long thresholdNanos;
+    private final long replayDeadlineMillis;
+    private final AtomicReferenceArray<SlowSlotQuery> slowSlotQueries;
+    private final AtomicLong captured = new AtomicLong();
+
+    @Autowired
+    public SlowQueryServiceImpl(InterviewSlotsService interviewSlotsService,
+                                @Value("${calendar.slow-queries.threshold-millis:500}") long thresholdMillis,
+                                @Value("${calendar.slow-queries.capacity:256}") int capacity,
+                                @Value("${calendar.slot-queries.deadline-millis:5000}") long replayDeadlineMillis) {
+        this.interviewSlotsService = interviewSlotsService;
+        this.thresholdNanos = Duration.ofMillis(thresholdMillis).toNanos();
+        this.replayDeadlineMillis = replayDeadlineMillis;
+        this.slowSlotQueries = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public void capture(InterviewSlotsQuery interviewSlotsQueryModel, SlotQueryContext slotQueryContext,
+                        Throwable failure) {
+        if (slotQueryContext.getElapsedNanos() < thresholdNanos) {
+            return;
+        }
+
+        SlowSlotQuery slowSlotQuery = toSlowSlotQuery(interviewSlotsQueryModel, slotQueryContext, failure);
+
+        slowSlotQueries.set((int) (captured.getAndIncrement() % slowSlotQueries.length()), slowSlotQuery);
+    }
+
+    /**
+     * Returns the captured queries from the oldest to the newest.
+     */
+    @Override
+    public List<SlowSlotQuery> getSlowQueries() {
+        long end = captured.get();
+        long start = Math.max(0, end - slowSlotQueries.length());
+        List<SlowSlotQuery> slowSlotQueriesList = new ArrayList<>((int) (end - start));
+
+        for (long i = start; i < end; i++) {
+            SlowSlotQuery slowSlotQuery = slowSlotQueries.get((int) (i % slowSlotQueries.length()));
+
+            if (slowSlotQuery != null) {
+                slowSlotQueriesList.add(slowSlotQuery);
+            }
+        }
+
+        return slowSlotQueriesList;
+    }
+
+    @Override
+    public void clearSlowQueries() {
+        for (int i = 0; i < slowSlotQueries.length(); i++) {
+            slowSlotQueries.set(i, null);
+        }
+    }
+
+    /**
+     * Runs the queries of a dump one after another on the calling thread and returns them with their new timings, so
+     * a replay can be compared with the capture it came from.
+     */
+    @Override
+    public List<SlowSlotQuery> replaySlowQueries(List<SlowSlotQuery> slowSlotQueriesToReplay) {
+        if (slowSlotQueriesToReplay.size() > slowSlotQueries.length()) {
+            throw new UserException("A replay holds at most " + slowSlotQueries.length() + " queries!");
+        }
+
+        List<SlowSlotQuery> replayedSlowSlotQueries = new ArrayList<>(slowSlotQueriesToReplay.size());
+
+        for (SlowSlotQuery slowSlotQuery : slowSlotQueriesToReplay) {
+            if (slowSlotQuery.getQuery() == null || slowSlotQuery.getQuery().getCandidateName() == null) {
+                throw new UserException("Every replayed query must have a candidate name!");
+            }
+
+            SlotQueryContext slotQueryContext = SlotQueryContext.withTimeout(Duration.ofMillis(replayDeadlineMillis));
+            Throwable failure = null;
+
+            try {
+                interviewSlotsService.getInterviewSlots(slowSlotQuery.getQuery(), slotQueryContext);
+            } catch (RuntimeException exception) {
+                failure = exception;
+            }
+
+            replayedSlowSlotQueries.add(toSlowSlotQuery(slowSlotQuery.getQuery(), slotQueryContext, failure));
+        }
+
+        return replayedSlowSlotQueries;
+    }
+
+    private SlowSlotQuery toSlowSlotQuery(InterviewSlotsQuery interviewSlotsQueryModel,
+                                          SlotQueryContext slotQueryContext, Throwable failure) {
+        Map<String, Double> phaseMillis = new LinkedHashMap<>();
+
+        for (SlotQueryPhase slotQueryPhase : SlotQueryPhase.values()) {
+            long phaseNanos = slotQueryContext.getPhaseNanos(slotQueryPhase);
+
+            if (phaseNanos > 0) {
+                phaseMillis.put(slotQueryPhase.getMetricName(), toMillis(phaseNanos));
+            }
+        }
+
+        return SlowSlotQuery.Builder.slowSlotQueryWith()
+                                    .withCapturedAt(Instant.now())
+                                    .withQuery(interviewSlotsQueryModel)
+                                    .withElapsedMillis(toMillis(slotQueryContext.getElapsedNanos()))
+                                    .withParticipants(slotQueryContext.getParticipants())
+                                    .withDays(slotQueryContext.getDays())
+                                    .withTimeSlots(slotQueryContext.getTimeSlots())
+                                    .withPhaseMillis(phaseMillis)
+                                    .withError(failure != null ? getMessage(failure) : null)
+                                    .build();
+    }
+
+    private String getMessage(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+
+        return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+
+    private double toMillis(long nanos) {
+        return Math.round(nanos / 1e3) / 1e3;
+    }
+}
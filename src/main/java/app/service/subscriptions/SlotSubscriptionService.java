@@ -0,0 +1,10 @@
+package app.service.subscriptions;
+
+import app.model.interviewslots.InterviewSlotsQuery;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface SlotSubscriptionService {
+    SseEmitter subscribe(InterviewSlotsQuery interviewSlotsQueryModel);
+
+    int getSubscribersCount();
+}
@@ -0,0 +1,131 @@
+package app.service.subscriptions;
+
+import app.model.interviewslots.InterviewSlotsChange;
+import app.model.interviewslots.InterviewSlotsQuery;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.interviewslots.InterviewPanel;
+import app.service.interviewslots.InterviewPanelIndex;
+import app.service.interviewslots.LiveInterviewSlots;
+import app.service.interviewslots.LiveInterviewSlotsLoader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Service
+public class SlotSubscriptionServiceImpl implements SlotSubscriptionService {
+    static final String SLOTS_EVENT = "slots";
+    static final String SLOTS_CHANGED_EVENT = "slots-changed";
+
+    private final LiveInterviewSlotsLoader liveInterviewSlotsLoader;
+    private final long emitterTimeoutMillis;
+
+    // Guarded by this. Panels are loaded under the lock, so a write is either part of the loaded state or its event
+    // finds the panel registered afterwards.
+    private final InterviewPanelIndex<PanelSubscription> panelSubscriptions = new InterviewPanelIndex<>();
+
+    @Autowired
+    public SlotSubscriptionServiceImpl(LiveInterviewSlotsLoader liveInterviewSlotsLoader,
+                                       @Value("${calendar.slot-subscriptions.timeout-millis:1800000}")
+                                               long emitterTimeoutMillis) {
+        this.liveInterviewSlotsLoader = liveInterviewSlotsLoader;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    @Override
+    public SseEmitter subscribe(InterviewSlotsQuery interviewSlotsQueryModel) {
+        InterviewPanel interviewPanel = InterviewPanel.of(interviewSlotsQueryModel);
+        SseEmitter sseEmitter = new SseEmitter(emitterTimeoutMillis);
+        PanelSubscription panelSubscription;
+
+        synchronized (this) {
+            panelSubscription = panelSubscriptions.get(interviewPanel);
+
+            if (panelSubscription == null) {
+                panelSubscription = new PanelSubscription(liveInterviewSlotsLoader.load(interviewPanel));
+                panelSubscriptions.put(interviewPanel, panelSubscription);
+            }
+
+            panelSubscription.sseEmitters.add(sseEmitter);
+        }
+
+        sseEmitter.onCompletion(() -> unsubscribe(interviewPanel, sseEmitter));
+        sseEmitter.onTimeout(() -> unsubscribe(interviewPanel, sseEmitter));
+        sseEmitter.onError(error -> unsubscribe(interviewPanel, sseEmitter));
+
+        synchronized (panelSubscription) {
+            send(sseEmitter, SLOTS_EVENT, panelSubscription.liveInterviewSlots.getInterviewSlots());
+        }
+
+        return sseEmitter;
+    }
+
+    @Override
+    public synchronized int getSubscribersCount() {
+        int subscribersCount = 0;
+
+        for (PanelSubscription panelSubscription : panelSubscriptions.getValues()) {
+            subscribersCount += panelSubscription.sseEmitters.size();
+        }
+
+        return subscribersCount;
+    }
+
+    @EventListener
+    public void onAvailabilityChanged(AvailabilityChangedEvent availabilityChangedEvent) {
+        List<PanelSubscription> affectedPanelSubscriptions;
+
+        synchronized (this) {
+            affectedPanelSubscriptions = panelSubscriptions.getAffectedValues(availabilityChangedEvent);
+        }
+
+        for (PanelSubscription panelSubscription : affectedPanelSubscriptions) {
+            // Changes of one panel are computed and sent in order, so a subscriber never sees an older day last.
+            synchronized (panelSubscription) {
+                Optional<InterviewSlotsChange> interviewSlotsChange =
+                        panelSubscription.liveInterviewSlots.applyChange(availabilityChangedEvent);
+
+                interviewSlotsChange.ifPresent(change -> panelSubscription.sseEmitters.forEach(
+                        sseEmitter -> send(sseEmitter, SLOTS_CHANGED_EVENT, change)));
+            }
+        }
+    }
+
+    private synchronized void unsubscribe(InterviewPanel interviewPanel, SseEmitter sseEmitter) {
+        PanelSubscription panelSubscription = panelSubscriptions.get(interviewPanel);
+
+        if (panelSubscription == null) {
+            return;
+        }
+
+        panelSubscription.sseEmitters.remove(sseEmitter);
+
+        if (panelSubscription.sseEmitters.isEmpty()) {
+            panelSubscriptions.remove(interviewPanel);
+        }
+    }
+
+    private void send(SseEmitter sseEmitter, String eventName, Object data) {
+        try {
+            sseEmitter.send(SseEmitter.event().name(eventName).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // The client is gone; completing the emitter triggers its cleanup callbacks.
+            sseEmitter.completeWithError(e);
+        }
+    }
+
+    private static final class PanelSubscription {
+        private final LiveInterviewSlots liveInterviewSlots;
+        private final List<SseEmitter> sseEmitters = new CopyOnWriteArrayList<>();
+
+        private PanelSubscription(LiveInterviewSlots liveInterviewSlots) {
+            this.liveInterviewSlots = liveInterviewSlots;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package app.service.transaction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a read-modify-write of versioned availability in a transaction and runs it again when another writer, such as
+ * the availability retention job, updated the same row in between. Every attempt has to read the row again, so the
+ * callback must not carry state over from a failed attempt. After the last attempt the conflict is rethrown.
+ */
+public final class OptimisticLockRetry {
+    public static final int MAXIMUM_ATTEMPTS = 3;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OptimisticLockRetry.class);
+
+    private OptimisticLockRetry() {
+    }
+
+    public static <T> T execute(TransactionTemplate transactionTemplate, TransactionCallback<T> readModifyWrite) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(readModifyWrite);
+            } catch (OptimisticLockingFailureException exception) {
+                if (attempt == MAXIMUM_ATTEMPTS) {
+                    throw exception;
+                }
+
+                LOGGER.debug("Availability write attempt {} lost to a concurrent update, retrying", attempt);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package controller;
+
+import app.CalendarApi;
+import app.service.candidate.CandidateService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Posts and reads candidates and their availability in the binary formats a client can negotiate instead of JSON.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = CalendarApi.class)
+@AutoConfigureMockMvc
+public class CandidateControllerTests {
+    private static final String CANDIDATE_NAME = "Binary Candidate";
+    private static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+    private static final MediaType APPLICATION_CBOR = MediaType.valueOf("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CandidateService candidateService;
+
+    @After
+    public void tearDown() {
+        candidateService.deleteCandidateByName(CANDIDATE_NAME);
+    }
+
+    @Test
+    public void postAndGetCandidateAvailabilityWithSmileSuccessfully() throws Exception {
+        // Act && Assert
+        postAndGetCandidateAvailability(APPLICATION_SMILE, Jackson2ObjectMapperBuilder.smile().build());
+    }
+
+    @Test
+    public void postAndGetCandidateAvailabilityWithCborSuccessfully() throws Exception {
+        // Act && Assert
+        postAndGetCandidateAvailability(APPLICATION_CBOR, Jackson2ObjectMapperBuilder.cbor().build());
+    }
+
+    private void postAndGetCandidateAvailability(MediaType mediaType, ObjectMapper objectMapper) throws Exception {
+        ObjectNode candidate = objectMapper.createObjectNode().put("name", CANDIDATE_NAME);
+        ObjectNode candidateAvailability = objectMapper.createObjectNode();
+        candidateAvailability.set("candidateName", candidate);
+        candidateAvailability.putArray("availabilitySlotList").addObject()
+                             .put("day", "2014-01-01")
+                             .putArray("timeSlotList").addObject().put("from", "09:00").put("to", "12:00");
+
+        JsonNode createdCandidate = readBody(objectMapper, mediaType, status().isCreated(),
+                                             post("/api/v1/candidates")
+                                                     .contentType(mediaType).accept(mediaType)
+                                                     .content(objectMapper.writeValueAsBytes(candidate)));
+        readBody(objectMapper, mediaType, status().isCreated(),
+                 post("/api/v1/candidates/availability")
+                         .contentType(mediaType).accept(mediaType)
+                         .content(objectMapper.writeValueAsBytes(candidateAvailability)));
+        JsonNode availability = readBody(objectMapper, mediaType, status().isOk(),
+                                         get("/api/v1/candidates/availability/" + CANDIDATE_NAME).accept(mediaType));
+
+        JsonNode timeSlot = availability.get("availabilitySlotList").get(0).get("timeSlotList").get(0);
+        assertEquals(CANDIDATE_NAME, createdCandidate.get("name").asText());
+        assertEquals(CANDIDATE_NAME, availability.get("candidateName").get("name").asText());
+        assertEquals("2014-01-01", availability.get("availabilitySlotList").get(0).get("day").asText());
+        assertEquals("09:00:00", timeSlot.get("from").asText());
+        assertEquals("12:00:00", timeSlot.get("to").asText());
+    }
+
+    private JsonNode readBody(ObjectMapper objectMapper, MediaType mediaType, ResultMatcher expectedStatus,
+                              RequestBuilder requestBuilder) throws Exception {
+        byte[] body = mockMvc.perform(requestBuilder)
+                             .andExpect(expectedStatus)
+                             .andExpect(content().contentTypeCompatibleWith(mediaType))
+                             .andReturn().getResponse().getContentAsByteArray();
+
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,114 @@
+package controller;
+
+import app.CalendarApi;
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.service.candidate.CandidateService;
+import app.service.interviewer.InterviewerService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = CalendarApi.class)
+@AutoConfigureMockMvc
+public class InterviewSlotsControllerTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 1);
+    private static final String CANDIDATE_NAME = "Controller Candidate";
+    private static final String INTERVIEWER_NAME = "Controller Interviewer";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CandidateService candidateService;
+    @Autowired
+    private InterviewerService interviewerService;
+
+    @Before
+    public void setup() {
+        Candidate candidate = candidateService.createCandidate(new Candidate(CANDIDATE_NAME));
+        Interviewer interviewer = interviewerService.createInterviewer(new Interviewer(INTERVIEWER_NAME));
+
+        candidateService.createCandidateAvailability(
+                CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                             .withCandidateModel(candidate)
+                                             .withAvailabilitySlotList(buildAvailabilitySlotList(
+                                                     LocalTime.of(9, 0), LocalTime.of(12, 0)))
+                                             .build());
+        interviewerService.createInterviewerAvailability(
+                InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                               .withInterviewerModel(interviewer)
+                                               .withAvailabilitySlotList(buildAvailabilitySlotList(
+                                                       LocalTime.of(10, 0), LocalTime.of(14, 0)))
+                                               .build());
+    }
+
+    @After
+    public void tearDown() {
+        candidateService.deleteCandidateByName(CANDIDATE_NAME);
+        interviewerService.deleteInterviewerByName(INTERVIEWER_NAME);
+    }
+
+    @Test
+    public void getInterviewSlotsWithBodySuccessfully() throws Exception {
+        // Act && Assert
+        performAsync(get("/api/v1/interview-slots")
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .content("{\"candidateName\":\"" + CANDIDATE_NAME + "\","
+                                      + "\"interviewersNames\":[\"" + INTERVIEWER_NAME + "\"]}"));
+    }
+
+    @Test
+    public void getInterviewSlotsWithQueryParametersSuccessfully() throws Exception {
+        // Act && Assert
+        performAsync(get("/api/v1/interview-slots")
+                             .param("candidateName", CANDIDATE_NAME)
+                             .param("interviewersNames", INTERVIEWER_NAME));
+    }
+
+    private void performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(requestBuilder)
+                                     .andExpect(request().asyncStarted())
+                                     .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+               .andExpect(status().isOk())
+               .andExpect(content().string(containsString("\"candidateName\":\"" + CANDIDATE_NAME + "\"")))
+               .andExpect(content().string(containsString("10:00")));
+    }
+
+    private List<AvailabilitySlot> buildAvailabilitySlotList(LocalTime from, LocalTime to) {
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        timeSlots.add(TimeSlot.Builder.timeSlotWith().withFrom(from).withTo(to).build());
+
+        return new ArrayList<>(Collections.singletonList(
+                AvailabilitySlot.Builder.availabilitySlotWith().withDay(DAY).withTimeSlotList(timeSlots).build()));
+    }
+}
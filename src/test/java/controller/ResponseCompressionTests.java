@@ -0,0 +1,111 @@
+package controller;
+
+import app.CalendarApi;
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.service.candidate.CandidateService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Reads responses over a real connection, since the compression is done by the embedded server and not by MockMvc.
+ * The HTTP client does not decompress by itself, so the test sees the body as it went over the wire.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = CalendarApi.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ResponseCompressionTests {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2014, Month.JANUARY, 1);
+    private static final String CANDIDATE_NAME = "Compressed Candidate";
+    private static final int MIN_RESPONSE_SIZE = 2048;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private CandidateService candidateService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Before
+    public void setup() {
+        Candidate candidate = candidateService.createCandidate(new Candidate(CANDIDATE_NAME));
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+
+        for (int day = 0; day < 60; day++) {
+            availabilitySlots.add(AvailabilitySlot.Builder.availabilitySlotWith()
+                                                          .withDay(FIRST_DAY.plusDays(day))
+                                                          .withTimeSlotList(Collections.singletonList(
+                                                                  TimeSlot.Builder.timeSlotWith()
+                                                                                  .withFrom(LocalTime.of(9, 0))
+                                                                                  .withTo(LocalTime.of(17, 0))
+                                                                                  .build()))
+                                                          .build());
+        }
+
+        candidateService.createCandidateAvailability(
+                CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                             .withCandidateModel(candidate)
+                                             .withAvailabilitySlotList(availabilitySlots)
+                                             .build());
+    }
+
+    @After
+    public void tearDown() {
+        candidateService.deleteCandidateByName(CANDIDATE_NAME);
+    }
+
+    @Test
+    public void responseAboveMinimumSizeIsGzippedSuccessfully() throws Exception {
+        // Act
+        HttpResponse<InputStream> response = get("/api/v1/candidates/availability/" + CANDIDATE_NAME);
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+
+        String body = gunzip(response.body());
+        assertTrue(body.length() > MIN_RESPONSE_SIZE);
+        assertTrue(body.contains("\"candidateName\":{\"name\":\"" + CANDIDATE_NAME + "\"}"));
+    }
+
+    private HttpResponse<InputStream> get(String path) throws IOException, InterruptedException {
+        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                                                                    + path.replace(" ", "%20")))
+                                             .header("Accept", "application/json")
+                                             .header("Accept-Encoding", "gzip")
+                                             .GET()
+                                             .build();
+
+        return httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    private String gunzip(InputStream body) throws IOException {
+        try (InputStream gzipInputStream = new GZIPInputStream(body)) {
+            return new String(gzipInputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package model.utils;
+
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.HourMasks;
+import app.model.utils.SlotGranularity;
+import app.model.utils.TimeSlot;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class SlotGranularityTests {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2014, Month.JANUARY, 1);
+
+    private final SlotGranularity quarterHours = new SlotGranularity(15);
+
+    @Test
+    public void quarterHourDayTakesTwoWordsSuccessfully() {
+        // Assert
+        assertEquals(96, quarterHours.getSlotsPerDay());
+        assertEquals(2, quarterHours.getWordsPerDay());
+        assertEquals(48, new SlotGranularity(30).getSlotsPerDay());
+        assertEquals(1, new SlotGranularity(30).getWordsPerDay());
+        assertEquals(1, SlotGranularity.HOUR.getWordsPerDay());
+    }
+
+    @Test
+    public void slotsAcrossBothWordsRoundTripSuccessfully() {
+        // Arrange
+        List<TimeSlot> timeSlots = Arrays.asList(buildTimeSlot(LocalTime.of(9, 15), LocalTime.of(10, 45)),
+                                                 buildTimeSlot(LocalTime.of(15, 45), LocalTime.of(17, 15)),
+                                                 buildTimeSlot(LocalTime.of(23, 30), LocalTime.MAX));
+
+        // Act
+        long[] slotMask = quarterHours.toSlotMask(timeSlots);
+        List<TimeSlot> returnedTimeSlots = quarterHours.toTimeSlots(slotMask);
+
+        // Assert
+        assertEquals(3, returnedTimeSlots.size());
+        assertTimeSlot(returnedTimeSlots.get(0), LocalTime.of(9, 15), LocalTime.of(10, 45));
+        assertTimeSlot(returnedTimeSlots.get(1), LocalTime.of(15, 45), LocalTime.of(17, 15));
+        assertTimeSlot(returnedTimeSlots.get(2), LocalTime.of(23, 30), LocalTime.MAX);
+    }
+
+    @Test
+    public void overlappingAndAdjacentSlotsAreMergedSuccessfully() {
+        // Arrange
+        long[] slotMask = quarterHours.toSlotMask(Collections.singletonList(
+                buildTimeSlot(LocalTime.of(9, 0), LocalTime.of(9, 30))));
+
+        // Act
+        SlotGranularity.or(slotMask, quarterHours.toSlotMask(Arrays.asList(
+                buildTimeSlot(LocalTime.of(9, 30), LocalTime.of(10, 0)),
+                buildTimeSlot(LocalTime.of(9, 45), LocalTime.of(11, 0)))));
+
+        // Assert
+        List<TimeSlot> timeSlots = quarterHours.toTimeSlots(slotMask);
+        assertEquals(1, timeSlots.size());
+        assertTimeSlot(timeSlots.get(0), LocalTime.of(9, 0), LocalTime.of(11, 0));
+    }
+
+    @Test
+    public void intersectionKeepsCommonQuarterHoursSuccessfully() {
+        // Arrange
+        long[] slotMask = quarterHours.toSlotMask(Collections.singletonList(
+                buildTimeSlot(LocalTime.of(9, 15), LocalTime.of(17, 0))));
+        long[] otherSlotMask = quarterHours.toSlotMask(Arrays.asList(
+                buildTimeSlot(LocalTime.of(8, 0), LocalTime.of(9, 45)),
+                buildTimeSlot(LocalTime.of(16, 30), LocalTime.of(18, 0))));
+
+        // Act
+        SlotGranularity.and(slotMask, otherSlotMask);
+
+        // Assert
+        List<TimeSlot> timeSlots = quarterHours.toTimeSlots(slotMask);
+        assertEquals(2, timeSlots.size());
+        assertTimeSlot(timeSlots.get(0), LocalTime.of(9, 15), LocalTime.of(9, 45));
+        assertTimeSlot(timeSlots.get(1), LocalTime.of(16, 30), LocalTime.of(17, 0));
+    }
+
+    @Test
+    public void unalignedSlotsAreRoundedInwardsSuccessfully() {
+        // Act
+        long[] slotMask = SlotGranularity.HOUR.toSlotMask(Collections.singletonList(
+                buildTimeSlot(LocalTime.of(9, 30), LocalTime.of(12, 15))));
+
+        // Assert
+        List<TimeSlot> timeSlots = SlotGranularity.HOUR.toTimeSlots(slotMask);
+        assertEquals(1, timeSlots.size());
+        assertTimeSlot(timeSlots.get(0), LocalTime.of(10, 0), LocalTime.of(12, 0));
+        assertFalse(SlotGranularity.HOUR.isAligned(LocalTime.of(9, 30)));
+        assertTrue(quarterHours.isAligned(LocalTime.of(9, 30)));
+        assertFalse(quarterHours.isAligned(LocalTime.of(9, 20)));
+    }
+
+    @Test
+    public void adjacentQuarterHoursMakeUpWholeHourMaskSuccessfully() {
+        // Arrange
+        AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith()
+                                                                    .withDay(FIRST_DAY)
+                                                                    .withTimeSlotList(Arrays.asList(
+                                                                            buildTimeSlot(LocalTime.of(9, 0),
+                                                                                          LocalTime.of(9, 45)),
+                                                                            buildTimeSlot(LocalTime.of(9, 45),
+                                                                                          LocalTime.of(11, 30))))
+                                                                    .build();
+
+        // Act
+        Map<LocalDate, Integer> hourMasksByDay = HourMasks.toHourMasksByDay(Collections.singletonList(
+                availabilitySlot));
+
+        // Assert
+        assertEquals(Integer.valueOf(0b11 << 9), hourMasksByDay.get(FIRST_DAY));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void granularityThatIsNotSupportedFails() {
+        // Act && Assert
+        try {
+            new SlotGranularity(20);
+        } catch (IllegalArgumentException exception) {
+            assertEquals("Granularity must be 15, 30 or 60 minutes: 20", exception.getMessage());
+
+            throw exception;
+        }
+
+        fail("Illegal argument exception for unsupported granularity was not thrown!");
+    }
+
+    private TimeSlot buildTimeSlot(LocalTime from, LocalTime to) {
+        return TimeSlot.Builder.timeSlotWith().withFrom(from).withTo(to).build();
+    }
+
+    private void assertTimeSlot(TimeSlot timeSlot, LocalTime from, LocalTime to) {
+        assertEquals(from, timeSlot.getFrom());
+        assertEquals(to, timeSlot.getTo());
+    }
+}
@@ -0,0 +1,142 @@
+package population;
+
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Seeded candidates and interviewers of a {@link PopulationShape}. Every participant draws from its own random stream
+ * derived from the seed and its index, so participant {@code i} is the same however much of the population is
+ * generated, in which order and on how many threads. Populations are streamed, so a million participants never have to
+ * be held in memory at once.
+ */
+public class PopulationGenerator {
+    private static final long CANDIDATE_SALT = 0x43414E44L;
+    private static final long INTERVIEWER_SALT = 0x494E5456L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int MAX_SHIFT_HOURS = 2;
+    // The last hour is left out so that no slot has to end at midnight.
+    private static final int LAST_HOUR = 23;
+
+    private final PopulationShape populationShape;
+    private final long seed;
+
+    public PopulationGenerator(PopulationShape populationShape, long seed) {
+        if (populationShape.getCandidates() < 0 || populationShape.getCandidates() > PopulationShape.MAX_PARTICIPANTS
+            || populationShape.getInterviewers() < 0
+            || populationShape.getInterviewers() > PopulationShape.MAX_PARTICIPANTS) {
+            throw new IllegalArgumentException("Populations hold between 0 and " + PopulationShape.MAX_PARTICIPANTS
+                                               + " candidates and interviewers");
+        }
+
+        if (populationShape.getWorkHoursFrom() < 0
+            || populationShape.getWorkHoursFrom() >= populationShape.getWorkHoursTo()
+            || populationShape.getWorkHoursTo() > LAST_HOUR || populationShape.getSlotsPerDay() < 1) {
+            throw new IllegalArgumentException("Work hours must lie between 00:00 and 23:00 and hold a slot");
+        }
+
+        this.populationShape = populationShape;
+        this.seed = seed;
+    }
+
+    public PopulationShape getPopulationShape() {
+        return populationShape;
+    }
+
+    public String getCandidateName(int index) {
+        return String.format("Candidate %07d", index);
+    }
+
+    public String getInterviewerName(int index) {
+        return String.format("Interviewer %07d", index);
+    }
+
+    public Stream<CandidateAvailability> candidateAvailabilities() {
+        return IntStream.range(0, populationShape.getCandidates()).mapToObj(this::getCandidateAvailability);
+    }
+
+    public Stream<InterviewerAvailability> interviewerAvailabilities() {
+        return IntStream.range(0, populationShape.getInterviewers()).mapToObj(this::getInterviewerAvailability);
+    }
+
+    public CandidateAvailability getCandidateAvailability(int index) {
+        return CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                            .withCandidateModel(new Candidate(getCandidateName(index)))
+                                            .withAvailabilitySlotList(generateAvailability(CANDIDATE_SALT, index))
+                                            .build();
+    }
+
+    public InterviewerAvailability getInterviewerAvailability(int index) {
+        return InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                              .withInterviewerModel(new Interviewer(getInterviewerName(index)))
+                                              .withAvailabilitySlotList(generateAvailability(INTERVIEWER_SALT, index))
+                                              .build();
+    }
+
+    private List<AvailabilitySlot> generateAvailability(long salt, int index) {
+        SplittableRandom random = new SplittableRandom(seed ^ (salt + index * GOLDEN_GAMMA));
+        int shiftHours = random.nextInt(-MAX_SHIFT_HOURS, MAX_SHIFT_HOURS + 1);
+        boolean[] worksOnDayOfWeek = new boolean[DayOfWeek.values().length];
+
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            worksOnDayOfWeek[dayOfWeek.ordinal()] = random.nextDouble() < populationShape.getAvailability(dayOfWeek);
+        }
+
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+
+        for (int dayOffset = 0; dayOffset < populationShape.getDays(); dayOffset++) {
+            LocalDate day = populationShape.getFirstDay().plusDays(dayOffset);
+            DayOfWeek dayOfWeek = day.getDayOfWeek();
+            boolean available = random.nextDouble() < populationShape.getWeeklyVariation()
+                                ? random.nextDouble() < populationShape.getAvailability(dayOfWeek)
+                                : worksOnDayOfWeek[dayOfWeek.ordinal()];
+
+            if (available) {
+                availabilitySlots.add(AvailabilitySlot.Builder.availabilitySlotWith()
+                                                              .withDay(day)
+                                                              .withTimeSlotList(generateTimeSlots(random, shiftHours))
+                                                              .build());
+            }
+        }
+
+        return availabilitySlots;
+    }
+
+    private List<TimeSlot> generateTimeSlots(SplittableRandom random, int shiftHours) {
+        boolean withinWorkHours = random.nextDouble() < populationShape.getWorkHourBias();
+        int fromHour = withinWorkHours ? clamp(populationShape.getWorkHoursFrom() + shiftHours, 0, LAST_HOUR - 1) : 0;
+        int toHour = withinWorkHours ? clamp(populationShape.getWorkHoursTo() + shiftHours, fromHour + 1, LAST_HOUR)
+                                     : LAST_HOUR;
+        int slotsPerDay = Math.min(populationShape.getSlotsPerDay(), toHour - fromHour);
+        int windowHours = (toHour - fromHour) / slotsPerDay;
+        int slotHours = Math.max(1, (int) Math.round(windowHours * (1 - populationShape.getFragmentation())));
+        List<TimeSlot> timeSlots = new ArrayList<>();
+
+        for (int window = 0; window < slotsPerDay; window++) {
+            int slotFromHour = fromHour + window * windowHours + random.nextInt(windowHours - slotHours + 1);
+
+            timeSlots.add(TimeSlot.Builder.timeSlotWith()
+                                          .withFrom(LocalTime.of(slotFromHour, 0))
+                                          .withTo(LocalTime.of(slotFromHour + slotHours, 0))
+                                          .build());
+        }
+
+        return timeSlots;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
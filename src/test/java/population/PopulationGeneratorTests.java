@@ -0,0 +1,145 @@
+package population;
+
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.HourMasks;
+import app.model.utils.TimeSlot;
+import app.repository.memory.InMemoryCandidateAvailabilityRepository;
+import app.repository.memory.InMemoryCandidateRepository;
+import app.repository.memory.InMemoryInterviewerAvailabilityRepository;
+import app.repository.memory.InMemoryInterviewerRepository;
+import app.service.events.AvailabilityChangedEvent;
+import org.junit.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class PopulationGeneratorTests {
+    @Test
+    public void sameSeedGeneratesSameParticipantsSuccessfully() {
+        // Arrange
+        PopulationShape populationShape = PopulationShape.Builder.populationShapeWith().withCandidates(20).build();
+
+        // Act
+        PopulationGenerator firstGenerator = new PopulationGenerator(populationShape, 7);
+        PopulationGenerator secondGenerator = new PopulationGenerator(populationShape, 7);
+        PopulationGenerator otherSeedGenerator = new PopulationGenerator(populationShape, 8);
+
+        // Assert
+        List<AvailabilitySlot> streamedAvailability = firstGenerator.candidateAvailabilities()
+                                                                    .collect(Collectors.toList()).get(12)
+                                                                    .getAvailabilitySlotList();
+        List<AvailabilitySlot> directAvailability = secondGenerator.getCandidateAvailability(12)
+                                                                   .getAvailabilitySlotList();
+        assertEquals(HourMasks.toHourMasksByDay(streamedAvailability), HourMasks.toHourMasksByDay(directAvailability));
+        assertNotEquals(HourMasks.toHourMasksByDay(directAvailability),
+                        HourMasks.toHourMasksByDay(otherSeedGenerator.getCandidateAvailability(12)
+                                                                     .getAvailabilitySlotList()));
+        assertEquals("Candidate 0000012", secondGenerator.getCandidateAvailability(12).getCandidateModel().getName());
+    }
+
+    @Test
+    public void availabilityFollowsWorkHoursAndWeeklyPatternSuccessfully() {
+        // Arrange
+        PopulationShape populationShape = PopulationShape.Builder.populationShapeWith()
+                                                                 .withInterviewers(500)
+                                                                 .withDays(28)
+                                                                 .build();
+        PopulationGenerator populationGenerator = new PopulationGenerator(populationShape, 42);
+        int hoursWithinWorkHours = 0;
+        int hours = 0;
+        int weekdays = 0;
+        int weekendDays = 0;
+
+        // Act
+        for (int i = 0; i < populationShape.getInterviewers(); i++) {
+            for (AvailabilitySlot availabilitySlot : populationGenerator.getInterviewerAvailability(i)
+                                                                        .getAvailabilitySlotList()) {
+                DayOfWeek dayOfWeek = availabilitySlot.getDay().getDayOfWeek();
+
+                if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                    weekendDays++;
+                } else {
+                    weekdays++;
+                }
+
+                for (TimeSlot timeSlot : availabilitySlot.getTimeSlotList()) {
+                    assertEquals(0, timeSlot.getFrom().getMinute());
+                    assertEquals(0, timeSlot.getTo().getMinute());
+                    assertTrue(timeSlot.getFrom().isBefore(timeSlot.getTo()));
+
+                    for (int hour = timeSlot.getFrom().getHour(); hour < timeSlot.getTo().getHour(); hour++) {
+                        hours++;
+
+                        // Work hours are 09:00 to 17:00, shifted by up to two hours per participant.
+                        if (hour >= 7 && hour < 19) {
+                            hoursWithinWorkHours++;
+                        }
+                    }
+                }
+            }
+        }
+
+        // Assert
+        assertTrue(hoursWithinWorkHours > 0.8 * hours);
+        // 20 weekdays at 80% against 8 weekend days at 10%
+        assertTrue(weekdays > 5 * weekendDays);
+    }
+
+    @Test
+    public void loadPopulationIntoRepositoriesSuccessfully() {
+        // Arrange
+        InMemoryCandidateAvailabilityRepository candidateAvailabilityRepository =
+                new InMemoryCandidateAvailabilityRepository();
+        InMemoryInterviewerAvailabilityRepository interviewerAvailabilityRepository =
+                new InMemoryInterviewerAvailabilityRepository();
+        ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        PopulationLoader populationLoader = new PopulationLoader(
+                new InMemoryCandidateRepository(candidateAvailabilityRepository), candidateAvailabilityRepository,
+                new InMemoryInterviewerRepository(interviewerAvailabilityRepository), interviewerAvailabilityRepository,
+                applicationEventPublisher);
+        PopulationGenerator populationGenerator = new PopulationGenerator(
+                PopulationShape.Builder.populationShapeWith().withCandidates(2_500).withInterviewers(10).build(), 42);
+
+        // Act
+        populationLoader.load(populationGenerator);
+
+        // Assert
+        assertEquals(2_500, candidateAvailabilityRepository.count());
+        assertEquals(10, interviewerAvailabilityRepository.count());
+        assertEquals(HourMasks.toHourMasksByDay(populationGenerator.getInterviewerAvailability(3)
+                                                                   .getAvailabilitySlotList()),
+                     HourMasks.toHourMasksByDay(interviewerAvailabilityRepository
+                                                        .getInterviewerAvailabilityByInterviewerName(
+                                                                "Interviewer 0000003")
+                                                        .getAvailabilitySlotList()));
+        verify(applicationEventPublisher, times(2_510)).publishEvent(any(AvailabilityChangedEvent.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void generatePopulationAboveOneMillionFails() {
+        // Arrange
+        PopulationShape populationShape = PopulationShape.Builder.populationShapeWith()
+                                                                 .withCandidates(PopulationShape.MAX_PARTICIPANTS + 1)
+                                                                 .build();
+
+        // Act && Assert
+        try {
+            new PopulationGenerator(populationShape, 42);
+        } catch (IllegalArgumentException exception) {
+            assertEquals("Populations hold between 0 and 1000000 candidates and interviewers",
+                         exception.getMessage());
+
+            throw exception;
+        }
+
+        fail("Illegal argument exception for too large population was not thrown!");
+    }
+}
@@ -0,0 +1,143 @@
+package population;
+
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.HourMasks;
+import app.repository.candidate.CandidateAvailabilityRepository;
+import app.repository.candidate.CandidateRepository;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.repository.interviewer.InterviewerRepository;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Saves a generated population in batches through the repository interfaces, so it loads into JPA, the in-memory and
+ * the mapped-file storage alike. Indexes are rebuilt from the repositories when the application becomes ready; to load
+ * into an application that is already running, pass its event publisher so that every saved availability is also
+ * published as an {@link AvailabilityChangedEvent}.
+ */
+public class PopulationLoader {
+    private static final int BATCH_SIZE = 1_000;
+
+    private final CandidateRepository candidateRepository;
+    private final CandidateAvailabilityRepository candidateAvailabilityRepository;
+    private final InterviewerRepository interviewerRepository;
+    private final InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public PopulationLoader(CandidateRepository candidateRepository,
+                            CandidateAvailabilityRepository candidateAvailabilityRepository,
+                            InterviewerRepository interviewerRepository,
+                            InterviewerAvailabilityRepository interviewerAvailabilityRepository,
+                            ApplicationEventPublisher applicationEventPublisher) {
+        this.candidateRepository = candidateRepository;
+        this.candidateAvailabilityRepository = candidateAvailabilityRepository;
+        this.interviewerRepository = interviewerRepository;
+        this.interviewerAvailabilityRepository = interviewerAvailabilityRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    public static PopulationLoader fromApplicationContext(ApplicationContext applicationContext) {
+        return new PopulationLoader(applicationContext.getBean(CandidateRepository.class),
+                                    applicationContext.getBean(CandidateAvailabilityRepository.class),
+                                    applicationContext.getBean(InterviewerRepository.class),
+                                    applicationContext.getBean(InterviewerAvailabilityRepository.class),
+                                    applicationContext);
+    }
+
+    public void load(PopulationGenerator populationGenerator) {
+        loadCandidates(populationGenerator.candidateAvailabilities().iterator());
+        loadInterviewers(populationGenerator.interviewerAvailabilities().iterator());
+    }
+
+    private void loadCandidates(Iterator<CandidateAvailability> candidateAvailabilities) {
+        while (candidateAvailabilities.hasNext()) {
+            List<Candidate> candidates = new ArrayList<>();
+            List<CandidateAvailability> batch = new ArrayList<>();
+
+            while (candidateAvailabilities.hasNext() && batch.size() < BATCH_SIZE) {
+                CandidateAvailability candidateAvailability = candidateAvailabilities.next();
+
+                candidates.add(candidateAvailability.getCandidateModel());
+                batch.add(candidateAvailability);
+            }
+
+            List<Candidate> savedCandidates = candidateRepository.saveAll(candidates);
+            List<CandidateAvailability> availabilities = new ArrayList<>();
+
+            for (int i = 0; i < batch.size(); i++) {
+                availabilities.add(CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                                                .withCandidateModel(savedCandidates.get(i))
+                                                                .withAvailabilitySlotList(
+                                                                        batch.get(i).getAvailabilitySlotList())
+                                                                .build());
+            }
+
+            for (CandidateAvailability savedAvailability : candidateAvailabilityRepository.saveAll(availabilities)) {
+                publishAvailabilityChanged(ParticipantType.CANDIDATE, savedAvailability.getCandidateModel().getName(),
+                                           savedAvailability.getId(), savedAvailability.getVersion(),
+                                           savedAvailability.getAvailabilitySlotList());
+            }
+        }
+    }
+
+    private void loadInterviewers(Iterator<InterviewerAvailability> interviewerAvailabilities) {
+        while (interviewerAvailabilities.hasNext()) {
+            List<Interviewer> interviewers = new ArrayList<>();
+            List<InterviewerAvailability> batch = new ArrayList<>();
+
+            while (interviewerAvailabilities.hasNext() && batch.size() < BATCH_SIZE) {
+                InterviewerAvailability interviewerAvailability = interviewerAvailabilities.next();
+
+                interviewers.add(interviewerAvailability.getInterviewerModel());
+                batch.add(interviewerAvailability);
+            }
+
+            List<Interviewer> savedInterviewers = interviewerRepository.saveAll(interviewers);
+            List<InterviewerAvailability> availabilities = new ArrayList<>();
+
+            for (int i = 0; i < batch.size(); i++) {
+                availabilities.add(InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                                                  .withInterviewerModel(savedInterviewers.get(i))
+                                                                  .withAvailabilitySlotList(
+                                                                          batch.get(i).getAvailabilitySlotList())
+                                                                  .build());
+            }
+
+            for (InterviewerAvailability savedAvailability
+                    : interviewerAvailabilityRepository.saveAll(availabilities)) {
+                publishAvailabilityChanged(ParticipantType.INTERVIEWER,
+                                           savedAvailability.getInterviewerModel().getName(),
+                                           savedAvailability.getId(), savedAvailability.getVersion(),
+                                           savedAvailability.getAvailabilitySlotList());
+            }
+        }
+    }
+
+    private void publishAvailabilityChanged(ParticipantType participantType, String participantName,
+                                            Long availabilityId, Long availabilityVersion,
+                                            List<AvailabilitySlot> availabilitySlotList) {
+        if (applicationEventPublisher == null) {
+            return;
+        }
+
+        applicationEventPublisher.publishEvent(
+                AvailabilityChangedEvent.Builder.availabilityChangedEventWith()
+                                                .withParticipantType(participantType)
+                                                .withParticipantName(participantName)
+                                                .withChangedDays(HourMasks.getDays(availabilitySlotList))
+                                                .withAvailabilitySlotList(availabilitySlotList)
+                                                .withAvailabilityId(availabilityId)
+                                                .withAvailabilityVersion(availabilityVersion)
+                                                .build());
+    }
+}
@@ -0,0 +1,140 @@
+package population;
+
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * Shape of a synthetic population. Every participant follows a personal weekly pattern of working days, shifted by up
+ * to two hours from the common work hours, and deviates from it on {@code weeklyVariation} of the days. Within a day
+ * the availability window is cut into {@code slotsPerDay} equal parts holding one slot each; fragmentation is the share
+ * of a part left free.
+ */
+@Getter
+public class PopulationShape {
+    public static final int MAX_PARTICIPANTS = 1_000_000;
+
+    private final int candidates;
+    private final int interviewers;
+    private final LocalDate firstDay;
+    private final int days;
+    private final int workHoursFrom;
+    private final int workHoursTo;
+    private final double workHourBias;
+    private final double weekdayAvailability;
+    private final double weekendAvailability;
+    private final double weeklyVariation;
+    private final int slotsPerDay;
+    private final double fragmentation;
+
+    public PopulationShape(Builder builder) {
+        this.candidates = builder.candidates;
+        this.interviewers = builder.interviewers;
+        this.firstDay = builder.firstDay;
+        this.days = builder.days;
+        this.workHoursFrom = builder.workHoursFrom;
+        this.workHoursTo = builder.workHoursTo;
+        this.workHourBias = builder.workHourBias;
+        this.weekdayAvailability = builder.weekdayAvailability;
+        this.weekendAvailability = builder.weekendAvailability;
+        this.weeklyVariation = builder.weeklyVariation;
+        this.slotsPerDay = builder.slotsPerDay;
+        this.fragmentation = builder.fragmentation;
+    }
+
+    public double getAvailability(DayOfWeek dayOfWeek) {
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY ? weekendAvailability
+                                                                                : weekdayAvailability;
+    }
+
+    public static class Builder {
+        private int candidates = 100;
+        private int interviewers = 50;
+        private LocalDate firstDay = LocalDate.of(2014, 1, 1);
+        private int days = 28;
+        private int workHoursFrom = 9;
+        private int workHoursTo = 17;
+        private double workHourBias = 0.9;
+        private double weekdayAvailability = 0.8;
+        private double weekendAvailability = 0.1;
+        private double weeklyVariation = 0.2;
+        private int slotsPerDay = 2;
+        private double fragmentation = 0.3;
+
+        public static Builder populationShapeWith() {
+            return new Builder();
+        }
+
+        public Builder withCandidates(int candidates) {
+            this.candidates = candidates;
+
+            return this;
+        }
+
+        public Builder withInterviewers(int interviewers) {
+            this.interviewers = interviewers;
+
+            return this;
+        }
+
+        public Builder withFirstDay(LocalDate firstDay) {
+            this.firstDay = firstDay;
+
+            return this;
+        }
+
+        public Builder withDays(int days) {
+            this.days = days;
+
+            return this;
+        }
+
+        public Builder withWorkHours(int workHoursFrom, int workHoursTo) {
+            this.workHoursFrom = workHoursFrom;
+            this.workHoursTo = workHoursTo;
+
+            return this;
+        }
+
+        public Builder withWorkHourBias(double workHourBias) {
+            this.workHourBias = workHourBias;
+
+            return this;
+        }
+
+        public Builder withWeekdayAvailability(double weekdayAvailability) {
+            this.weekdayAvailability = weekdayAvailability;
+
+            return this;
+        }
+
+        public Builder withWeekendAvailability(double weekendAvailability) {
+            this.weekendAvailability = weekendAvailability;
+
+            return this;
+        }
+
+        public Builder withWeeklyVariation(double weeklyVariation) {
+            this.weeklyVariation = weeklyVariation;
+
+            return this;
+        }
+
+        public Builder withSlotsPerDay(int slotsPerDay) {
+            this.slotsPerDay = slotsPerDay;
+
+            return this;
+        }
+
+        public Builder withFragmentation(double fragmentation) {
+            this.fragmentation = fragmentation;
+
+            return this;
+        }
+
+        public PopulationShape build() {
+            return new PopulationShape(this);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package repository.jpa;
+
+import app.CalendarApi;
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.candidate.CandidateAvailabilityView;
+import app.model.candidate.CandidateView;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.repository.candidate.CandidateAvailabilityRepository;
+import app.repository.candidate.CandidateRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = CalendarApi.class, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class ViewQueriesStatementCountTests {
+    @Autowired
+    private CandidateRepository candidateRepository;
+    @Autowired
+    private CandidateAvailabilityRepository candidateAvailabilityRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @After
+    public void tearDown() {
+        candidateRepository.deleteAll();
+    }
+
+    @Test
+    public void findAllCandidateViewsUsesConstantNumberOfStatementsSuccessfully() {
+        // Arrange
+        createCandidatesWithAvailability(0, 2);
+        long statementsForFewCandidates = countStatements(() -> candidateRepository.findAllViews());
+        createCandidatesWithAvailability(2, 20);
+
+        // Act
+        List<CandidateView> candidateViews = new ArrayList<>();
+        long statementsForManyCandidates = countStatements(() -> candidateViews.addAll(
+                candidateRepository.findAllViews()));
+
+        // Assert
+        assertEquals(22, candidateViews.size());
+        assertEquals(1, statementsForFewCandidates);
+        assertEquals(statementsForFewCandidates, statementsForManyCandidates);
+    }
+
+    @Test
+    public void findAllCandidateAvailabilityViewsUsesConstantNumberOfStatementsSuccessfully() {
+        // Arrange
+        createCandidatesWithAvailability(0, 2);
+        long statementsForFewCandidates = countStatements(() -> candidateAvailabilityRepository.findAllViews());
+        createCandidatesWithAvailability(2, 20);
+
+        // Act
+        List<CandidateAvailabilityView> candidateAvailabilityViews = new ArrayList<>();
+        long statementsForManyCandidates = countStatements(() -> candidateAvailabilityViews.addAll(
+                candidateAvailabilityRepository.findAllViews()));
+
+        // Assert
+        assertEquals(22, candidateAvailabilityViews.size());
+        assertEquals(2, candidateAvailabilityViews.get(0).getAvailabilitySlotList().size());
+        assertEquals(1, statementsForFewCandidates);
+        assertEquals(statementsForFewCandidates, statementsForManyCandidates);
+    }
+
+    @Test
+    public void findCandidateAvailabilityViewByNameUsesSingleStatementSuccessfully() {
+        // Arrange
+        createCandidatesWithAvailability(0, 3);
+
+        // Act
+        long statements = countStatements(() -> candidateAvailabilityRepository.findViewByName("Candidate 1"));
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals("Candidate 1", candidateAvailabilityRepository.findViewByName("Candidate 1").get()
+                                                                   .getCandidateModel().getName());
+    }
+
+    private long countStatements(Supplier<?> query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        query.get();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createCandidatesWithAvailability(int firstIndex, int count) {
+        for (int index = firstIndex; index < firstIndex + count; index++) {
+            Candidate candidate = candidateRepository.save(new Candidate("Candidate " + index));
+
+            List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+            availabilitySlots.add(buildAvailabilitySlot(LocalDate.of(2014, Month.JANUARY, 1)));
+            availabilitySlots.add(buildAvailabilitySlot(LocalDate.of(2014, Month.JANUARY, 2)));
+
+            candidateAvailabilityRepository.save(CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                                                              .withCandidateModel(candidate)
+                                                                              .withAvailabilitySlotList(
+                                                                                      availabilitySlots)
+                                                                              .build());
+        }
+    }
+
+    private AvailabilitySlot buildAvailabilitySlot(LocalDate day) {
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        timeSlots.add(TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
+                                      .build());
+
+        return AvailabilitySlot.Builder.availabilitySlotWith().withDay(day).withTimeSlotList(timeSlots).build();
+    }
+}
@@ -0,0 +1,140 @@
+package repository.mapped;
+
+import app.exception.UserException;
+import app.repository.mapped.MappedAvailabilityFile;
+import app.repository.mapped.MappedAvailabilityFile.AvailabilityRecord;
+import app.repository.mapped.MappedAvailabilityFile.OwnerType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class MappedAvailabilityFileTests {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2014, Month.JANUARY, 1);
+    private static final LocalDate SECOND_DAY = LocalDate.of(2014, Month.JANUARY, 2);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private String path;
+    private MappedAvailabilityFile availabilityFile;
+
+    @Before
+    public void setup() throws IOException {
+        path = temporaryFolder.newFolder().toPath().resolve("availability.db").toString();
+        availabilityFile = new MappedAvailabilityFile(path, 4);
+    }
+
+    @After
+    public void tearDown() {
+        availabilityFile.close();
+    }
+
+    @Test
+    public void availabilitySurvivesReopenSuccessfully() {
+        // Arrange
+        availabilityFile.saveOwner(OwnerType.INTERVIEWER, "Ines");
+        AvailabilityRecord savedRecord = availabilityFile.saveAvailability(OwnerType.INTERVIEWER, "Ines", null,
+                                                                           buildHourMasks());
+
+        // Act
+        availabilityFile.close();
+        availabilityFile = new MappedAvailabilityFile(path, 4);
+
+        // Assert
+        AvailabilityRecord reopenedRecord = availabilityFile.getAvailability(OwnerType.INTERVIEWER, "Ines").get();
+        assertEquals(savedRecord.getId(), reopenedRecord.getId());
+        assertEquals(0L, reopenedRecord.getVersion());
+        assertEquals(Integer.valueOf(0b11 << 9), reopenedRecord.getHourMasksByDay().get(FIRST_DAY));
+        assertEquals(Integer.valueOf(1 << 14), reopenedRecord.getHourMasksByDay().get(SECOND_DAY));
+        assertTrue(availabilityFile.findAvailabilityById(OwnerType.INTERVIEWER, savedRecord.getId()).isPresent());
+        assertFalse(availabilityFile.ownerExists(OwnerType.CANDIDATE, "Ines"));
+    }
+
+    @Test
+    public void deletedRecordsAreReusedSuccessfully() {
+        // Arrange
+        availabilityFile.saveOwner(OwnerType.CANDIDATE, "John Doe");
+        availabilityFile.saveAvailability(OwnerType.CANDIDATE, "John Doe", null, buildHourMasks());
+        int recordCount = availabilityFile.getRecordCount();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            availabilityFile.deleteOwner(OwnerType.CANDIDATE, "John Doe");
+            availabilityFile.saveOwner(OwnerType.CANDIDATE, "John Doe");
+            availabilityFile.saveAvailability(OwnerType.CANDIDATE, "John Doe", null, buildHourMasks());
+        }
+
+        // Assert
+        assertEquals(recordCount, availabilityFile.getRecordCount());
+        assertEquals(2, availabilityFile.getAvailability(OwnerType.CANDIDATE, "John Doe").get().getHourMasksByDay()
+                                        .size());
+    }
+
+    @Test
+    public void fileGrowsWhenFreeListIsExhaustedSuccessfully() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            availabilityFile.saveOwner(OwnerType.CANDIDATE, "Candidate " + i);
+        }
+
+        // Assert
+        assertEquals(16, availabilityFile.getRecordCount());
+        assertEquals(10, availabilityFile.getOwnerNames(OwnerType.CANDIDATE).size());
+    }
+
+    @Test(expected = OptimisticLockingFailureException.class)
+    public void saveAvailabilityWithStaleVersionFails() {
+        // Arrange
+        availabilityFile.saveOwner(OwnerType.CANDIDATE, "John Doe");
+        availabilityFile.saveAvailability(OwnerType.CANDIDATE, "John Doe", null, buildHourMasks());
+        availabilityFile.saveAvailability(OwnerType.CANDIDATE, "John Doe", 0L, buildHourMasks());
+
+        // Act && Assert
+        availabilityFile.saveAvailability(OwnerType.CANDIDATE, "John Doe", 0L, buildHourMasks());
+
+        fail("Optimistic locking failure of stale availability was not thrown!");
+    }
+
+    @Test(expected = DataIntegrityViolationException.class)
+    public void saveAvailabilityOfUnknownOwnerFails() {
+        // Act && Assert
+        availabilityFile.saveAvailability(OwnerType.CANDIDATE, "John Doe", null, buildHourMasks());
+
+        fail("Data integrity violation for availability of unknown owner was not thrown!");
+    }
+
+    @Test(expected = UserException.class)
+    public void saveOwnerWithTooLongNameFails() {
+        // Act && Assert
+        try {
+            availabilityFile.saveOwner(OwnerType.CANDIDATE, "A name that is definitely longer than forty bytes");
+        } catch (UserException exception) {
+            assertEquals("Name must not be longer than 40 bytes!", exception.getMessage());
+
+            throw exception;
+        }
+
+        fail("User exception for too long name was not thrown!");
+    }
+
+    private Map<LocalDate, Integer> buildHourMasks() {
+        Map<LocalDate, Integer> hourMasksByDay = new HashMap<>();
+        hourMasksByDay.put(FIRST_DAY, 0b11 << 9);
+        hourMasksByDay.put(SECOND_DAY, 1 << 14);
+        hourMasksByDay.put(SECOND_DAY.plusDays(1), 0);
+
+        return hourMasksByDay;
+    }
+}
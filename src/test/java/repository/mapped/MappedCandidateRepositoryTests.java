@@ -0,0 +1,130 @@
+package repository.mapped;
+
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.repository.mapped.MappedAvailabilityFile;
+import app.repository.mapped.MappedCandidateAvailabilityRepository;
+import app.repository.mapped.MappedCandidateRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MappedCandidateRepositoryTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 1);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private String path;
+    private MappedAvailabilityFile availabilityFile;
+    private MappedCandidateRepository candidateRepository;
+    private MappedCandidateAvailabilityRepository candidateAvailabilityRepository;
+
+    @Before
+    public void setup() throws IOException {
+        path = temporaryFolder.newFolder().toPath().resolve("availability.db").toString();
+        openRepositories();
+    }
+
+    @After
+    public void tearDown() {
+        availabilityFile.close();
+    }
+
+    @Test
+    public void deletedCandidateRecordsAreReusedSuccessfully() {
+        // Arrange
+        Candidate candidate = candidateRepository.save(new Candidate("John Doe"));
+        candidateAvailabilityRepository.save(buildCandidateAvailability(candidate));
+        int recordCount = availabilityFile.getRecordCount();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            candidateRepository.deleteById("John Doe");
+            candidateRepository.save(candidate);
+            candidateAvailabilityRepository.save(buildCandidateAvailability(candidate));
+        }
+
+        // Assert
+        assertEquals(recordCount, availabilityFile.getRecordCount());
+        assertEquals(Collections.singletonList("John Doe"), candidateRepository.getAllNames());
+        assertEquals(1, candidateAvailabilityRepository.findAll().size());
+    }
+
+    @Test
+    public void candidateAvailabilitySurvivesReopenSuccessfully() {
+        // Arrange
+        Candidate candidate = candidateRepository.save(new Candidate("John Doe"));
+        CandidateAvailability savedAvailability = candidateAvailabilityRepository.save(
+                buildCandidateAvailability(candidate));
+
+        // Act
+        availabilityFile.close();
+        openRepositories();
+
+        // Assert
+        CandidateAvailability reopenedAvailability = candidateAvailabilityRepository.getAvailability("John Doe");
+        List<AvailabilitySlot> reopenedAvailabilitySlotList = reopenedAvailability.getAvailabilitySlotList();
+
+        assertTrue(candidateRepository.findById("John Doe").isPresent());
+        assertEquals(savedAvailability.getId(), reopenedAvailability.getId());
+        assertEquals(savedAvailability.getVersion(), reopenedAvailability.getVersion());
+        assertEquals(1, reopenedAvailabilitySlotList.size());
+        assertEquals(DAY, reopenedAvailabilitySlotList.get(0).getDay());
+        assertEquals(LocalTime.of(9, 0), reopenedAvailabilitySlotList.get(0).getTimeSlotList().get(0).getFrom());
+        assertEquals(LocalTime.of(11, 0), reopenedAvailabilitySlotList.get(0).getTimeSlotList().get(0).getTo());
+    }
+
+    @Test(expected = OptimisticLockingFailureException.class)
+    public void saveReopenedCandidateAvailabilityWithStaleVersionFails() {
+        // Arrange
+        Candidate candidate = candidateRepository.save(new Candidate("John Doe"));
+        candidateAvailabilityRepository.save(buildCandidateAvailability(candidate));
+
+        CandidateAvailability staleCopy = candidateAvailabilityRepository.getAvailability("John Doe");
+        candidateAvailabilityRepository.save(candidateAvailabilityRepository.getAvailability("John Doe"));
+
+        availabilityFile.close();
+        openRepositories();
+
+        // Act && Assert
+        candidateAvailabilityRepository.save(staleCopy);
+
+        fail("Optimistic locking failure of stale candidate availability was not thrown!");
+    }
+
+    private void openRepositories() {
+        availabilityFile = new MappedAvailabilityFile(path, 4);
+        candidateRepository = new MappedCandidateRepository(availabilityFile);
+        candidateAvailabilityRepository = new MappedCandidateAvailabilityRepository(availabilityFile);
+    }
+
+    private CandidateAvailability buildCandidateAvailability(Candidate candidate) {
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        timeSlots.add(TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
+                                      .build());
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+        availabilitySlots.add(AvailabilitySlot.Builder.availabilitySlotWith().withDay(DAY)
+                                                      .withTimeSlotList(timeSlots).build());
+
+        return CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                            .withCandidateModel(candidate)
+                                            .withAvailabilitySlotList(availabilitySlots)
+                                            .build();
+    }
+}
@@ -0,0 +1,97 @@
+package repository.mapped;
+
+import app.CalendarApi;
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.repository.interviewer.InterviewerRepository;
+import app.repository.mapped.MappedInterviewerAvailabilityRepository;
+import app.repository.mapped.MappedInterviewerRepository;
+import org.junit.After;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = CalendarApi.class)
+@ActiveProfiles("mapped-file")
+public class MappedFileProfileTests {
+    @ClassRule
+    public static TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    @Autowired
+    private InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+
+    @DynamicPropertySource
+    static void mappedFileProperties(DynamicPropertyRegistry registry) {
+        registry.add("calendar.storage.mapped-file.path",
+                     () -> temporaryFolder.getRoot().toPath().resolve("availability.db").toString());
+    }
+
+    @After
+    public void tearDown() {
+        if (interviewerRepository.existsById("Jane Doe")) {
+            interviewerRepository.deleteById("Jane Doe");
+        }
+    }
+
+    @Test
+    public void mappedFileProfileUsesMappedRepositoriesSuccessfully() {
+        // Assert
+        assertTrue(interviewerRepository instanceof MappedInterviewerRepository);
+        assertTrue(interviewerAvailabilityRepository instanceof MappedInterviewerAvailabilityRepository);
+    }
+
+    @Test(expected = OptimisticLockingFailureException.class)
+    public void saveInterviewerAvailabilityWithStaleVersionFails() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer));
+
+        InterviewerAvailability firstWriterCopy =
+                interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe");
+        InterviewerAvailability secondWriterCopy =
+                interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe");
+
+        // Act && Assert
+        interviewerAvailabilityRepository.save(firstWriterCopy);
+        interviewerAvailabilityRepository.save(secondWriterCopy);
+
+        fail("Optimistic locking failure of stale interviewer availability was not thrown!");
+    }
+
+    private InterviewerAvailability buildInterviewerAvailability(Interviewer interviewer) {
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        timeSlots.add(TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
+                                      .build());
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+        availabilitySlots.add(AvailabilitySlot.Builder.availabilitySlotWith()
+                                                      .withDay(LocalDate.of(2014, Month.JANUARY, 1))
+                                                      .withTimeSlotList(timeSlots).build());
+
+        return InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                              .withInterviewerModel(interviewer)
+                                              .withAvailabilitySlotList(availabilitySlots)
+                                              .build();
+    }
+}
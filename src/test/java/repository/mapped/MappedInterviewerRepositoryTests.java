@@ -0,0 +1,191 @@
+package repository.mapped;
+
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.repository.mapped.MappedAvailabilityFile;
+import app.repository.mapped.MappedInterviewerAvailabilityRepository;
+import app.repository.mapped.MappedInterviewerRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MappedInterviewerRepositoryTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 1);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private String path;
+    private MappedAvailabilityFile availabilityFile;
+    private MappedInterviewerRepository interviewerRepository;
+    private MappedInterviewerAvailabilityRepository interviewerAvailabilityRepository;
+
+    @Before
+    public void setup() throws IOException {
+        path = temporaryFolder.newFolder().toPath().resolve("availability.db").toString();
+        openRepositories();
+    }
+
+    @After
+    public void tearDown() {
+        availabilityFile.close();
+    }
+
+    @Test
+    public void deletedInterviewerRecordsAreReusedSuccessfully() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer));
+        int recordCount = availabilityFile.getRecordCount();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            interviewerRepository.deleteById("Jane Doe");
+            interviewerRepository.save(interviewer);
+            interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer));
+        }
+
+        // Assert
+        assertEquals(recordCount, availabilityFile.getRecordCount());
+        assertEquals(Collections.singletonList("Jane Doe"), interviewerRepository.getAllNames());
+        assertEquals(1, interviewerAvailabilityRepository.findAll().size());
+    }
+
+    @Test
+    public void deletedAvailabilityRecordsAreReusedSuccessfully() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        InterviewerAvailability savedAvailability = interviewerAvailabilityRepository.save(
+                buildInterviewerAvailability(interviewer));
+        int recordCount = availabilityFile.getRecordCount();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            interviewerAvailabilityRepository.deleteById(savedAvailability.getId());
+            savedAvailability = interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer));
+        }
+
+        // Assert
+        assertEquals(recordCount, availabilityFile.getRecordCount());
+        assertTrue(interviewerRepository.findById("Jane Doe").isPresent());
+        assertEquals(Long.valueOf(0), savedAvailability.getVersion());
+    }
+
+    @Test
+    public void interviewerAvailabilitySurvivesReopenSuccessfully() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        InterviewerAvailability savedAvailability = interviewerAvailabilityRepository.save(
+                buildInterviewerAvailability(interviewer));
+
+        // Act
+        availabilityFile.close();
+        openRepositories();
+
+        // Assert
+        InterviewerAvailability reopenedAvailability =
+                interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe");
+        List<AvailabilitySlot> reopenedAvailabilitySlotList = reopenedAvailability.getAvailabilitySlotList();
+
+        assertTrue(interviewerRepository.findById("Jane Doe").isPresent());
+        assertEquals(savedAvailability.getId(), reopenedAvailability.getId());
+        assertEquals(savedAvailability.getVersion(), reopenedAvailability.getVersion());
+        assertEquals(1, reopenedAvailabilitySlotList.size());
+        assertEquals(DAY, reopenedAvailabilitySlotList.get(0).getDay());
+        assertEquals(LocalTime.of(9, 0), reopenedAvailabilitySlotList.get(0).getTimeSlotList().get(0).getFrom());
+        assertEquals(LocalTime.of(11, 0), reopenedAvailabilitySlotList.get(0).getTimeSlotList().get(0).getTo());
+        assertTrue(interviewerAvailabilityRepository.findById(savedAvailability.getId()).isPresent());
+    }
+
+    @Test
+    public void saveReopenedInterviewerAvailabilityContinuesVersionSuccessfully() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer));
+        availabilityFile.close();
+        openRepositories();
+
+        // Act
+        InterviewerAvailability reopenedAvailability =
+                interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe");
+        InterviewerAvailability secondVersion = interviewerAvailabilityRepository.save(reopenedAvailability);
+
+        // Assert
+        assertEquals(reopenedAvailability.getId(), secondVersion.getId());
+        assertEquals(Long.valueOf(1), secondVersion.getVersion());
+    }
+
+    @Test(expected = OptimisticLockingFailureException.class)
+    public void saveInterviewerAvailabilityWithStaleVersionFails() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer));
+
+        InterviewerAvailability firstWriterCopy =
+                interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe");
+        InterviewerAvailability secondWriterCopy =
+                interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe");
+
+        // Act && Assert
+        interviewerAvailabilityRepository.save(firstWriterCopy);
+        interviewerAvailabilityRepository.save(secondWriterCopy);
+
+        fail("Optimistic locking failure of stale interviewer availability was not thrown!");
+    }
+
+    @Test(expected = OptimisticLockingFailureException.class)
+    public void saveNewInterviewerAvailabilityOverExistingOneFails() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer));
+
+        // Act && Assert
+        interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer));
+
+        fail("Optimistic locking failure of unversioned interviewer availability was not thrown!");
+    }
+
+    @Test(expected = EmptyResultDataAccessException.class)
+    public void deleteUnknownInterviewerFails() {
+        // Act && Assert
+        interviewerRepository.deleteById("Jane Doe");
+
+        fail("Empty result for unknown interviewer was not thrown!");
+    }
+
+    private void openRepositories() {
+        availabilityFile = new MappedAvailabilityFile(path, 4);
+        interviewerRepository = new MappedInterviewerRepository(availabilityFile);
+        interviewerAvailabilityRepository = new MappedInterviewerAvailabilityRepository(availabilityFile);
+    }
+
+    private InterviewerAvailability buildInterviewerAvailability(Interviewer interviewer) {
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        timeSlots.add(TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
+                                      .build());
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+        availabilitySlots.add(AvailabilitySlot.Builder.availabilitySlotWith().withDay(DAY)
+                                                      .withTimeSlotList(timeSlots).build());
+
+        return InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                              .withInterviewerModel(interviewer)
+                                              .withAvailabilitySlotList(availabilitySlots)
+                                              .build();
+    }
+}
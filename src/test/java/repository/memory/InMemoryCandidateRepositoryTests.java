@@ -0,0 +1,267 @@
+package repository.memory;
+
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.repository.memory.InMemoryCandidateAvailabilityRepository;
+import app.repository.memory.InMemoryCandidateRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class InMemoryCandidateRepositoryTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 1);
+    private static final LocalDate NEXT_DAY = DAY.plusDays(1);
+    private static final int WRITERS = 8;
+
+    private InMemoryCandidateAvailabilityRepository candidateAvailabilityRepository;
+    private InMemoryCandidateRepository candidateRepository;
+
+    @Before
+    public void setup() {
+        candidateAvailabilityRepository = new InMemoryCandidateAvailabilityRepository();
+        candidateRepository = new InMemoryCandidateRepository(candidateAvailabilityRepository);
+    }
+
+    @Test
+    public void saveCandidateAvailabilityPublishesNewVersionSuccessfully() {
+        // Arrange
+        Candidate candidate = candidateRepository.save(new Candidate("John Doe"));
+        CandidateAvailability candidateAvailability = buildCandidateAvailability(candidate);
+
+        // Act
+        CandidateAvailability firstVersion = candidateAvailabilityRepository.save(candidateAvailability);
+        CandidateAvailability existingAvailability = candidateAvailabilityRepository.getAvailability("John Doe");
+        CandidateAvailability secondVersion = candidateAvailabilityRepository.save(
+                CandidateAvailability.Builder.candidateAvailabilityModelFrom(existingAvailability)
+                                             .withAvailabilitySlotList(buildAvailabilitySlots(DAY, NEXT_DAY))
+                                             .build());
+
+        // Assert
+        assertEquals(firstVersion.getId(), secondVersion.getId());
+        assertEquals(Long.valueOf(0), firstVersion.getVersion());
+        assertEquals(Long.valueOf(1), secondVersion.getVersion());
+        assertEquals(1, firstVersion.getAvailabilitySlotList().size());
+        assertEquals(2, candidateAvailabilityRepository.getAvailability("John Doe").getAvailabilitySlotList().size());
+    }
+
+    @Test
+    public void readersDoNotSeeUnsavedChangesSuccessfully() {
+        // Arrange
+        Candidate candidate = candidateRepository.save(new Candidate("John Doe"));
+        candidateAvailabilityRepository.save(buildCandidateAvailability(candidate));
+
+        // Act
+        CandidateAvailability snapshot = candidateAvailabilityRepository.getAvailability("John Doe");
+        CandidateAvailability writerCopy = CandidateAvailability.Builder.candidateAvailabilityModelFrom(snapshot)
+                                                                        .withAvailabilitySlotList(new ArrayList<>())
+                                                                        .build();
+
+        // Assert
+        assertTrue(writerCopy.getAvailabilitySlotList().isEmpty());
+        assertSame(snapshot, candidateAvailabilityRepository.getAvailability("John Doe"));
+        assertEquals(1, candidateAvailabilityRepository.getAvailability("John Doe").getAvailabilitySlotList().size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void changeReadSnapshotFails() {
+        // Arrange
+        Candidate candidate = candidateRepository.save(new Candidate("John Doe"));
+        candidateAvailabilityRepository.save(buildCandidateAvailability(candidate));
+
+        // Act && Assert
+        candidateAvailabilityRepository.getAvailability("John Doe").getAvailabilitySlotList().get(0).getTimeSlotList()
+                                       .clear();
+
+        fail("Change of read-only candidate availability snapshot was not rejected!");
+    }
+
+    @Test
+    public void findAndDeleteCandidateAvailabilityByIdSuccessfully() {
+        // Arrange
+        Candidate candidate = candidateRepository.save(new Candidate("John Doe"));
+        candidateRepository.save(new Candidate("Jane Smith"));
+        CandidateAvailability savedAvailability = candidateAvailabilityRepository.save(
+                buildCandidateAvailability(candidate));
+        CandidateAvailability otherAvailability = candidateAvailabilityRepository.save(
+                buildCandidateAvailability(new Candidate("Jane Smith")));
+
+        // Act
+        Optional<CandidateAvailability> foundAvailability = candidateAvailabilityRepository.findById(
+                savedAvailability.getId());
+        candidateAvailabilityRepository.deleteById(savedAvailability.getId());
+
+        // Assert
+        assertSame(savedAvailability, foundAvailability.orElse(null));
+        assertFalse(candidateAvailabilityRepository.findById(savedAvailability.getId()).isPresent());
+        assertTrue(candidateAvailabilityRepository.findById(otherAvailability.getId()).isPresent());
+        assertNull(candidateAvailabilityRepository.getAvailability("John Doe"));
+    }
+
+    @Test(expected = EmptyResultDataAccessException.class)
+    public void deleteCandidateAvailabilityByUnknownIdFails() {
+        // Arrange
+        Candidate candidate = candidateRepository.save(new Candidate("John Doe"));
+        CandidateAvailability savedAvailability = candidateAvailabilityRepository.save(
+                buildCandidateAvailability(candidate));
+        candidateAvailabilityRepository.deleteById(savedAvailability.getId());
+
+        // Act && Assert
+        candidateAvailabilityRepository.deleteById(savedAvailability.getId());
+
+        fail("Deletion of unknown candidate availability was not rejected!");
+    }
+
+    @Test(expected = ObjectOptimisticLockingFailureException.class)
+    public void saveCandidateAvailabilityWithStaleVersionFails() {
+        // Arrange
+        Candidate candidate = candidateRepository.save(new Candidate("John Doe"));
+        candidateAvailabilityRepository.save(buildCandidateAvailability(candidate));
+
+        CandidateAvailability firstWriterCopy = candidateAvailabilityRepository.getAvailability("John Doe");
+        CandidateAvailability secondWriterCopy = candidateAvailabilityRepository.getAvailability("John Doe");
+
+        // Act && Assert
+        candidateAvailabilityRepository.save(firstWriterCopy);
+        candidateAvailabilityRepository.save(secondWriterCopy);
+
+        fail("Optimistic locking failure of stale candidate availability was not thrown!");
+    }
+
+    @Test
+    public void staleWriterCopyLeavesPublishedVersionSuccessfully() {
+        // Arrange
+        Candidate candidate = candidateRepository.save(new Candidate("John Doe"));
+        CandidateAvailability snapshot = candidateAvailabilityRepository.save(buildCandidateAvailability(candidate));
+        CandidateAvailability staleWriterCopy = CandidateAvailability.Builder.candidateAvailabilityModelFrom(snapshot)
+                                                                             .withAvailabilitySlotList(
+                                                                                     new ArrayList<>())
+                                                                             .build();
+        CandidateAvailability publishedVersion = candidateAvailabilityRepository.save(
+                CandidateAvailability.Builder.candidateAvailabilityModelFrom(snapshot)
+                                             .withAvailabilitySlotList(buildAvailabilitySlots(DAY, NEXT_DAY))
+                                             .build());
+
+        // Act
+        try {
+            candidateAvailabilityRepository.save(staleWriterCopy);
+            fail("Optimistic locking failure of stale candidate availability was not thrown!");
+        } catch (ObjectOptimisticLockingFailureException exception) {
+            // Expected
+        }
+
+        // Assert
+        assertSame(publishedVersion, candidateAvailabilityRepository.getAvailability("John Doe"));
+        assertEquals(Long.valueOf(1), candidateAvailabilityRepository.getAvailability("John Doe").getVersion());
+        assertEquals(2, candidateAvailabilityRepository.getAvailability("John Doe").getAvailabilitySlotList().size());
+    }
+
+    @Test
+    public void concurrentWritersPublishEveryChangeSuccessfully() throws Exception {
+        // Arrange
+        Candidate candidate = candidateRepository.save(new Candidate("John Doe"));
+        candidateAvailabilityRepository.save(buildCandidateAvailability(candidate));
+        ExecutorService executorService = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+
+        // Act
+        for (int writer = 1; writer <= WRITERS; writer++) {
+            LocalDate writerDay = DAY.plusDays(writer);
+
+            writers.add(executorService.submit(() -> {
+                startLatch.await();
+                addDayRetryingConflicts("John Doe", writerDay);
+
+                return null;
+            }));
+        }
+
+        startLatch.countDown();
+
+        for (Future<?> writer : writers) {
+            writer.get(10, TimeUnit.SECONDS);
+        }
+
+        executorService.shutdown();
+
+        // Assert
+        CandidateAvailability currentVersion = candidateAvailabilityRepository.getAvailability("John Doe");
+
+        assertEquals(Long.valueOf(WRITERS), currentVersion.getVersion());
+        assertEquals(WRITERS + 1, currentVersion.getAvailabilitySlotList().size());
+    }
+
+    @Test
+    public void deleteCandidateRemovesAvailabilitySuccessfully() {
+        // Arrange
+        Candidate candidate = candidateRepository.save(new Candidate("John Doe"));
+        candidateAvailabilityRepository.save(buildCandidateAvailability(candidate));
+
+        // Act
+        candidateRepository.deleteById("John Doe");
+
+        // Assert
+        assertFalse(candidateRepository.findById("John Doe").isPresent());
+        assertNull(candidateAvailabilityRepository.getAvailability("John Doe"));
+        assertTrue(candidateRepository.getAllNames().isEmpty());
+    }
+
+    private void addDayRetryingConflicts(String name, LocalDate day) {
+        while (true) {
+            CandidateAvailability snapshot = candidateAvailabilityRepository.getAvailability(name);
+            List<AvailabilitySlot> availabilitySlots = new ArrayList<>(snapshot.getAvailabilitySlotList());
+            availabilitySlots.addAll(buildAvailabilitySlots(day));
+
+            try {
+                candidateAvailabilityRepository.save(
+                        CandidateAvailability.Builder.candidateAvailabilityModelFrom(snapshot)
+                                                     .withAvailabilitySlotList(availabilitySlots)
+                                                     .build());
+
+                return;
+            } catch (ObjectOptimisticLockingFailureException exception) {
+                // Another writer published first; read its version and apply the change again.
+            }
+        }
+    }
+
+    private CandidateAvailability buildCandidateAvailability(Candidate candidate) {
+        return CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                            .withCandidateModel(candidate)
+                                            .withAvailabilitySlotList(buildAvailabilitySlots(DAY))
+                                            .build();
+    }
+
+    private List<AvailabilitySlot> buildAvailabilitySlots(LocalDate... days) {
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
+                                            .build();
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+
+        for (LocalDate day : days) {
+            List<TimeSlot> timeSlots = new ArrayList<>();
+            timeSlots.add(timeSlot);
+
+            availabilitySlots.add(AvailabilitySlot.Builder.availabilitySlotWith().withDay(day)
+                                                          .withTimeSlotList(timeSlots).build());
+        }
+
+        return availabilitySlots;
+    }
+}
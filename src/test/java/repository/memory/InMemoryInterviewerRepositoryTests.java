@@ -0,0 +1,200 @@
+package repository.memory;
+
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.repository.memory.InMemoryInterviewerAvailabilityRepository;
+import app.repository.memory.InMemoryInterviewerRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class InMemoryInterviewerRepositoryTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 1);
+
+    private InMemoryInterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    private InMemoryInterviewerRepository interviewerRepository;
+
+    @Before
+    public void setup() {
+        interviewerAvailabilityRepository = new InMemoryInterviewerAvailabilityRepository();
+        interviewerRepository = new InMemoryInterviewerRepository(interviewerAvailabilityRepository);
+    }
+
+    @Test
+    public void saveInterviewerAvailabilityPublishesNewVersionSuccessfully() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+
+        // Act
+        InterviewerAvailability firstVersion = interviewerAvailabilityRepository.save(
+                buildInterviewerAvailability(interviewer));
+        InterviewerAvailability existingAvailability =
+                interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe");
+        List<TimeSlot> timeSlots = new ArrayList<>(existingAvailability.getAvailabilitySlotList().get(0)
+                                                                       .getTimeSlotList());
+        timeSlots.add(
+                TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(13, 0)).withTo(LocalTime.of(15, 0)).build());
+        InterviewerAvailability secondVersion = interviewerAvailabilityRepository.save(
+                InterviewerAvailability.Builder.interviewerAvailabilityModelFrom(existingAvailability)
+                                               .withAvailabilitySlotList(Collections.singletonList(
+                                                       new AvailabilitySlot(DAY, timeSlots)))
+                                               .build());
+
+        // Assert
+        assertEquals(firstVersion.getId(), secondVersion.getId());
+        assertEquals(Long.valueOf(0), firstVersion.getVersion());
+        assertEquals(Long.valueOf(1), secondVersion.getVersion());
+        assertEquals(1, firstVersion.getAvailabilitySlotList().get(0).getTimeSlotList().size());
+        assertEquals(2, interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe")
+                                                         .getAvailabilitySlotList().get(0).getTimeSlotList().size());
+    }
+
+    @Test(expected = ObjectOptimisticLockingFailureException.class)
+    public void saveInterviewerAvailabilityWithStaleVersionFails() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer));
+
+        InterviewerAvailability firstWriterCopy =
+                interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe");
+        InterviewerAvailability secondWriterCopy =
+                interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe");
+
+        // Act && Assert
+        interviewerAvailabilityRepository.save(firstWriterCopy);
+        interviewerAvailabilityRepository.save(secondWriterCopy);
+
+        fail("Optimistic locking failure of stale interviewer availability was not thrown!");
+    }
+
+    @Test(expected = ObjectOptimisticLockingFailureException.class)
+    public void saveNewInterviewerAvailabilityOverExistingOneFails() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer));
+
+        // Act && Assert
+        interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer));
+
+        fail("Optimistic locking failure of unversioned interviewer availability was not thrown!");
+    }
+
+    @Test
+    public void savedSnapshotIsIsolatedFromWriterChangesSuccessfully() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        InterviewerAvailability interviewerAvailability = buildInterviewerAvailability(interviewer);
+        InterviewerAvailability savedAvailability = interviewerAvailabilityRepository.save(interviewerAvailability);
+
+        // Act
+        interviewerAvailability.getAvailabilitySlotList().get(0).getTimeSlotList().clear();
+        interviewerAvailability.getAvailabilitySlotList().clear();
+
+        // Assert
+        List<AvailabilitySlot> currentAvailabilitySlotList = interviewerAvailabilityRepository
+                .getInterviewerAvailabilityByInterviewerName("Jane Doe").getAvailabilitySlotList();
+
+        assertSame(savedAvailability.getAvailabilitySlotList(), currentAvailabilitySlotList);
+        assertEquals(1, currentAvailabilitySlotList.size());
+        assertEquals(1, currentAvailabilitySlotList.get(0).getTimeSlotList().size());
+    }
+
+    @Test
+    public void readersShareTheSnapshotWithoutCopyingSuccessfully() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        InterviewerAvailability savedAvailability = interviewerAvailabilityRepository.save(
+                buildInterviewerAvailability(interviewer));
+
+        // Act
+        InterviewerAvailability firstReaderSnapshot =
+                interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe");
+        InterviewerAvailability secondReaderSnapshot = interviewerAvailabilityRepository.findAll().get(0);
+        InterviewerAvailability thirdReaderSnapshot =
+                interviewerAvailabilityRepository.findById(savedAvailability.getId()).orElse(null);
+
+        // Assert
+        assertSame(savedAvailability, firstReaderSnapshot);
+        assertSame(savedAvailability, secondReaderSnapshot);
+        assertSame(savedAvailability, thirdReaderSnapshot);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void changeReadSnapshotFails() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer));
+
+        // Act && Assert
+        interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe")
+                                         .getAvailabilitySlotList().clear();
+
+        fail("Change of read-only interviewer availability snapshot was not rejected!");
+    }
+
+    @Test
+    public void availabilitySavedAgainAfterDeleteIsFoundByItsNewIdSuccessfully() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        InterviewerAvailability deletedAvailability = interviewerAvailabilityRepository.save(
+                buildInterviewerAvailability(interviewer));
+        interviewerAvailabilityRepository.deleteById(deletedAvailability.getId());
+
+        // Act
+        InterviewerAvailability savedAvailability = interviewerAvailabilityRepository.save(
+                buildInterviewerAvailability(interviewer));
+
+        // Assert
+        assertNotEquals(deletedAvailability.getId(), savedAvailability.getId());
+        assertFalse(interviewerAvailabilityRepository.findById(deletedAvailability.getId()).isPresent());
+        assertSame(savedAvailability,
+                   interviewerAvailabilityRepository.findById(savedAvailability.getId()).orElse(null));
+        assertFalse(interviewerAvailabilityRepository.existsById(deletedAvailability.getId()));
+    }
+
+    @Test
+    public void deleteInterviewerRemovesAvailabilitySuccessfully() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        interviewerRepository.save(new Interviewer("John Smith"));
+        interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer));
+
+        // Act
+        interviewerRepository.deleteById("Jane Doe");
+
+        // Assert
+        assertFalse(interviewerRepository.findById("Jane Doe").isPresent());
+        assertNull(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe"));
+        assertEquals(Collections.singletonList("John Smith"),
+                     interviewerRepository.findExistingNames(Arrays.asList("Jane Doe", "John Smith")));
+    }
+
+    private InterviewerAvailability buildInterviewerAvailability(Interviewer interviewer) {
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
+                                            .build();
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        timeSlots.add(timeSlot);
+
+        AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(DAY)
+                                                                    .withTimeSlotList(timeSlots).build();
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+        availabilitySlots.add(availabilitySlot);
+
+        return InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                              .withInterviewerModel(interviewer)
+                                              .withAvailabilitySlotList(availabilitySlots)
+                                              .build();
+    }
+}
@@ -0,0 +1,46 @@
+package repository.utils;
+
+import app.repository.utils.StatementCounter;
+
+import java.util.function.Supplier;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Asserts how many SQL statements an action runs, for tests against the JPA storage. Failures list the statements
+ * that ran, so a repeated statement points straight at the N+1 loop behind it.
+ */
+public final class StatementCountAssertions {
+    private StatementCountAssertions() {
+    }
+
+    public static int countStatements(Runnable action) {
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            action.run();
+
+            return scope.getCount();
+        }
+    }
+
+    public static <T> T assertStatementCount(int expectedStatements, Supplier<T> action) {
+        return assertStatementCount(expectedStatements, expectedStatements, action);
+    }
+
+    public static <T> T assertMaxStatementCount(int maxStatements, Supplier<T> action) {
+        return assertStatementCount(0, maxStatements, action);
+    }
+
+    private static <T> T assertStatementCount(int minStatements, int maxStatements, Supplier<T> action) {
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            T result = action.get();
+
+            if (scope.getCount() < minStatements || scope.getCount() > maxStatements) {
+                fail("Expected " + (minStatements == maxStatements ? "" : "at most ") + maxStatements
+                     + " SQL statements but " + scope.getCount() + " ran:\n"
+                     + String.join("\n", scope.getStatements()));
+            }
+
+            return result;
+        }
+    }
+}
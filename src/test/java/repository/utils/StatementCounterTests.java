@@ -0,0 +1,68 @@
+package repository.utils;
+
+import app.repository.utils.StatementCounter;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class StatementCounterTests {
+    private final StatementCounter statementCounter = new StatementCounter();
+
+    @Test
+    public void statementsCountTowardsEnclosingScopesSuccessfully() {
+        // Arrange
+        StatementCounter.Scope outerScope = StatementCounter.open();
+        StatementCounter.Scope innerScope;
+
+        // Act
+        statementCounter.inspect("select 1");
+
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            innerScope = scope;
+            statementCounter.inspect("select 2");
+            statementCounter.inspect("select 2");
+        }
+
+        statementCounter.inspect("select 3");
+        outerScope.close();
+        statementCounter.inspect("select 4");
+
+        // Assert
+        assertEquals(2, innerScope.getCount());
+        assertEquals(Arrays.asList("select 2", "select 2"), innerScope.getStatements());
+        assertEquals(4, outerScope.getCount());
+        assertEquals(Arrays.asList("select 1", "select 2", "select 2", "select 3"), outerScope.getStatements());
+    }
+
+    @Test
+    public void propagatedTasksCountTowardsScopeSuccessfully() throws InterruptedException {
+        // Arrange
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        StatementCounter.Scope scope = StatementCounter.open();
+
+        // Act
+        executorService.execute(StatementCounter.propagate(() -> statementCounter.inspect("select 1")));
+        scope.close();
+        executorService.execute(() -> statementCounter.inspect("select 2"));
+        executorService.shutdown();
+
+        // Assert
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(1, scope.getCount());
+    }
+
+    @Test
+    public void statementsWithoutScopeAreNotCountedSuccessfully() {
+        // Act
+        String sql = statementCounter.inspect("select 1");
+
+        // Assert
+        assertEquals("select 1", sql);
+        assertEquals(0, StatementCountAssertions.countStatements(() -> { }));
+    }
+}
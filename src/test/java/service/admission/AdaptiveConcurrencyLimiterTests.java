@@ -0,0 +1,87 @@
+package service.admission;
+
+import app.service.admission.AdaptiveConcurrencyLimiter;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.*;
+
+public class AdaptiveConcurrencyLimiterTests {
+    private static final long FAST_NANOS = Duration.ofMillis(10).toNanos();
+    private static final long SLOW_NANOS = Duration.ofSeconds(2).toNanos();
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Before
+    public void setup() {
+        limiter = new AdaptiveConcurrencyLimiter("test", 4, 2, 6, Duration.ofSeconds(1), 0.5);
+    }
+
+    @Test
+    public void requestsAboveLimitAreRejectedSuccessfully() {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        // Assert
+        assertFalse(limiter.tryAcquire());
+        assertEquals(4, limiter.getInFlight());
+        assertEquals(1L, limiter.getRejectedCount());
+    }
+
+    @Test
+    public void fastRequestsUnderLoadIncreaseLimitUpToMaximumSuccessfully() {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            limiter.release(FAST_NANOS, false);
+            limiter.tryAcquire();
+        }
+
+        // Assert
+        assertEquals(6, limiter.getLimit());
+    }
+
+    @Test
+    public void fastRequestsWithoutLoadKeepLimitSuccessfully() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST_NANOS, false);
+        }
+
+        // Assert
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void slowOrOverloadedRequestsDecreaseLimitDownToMinimumSuccessfully() {
+        // Act
+        limiter.tryAcquire();
+        limiter.release(SLOW_NANOS, false);
+        int limitAfterSlowRequest = limiter.getLimit();
+
+        limiter.tryAcquire();
+        limiter.release(FAST_NANOS, true);
+
+        // Assert
+        assertEquals(2, limitAfterSlowRequest);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createLimiterWithInitialLimitAboveMaximumFails() {
+        // Act && Assert
+        new AdaptiveConcurrencyLimiter("test", 7, 2, 6, Duration.ofSeconds(1), 0.5);
+
+        fail("Illegal argument for initial limit above maximum was not thrown!");
+    }
+}
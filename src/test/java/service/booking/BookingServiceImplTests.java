@@ -0,0 +1,355 @@
+package service.booking;
+
+import app.exception.UserException;
+import app.model.booking.Booking;
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.HourMasks;
+import app.model.utils.SlotGranularity;
+import app.model.utils.TimeSlot;
+import app.repository.candidate.CandidateAvailabilityRepository;
+import app.repository.candidate.CandidateRepository;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.repository.interviewer.InterviewerRepository;
+import app.repository.memory.InMemoryBookingRepository;
+import app.service.booking.BookingIndex;
+import app.service.booking.BookingIndex.Participant;
+import app.service.booking.BookingServiceImpl;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BookingServiceImplTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 1);
+
+    @Mock
+    private CandidateRepository candidateRepository;
+    @Mock
+    private CandidateAvailabilityRepository candidateAvailabilityRepository;
+    @Mock
+    private InterviewerRepository interviewerRepository;
+    @Mock
+    private InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private InMemoryBookingRepository bookingRepository;
+    private BookingIndex bookingIndex;
+    private BookingServiceImpl bookingServiceImpl;
+
+    @Before
+    public void setup() {
+        bookingRepository = new InMemoryBookingRepository();
+        bookingIndex = new BookingIndex(bookingRepository, SlotGranularity.HOUR);
+        bookingServiceImpl = buildBookingService(bookingIndex);
+    }
+
+    @Test
+    public void createBookingConsumesAvailabilitySuccessfully() {
+        // Arrange
+        CandidateAvailability candidateAvailability = buildCandidateAvailability("John Doe");
+        AtomicReference<CandidateAvailability> savedCandidateAvailability =
+                stubCandidateAvailability(candidateAvailability);
+        AtomicReference<InterviewerAvailability> savedInterviewerAvailability =
+                stubInterviewerAvailability(buildInterviewerAvailability("Ines"));
+        when(candidateRepository.existsById("John Doe")).thenReturn(true);
+        when(interviewerRepository.existsById("Ines")).thenReturn(true);
+
+        // Act
+        Booking booking = bookingServiceImpl.createBooking(buildBooking("John Doe", 10, 11));
+
+        // Assert
+        assertEquals(Long.valueOf(1L), booking.getId());
+        assertEquals(Integer.valueOf(0b101 << 9),
+                     HourMasks.toHourMasksByDay(savedCandidateAvailability.get().getAvailabilitySlotList()).get(DAY));
+        assertEquals(Integer.valueOf(0b101 << 9),
+                     HourMasks.toHourMasksByDay(savedInterviewerAvailability.get().getAvailabilitySlotList())
+                              .get(DAY));
+        assertEquals(Integer.valueOf(0b111 << 9),
+                     HourMasks.toHourMasksByDay(candidateAvailability.getAvailabilitySlotList()).get(DAY));
+        verify(applicationEventPublisher, times(2)).publishEvent(any(AvailabilityChangedEvent.class));
+        assertEquals(1, bookingServiceImpl.getAllBookings().size());
+    }
+
+    @Test
+    public void cancelBookingReturnsAvailabilitySuccessfully() {
+        // Arrange
+        AtomicReference<CandidateAvailability> savedCandidateAvailability =
+                stubCandidateAvailability(buildCandidateAvailability("John Doe"));
+        AtomicReference<InterviewerAvailability> savedInterviewerAvailability =
+                stubInterviewerAvailability(buildInterviewerAvailability("Ines"));
+        when(candidateRepository.existsById("John Doe")).thenReturn(true);
+        when(interviewerRepository.existsById("Ines")).thenReturn(true);
+        Booking booking = bookingServiceImpl.createBooking(buildBooking("John Doe", 10, 11));
+
+        // Act
+        bookingServiceImpl.cancelBooking(booking.getId());
+
+        // Assert
+        assertEquals(Integer.valueOf(0b111 << 9),
+                     HourMasks.toHourMasksByDay(savedCandidateAvailability.get().getAvailabilitySlotList()).get(DAY));
+        assertEquals(Integer.valueOf(0b111 << 9),
+                     HourMasks.toHourMasksByDay(savedInterviewerAvailability.get().getAvailabilitySlotList())
+                              .get(DAY));
+        assertFalse(bookingServiceImpl.getBookingById(booking.getId()).isPresent());
+        assertEquals(2L, bookingServiceImpl.createBooking(buildBooking("John Doe", 10, 11)).getId().longValue());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void cancelBookingWhoseReleaseFailsKeepsBookingSuccessfully() {
+        // Arrange
+        stubCandidateAvailability(buildCandidateAvailability("John Doe"));
+        stubInterviewerAvailability(buildInterviewerAvailability("Ines"));
+        when(candidateRepository.existsById("John Doe")).thenReturn(true);
+        when(interviewerRepository.existsById("Ines")).thenReturn(true);
+        Booking booking = bookingServiceImpl.createBooking(buildBooking("John Doe", 10, 11));
+        when(interviewerAvailabilityRepository.saveAndFlush(any(InterviewerAvailability.class)))
+                .thenThrow(new IllegalStateException("Database is down!"));
+
+        // Act && Assert
+        try {
+            bookingServiceImpl.cancelBooking(booking.getId());
+        } catch (IllegalStateException exception) {
+            assertTrue(bookingServiceImpl.getBookingById(booking.getId()).isPresent());
+            assertTrue(bookingIndex.isBooked(new Participant(ParticipantType.INTERVIEWER, "Ines"), DAY,
+                                             SlotGranularity.HOUR.toSlotMask(
+                                                     Collections.singletonList(booking.getTimeSlot()))));
+
+            throw exception;
+        }
+
+        fail("Exception of failed release was not thrown!");
+    }
+
+    @Test(expected = UserException.class)
+    public void createBookingOfTimeSlotBookedBeforeRestartFails() {
+        // Arrange
+        stubCandidateAvailability(buildCandidateAvailability("John Doe"));
+        stubInterviewerAvailability(buildInterviewerAvailability("Ines"));
+        when(candidateRepository.existsById(anyString())).thenReturn(true);
+        when(interviewerRepository.existsById("Ines")).thenReturn(true);
+        bookingServiceImpl.createBooking(buildBooking("John Doe", 10, 11));
+
+        BookingIndex restartedBookingIndex = new BookingIndex(bookingRepository, SlotGranularity.HOUR);
+        restartedBookingIndex.rebuild();
+        BookingServiceImpl restartedBookingService = buildBookingService(restartedBookingIndex);
+
+        // Act && Assert
+        try {
+            restartedBookingService.createBooking(buildBooking("Jane Doe", 10, 11));
+        } catch (UserException exception) {
+            assertEquals("Time slot is already booked!", exception.getMessage());
+            assertEquals(1, restartedBookingService.getAllBookings().size());
+
+            throw exception;
+        }
+
+        fail("User exception for time slot booked before the restart was not thrown!");
+    }
+
+    @Test(expected = UserException.class)
+    public void createBookingOfBookedTimeSlotFails() {
+        // Arrange
+        when(candidateRepository.existsById(anyString())).thenReturn(true);
+        when(interviewerRepository.existsById("Ines")).thenReturn(true);
+        when(candidateAvailabilityRepository.getAvailability(anyString()))
+                .thenAnswer(invocation -> buildCandidateAvailability(invocation.getArgument(0)));
+        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Ines"))
+                .thenReturn(buildInterviewerAvailability("Ines"));
+        when(candidateAvailabilityRepository.saveAndFlush(any(CandidateAvailability.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(interviewerAvailabilityRepository.saveAndFlush(any(InterviewerAvailability.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        bookingServiceImpl.createBooking(buildBooking("John Doe", 9, 11));
+
+        // Act && Assert
+        try {
+            bookingServiceImpl.createBooking(buildBooking("Jane Doe", 10, 12));
+        } catch (UserException exception) {
+            assertEquals("Time slot is already booked!", exception.getMessage());
+            assertEquals(1, bookingServiceImpl.getAllBookings().size());
+
+            throw exception;
+        }
+
+        fail("User exception for booked time slot was not thrown!");
+    }
+
+    @Test(expected = UserException.class)
+    public void createBookingOutsideAvailabilityFails() {
+        // Arrange
+        when(candidateRepository.existsById("John Doe")).thenReturn(true);
+        when(interviewerRepository.existsById("Ines")).thenReturn(true);
+        when(candidateAvailabilityRepository.getAvailability("John Doe"))
+                .thenReturn(buildCandidateAvailability("John Doe"));
+
+        // Act && Assert
+        try {
+            bookingServiceImpl.createBooking(buildBooking("John Doe", 11, 13));
+        } catch (UserException exception) {
+            assertEquals("Participant is not available for the whole time slot!", exception.getMessage());
+            verify(applicationEventPublisher, never()).publishEvent(any(AvailabilityChangedEvent.class));
+
+            throw exception;
+        }
+
+        fail("User exception for time slot outside of availability was not thrown!");
+    }
+
+    @Test
+    public void concurrentBookingsOfSameInterviewerHourNeverDoubleBookSuccessfully() throws InterruptedException {
+        // Arrange
+        int bookingsCount = 16;
+        AtomicReference<InterviewerAvailability> savedInterviewerAvailability =
+                stubInterviewerAvailability(buildInterviewerAvailability("Ines"));
+        when(candidateRepository.existsById(anyString())).thenReturn(true);
+        when(interviewerRepository.existsById("Ines")).thenReturn(true);
+        when(candidateAvailabilityRepository.getAvailability(anyString()))
+                .thenAnswer(invocation -> buildCandidateAvailability(invocation.getArgument(0)));
+        when(candidateAvailabilityRepository.saveAndFlush(any(CandidateAvailability.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger rejectedBookings = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < bookingsCount; i++) {
+            String candidateName = "Candidate " + i;
+
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    bookingServiceImpl.createBooking(buildBooking(candidateName, 10, 11));
+                } catch (UserException exception) {
+                    rejectedBookings.incrementAndGet();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        executorService.shutdown();
+
+        // Assert
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(1, bookingServiceImpl.getAllBookings().size());
+        assertEquals(bookingsCount - 1, rejectedBookings.get());
+        assertEquals(Integer.valueOf(0b101 << 9),
+                     HourMasks.toHourMasksByDay(savedInterviewerAvailability.get().getAvailabilitySlotList())
+                              .get(DAY));
+    }
+
+    private BookingServiceImpl buildBookingService(BookingIndex bookingIndex) {
+        return new BookingServiceImpl(candidateRepository, candidateAvailabilityRepository, interviewerRepository,
+                                      interviewerAvailabilityRepository, bookingRepository, bookingIndex,
+                                      transactionManager, applicationEventPublisher, SlotGranularity.HOUR);
+    }
+
+    private AtomicReference<CandidateAvailability> stubCandidateAvailability(
+            CandidateAvailability candidateAvailability) {
+        AtomicReference<CandidateAvailability> savedCandidateAvailability =
+                new AtomicReference<>(candidateAvailability);
+        String candidateName = candidateAvailability.getCandidateModel().getName();
+
+        when(candidateAvailabilityRepository.getAvailability(candidateName))
+                .thenAnswer(invocation -> savedCandidateAvailability.get());
+        when(candidateAvailabilityRepository.saveAndFlush(any(CandidateAvailability.class)))
+                .thenAnswer(invocation -> {
+                    savedCandidateAvailability.set(invocation.getArgument(0));
+
+                    return invocation.getArgument(0);
+                });
+
+        return savedCandidateAvailability;
+    }
+
+    private AtomicReference<InterviewerAvailability> stubInterviewerAvailability(
+            InterviewerAvailability interviewerAvailability) {
+        AtomicReference<InterviewerAvailability> savedInterviewerAvailability =
+                new AtomicReference<>(interviewerAvailability);
+        String interviewerName = interviewerAvailability.getInterviewerModel().getName();
+
+        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName))
+                .thenAnswer(invocation -> savedInterviewerAvailability.get());
+        when(interviewerAvailabilityRepository.saveAndFlush(any(InterviewerAvailability.class)))
+                .thenAnswer(invocation -> {
+                    savedInterviewerAvailability.set(invocation.getArgument(0));
+
+                    return invocation.getArgument(0);
+                });
+
+        return savedInterviewerAvailability;
+    }
+
+    private Booking buildBooking(String candidateName, int fromHour, int toHour) {
+        return Booking.Builder.bookingWith()
+                              .withCandidateName(candidateName)
+                              .withInterviewersNames(Collections.singletonList("Ines"))
+                              .withDay(DAY)
+                              .withTimeSlot(TimeSlot.Builder.timeSlotWith()
+                                                            .withFrom(LocalTime.of(fromHour, 0))
+                                                            .withTo(LocalTime.of(toHour, 0))
+                                                            .build())
+                              .build();
+    }
+
+    private CandidateAvailability buildCandidateAvailability(String candidateName) {
+        return CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                            .withCandidateModel(Candidate.Builder.candidateModelWith()
+                                                                                 .withName(candidateName)
+                                                                                 .build())
+                                            .withAvailabilitySlotList(buildAvailabilitySlots())
+                                            .build();
+    }
+
+    private InterviewerAvailability buildInterviewerAvailability(String interviewerName) {
+        return InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                              .withInterviewerModel(Interviewer.Builder.interviewerModelWith()
+                                                                                       .withName(interviewerName)
+                                                                                       .build())
+                                              .withAvailabilitySlotList(buildAvailabilitySlots())
+                                              .build();
+    }
+
+    private List<AvailabilitySlot> buildAvailabilitySlots() {
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+        availabilitySlots.add(AvailabilitySlot.Builder.availabilitySlotWith()
+                                                      .withDay(DAY)
+                                                      .withTimeSlotList(HourMasks.toTimeSlots(0b111 << 9))
+                                                      .build());
+
+        return availabilitySlots;
+    }
+}
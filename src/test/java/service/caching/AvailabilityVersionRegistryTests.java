@@ -0,0 +1,102 @@
+package service.caching;
+
+import app.service.caching.AvailabilityVersionRegistry;
+import app.service.events.AvailabilityChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class AvailabilityVersionRegistryTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 1);
+
+    private AvailabilityVersionRegistry availabilityVersionRegistry;
+
+    @Before
+    public void setup() {
+        availabilityVersionRegistry = new AvailabilityVersionRegistry();
+    }
+
+    @Test
+    public void versionTagIsStableWithoutChangesSuccessfully() {
+        // Act
+        String firstVersionTag = availabilityVersionRegistry.getInterviewSlotsVersionTag(
+                "John Doe", Arrays.asList("Ines", "Ingrid"));
+        String secondVersionTag = availabilityVersionRegistry.getInterviewSlotsVersionTag(
+                "John Doe", Arrays.asList("Ines", "Ingrid"));
+
+        // Assert
+        assertEquals(firstVersionTag, secondVersionTag);
+        assertEquals(32, firstVersionTag.length());
+    }
+
+    @Test
+    public void versionTagChangesWhenParticipantAvailabilityChangesSuccessfully() {
+        // Arrange
+        String versionTagBeforeChange = availabilityVersionRegistry.getInterviewSlotsVersionTag(
+                "John Doe", Arrays.asList("Ines", "Ingrid"));
+
+        // Act
+        availabilityVersionRegistry.onAvailabilityChanged(buildEvent(
+                AvailabilityChangedEvent.ParticipantType.INTERVIEWER, "Ingrid", 1L));
+
+        // Assert
+        assertNotEquals(versionTagBeforeChange, availabilityVersionRegistry.getInterviewSlotsVersionTag(
+                "John Doe", Arrays.asList("Ines", "Ingrid")));
+        assertEquals(1L, availabilityVersionRegistry.getVersion(AvailabilityChangedEvent.ParticipantType.INTERVIEWER,
+                                                                "Ingrid"));
+        assertEquals(0L, availabilityVersionRegistry.getVersion(AvailabilityChangedEvent.ParticipantType.CANDIDATE,
+                                                                "Ingrid"));
+    }
+
+    @Test
+    public void staleChangeDoesNotChangeVersionTagSuccessfully() {
+        // Arrange
+        availabilityVersionRegistry.onAvailabilityChanged(buildEvent(
+                AvailabilityChangedEvent.ParticipantType.INTERVIEWER, "Ingrid", 2L));
+        String versionTagBeforeChange = availabilityVersionRegistry.getInterviewSlotsVersionTag(
+                "John Doe", Arrays.asList("Ines", "Ingrid"));
+
+        // Act
+        availabilityVersionRegistry.onAvailabilityChanged(buildEvent(
+                AvailabilityChangedEvent.ParticipantType.INTERVIEWER, "Ingrid", 1L));
+
+        // Assert
+        assertEquals(versionTagBeforeChange, availabilityVersionRegistry.getInterviewSlotsVersionTag(
+                "John Doe", Arrays.asList("Ines", "Ingrid")));
+        assertEquals(1L, availabilityVersionRegistry.getVersion(AvailabilityChangedEvent.ParticipantType.INTERVIEWER,
+                                                                "Ingrid"));
+    }
+
+    @Test
+    public void versionTagDependsOnParticipantsSuccessfully() {
+        // Act
+        String versionTag = availabilityVersionRegistry.getInterviewSlotsVersionTag(
+                "John Doe", Arrays.asList("Ines", "Ingrid"));
+
+        // Assert
+        assertNotEquals(versionTag, availabilityVersionRegistry.getInterviewSlotsVersionTag(
+                "John Doe", Arrays.asList("Ingrid", "Ines")));
+        assertNotEquals(versionTag, availabilityVersionRegistry.getInterviewSlotsVersionTag(
+                "John Doe", Collections.singletonList("InesIngrid")));
+        assertNotEquals(versionTag, new AvailabilityVersionRegistry().getInterviewSlotsVersionTag(
+                "John Doe", Arrays.asList("Ines", "Ingrid")));
+    }
+
+    private AvailabilityChangedEvent buildEvent(AvailabilityChangedEvent.ParticipantType participantType,
+                                                String participantName, Long availabilityVersion) {
+        return AvailabilityChangedEvent.Builder.availabilityChangedEventWith()
+                                               .withParticipantType(participantType)
+                                               .withParticipantName(participantName)
+                                               .withChangedDays(Collections.singleton(DAY))
+                                               .withAvailabilitySlotList(Collections.emptyList())
+                                               .withAvailabilityId(1L)
+                                               .withAvailabilityVersion(availabilityVersion)
+                                               .build();
+    }
+}
@@ -0,0 +1,189 @@
+package service.caching;
+
+import app.exception.DeadlineExceededException;
+import app.exception.UserException;
+import app.service.caching.SingleFlight;
+import app.service.caching.SingleFlight.Landing;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class SingleFlightTests {
+    private static final int CONCURRENT_CALLERS = 8;
+
+    private SingleFlight<String, Integer> singleFlight;
+    private ExecutorService executorService;
+
+    @Before
+    public void setup() {
+        singleFlight = new SingleFlight<>();
+        executorService = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void concurrentCallsOfSameKeyShareOneComputationSuccessfully() throws Exception {
+        // Arrange
+        CountDownLatch computationStarted = new CountDownLatch(1);
+        CountDownLatch releaseComputation = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+
+        Future<Landing<Integer>> firstCall = executorService.submit(() -> singleFlight.execute("John Doe", () -> {
+            computations.incrementAndGet();
+            computationStarted.countDown();
+            await(releaseComputation);
+
+            return 42;
+        }));
+        assertTrue(computationStarted.await(5, TimeUnit.SECONDS));
+
+        // Act
+        List<Future<Landing<Integer>>> coalescedCalls = new ArrayList<>();
+
+        for (int i = 1; i < CONCURRENT_CALLERS; i++) {
+            coalescedCalls.add(executorService.submit(() -> singleFlight.execute("John Doe", () -> {
+                computations.incrementAndGet();
+
+                return -1;
+            })));
+        }
+
+        waitUntilCoalesced(CONCURRENT_CALLERS - 1);
+        releaseComputation.countDown();
+
+        // Assert
+        Landing<Integer> firstLanding = firstCall.get(5, TimeUnit.SECONDS);
+        assertEquals(Integer.valueOf(42), firstLanding.getValue());
+        assertTrue(firstLanding.isLed());
+
+        for (Future<Landing<Integer>> coalescedCall : coalescedCalls) {
+            Landing<Integer> coalescedLanding = coalescedCall.get(5, TimeUnit.SECONDS);
+            assertEquals(Integer.valueOf(42), coalescedLanding.getValue());
+            assertFalse(coalescedLanding.isLed());
+        }
+
+        assertEquals(1, computations.get());
+        assertEquals(1L, singleFlight.getExecutedCount());
+        assertEquals(CONCURRENT_CALLERS - 1, singleFlight.getCoalescedCount());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    public void concurrentCallsReceiveExceptionOfSharedComputationSuccessfully() throws Exception {
+        // Arrange
+        CountDownLatch computationStarted = new CountDownLatch(1);
+        CountDownLatch releaseComputation = new CountDownLatch(1);
+
+        Future<Landing<Integer>> firstCall = executorService.submit(() -> singleFlight.execute("John Doe", () -> {
+            computationStarted.countDown();
+            await(releaseComputation);
+
+            throw new UserException("Candidate does not exist!", "John Doe");
+        }));
+        assertTrue(computationStarted.await(5, TimeUnit.SECONDS));
+
+        // Act
+        Future<Landing<Integer>> coalescedCall =
+                executorService.submit(() -> singleFlight.execute("John Doe", () -> 0));
+
+        waitUntilCoalesced(1);
+        releaseComputation.countDown();
+
+        // Assert
+        assertUserException(firstCall);
+        assertUserException(coalescedCall);
+    }
+
+    @Test
+    public void sequentialCallsAndDifferentKeysAreNotCoalescedSuccessfully() {
+        // Act
+        Landing<Integer> first = singleFlight.execute("John Doe", () -> 1);
+        Landing<Integer> second = singleFlight.execute("John Doe", () -> 2);
+        Landing<Integer> third = singleFlight.execute("Jane Doe", () -> 3);
+
+        // Assert
+        assertEquals(Integer.valueOf(1), first.getValue());
+        assertEquals(Integer.valueOf(2), second.getValue());
+        assertEquals(Integer.valueOf(3), third.getValue());
+        assertTrue(first.isLed() && second.isLed() && third.isLed());
+        assertEquals(3L, singleFlight.getExecutedCount());
+        assertEquals(0L, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    public void joiningCallGivesUpAtItsOwnMaximumWaitSuccessfully() throws Exception {
+        // Arrange
+        CountDownLatch computationStarted = new CountDownLatch(1);
+        CountDownLatch releaseComputation = new CountDownLatch(1);
+
+        Future<Landing<Integer>> firstCall = executorService.submit(() -> singleFlight.execute("John Doe", () -> {
+            computationStarted.countDown();
+            await(releaseComputation);
+
+            return 42;
+        }));
+        assertTrue(computationStarted.await(5, TimeUnit.SECONDS));
+
+        // Act
+        try {
+            singleFlight.execute("John Doe", () -> -1, TimeUnit.MILLISECONDS.toNanos(50),
+                                 () -> new DeadlineExceededException("Slot query exceeded its deadline!"));
+
+            fail("Joining call did not give up at its maximum wait!");
+        } catch (DeadlineExceededException e) {
+            assertEquals("Slot query exceeded its deadline!", e.getMessage());
+        }
+
+        releaseComputation.countDown();
+
+        // Assert
+        assertEquals(Integer.valueOf(42), firstCall.get(5, TimeUnit.SECONDS).getValue());
+        assertEquals(1L, singleFlight.getCoalescedCount());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    private void waitUntilCoalesced(long expectedCoalescedCount) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (singleFlight.getCoalescedCount() < expectedCoalescedCount) {
+            assertTrue("Calls were not coalesced in time!", System.nanoTime() < deadline);
+
+            Thread.sleep(1);
+        }
+    }
+
+    private void assertUserException(Future<Landing<Integer>> call) throws Exception {
+        try {
+            call.get(5, TimeUnit.SECONDS);
+
+            fail("User exception of shared computation was not thrown!");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof UserException);
+            assertEquals("Candidate does not exist!", e.getCause().getMessage());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,17 +2,28 @@ package service.candidate;
 
 import app.exception.UserException;
 import app.model.candidate.CandidateAvailability;
+import app.model.candidate.CandidateAvailabilityView;
 import app.model.candidate.Candidate;
+import app.model.candidate.CandidateView;
 import app.model.utils.AvailabilitySlot;
+import app.model.utils.SlotGranularity;
 import app.model.utils.TimeSlot;
 import app.repository.candidate.CandidateAvailabilityRepository;
 import app.repository.candidate.CandidateRepository;
+import app.service.booking.BookingIndex;
+import app.service.booking.BookingIndex.Participant;
 import app.service.candidate.CandidateServiceImpl;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -32,6 +43,14 @@ public class CandidateServiceImplTests {
     private CandidateRepository candidateRepository;
     @Mock
     private CandidateAvailabilityRepository candidateAvailabilityRepository;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Spy
+    private SlotGranularity slotGranularity = SlotGranularity.HOUR;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Spy
+    private BookingIndex bookingIndex = new BookingIndex(null, SlotGranularity.HOUR);
 
     @InjectMocks
     private CandidateServiceImpl candidateServiceImpl;
@@ -118,13 +137,13 @@ public class CandidateServiceImplTests {
     public void getAllCandidatesSuccessfully() {
         // Arrange
         String candidateName = "John Doe";
-        Candidate candidate = Candidate.Builder.candidateModelWith().withName(candidateName).build();
-        List<Candidate> candidatesToBeReturned = Collections.singletonList(candidate);
+        CandidateView candidateView = new CandidateView(candidateName);
+        List<CandidateView> candidatesToBeReturned = Collections.singletonList(candidateView);
 
         // Act
-        when(candidateRepository.findAll()).thenReturn(candidatesToBeReturned);
+        when(candidateRepository.findAllViews()).thenReturn(candidatesToBeReturned);
 
-        List<Candidate> candidatesReturned = candidateServiceImpl.getAllCandidates();
+        List<CandidateView> candidatesReturned = candidateServiceImpl.getAllCandidates();
 
         // Assert
         assertNotNull(candidatesReturned);
@@ -136,17 +155,17 @@ public class CandidateServiceImplTests {
     public void getCandidateByNameSuccessfully() {
         // Arrange
         String candidateName = "John Doe";
-        Candidate candidate = Candidate.Builder.candidateModelWith().withName(candidateName).build();
+        CandidateView candidateView = new CandidateView(candidateName);
 
         // Act
-        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateRepository.findViewByName(candidateName)).thenReturn(Optional.of(candidateView));
 
-        Optional<Candidate> candidateReturned = candidateServiceImpl.getCandidateByName(candidateName);
+        Optional<CandidateView> candidateReturned = candidateServiceImpl.getCandidateByName(candidateName);
 
         // Assert
         assertNotNull(candidateReturned);
         assertEquals(candidateName, candidateReturned.get().getName());
-        assertEquals(candidate, candidateReturned.get());
+        assertEquals(candidateView, candidateReturned.get());
     }
 
     @Test
@@ -362,6 +381,47 @@ public class CandidateServiceImplTests {
         fail("Business exception of candidate availability with non-existing candidate was not thrown!");
     }
 
+    @Test(expected = UserException.class)
+    public void createCandidateAvailabilityOverlappingBookingFails() {
+        // Arrange
+        String candidateName = "John Doe";
+        Candidate candidate = Candidate.Builder.candidateModelWith().withName(candidateName).build();
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
+                                            .build();
+        List<TimeSlot> timeSlots = Collections.singletonList(timeSlot);
+
+        AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(day)
+                                                                    .withTimeSlotList(timeSlots).build();
+        List<AvailabilitySlot> availabilitySlots = Collections.singletonList(availabilitySlot);
+
+        CandidateAvailability candidateAvailability =
+                CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                                  .withCandidateModel(candidate)
+                                                  .withAvailabilitySlotList(availabilitySlots)
+                                                  .build();
+
+        bookingIndex.book(new Participant(ParticipantType.CANDIDATE, candidateName), day,
+                          slotGranularity.toSlotMask(Collections.singletonList(
+                                  TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(10, 0))
+                                                  .withTo(LocalTime.of(11, 0)).build())));
+
+        // Act && Assert
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+
+        try {
+            candidateServiceImpl.createCandidateAvailability(candidateAvailability);
+        } catch (UserException be) {
+            String exceptionMessage = "Availability overlaps a booked time slot!";
+            assertEquals(exceptionMessage, be.getMessage());
+            verify(candidateAvailabilityRepository, never()).save(any(CandidateAvailability.class));
+            throw be;
+        }
+
+        fail("Business exception of candidate availability overlapping a booking was not thrown!");
+    }
+
     @Test(expected = UserException.class)
     public void createCandidateAvailabilityWithFromAfterToFails() {
         // Arrange
@@ -508,7 +568,6 @@ public class CandidateServiceImplTests {
     public void getAllCandidatesAvailabilitySuccessfully() {
         // Arrange
         String candidateName = "John Doe";
-        Candidate candidate = Candidate.Builder.candidateModelWith().withName(candidateName).build();
 
         TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
                                             .build();
@@ -518,19 +577,16 @@ public class CandidateServiceImplTests {
                 LocalDate.of(2014, Month.JANUARY, 1)).withTimeSlotList(timeSlots).build();
         List<AvailabilitySlot> availabilitySlots = Collections.singletonList(availabilitySlot);
 
-        CandidateAvailability candidateAvailability =
-                CandidateAvailability.Builder.candidateAvailabilityModelWith()
-                                                  .withCandidateModel(candidate)
-                                                  .withAvailabilitySlotList(availabilitySlots)
-                                                  .build();
+        CandidateAvailabilityView candidateAvailabilityView = new CandidateAvailabilityView(
+                1L, candidateName, availabilitySlots);
 
-        List<CandidateAvailability> candidatesAvailabilitiesToBeReturned = Collections.singletonList(
-                candidateAvailability);
+        List<CandidateAvailabilityView> candidatesAvailabilitiesToBeReturned = Collections.singletonList(
+                candidateAvailabilityView);
 
         // Act
-        when(candidateAvailabilityRepository.findAll()).thenReturn(candidatesAvailabilitiesToBeReturned);
+        when(candidateAvailabilityRepository.findAllViews()).thenReturn(candidatesAvailabilitiesToBeReturned);
 
-        List<CandidateAvailability> candidatesAvailabilitiesReturned =
+        List<CandidateAvailabilityView> candidatesAvailabilitiesReturned =
                 candidateServiceImpl.getAllCandidatesAvailability();
 
         // Assert
@@ -543,7 +599,6 @@ public class CandidateServiceImplTests {
     public void getCandidateAvailabilityByNameSuccessfully() {
         // Arrange
         String candidateName = "John Doe";
-        Candidate candidate = Candidate.Builder.candidateModelWith().withName(candidateName).build();
 
         TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
                                             .build();
@@ -553,25 +608,20 @@ public class CandidateServiceImplTests {
                 LocalDate.of(2014, Month.JANUARY, 1)).withTimeSlotList(timeSlots).build();
         List<AvailabilitySlot> availabilitySlots = Collections.singletonList(availabilitySlot);
 
-        CandidateAvailability candidateAvailability =
-                CandidateAvailability.Builder.candidateAvailabilityModelWith()
-                                                  .withCandidateModel(candidate)
-                                                  .withAvailabilitySlotList(availabilitySlots)
-                                                  .build();
-
+        CandidateAvailabilityView candidateAvailabilityView = new CandidateAvailabilityView(
+                1L, candidateName, availabilitySlots);
 
         // Act
-        when(candidateAvailabilityRepository.getAvailability(candidateName)).thenReturn(
-                candidateAvailability);
-
+        when(candidateAvailabilityRepository.findViewByName(candidateName)).thenReturn(
+                Optional.of(candidateAvailabilityView));
 
-        CandidateAvailability candidateAvailabilityReturned = candidateServiceImpl.getCandidateAvailabilityByName(
-                candidateName);
+        CandidateAvailabilityView candidateAvailabilityReturned =
+                candidateServiceImpl.getCandidateAvailabilityByName(candidateName);
 
         // Assert
         assertNotNull(candidateAvailabilityReturned);
-        assertEquals(candidateAvailability, candidateAvailabilityReturned);
-        assertEquals(candidateAvailability.getCandidateModel(), candidateAvailabilityReturned.getCandidateModel());
+        assertEquals(candidateAvailabilityView, candidateAvailabilityReturned);
+        assertEquals(candidateName, candidateAvailabilityReturned.getCandidateModel().getName());
     }
 
     @Test
@@ -590,6 +640,8 @@ public class CandidateServiceImplTests {
 
         CandidateAvailability candidateAvailability =
                 CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                                  .withId(1L)
+                                                  .withVersion(0L)
                                                   .withCandidateModel(candidate)
                                                   .withAvailabilitySlotList(availabilitySlots)
                                                   .build();
@@ -601,5 +653,12 @@ public class CandidateServiceImplTests {
 
         // Assert
         verify(candidateAvailabilityRepository, times(1)).deleteById(any());
+        ArgumentCaptor<AvailabilityChangedEvent> availabilityRemovedEvent =
+                ArgumentCaptor.forClass(AvailabilityChangedEvent.class);
+        verify(applicationEventPublisher, times(1)).publishEvent(availabilityRemovedEvent.capture());
+
+        assertEquals(Long.valueOf(1L), availabilityRemovedEvent.getValue().getAvailabilityId());
+        assertEquals(Long.valueOf(1L), availabilityRemovedEvent.getValue().getAvailabilityVersion());
+        assertTrue(availabilityRemovedEvent.getValue().getAvailabilitySlotList().isEmpty());
     }
 }
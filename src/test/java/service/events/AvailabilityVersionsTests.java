@@ -0,0 +1,98 @@
+package service.events;
+
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+import app.service.events.AvailabilityVersions;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class AvailabilityVersionsTests {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2014, Month.JANUARY, 1);
+    private static final LocalDate SECOND_DAY = LocalDate.of(2014, Month.JANUARY, 2);
+    private static final LocalDate THIRD_DAY = LocalDate.of(2014, Month.JANUARY, 3);
+
+    private AvailabilityVersions availabilityVersions;
+
+    @Before
+    public void setup() {
+        availabilityVersions = new AvailabilityVersions();
+        availabilityVersions.record(ParticipantType.INTERVIEWER, "Ines", 1L, 1L,
+                                    Arrays.asList(buildAvailabilitySlot(FIRST_DAY), buildAvailabilitySlot(SECOND_DAY)));
+    }
+
+    @Test
+    public void newerEventUpdatesDaysOfBothAvailabilitiesSuccessfully() {
+        // Arrange
+        AvailabilityChangedEvent availabilityChangedEvent = buildEvent(
+                "Ines", 1L, 3L, Collections.singletonList(THIRD_DAY),
+                Arrays.asList(buildAvailabilitySlot(SECOND_DAY), buildAvailabilitySlot(THIRD_DAY)));
+
+        // Act
+        Set<LocalDate> daysToUpdate = availabilityVersions.advance(availabilityChangedEvent);
+
+        // Assert
+        assertEquals(new HashSet<>(Arrays.asList(FIRST_DAY, SECOND_DAY, THIRD_DAY)), daysToUpdate);
+        assertTrue(availabilityVersions.advance(buildEvent("Ines", 1L, 2L, Collections.singletonList(FIRST_DAY),
+                                                           Collections.emptyList())).isEmpty());
+    }
+
+    @Test
+    public void eventNotNewerThanAppliedAvailabilityIsDroppedSuccessfully() {
+        // Act && Assert
+        assertTrue(availabilityVersions.advance(buildEvent("Ines", 1L, 1L, Collections.singletonList(FIRST_DAY),
+                                                           Collections.emptyList())).isEmpty());
+        assertTrue(availabilityVersions.advance(buildEvent("Ines", 1L, 0L, Collections.singletonList(FIRST_DAY),
+                                                           Collections.emptyList())).isEmpty());
+    }
+
+    @Test
+    public void availabilityCreatedAgainIsNewerThanAnyVersionOfRemovedOneSuccessfully() {
+        // Act && Assert
+        assertEquals(new HashSet<>(Arrays.asList(FIRST_DAY, SECOND_DAY, THIRD_DAY)),
+                     availabilityVersions.advance(buildEvent("Ines", 2L, 0L, Collections.singletonList(THIRD_DAY),
+                                                             Collections.singletonList(
+                                                                     buildAvailabilitySlot(THIRD_DAY)))));
+        assertTrue(availabilityVersions.advance(buildEvent("Ines", 1L, 5L, Collections.singletonList(FIRST_DAY),
+                                                           Collections.emptyList())).isEmpty());
+        assertEquals(Collections.singleton(FIRST_DAY),
+                     availabilityVersions.advance(buildEvent("Ingrid", 1L, 0L, Collections.singletonList(FIRST_DAY),
+                                                             Collections.emptyList())));
+    }
+
+    private AvailabilityChangedEvent buildEvent(String interviewerName, Long availabilityId, Long availabilityVersion,
+                                                List<LocalDate> changedDays,
+                                                List<AvailabilitySlot> availabilitySlotList) {
+        return AvailabilityChangedEvent.Builder.availabilityChangedEventWith()
+                                               .withParticipantType(ParticipantType.INTERVIEWER)
+                                               .withParticipantName(interviewerName)
+                                               .withChangedDays(new HashSet<>(changedDays))
+                                               .withAvailabilitySlotList(availabilitySlotList)
+                                               .withAvailabilityId(availabilityId)
+                                               .withAvailabilityVersion(availabilityVersion)
+                                               .build();
+    }
+
+    private AvailabilitySlot buildAvailabilitySlot(LocalDate day) {
+        return AvailabilitySlot.Builder.availabilitySlotWith()
+                                       .withDay(day)
+                                       .withTimeSlotList(Collections.singletonList(
+                                               TimeSlot.Builder.timeSlotWith()
+                                                               .withFrom(LocalTime.of(9, 0))
+                                                               .withTo(LocalTime.of(10, 0))
+                                                               .build()))
+                                       .build();
+    }
+}
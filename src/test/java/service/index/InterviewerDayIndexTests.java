@@ -0,0 +1,180 @@
+package service.index;
+
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.SlotGranularity;
+import app.model.utils.TimeSlot;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.repository.interviewer.InterviewerRepository;
+import app.repository.memory.InMemoryBookingRepository;
+import app.service.booking.BookingIndex;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.index.InterviewerDayIndex;
+import app.service.index.InterviewerHourBitmapIndex;
+import app.service.index.InterviewerHourCounts;
+import app.service.interviewer.InterviewerServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class InterviewerDayIndexTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 1);
+
+    @Mock
+    private InterviewerRepository interviewerRepository;
+    @Mock
+    private InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    @Mock
+    private InterviewerHourCounts interviewerHourCounts;
+    @Mock
+    private InterviewerHourBitmapIndex interviewerHourBitmapIndex;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InterviewerDayIndex interviewerDayIndex;
+    private InterviewerServiceImpl interviewerServiceImpl;
+
+    private InterviewerAvailability janeDoeAvailability;
+    private InterviewerAvailability johnSmithAvailability;
+
+    @Before
+    public void setup() {
+        interviewerDayIndex = new InterviewerDayIndex(interviewerAvailabilityRepository);
+        interviewerServiceImpl = new InterviewerServiceImpl(
+                interviewerRepository, interviewerAvailabilityRepository, interviewerDayIndex, interviewerHourCounts,
+                interviewerHourBitmapIndex, new BookingIndex(new InMemoryBookingRepository(), SlotGranularity.HOUR),
+                event -> interviewerDayIndex.onAvailabilityChanged((AvailabilityChangedEvent) event),
+                SlotGranularity.HOUR, transactionManager);
+
+        janeDoeAvailability = buildInterviewerAvailability(
+                "Jane Doe", 1L,
+                buildAvailabilitySlot(DAY, LocalTime.of(9, 0), LocalTime.of(11, 0)),
+                buildAvailabilitySlot(DAY.plusDays(1), LocalTime.of(14, 0), LocalTime.of(15, 0)));
+        johnSmithAvailability = buildInterviewerAvailability(
+                "John Smith", 2L, buildAvailabilitySlot(DAY, LocalTime.of(10, 0), LocalTime.of(12, 0)));
+    }
+
+    @Test
+    public void rebuildOnStartupIndexesSavedAvailabilitySuccessfully() {
+        // Arrange
+        when(interviewerAvailabilityRepository.findAll()).thenReturn(Arrays.asList(janeDoeAvailability,
+                                                                                   johnSmithAvailability));
+
+        // Act
+        interviewerDayIndex.rebuild();
+
+        // Assert
+        Map<String, Integer> hourMasksOfDay = interviewerDayIndex.getHourMasksOfDay(DAY);
+        assertEquals(2, hourMasksOfDay.size());
+        assertEquals(Integer.valueOf((1 << 9) | (1 << 10)), hourMasksOfDay.get("Jane Doe"));
+        assertEquals(Integer.valueOf((1 << 10) | (1 << 11)), hourMasksOfDay.get("John Smith"));
+        assertEquals(Collections.singletonMap("Jane Doe", 1 << 14),
+                     interviewerDayIndex.getHourMasksOfDay(DAY.plusDays(1)));
+    }
+
+    @Test
+    public void rebuildOnStartupDropsStalePartitionsSuccessfully() {
+        // Arrange
+        when(interviewerAvailabilityRepository.findAll()).thenReturn(Collections.singletonList(janeDoeAvailability),
+                                                                     Collections.singletonList(johnSmithAvailability));
+        interviewerDayIndex.rebuild();
+
+        // Act
+        interviewerDayIndex.rebuild();
+
+        // Assert
+        assertEquals(Collections.singleton("John Smith"), interviewerDayIndex.getHourMasksOfDay(DAY).keySet());
+        assertTrue(interviewerDayIndex.getHourMasksOfDay(DAY.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    public void deleteInterviewerRemovesItFromIndexSuccessfully() {
+        // Arrange
+        when(interviewerAvailabilityRepository.findAll()).thenReturn(Arrays.asList(janeDoeAvailability,
+                                                                                   johnSmithAvailability));
+        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe"))
+                .thenReturn(janeDoeAvailability);
+        interviewerDayIndex.rebuild();
+
+        // Act
+        interviewerServiceImpl.deleteInterviewerByName("Jane Doe");
+
+        // Assert
+        assertEquals(Collections.singleton("John Smith"), interviewerDayIndex.getHourMasksOfDay(DAY).keySet());
+    }
+
+    @Test
+    public void emptyDayPartitionsArePrunedSuccessfully() {
+        // Arrange
+        when(interviewerAvailabilityRepository.findAll()).thenReturn(Arrays.asList(janeDoeAvailability,
+                                                                                   johnSmithAvailability));
+        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe"))
+                .thenReturn(janeDoeAvailability);
+        interviewerDayIndex.rebuild();
+
+        // Act
+        interviewerServiceImpl.deleteInterviewerAvailabilityByName("Jane Doe");
+
+        // Assert
+        assertEquals(Collections.singleton(DAY),
+                     interviewerDayIndex.getHourMasksOfDays(DAY, DAY.plusDays(6)).keySet());
+    }
+
+    @Test
+    public void eventOlderThanRebuiltAvailabilityIsDroppedSuccessfully() {
+        // Arrange
+        when(interviewerAvailabilityRepository.findAll()).thenReturn(Arrays.asList(janeDoeAvailability,
+                                                                                   johnSmithAvailability));
+        interviewerDayIndex.rebuild();
+
+        // Act
+        interviewerDayIndex.onAvailabilityChanged(
+                AvailabilityChangedEvent.Builder.availabilityChangedEventWith()
+                                                .withParticipantType(
+                                                        AvailabilityChangedEvent.ParticipantType.INTERVIEWER)
+                                                .withParticipantName("Jane Doe")
+                                                .withChangedDays(Collections.singleton(DAY))
+                                                .withAvailabilitySlotList(Collections.emptyList())
+                                                .withAvailabilityId(1L)
+                                                .withAvailabilityVersion(0L)
+                                                .build());
+
+        // Assert
+        assertEquals(Integer.valueOf((1 << 9) | (1 << 10)), interviewerDayIndex.getHourMasksOfDay(DAY).get("Jane Doe"));
+    }
+
+    private InterviewerAvailability buildInterviewerAvailability(String interviewerName, Long availabilityId,
+                                                                 AvailabilitySlot... availabilitySlots) {
+        return InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                              .withId(availabilityId)
+                                              .withVersion(1L)
+                                              .withInterviewerModel(Interviewer.Builder.interviewerModelWith()
+                                                                                       .withName(interviewerName)
+                                                                                       .build())
+                                              .withAvailabilitySlotList(new ArrayList<>(
+                                                      Arrays.asList(availabilitySlots)))
+                                              .build();
+    }
+
+    private AvailabilitySlot buildAvailabilitySlot(LocalDate day, LocalTime from, LocalTime to) {
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(from).withTo(to).build();
+
+        return AvailabilitySlot.Builder.availabilitySlotWith()
+                                       .withDay(day)
+                                       .withTimeSlotList(Collections.singletonList(timeSlot))
+                                       .build();
+    }
+}
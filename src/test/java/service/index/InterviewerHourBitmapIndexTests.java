@@ -0,0 +1,134 @@
+package service.index;
+
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.index.InterviewerHourBitmapIndex;
+import app.service.index.InterviewerIdDictionary;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class InterviewerHourBitmapIndexTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 1);
+    private static final Long AVAILABILITY_ID = 1L;
+
+    @Mock
+    private InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+
+    private InterviewerHourBitmapIndex interviewerHourBitmapIndex;
+    private final Map<String, Long> availabilityVersions = new HashMap<>();
+
+    @Before
+    public void setup() {
+        interviewerHourBitmapIndex = new InterviewerHourBitmapIndex(interviewerAvailabilityRepository,
+                                                                    new InterviewerIdDictionary());
+
+        publishInterviewerAvailability("Jane Doe", LocalTime.of(9, 0), LocalTime.of(12, 0));
+        publishInterviewerAvailability("John Smith", LocalTime.of(10, 0), LocalTime.of(14, 0));
+        publishInterviewerAvailability("Debora Smith", LocalTime.of(11, 0), LocalTime.of(12, 0));
+    }
+
+    @Test
+    public void forEachHourWithAllInterviewersFreeSuccessfully() {
+        // Arrange
+        RoaringBitmap panelInterviewerIds = interviewerHourBitmapIndex.toInterviewerIds(
+                Arrays.asList("Jane Doe", "John Smith", "Debora Smith"));
+        List<Integer> hours = new ArrayList<>();
+
+        // Act
+        interviewerHourBitmapIndex.forEachHourWithFreeInterviewers(DAY, DAY, panelInterviewerIds, 3,
+                                                                   (day, hour, freeIds) -> hours.add(hour));
+
+        // Assert
+        assertEquals(Collections.singletonList(11), hours);
+    }
+
+    @Test
+    public void forEachHourWithAnyTwoInterviewersFreeSuccessfully() {
+        // Arrange
+        RoaringBitmap panelInterviewerIds = interviewerHourBitmapIndex.toInterviewerIds(
+                Arrays.asList("Jane Doe", "John Smith", "Debora Smith"));
+        Map<Integer, List<String>> freeInterviewersByHour = new TreeMap<>();
+
+        // Act
+        interviewerHourBitmapIndex.forEachHourWithFreeInterviewers(
+                DAY, DAY, panelInterviewerIds, 2,
+                (day, hour, freeIds) -> freeInterviewersByHour.put(
+                        hour, interviewerHourBitmapIndex.toInterviewersNames(freeIds)));
+
+        // Assert
+        assertEquals(new HashSet<>(Arrays.asList(10, 11)), freeInterviewersByHour.keySet());
+        assertEquals(Arrays.asList("Jane Doe", "John Smith"), freeInterviewersByHour.get(10));
+        assertEquals(3, freeInterviewersByHour.get(11).size());
+    }
+
+    @Test
+    public void countFreeInterviewersOfGroupSuccessfully() {
+        // Arrange
+        RoaringBitmap interviewerIds = interviewerHourBitmapIndex.toInterviewerIds(
+                Arrays.asList("Jane Doe", "Debora Smith"));
+
+        // Act
+        NavigableMap<LocalDate, int[]> freeCountsOfDays = interviewerHourBitmapIndex.countFreeInterviewers(
+                DAY, DAY.plusDays(6), interviewerIds);
+
+        // Assert
+        assertEquals(Collections.singleton(DAY), freeCountsOfDays.keySet());
+        assertEquals(1, freeCountsOfDays.get(DAY)[9]);
+        assertEquals(2, freeCountsOfDays.get(DAY)[11]);
+        assertEquals(0, freeCountsOfDays.get(DAY)[12]);
+    }
+
+    @Test
+    public void removedAvailabilityIsNoLongerIndexedSuccessfully() {
+        // Arrange
+        RoaringBitmap panelInterviewerIds = interviewerHourBitmapIndex.toInterviewerIds(
+                Collections.singletonList("Jane Doe"));
+        List<Integer> hours = new ArrayList<>();
+
+        // Act
+        interviewerHourBitmapIndex.onAvailabilityChanged(buildEvent("Jane Doe", Collections.emptyList()));
+        interviewerHourBitmapIndex.forEachHourWithFreeInterviewers(DAY, DAY, panelInterviewerIds, 1,
+                                                                   (day, hour, freeIds) -> hours.add(hour));
+
+        // Assert
+        assertTrue(hours.isEmpty());
+    }
+
+    private void publishInterviewerAvailability(String interviewerName, LocalTime from, LocalTime to) {
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(from).withTo(to).build();
+        AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(DAY)
+                                                                    .withTimeSlotList(
+                                                                            Collections.singletonList(timeSlot))
+                                                                    .build();
+
+        interviewerHourBitmapIndex.onAvailabilityChanged(buildEvent(interviewerName,
+                                                                    Collections.singletonList(availabilitySlot)));
+    }
+
+    private AvailabilityChangedEvent buildEvent(String interviewerName, List<AvailabilitySlot> availabilitySlotList) {
+        return AvailabilityChangedEvent.Builder.availabilityChangedEventWith()
+                                               .withParticipantType(
+                                                       AvailabilityChangedEvent.ParticipantType.INTERVIEWER)
+                                               .withParticipantName(interviewerName)
+                                               .withChangedDays(Collections.singleton(DAY))
+                                               .withAvailabilitySlotList(availabilitySlotList)
+                                               .withAvailabilityId(AVAILABILITY_ID)
+                                               .withAvailabilityVersion(
+                                                       availabilityVersions.merge(interviewerName, 1L, Long::sum))
+                                               .build();
+    }
+}
@@ -0,0 +1,188 @@
+package service.index;
+
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.index.InterviewerHourCounts;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class InterviewerHourCountsTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 1);
+    private static final Long AVAILABILITY_ID = 1L;
+
+    @Mock
+    private InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+
+    private InterviewerHourCounts interviewerHourCounts;
+    private final Map<String, Map<LocalDate, AvailabilitySlot>> availabilitySlotsByInterviewer = new HashMap<>();
+    private final Map<String, Long> availabilityVersions = new HashMap<>();
+
+    @Before
+    public void setup() {
+        interviewerHourCounts = new InterviewerHourCounts(interviewerAvailabilityRepository);
+
+        publishInterviewerAvailability("Jane Doe", DAY, LocalTime.of(9, 0), LocalTime.of(12, 0));
+        publishInterviewerAvailability("John Smith", DAY, LocalTime.of(10, 0), LocalTime.of(14, 0));
+        publishInterviewerAvailability("John Smith", DAY.plusDays(1), LocalTime.of(10, 0), LocalTime.of(11, 0));
+    }
+
+    @Test
+    public void freeCountsOfDaysSuccessfully() {
+        // Act
+        NavigableMap<LocalDate, int[]> freeCountsOfDays = interviewerHourCounts.getFreeCountsOfDays(DAY,
+                                                                                                   DAY.plusDays(6));
+
+        // Assert
+        assertEquals(2, freeCountsOfDays.size());
+        assertEquals(1, freeCountsOfDays.get(DAY)[9]);
+        assertEquals(2, freeCountsOfDays.get(DAY)[10]);
+        assertEquals(1, freeCountsOfDays.get(DAY)[13]);
+        assertEquals(0, freeCountsOfDays.get(DAY)[14]);
+        assertEquals(1, freeCountsOfDays.get(DAY.plusDays(1))[10]);
+    }
+
+    @Test
+    public void freeHoursByHourSumOverPeriodSuccessfully() {
+        // Act
+        long[] freeHoursByHour = interviewerHourCounts.getFreeHoursByHour(DAY, DAY.plusDays(1));
+        long[] freeHoursByHourOfSecondDay = interviewerHourCounts.getFreeHoursByHour(DAY.plusDays(1),
+                                                                                     DAY.plusDays(1));
+
+        // Assert
+        assertEquals(1, freeHoursByHour[9]);
+        assertEquals(3, freeHoursByHour[10]);
+        assertEquals(2, freeHoursByHour[11]);
+        assertEquals(0, freeHoursByHour[14]);
+        assertEquals(0, freeHoursByHourOfSecondDay[9]);
+        assertEquals(1, freeHoursByHourOfSecondDay[10]);
+    }
+
+    @Test
+    public void changedAvailabilityOnlyCountsNewHoursSuccessfully() {
+        // Act
+        publishInterviewerAvailability("Jane Doe", DAY, LocalTime.of(11, 0), LocalTime.of(13, 0));
+
+        // Assert
+        long[] freeHoursByHour = interviewerHourCounts.getFreeHoursByHour(DAY, DAY);
+        assertEquals(0, freeHoursByHour[9]);
+        assertEquals(1, freeHoursByHour[10]);
+        assertEquals(2, freeHoursByHour[12]);
+        assertEquals(1, interviewerHourCounts.getFreeCountsOfDays(DAY, DAY).get(DAY)[10]);
+    }
+
+    @Test
+    public void removedAvailabilityIsNoLongerCountedSuccessfully() {
+        // Act
+        interviewerHourCounts.onAvailabilityChanged(buildEvent("John Smith", Arrays.asList(DAY, DAY.plusDays(1)),
+                                                               Collections.emptyList()));
+
+        // Assert
+        assertEquals(Collections.singleton(DAY), interviewerHourCounts.getFreeCountsOfDays(DAY, DAY.plusDays(1))
+                                                                      .keySet());
+        assertEquals(0, interviewerHourCounts.getFreeHoursByHour(DAY, DAY.plusDays(1))[13]);
+    }
+
+    @Test
+    public void staleEventIsDroppedSuccessfully() {
+        // Arrange
+        AvailabilityChangedEvent olderEvent = buildEvent("Jane Doe", Collections.singletonList(DAY),
+                                                         Collections.emptyList());
+        AvailabilityChangedEvent newerEvent = buildEvent("Jane Doe", Collections.singletonList(DAY),
+                                                         Collections.singletonList(buildAvailabilitySlot(
+                                                                 DAY, LocalTime.of(11, 0), LocalTime.of(13, 0))));
+
+        // Act
+        interviewerHourCounts.onAvailabilityChanged(newerEvent);
+        interviewerHourCounts.onAvailabilityChanged(olderEvent);
+
+        // Assert
+        long[] freeHoursByHour = interviewerHourCounts.getFreeHoursByHour(DAY, DAY);
+        assertEquals(0, freeHoursByHour[9]);
+        assertEquals(2, freeHoursByHour[12]);
+    }
+
+    @Test
+    public void newerEventAlsoAppliesDaysOfDroppedEventSuccessfully() {
+        // Arrange
+        AvailabilityChangedEvent olderEvent = buildEvent(
+                "John Smith", Collections.singletonList(DAY.plusDays(1)),
+                Collections.singletonList(buildAvailabilitySlot(DAY, LocalTime.of(10, 0), LocalTime.of(14, 0))));
+        AvailabilityChangedEvent newerEvent = buildEvent(
+                "John Smith", Collections.singletonList(DAY),
+                Collections.singletonList(buildAvailabilitySlot(DAY, LocalTime.of(10, 0), LocalTime.of(11, 0))));
+
+        // Act
+        interviewerHourCounts.onAvailabilityChanged(newerEvent);
+        interviewerHourCounts.onAvailabilityChanged(olderEvent);
+
+        // Assert
+        assertEquals(Collections.singleton(DAY), interviewerHourCounts.getFreeCountsOfDays(DAY, DAY.plusDays(1))
+                                                                      .keySet());
+        assertEquals(0, interviewerHourCounts.getFreeHoursByHour(DAY, DAY)[13]);
+    }
+
+    @Test
+    public void writesFarBeforeAndAfterCoveredDaysAreSummedSuccessfully() {
+        // Arrange
+        LocalDate earlyDay = DAY.minusDays(1000);
+        LocalDate lateDay = DAY.plusDays(1000);
+        LocalDate farDay = DAY.plusDays(100000);
+
+        // Act
+        publishInterviewerAvailability("Jane Doe", earlyDay, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        publishInterviewerAvailability("Jane Doe", lateDay, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        publishInterviewerAvailability("Jane Doe", farDay, LocalTime.of(9, 0), LocalTime.of(10, 0));
+
+        // Assert
+        assertEquals(2, interviewerHourCounts.getFreeHoursByHour(earlyDay, DAY)[9]);
+        assertEquals(4, interviewerHourCounts.getFreeHoursByHour(earlyDay, farDay)[9]);
+        assertEquals(2, interviewerHourCounts.getFreeHoursByHour(DAY.plusDays(1), farDay)[9]);
+        assertEquals(1, interviewerHourCounts.getFreeHoursByHour(farDay, farDay.plusDays(7))[9]);
+        assertEquals(0, interviewerHourCounts.getFreeHoursByHour(DAY.plusDays(2), lateDay.minusDays(1))[9]);
+    }
+
+    private void publishInterviewerAvailability(String interviewerName, LocalDate day, LocalTime from, LocalTime to) {
+        Map<LocalDate, AvailabilitySlot> availabilitySlotsByDay =
+                availabilitySlotsByInterviewer.computeIfAbsent(interviewerName, name -> new TreeMap<>());
+        availabilitySlotsByDay.put(day, buildAvailabilitySlot(day, from, to));
+
+        interviewerHourCounts.onAvailabilityChanged(buildEvent(interviewerName, Collections.singletonList(day),
+                                                               new ArrayList<>(availabilitySlotsByDay.values())));
+    }
+
+    private AvailabilityChangedEvent buildEvent(String interviewerName, List<LocalDate> changedDays,
+                                                List<AvailabilitySlot> availabilitySlotList) {
+        return AvailabilityChangedEvent.Builder.availabilityChangedEventWith()
+                                               .withParticipantType(
+                                                       AvailabilityChangedEvent.ParticipantType.INTERVIEWER)
+                                               .withParticipantName(interviewerName)
+                                               .withChangedDays(new HashSet<>(changedDays))
+                                               .withAvailabilitySlotList(availabilitySlotList)
+                                               .withAvailabilityId(AVAILABILITY_ID)
+                                               .withAvailabilityVersion(
+                                                       availabilityVersions.merge(interviewerName, 1L, Long::sum))
+                                               .build();
+    }
+
+    private AvailabilitySlot buildAvailabilitySlot(LocalDate day, LocalTime from, LocalTime to) {
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(from).withTo(to).build();
+
+        return AvailabilitySlot.Builder.availabilitySlotWith()
+                                       .withDay(day)
+                                       .withTimeSlotList(Collections.singletonList(timeSlot))
+                                       .build();
+    }
+}
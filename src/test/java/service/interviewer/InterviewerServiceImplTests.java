@@ -1,26 +1,37 @@
 package service.interviewer;
 
 import app.exception.UserException;
+import app.model.interviewer.AvailabilityHeatmap;
+import app.model.interviewer.DayAvailabilitySummary;
 import app.model.interviewer.InterviewerAvailability;
+import app.model.interviewer.InterviewerAvailabilityView;
 import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerView;
+import app.model.interviewer.InterviewerDayAvailability;
 import app.model.utils.AvailabilitySlot;
+import app.model.utils.SlotGranularity;
 import app.model.utils.TimeSlot;
 import app.repository.interviewer.InterviewerAvailabilityRepository;
 import app.repository.interviewer.InterviewerRepository;
+import app.service.booking.BookingIndex;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.index.InterviewerDayIndex;
+import app.service.index.InterviewerHourBitmapIndex;
+import app.service.index.InterviewerHourCounts;
 import app.service.interviewer.InterviewerServiceImpl;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Month;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,6 +43,20 @@ public class InterviewerServiceImplTests {
     private InterviewerRepository interviewerRepository;
     @Mock
     private InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    @Mock
+    private InterviewerDayIndex interviewerDayIndex;
+    @Mock
+    private InterviewerHourCounts interviewerHourCounts;
+    @Mock
+    private InterviewerHourBitmapIndex interviewerHourBitmapIndex;
+    @Spy
+    private BookingIndex bookingIndex = new BookingIndex(null, SlotGranularity.HOUR);
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Spy
+    private SlotGranularity slotGranularity = SlotGranularity.HOUR;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private InterviewerServiceImpl interviewerServiceImpl;
@@ -122,14 +147,13 @@ public class InterviewerServiceImplTests {
     public void getAllInterviewersSuccessfully() {
         // Arrange
         String interviewerName = "John Doe";
-        Interviewer interviewer = Interviewer.Builder.interviewerModelWith().withName(interviewerName)
-                                                               .build();
-        List<Interviewer> interviewersToBeReturned = Collections.singletonList(interviewer);
+        InterviewerView interviewerView = new InterviewerView(interviewerName);
+        List<InterviewerView> interviewersToBeReturned = Collections.singletonList(interviewerView);
 
         // Act
-        when(interviewerRepository.findAll()).thenReturn(interviewersToBeReturned);
+        when(interviewerRepository.findAllViews()).thenReturn(interviewersToBeReturned);
 
-        List<Interviewer> interviewersReturned = interviewerServiceImpl.getAllInterviewers();
+        List<InterviewerView> interviewersReturned = interviewerServiceImpl.getAllInterviewers();
 
         // Assert
         assertNotNull(interviewersReturned);
@@ -141,18 +165,17 @@ public class InterviewerServiceImplTests {
     public void getInterviewerByNameSuccessfully() {
         // Arrange
         String interviewerName = "John Doe";
-        Interviewer interviewer = Interviewer.Builder.interviewerModelWith().withName(interviewerName)
-                                                               .build();
+        InterviewerView interviewerView = new InterviewerView(interviewerName);
 
         // Act
-        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(interviewer));
+        when(interviewerRepository.findViewByName(interviewerName)).thenReturn(Optional.of(interviewerView));
 
-        Optional<Interviewer> interviewerReturned = interviewerServiceImpl.getInterviewerByName(interviewerName);
+        Optional<InterviewerView> interviewerReturned = interviewerServiceImpl.getInterviewerByName(interviewerName);
 
         // Assert
         assertNotNull(interviewerReturned);
-        assertEquals(interviewer.getName(), interviewerReturned.get().getName());
-        assertEquals(interviewer, interviewerReturned.get());
+        assertEquals(interviewerName, interviewerReturned.get().getName());
+        assertEquals(interviewerView, interviewerReturned.get());
     }
 
     @Test
@@ -523,8 +546,6 @@ public class InterviewerServiceImplTests {
     public void getAllInterviewersAvailabilitySuccessfully() {
         // Arrange
         String interviewerName = "John Doe";
-        Interviewer interviewer = Interviewer.Builder.interviewerModelWith().withName(interviewerName)
-                                                               .build();
 
         TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
                                             .build();
@@ -534,20 +555,16 @@ public class InterviewerServiceImplTests {
                 LocalDate.of(2014, Month.JANUARY, 1)).withTimeSlotList(timeSlots).build();
         List<AvailabilitySlot> availabilitySlots = Collections.singletonList(availabilitySlot);
 
-        InterviewerAvailability interviewerAvailability =
-                InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
-                                                    .withInterviewerModel(interviewer)
-                                                    .withAvailabilitySlotList(availabilitySlots)
-                                                    .build();
+        InterviewerAvailabilityView interviewerAvailabilityView = new InterviewerAvailabilityView(
+                1L, interviewerName, availabilitySlots);
 
-        List<InterviewerAvailability> interviewersAvailabilitiesToBeReturned = Collections.singletonList(
-                interviewerAvailability);
+        List<InterviewerAvailabilityView> interviewersAvailabilitiesToBeReturned = Collections.singletonList(
+                interviewerAvailabilityView);
 
         // Act
-        when(interviewerAvailabilityRepository.findAll()).thenReturn(interviewersAvailabilitiesToBeReturned);
-
+        when(interviewerAvailabilityRepository.findAllViews()).thenReturn(interviewersAvailabilitiesToBeReturned);
 
-        List<InterviewerAvailability> interviewersAvailabilitiesReturned =
+        List<InterviewerAvailabilityView> interviewersAvailabilitiesReturned =
                 interviewerServiceImpl.getAllInterviewersAvailability();
 
         // Assert
@@ -560,8 +577,6 @@ public class InterviewerServiceImplTests {
     public void getInterviewerAvailabilityByNameSuccessfully() {
         // Arrange
         String interviewerName = "John Doe";
-        Interviewer interviewer = Interviewer.Builder.interviewerModelWith().withName(interviewerName)
-                                                               .build();
 
         TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
                                             .build();
@@ -571,25 +586,20 @@ public class InterviewerServiceImplTests {
                 LocalDate.of(2014, Month.JANUARY, 1)).withTimeSlotList(timeSlots).build();
         List<AvailabilitySlot> availabilitySlots = Collections.singletonList(availabilitySlot);
 
-        InterviewerAvailability interviewerAvailability =
-                InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
-                                                    .withInterviewerModel(interviewer)
-                                                    .withAvailabilitySlotList(availabilitySlots)
-                                                    .build();
-
+        InterviewerAvailabilityView interviewerAvailabilityView = new InterviewerAvailabilityView(
+                1L, interviewerName, availabilitySlots);
 
         // Act
-        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName)).thenReturn(
-                interviewerAvailability);
+        when(interviewerAvailabilityRepository.findViewByName(interviewerName)).thenReturn(
+                Optional.of(interviewerAvailabilityView));
 
-
-        InterviewerAvailability interviewerAvailabilityReturned =
+        InterviewerAvailabilityView interviewerAvailabilityReturned =
                 interviewerServiceImpl.getInterviewerAvailabilityByName(interviewerName);
 
         // Assert
         assertNotNull(interviewerAvailabilityReturned);
-        assertEquals(interviewerAvailability, interviewerAvailabilityReturned);
-        assertEquals(interviewerAvailabilityReturned.getInterviewerModel(), interviewerAvailability.getInterviewerModel());
+        assertEquals(interviewerAvailabilityView, interviewerAvailabilityReturned);
+        assertEquals(interviewerName, interviewerAvailabilityReturned.getInterviewerModel().getName());
     }
 
     @Test
@@ -609,6 +619,8 @@ public class InterviewerServiceImplTests {
 
         InterviewerAvailability interviewerAvailability =
                 InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                                    .withId(1L)
+                                                    .withVersion(0L)
                                                     .withInterviewerModel(interviewer)
                                                     .withAvailabilitySlotList(availabilitySlots)
                                                     .build();
@@ -622,5 +634,142 @@ public class InterviewerServiceImplTests {
 
         // Assert
         verify(interviewerAvailabilityRepository, times(1)).deleteById(any());
+        verify(applicationEventPublisher, times(1)).publishEvent(any(AvailabilityChangedEvent.class));
+    }
+
+    @Test
+    public void getInterviewersAvailabilityByDaySuccessfully() {
+        // Arrange
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+        String interviewerName = "John Doe";
+        int nineToTwelveHourMask = (1 << 9) | (1 << 10) | (1 << 11);
+
+        // Act
+        when(interviewerDayIndex.getHourMasksOfDay(day)).thenReturn(
+                Collections.singletonMap(interviewerName, nineToTwelveHourMask));
+
+        List<InterviewerDayAvailability> interviewersDayAvailability =
+                interviewerServiceImpl.getInterviewersAvailabilityByDay(day);
+
+        // Assert
+        assertEquals(1, interviewersDayAvailability.size());
+        assertEquals(interviewerName, interviewersDayAvailability.get(0).getInterviewerName());
+        assertEquals(1, interviewersDayAvailability.get(0).getTimeSlotList().size());
+        assertEquals(LocalTime.of(9, 0), interviewersDayAvailability.get(0).getTimeSlotList().get(0).getFrom());
+        assertEquals(LocalTime.of(12, 0), interviewersDayAvailability.get(0).getTimeSlotList().get(0).getTo());
+    }
+
+    @Test
+    public void getBusiestDaySuccessfully() {
+        // Arrange
+        LocalDate from = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate to = LocalDate.of(2014, Month.JANUARY, 7);
+        LocalDate busiestDay = LocalDate.of(2014, Month.JANUARY, 2);
+
+        NavigableMap<LocalDate, Map<String, Integer>> hourMasksOfDays = new TreeMap<>();
+        hourMasksOfDays.put(from, Collections.singletonMap("John Doe", 1 << 9));
+        Map<String, Integer> hourMasksOfBusiestDay = new HashMap<>();
+        hourMasksOfBusiestDay.put("John Doe", (1 << 9) | (1 << 10));
+        hourMasksOfBusiestDay.put("Jane Doe", 1 << 14);
+        hourMasksOfDays.put(busiestDay, hourMasksOfBusiestDay);
+
+        // Act
+        when(interviewerDayIndex.getHourMasksOfDays(from, to)).thenReturn(hourMasksOfDays);
+
+        Optional<DayAvailabilitySummary> busiestDaySummary = interviewerServiceImpl.getBusiestDay(from, to);
+
+        // Assert
+        assertTrue(busiestDaySummary.isPresent());
+        assertEquals(busiestDay, busiestDaySummary.get().getDay());
+        assertEquals(2, busiestDaySummary.get().getInterviewersCount());
+        assertEquals(3, busiestDaySummary.get().getFreeHoursCount());
+    }
+
+    @Test(expected = UserException.class)
+    public void getDaysAvailabilitySummaryWithFromAfterToFails() {
+        // Arrange
+        LocalDate from = LocalDate.of(2014, Month.JANUARY, 7);
+        LocalDate to = LocalDate.of(2014, Month.JANUARY, 1);
+
+        // Act && Assert
+        try {
+            interviewerServiceImpl.getDaysAvailabilitySummary(from, to);
+        } catch (UserException be) {
+            String exceptionMessage = "Start day of period must not be after end day of period!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of days availability summary with from after to was not thrown!");
+    }
+
+    @Test
+    public void getAvailabilityHeatmapSuccessfully() {
+        // Arrange
+        LocalDate from = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate to = LocalDate.of(2014, Month.JANUARY, 3);
+
+        int[] freeCounts = new int[24];
+        freeCounts[9] = 2;
+        freeCounts[10] = 1;
+        NavigableMap<LocalDate, int[]> freeCountsOfDays = new TreeMap<>();
+        freeCountsOfDays.put(LocalDate.of(2014, Month.JANUARY, 2), freeCounts);
+
+        long[] freeHoursByHour = new long[24];
+        freeHoursByHour[9] = 2;
+        freeHoursByHour[10] = 1;
+
+        // Act
+        when(interviewerHourCounts.getFreeCountsOfDays(from, to)).thenReturn(freeCountsOfDays);
+        when(interviewerHourCounts.getFreeHoursByHour(from, to)).thenReturn(freeHoursByHour);
+
+        AvailabilityHeatmap availabilityHeatmap = interviewerServiceImpl.getAvailabilityHeatmap(from, to, null);
+
+        // Assert
+        assertEquals(3, availabilityHeatmap.getFreeHoursCount());
+        assertEquals(Long.valueOf(2), availabilityHeatmap.getFreeHoursCountByHour().get(9));
+        assertEquals(3, availabilityHeatmap.getDays().size());
+        assertEquals(0, availabilityHeatmap.getDays().get(0).getFreeHoursCount());
+        assertEquals(3, availabilityHeatmap.getDays().get(1).getFreeHoursCount());
+        assertEquals(Integer.valueOf(2), availabilityHeatmap.getDays().get(1).getFreeInterviewersByHour().get(9));
+        verify(interviewerHourBitmapIndex, never()).countFreeInterviewers(any(), any(), any());
+    }
+
+    @Test(expected = UserException.class)
+    public void getAvailabilityHeatmapOfUnknownInterviewerFails() {
+        // Arrange
+        LocalDate from = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate to = LocalDate.of(2014, Month.JANUARY, 31);
+
+        // Act && Assert
+        when(interviewerRepository.findExistingNames(any())).thenReturn(Collections.emptyList());
+
+        try {
+            interviewerServiceImpl.getAvailabilityHeatmap(from, to, Collections.singletonList("John Doe"));
+        } catch (UserException be) {
+            String exceptionMessage = "Interviewer does not exist!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of availability heatmap of unknown interviewer was not thrown!");
+    }
+
+    @Test(expected = UserException.class)
+    public void getAvailabilityHeatmapOfTooLongPeriodFails() {
+        // Arrange
+        LocalDate from = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate to = LocalDate.of(2015, Month.JANUARY, 2);
+
+        // Act && Assert
+        try {
+            interviewerServiceImpl.getAvailabilityHeatmap(from, to, null);
+        } catch (UserException be) {
+            String exceptionMessage = "Period must not be longer than 366 days!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of availability heatmap of too long period was not thrown!");
     }
 }
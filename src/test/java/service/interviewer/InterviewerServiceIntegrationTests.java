@@ -0,0 +1,107 @@
+package service.interviewer;
+
+import app.CalendarApi;
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.interviewer.InterviewerDayAvailability;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.service.interviewer.InterviewerService;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs the interviewer service against the repository backend of the active profile, which is JPA by default and the
+ * in-memory backend in the in-memory-backend test execution.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = CalendarApi.class)
+public class InterviewerServiceIntegrationTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 1);
+    private static final String INTERVIEWER_NAME = "Integration Interviewer";
+
+    @Autowired
+    private InterviewerService interviewerService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @After
+    public void tearDown() {
+        if (interviewerService.getInterviewerByName(INTERVIEWER_NAME).isPresent()) {
+            interviewerService.deleteInterviewerByName(INTERVIEWER_NAME);
+        }
+    }
+
+    @Test
+    public void addedAvailabilityIsMergedIntoSavedVersionSuccessfully() {
+        // Arrange
+        Interviewer interviewer = interviewerService.createInterviewer(new Interviewer(INTERVIEWER_NAME));
+        InterviewerAvailability firstVersion = interviewerService.createInterviewerAvailability(
+                buildInterviewerAvailability(interviewer, LocalTime.of(9, 0), LocalTime.of(11, 0)));
+
+        // Act
+        // Merging into the saved availability loads its slots, which the open session of a request allows for.
+        InterviewerAvailability secondVersion = new TransactionTemplate(transactionManager).execute(
+                status -> interviewerService.createInterviewerAvailability(
+                        buildInterviewerAvailability(interviewer, LocalTime.of(14, 0), LocalTime.of(15, 0))));
+
+        // Assert
+        List<AvailabilitySlot> availabilitySlots = new TransactionTemplate(transactionManager).execute(
+                status -> new ArrayList<>(interviewerService.getInterviewerAvailabilityByName(INTERVIEWER_NAME)
+                                                            .getAvailabilitySlotList()));
+        List<InterviewerDayAvailability> interviewersAvailabilityByDay =
+                interviewerService.getInterviewersAvailabilityByDay(DAY);
+
+        assertEquals(firstVersion.getId(), secondVersion.getId());
+        assertTrue(secondVersion.getVersion() > firstVersion.getVersion());
+        assertEquals(1, availabilitySlots.size());
+        assertEquals(2, availabilitySlots.get(0).getTimeSlotList().size());
+        assertEquals(1, interviewersAvailabilityByDay.size());
+        assertEquals(INTERVIEWER_NAME, interviewersAvailabilityByDay.get(0).getInterviewerName());
+    }
+
+    @Test
+    public void deleteInterviewerRemovesItsAvailabilitySuccessfully() {
+        // Arrange
+        Interviewer interviewer = interviewerService.createInterviewer(new Interviewer(INTERVIEWER_NAME));
+        interviewerService.createInterviewerAvailability(
+                buildInterviewerAvailability(interviewer, LocalTime.of(9, 0), LocalTime.of(11, 0)));
+
+        // Act
+        interviewerService.deleteInterviewerByName(INTERVIEWER_NAME);
+
+        // Assert
+        assertFalse(interviewerService.getInterviewerByName(INTERVIEWER_NAME).isPresent());
+        assertNull(interviewerService.getInterviewerAvailabilityByName(INTERVIEWER_NAME));
+        assertTrue(interviewerService.getInterviewersAvailabilityByDay(DAY).isEmpty());
+    }
+
+    private InterviewerAvailability buildInterviewerAvailability(Interviewer interviewer, LocalTime from,
+                                                                 LocalTime to) {
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        timeSlots.add(TimeSlot.Builder.timeSlotWith().withFrom(from).withTo(to).build());
+        AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(DAY)
+                                                                    .withTimeSlotList(timeSlots).build();
+
+        return InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                              .withInterviewerModel(interviewer)
+                                              .withAvailabilitySlotList(new ArrayList<>(Collections.singletonList(
+                                                      availabilitySlot)))
+                                              .build();
+    }
+}
@@ -0,0 +1,163 @@
+package service.interviewslots;
+
+import app.exception.UserException;
+import app.model.interviewslots.InterviewSlotsQuery;
+import app.model.interviewslots.InterviewSlotsReturn;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.SlotGranularity;
+import app.model.utils.TimeSlot;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+import app.service.events.AvailabilityVersions;
+import app.service.interviewslots.CommonSlotsResultStore;
+import app.service.interviewslots.InterviewPanel;
+import app.service.interviewslots.LiveInterviewSlots;
+import app.service.interviewslots.LiveInterviewSlotsLoader;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CommonSlotsResultStoreTests {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2014, Month.JANUARY, 1);
+    private static final LocalDate SECOND_DAY = LocalDate.of(2014, Month.JANUARY, 2);
+
+    @Mock
+    private LiveInterviewSlotsLoader liveInterviewSlotsLoader;
+
+    private CommonSlotsResultStore commonSlotsResultStore;
+    private InterviewPanel interviewPanel;
+
+    @Before
+    public void setup() {
+        commonSlotsResultStore = new CommonSlotsResultStore(liveInterviewSlotsLoader, 1);
+        interviewPanel = InterviewPanel.of(InterviewSlotsQuery.Builder.interviewSlotsQueryModelWith()
+                                                                      .withCandidateName("John Doe")
+                                                                      .withInterviewersNames(Arrays.asList(
+                                                                              "Ingrid", "Ines", "Ines"))
+                                                                      .build());
+    }
+
+    @Test
+    public void registeredPanelIsLoadedOnceSuccessfully() {
+        // Arrange
+        when(liveInterviewSlotsLoader.load(interviewPanel)).thenReturn(buildLiveInterviewSlots());
+
+        // Act
+        InterviewSlotsReturn registeredInterviewSlots = commonSlotsResultStore.register(interviewPanel);
+        commonSlotsResultStore.register(interviewPanel);
+
+        // Assert
+        assertEquals(1, registeredInterviewSlots.getInterviewAvailabilitySlotList().size());
+        assertEquals(Arrays.asList("Ines", "Ingrid"), interviewPanel.getInterviewersNames());
+        assertEquals(Collections.singletonList(interviewPanel), commonSlotsResultStore.getRegisteredPanels());
+        verify(liveInterviewSlotsLoader, times(1)).load(any());
+    }
+
+    @Test
+    public void availabilityChangeUpdatesRegisteredResultSuccessfully() {
+        // Arrange
+        when(liveInterviewSlotsLoader.load(interviewPanel)).thenReturn(buildLiveInterviewSlots());
+        commonSlotsResultStore.register(interviewPanel);
+
+        // Act
+        commonSlotsResultStore.onAvailabilityChanged(
+                AvailabilityChangedEvent.Builder.availabilityChangedEventWith()
+                                                .withParticipantType(ParticipantType.INTERVIEWER)
+                                                .withParticipantName("Ingrid")
+                                                .withChangedDays(Collections.singleton(SECOND_DAY))
+                                                .withAvailabilitySlotList(Arrays.asList(
+                                                        buildAvailabilitySlot(FIRST_DAY, 10, 16),
+                                                        buildAvailabilitySlot(SECOND_DAY, 9, 11)))
+                                                .withAvailabilityId(3L)
+                                                .withAvailabilityVersion(1L)
+                                                .build());
+
+        // Assert
+        List<AvailabilitySlot> interviewAvailabilitySlots =
+                commonSlotsResultStore.getInterviewSlots(interviewPanel).get().getInterviewAvailabilitySlotList();
+        assertEquals(2, interviewAvailabilitySlots.size());
+        assertEquals(SECOND_DAY, interviewAvailabilitySlots.get(1).getDay());
+    }
+
+    @Test
+    public void unregisteredPanelIsNoLongerServedSuccessfully() {
+        // Arrange
+        when(liveInterviewSlotsLoader.load(interviewPanel)).thenReturn(buildLiveInterviewSlots());
+        commonSlotsResultStore.register(interviewPanel);
+
+        // Act
+        boolean unregistered = commonSlotsResultStore.unregister(interviewPanel);
+
+        // Assert
+        assertTrue(unregistered);
+        assertFalse(commonSlotsResultStore.getInterviewSlots(interviewPanel).isPresent());
+        assertFalse(commonSlotsResultStore.unregister(interviewPanel));
+    }
+
+    @Test(expected = UserException.class)
+    public void registerMorePanelsThanAllowedFails() {
+        // Arrange
+        when(liveInterviewSlotsLoader.load(interviewPanel)).thenReturn(buildLiveInterviewSlots());
+        commonSlotsResultStore.register(interviewPanel);
+
+        InterviewPanel otherInterviewPanel = InterviewPanel.of(
+                InterviewSlotsQuery.Builder.interviewSlotsQueryModelWith()
+                                           .withCandidateName("Jane Doe")
+                                           .withInterviewersNames(Collections.singletonList("Ines"))
+                                           .build());
+
+        // Act && Assert
+        try {
+            commonSlotsResultStore.register(otherInterviewPanel);
+        } catch (UserException exception) {
+            assertEquals("Too many registered interview panels!", exception.getMessage());
+
+            throw exception;
+        }
+
+        fail("User exception for too many registered panels was not thrown!");
+    }
+
+    private LiveInterviewSlots buildLiveInterviewSlots() {
+        Map<String, List<AvailabilitySlot>> interviewersAvailabilitySlots = new HashMap<>();
+        interviewersAvailabilitySlots.put("Ines", Arrays.asList(buildAvailabilitySlot(FIRST_DAY, 9, 12),
+                                                                buildAvailabilitySlot(SECOND_DAY, 9, 12)));
+        interviewersAvailabilitySlots.put("Ingrid", Collections.singletonList(
+                buildAvailabilitySlot(FIRST_DAY, 10, 16)));
+
+        return new LiveInterviewSlots("John Doe", Arrays.asList("Ines", "Ingrid"),
+                                      Arrays.asList(buildAvailabilitySlot(FIRST_DAY, 9, 17),
+                                                    buildAvailabilitySlot(SECOND_DAY, 9, 17)),
+                                      interviewersAvailabilitySlots, new AvailabilityVersions(),
+                                      SlotGranularity.HOUR);
+    }
+
+    private AvailabilitySlot buildAvailabilitySlot(LocalDate day, int fromHour, int toHour) {
+        return AvailabilitySlot.Builder.availabilitySlotWith()
+                                       .withDay(day)
+                                       .withTimeSlotList(Collections.singletonList(
+                                               TimeSlot.Builder.timeSlotWith()
+                                                               .withFrom(LocalTime.of(fromHour, 0))
+                                                               .withTo(LocalTime.of(toHour, 0))
+                                                               .build()))
+                                       .build();
+    }
+}
@@ -0,0 +1,90 @@
+package service.interviewslots;
+
+import app.model.utils.SlotGranularity;
+import app.model.utils.TimeSlot;
+import app.service.interviewslots.InterviewLoopPlanner;
+import org.junit.Test;
+
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class InterviewLoopPlannerTests {
+    private final SlotGranularity quarterHours = new SlotGranularity(15);
+
+    @Test
+    public void planEarliestBackToBackLoopSuccessfully() {
+        // Arrange
+        InterviewLoopPlanner interviewLoopPlanner = new InterviewLoopPlanner(new int[]{1, 2, 1}, 0);
+
+        // Act
+        List<int[]> loops = interviewLoopPlanner.planLoops(buildStageSlotMasks(), 1);
+
+        // Assert
+        assertEquals(1, loops.size());
+        assertArrayEquals(new int[]{10, 11, 13}, loops.get(0));
+    }
+
+    @Test
+    public void planTopLoopsWithGapsSuccessfully() {
+        // Arrange
+        InterviewLoopPlanner interviewLoopPlanner = new InterviewLoopPlanner(new int[]{1, 2, 1}, 1);
+
+        // Act
+        List<int[]> loops = interviewLoopPlanner.planLoops(buildStageSlotMasks(), 5);
+
+        // Assert
+        assertEquals(3, loops.size());
+        assertArrayEquals(new int[]{9, 10, 13}, loops.get(0));
+        assertArrayEquals(new int[]{10, 11, 13}, loops.get(1));
+        assertArrayEquals(new int[]{11, 12, 14}, loops.get(2));
+    }
+
+    @Test
+    public void planLoopsWhenStagesDoNotFitReturnsNoLoopsSuccessfully() {
+        // Arrange
+        InterviewLoopPlanner interviewLoopPlanner = new InterviewLoopPlanner(new int[]{1, 1, 5}, 0);
+
+        // Act
+        List<int[]> loops = interviewLoopPlanner.planLoops(buildStageSlotMasks(), 5);
+
+        // Assert
+        assertTrue(loops.isEmpty());
+    }
+
+    @Test
+    public void planLoopAcrossWordsOfQuarterHourMaskSuccessfully() {
+        // Arrange
+        InterviewLoopPlanner interviewLoopPlanner = new InterviewLoopPlanner(new int[]{6, 3}, 0);
+        long[][] stageSlotMasks = {
+                quarterHours.toSlotMask(Collections.singletonList(
+                        buildTimeSlot(LocalTime.of(15, 0), LocalTime.of(16, 30)))),
+                quarterHours.toSlotMask(Collections.singletonList(
+                        buildTimeSlot(LocalTime.of(16, 30), LocalTime.of(17, 15))))
+        };
+
+        // Act
+        List<int[]> loops = interviewLoopPlanner.planLoops(stageSlotMasks, 5);
+
+        // Assert
+        assertEquals(1, loops.size());
+        assertArrayEquals(new int[]{60, 66}, loops.get(0));
+    }
+
+    private long[][] buildStageSlotMasks() {
+        return new long[][]{
+                SlotGranularity.HOUR.toSlotMask(Collections.singletonList(
+                        buildTimeSlot(LocalTime.of(9, 0), LocalTime.of(12, 0)))),
+                SlotGranularity.HOUR.toSlotMask(Collections.singletonList(
+                        buildTimeSlot(LocalTime.of(10, 0), LocalTime.of(14, 0)))),
+                SlotGranularity.HOUR.toSlotMask(Collections.singletonList(
+                        buildTimeSlot(LocalTime.of(13, 0), LocalTime.of(17, 0))))
+        };
+    }
+
+    private TimeSlot buildTimeSlot(LocalTime from, LocalTime to) {
+        return TimeSlot.Builder.timeSlotWith().withFrom(from).withTo(to).build();
+    }
+}
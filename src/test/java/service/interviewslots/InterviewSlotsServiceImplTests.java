@@ -1,26 +1,40 @@
 package service.interviewslots;
 
+import app.exception.DeadlineExceededException;
 import app.exception.UserException;
 import app.model.candidate.CandidateAvailability;
 import app.model.candidate.Candidate;
 import app.model.interviewer.InterviewerAvailability;
 import app.model.interviewer.Interviewer;
+import app.model.interviewslots.InterviewLoopQuery;
+import app.model.interviewslots.InterviewLoopReturn;
+import app.model.interviewslots.InterviewLoopStage;
 import app.model.interviewslots.InterviewSlotsQuery;
 import app.model.interviewslots.InterviewSlotsReturn;
+import app.model.interviewslots.PanelAvailabilityQuery;
 import app.model.utils.AvailabilitySlot;
+import app.model.utils.SlotGranularity;
 import app.model.utils.TimeSlot;
 import app.repository.candidate.CandidateAvailabilityRepository;
 import app.repository.candidate.CandidateRepository;
 import app.repository.interviewer.InterviewerAvailabilityRepository;
 import app.repository.interviewer.InterviewerRepository;
+import app.service.caching.AvailabilityVersionRegistry;
+import app.service.index.InterviewerHourBitmapIndex;
+import app.service.interviewslots.CommonSlotsResultStore;
+import app.service.interviewslots.InterviewPanel;
 import app.service.interviewslots.InterviewSlotsServiceImpl;
+import app.service.interviewslots.SlotQueryContext;
+import app.service.metrics.SlotQueryMetrics;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Month;
@@ -32,6 +46,9 @@ import java.util.Optional;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -45,6 +62,16 @@ public class InterviewSlotsServiceImplTests {
     private InterviewerRepository interviewerRepository;
     @Mock
     private InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    @Mock
+    private InterviewerHourBitmapIndex interviewerHourBitmapIndex;
+    @Mock
+    private AvailabilityVersionRegistry availabilityVersionRegistry;
+    @Mock
+    private CommonSlotsResultStore commonSlotsResultStore;
+    @Mock
+    private SlotQueryMetrics slotQueryMetrics;
+    @Spy
+    private SlotGranularity slotGranularity = SlotGranularity.HOUR;
 
     @InjectMocks
     private InterviewSlotsServiceImpl interviewSlotsServiceImpl;
@@ -191,7 +218,8 @@ public class InterviewSlotsServiceImplTests {
 
         // Act
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
-        when(interviewerRepository.findById(firstInterviewerName)).thenReturn(Optional.of(firstInterviewer));
+        when(interviewerRepository.findExistingNames(any())).thenReturn(
+                Collections.singletonList(firstInterviewerName));
         when(candidateAvailabilityRepository.getAvailability(candidateName)).thenReturn(
                 candidateAvailability);
         when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(firstInterviewerName))
@@ -223,8 +251,8 @@ public class InterviewSlotsServiceImplTests {
 
         // Act
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
-        when(interviewerRepository.findById(firstInterviewerName)).thenReturn(Optional.of(firstInterviewer));
-        when(interviewerRepository.findById(secondInterviewerName)).thenReturn(Optional.of(secondInterviewer));
+        when(interviewerRepository.findExistingNames(any())).thenReturn(
+                Arrays.asList(firstInterviewerName, secondInterviewerName));
         when(candidateAvailabilityRepository.getAvailability(candidateName)).thenReturn(
                 candidateAvailability);
         when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(firstInterviewerName))
@@ -260,9 +288,8 @@ public class InterviewSlotsServiceImplTests {
 
         // Act
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
-        when(interviewerRepository.findById(firstInterviewerName)).thenReturn(Optional.of(firstInterviewer));
-        when(interviewerRepository.findById(secondInterviewerName)).thenReturn(Optional.of(secondInterviewer));
-        when(interviewerRepository.findById(thirdInterviewerName)).thenReturn(Optional.of(thirdInterviewer));
+        when(interviewerRepository.findExistingNames(any())).thenReturn(
+                Arrays.asList(firstInterviewerName, secondInterviewerName, thirdInterviewerName));
         when(candidateAvailabilityRepository.getAvailability(candidateName)).thenReturn(
                 candidateAvailability);
         when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(firstInterviewerName))
@@ -325,7 +352,7 @@ public class InterviewSlotsServiceImplTests {
 
         // Act && Assert
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
-        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.empty());
+        when(interviewerRepository.findExistingNames(any())).thenReturn(Collections.emptyList());
 
         try {
             interviewSlotsServiceImpl.getInterviewSlots(interviewSlotsQuery);
@@ -353,7 +380,7 @@ public class InterviewSlotsServiceImplTests {
 
         // Act && Assert
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
-        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(firstInterviewer));
+        when(interviewerRepository.findExistingNames(any())).thenReturn(Collections.singletonList(interviewerName));
         when(candidateAvailabilityRepository.getAvailability(candidateName)).thenReturn(null);
 
         try {
@@ -382,7 +409,7 @@ public class InterviewSlotsServiceImplTests {
 
         // Act && Assert
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
-        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(firstInterviewer));
+        when(interviewerRepository.findExistingNames(any())).thenReturn(Collections.singletonList(interviewerName));
         when(candidateAvailabilityRepository.getAvailability(candidateName)).thenReturn(
                 candidateAvailability);
         when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName)).thenReturn(
@@ -399,4 +426,183 @@ public class InterviewSlotsServiceImplTests {
         fail("Business exception of getting interview slots without interviewer availability created to was not "
              + "thrown!");
     }
+
+    @Test(expected = UserException.class)
+    public void getPanelAvailabilityWithMinimumAboveInterviewersCountFails() {
+        // Arrange
+        List<String> interviewersNames = Arrays.asList(firstInterviewer.getName(), secondInterviewer.getName());
+
+        PanelAvailabilityQuery panelAvailabilityQuery = PanelAvailabilityQuery.Builder.panelAvailabilityQueryWith()
+                                                                                      .withInterviewersNames(
+                                                                                              interviewersNames)
+                                                                                      .withMinimumInterviewers(3)
+                                                                                      .withFrom(LocalDate.of(
+                                                                                              2014, Month.JANUARY, 1))
+                                                                                      .withTo(LocalDate.of(
+                                                                                              2014, Month.JANUARY, 5))
+                                                                                      .build();
+
+        // Act && Assert
+        try {
+            interviewSlotsServiceImpl.getPanelAvailability(panelAvailabilityQuery);
+        } catch (UserException be) {
+            String exceptionMessage = "Minimum number of interviewers must be between one and the number of "
+                                      + "interviewers!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of panel availability with minimum above interviewers count was not thrown!");
+    }
+
+    @Test(expected = UserException.class)
+    public void getPanelAvailabilityWithoutInterviewerCreatedFails() {
+        // Arrange
+        String interviewerName = "Sam Wheeler";
+        List<String> interviewersNames = Arrays.asList(firstInterviewer.getName(), interviewerName);
+
+        PanelAvailabilityQuery panelAvailabilityQuery = PanelAvailabilityQuery.Builder.panelAvailabilityQueryWith()
+                                                                                      .withInterviewersNames(
+                                                                                              interviewersNames)
+                                                                                      .withFrom(LocalDate.of(
+                                                                                              2014, Month.JANUARY, 1))
+                                                                                      .withTo(LocalDate.of(
+                                                                                              2014, Month.JANUARY, 5))
+                                                                                      .build();
+
+        // Act && Assert
+        when(interviewerRepository.findExistingNames(any())).thenReturn(
+                Collections.singletonList(firstInterviewer.getName()));
+
+        try {
+            interviewSlotsServiceImpl.getPanelAvailability(panelAvailabilityQuery);
+        } catch (UserException be) {
+            String exceptionMessage = "Interviewer does not exist!";
+            assertEquals(exceptionMessage, be.getMessage());
+            assertArrayEquals(new String[]{interviewerName}, be.getArguments());
+            throw be;
+        }
+
+        fail("Business exception of panel availability without interviewer created was not thrown!");
+    }
+
+    @Test(expected = DeadlineExceededException.class)
+    public void getInterviewSlotsPastDeadlineFails() {
+        // Arrange
+        List<String> interviewersNames = Collections.singletonList(firstInterviewer.getName());
+
+        InterviewSlotsQuery interviewSlotsQuery = InterviewSlotsQuery.Builder.interviewSlotsQueryModelWith()
+                                                                             .withCandidateName(candidate.getName())
+                                                                             .withInterviewersNames(interviewersNames)
+                                                                             .build();
+
+        // Act && Assert
+        interviewSlotsServiceImpl.getInterviewSlots(interviewSlotsQuery, SlotQueryContext.withTimeout(Duration.ZERO));
+
+        fail("Deadline exceeded exception of slot query past its deadline was not thrown!");
+    }
+
+    @Test
+    public void getInterviewSlotsOfRegisteredPanelFromResultStoreSuccessfully() {
+        // Arrange
+        List<String> interviewersNames = Arrays.asList(secondInterviewer.getName(), firstInterviewer.getName());
+
+        InterviewSlotsQuery interviewSlotsQuery = InterviewSlotsQuery.Builder.interviewSlotsQueryModelWith()
+                                                                             .withCandidateName(candidate.getName())
+                                                                             .withInterviewersNames(interviewersNames)
+                                                                             .build();
+        InterviewSlotsReturn registeredInterviewSlots =
+                InterviewSlotsReturn.Builder.interviewSlotsReturnModelWith()
+                                            .withCandidateName(candidate.getName())
+                                            .withInterviewerNameList(Arrays.asList(firstInterviewer.getName(),
+                                                                                   secondInterviewer.getName()))
+                                            .withInterviewAvailabilitySlotList(
+                                                    candidateAvailability.getAvailabilitySlotList())
+                                            .build();
+
+        // Act
+        when(commonSlotsResultStore.getInterviewSlots(InterviewPanel.of(interviewSlotsQuery))).thenReturn(
+                Optional.of(registeredInterviewSlots));
+
+        InterviewSlotsReturn interviewSlotsReturn = interviewSlotsServiceImpl.getInterviewSlots(interviewSlotsQuery);
+
+        // Assert
+        assertEquals(interviewersNames, interviewSlotsReturn.getInterviewersNames());
+        assertSame(candidateAvailability.getAvailabilitySlotList(),
+                   interviewSlotsReturn.getInterviewAvailabilitySlotList());
+        verify(candidateAvailabilityRepository, never()).getAvailability(any());
+    }
+
+    @Test
+    public void getInterviewLoopsOfTwoStagesSuccessfully() {
+        // Arrange
+        String candidateName = candidate.getName();
+        String firstInterviewerName = firstInterviewer.getName();
+        String secondInterviewerName = secondInterviewer.getName();
+
+        InterviewLoopQuery interviewLoopQuery = InterviewLoopQuery.Builder.interviewLoopQueryWith()
+                                                                          .withCandidateName(candidateName)
+                                                                          .withStageList(Arrays.asList(
+                                                                                  buildInterviewLoopStage(
+                                                                                          secondInterviewerName, 60),
+                                                                                  buildInterviewLoopStage(
+                                                                                          firstInterviewerName, 60)))
+                                                                          .withMaximumLoops(5)
+                                                                          .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(interviewerRepository.findExistingNames(any())).thenReturn(Arrays.asList(secondInterviewerName,
+                                                                                      firstInterviewerName));
+        when(candidateAvailabilityRepository.getAvailability(candidateName)).thenReturn(candidateAvailability);
+        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(firstInterviewerName))
+                .thenReturn(firstInterviewerAvailability);
+        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(secondInterviewerName))
+                .thenReturn(secondInterviewerAvailability);
+
+        InterviewLoopReturn interviewLoopReturn = interviewSlotsServiceImpl.getInterviewLoops(interviewLoopQuery);
+
+        // Assert
+        assertEquals(candidateName, interviewLoopReturn.getCandidateName());
+        assertEquals(3, interviewLoopReturn.getInterviewLoopList().size());
+        assertEquals(LocalDate.of(2014, Month.JANUARY, 1), interviewLoopReturn.getInterviewLoopList().get(0).getDay());
+        assertEquals(LocalTime.of(9, 0), interviewLoopReturn.getInterviewLoopList().get(0).getFrom());
+        assertEquals(LocalTime.of(11, 0), interviewLoopReturn.getInterviewLoopList().get(0).getTo());
+        assertEquals(LocalDate.of(2014, Month.JANUARY, 2), interviewLoopReturn.getInterviewLoopList().get(1).getDay());
+        assertEquals(LocalTime.of(12, 0),
+                     interviewLoopReturn.getInterviewLoopList().get(1).getStageSlotList().get(1).getFrom());
+        assertEquals(Collections.singletonList(firstInterviewerName),
+                     interviewLoopReturn.getInterviewLoopList().get(1).getStageSlotList().get(1)
+                                        .getAvailableInterviewersNames());
+    }
+
+    @Test(expected = UserException.class)
+    public void getInterviewLoopsWithUnalignedStageDurationFails() {
+        // Arrange
+        InterviewLoopQuery interviewLoopQuery = InterviewLoopQuery.Builder.interviewLoopQueryWith()
+                                                                          .withCandidateName(candidate.getName())
+                                                                          .withStageList(Collections.singletonList(
+                                                                                  buildInterviewLoopStage(
+                                                                                          firstInterviewer.getName(),
+                                                                                          90)))
+                                                                          .build();
+
+        // Act && Assert
+        try {
+            interviewSlotsServiceImpl.getInterviewLoops(interviewLoopQuery);
+        } catch (UserException be) {
+            String exceptionMessage = "Stage duration must be a multiple of 60 minutes within a day!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of interview loops with unaligned stage duration was not thrown!");
+    }
+
+    private InterviewLoopStage buildInterviewLoopStage(String interviewerName, int durationMinutes) {
+        return InterviewLoopStage.Builder.interviewLoopStageWith()
+                                         .withInterviewersNames(Collections.singletonList(interviewerName))
+                                         .withDurationMinutes(durationMinutes)
+                                         .build();
+    }
 }
@@ -0,0 +1,160 @@
+package service.interviewslots;
+
+import app.CalendarApi;
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.interviewslots.InterviewSlotsQuery;
+import app.model.interviewslots.InterviewSlotsReturn;
+import app.model.interviewslots.PanelAvailabilityQuery;
+import app.model.interviewslots.PanelAvailabilityReturn;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.service.candidate.CandidateService;
+import app.service.interviewer.InterviewerService;
+import app.service.interviewslots.InterviewSlotsService;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static repository.utils.StatementCountAssertions.assertStatementCount;
+import static repository.utils.StatementCountAssertions.countStatements;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = CalendarApi.class)
+public class InterviewSlotsStatementCountTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 1);
+    private static final String CANDIDATE_NAME = "Statement Count Candidate";
+
+    @Autowired
+    private CandidateService candidateService;
+    @Autowired
+    private InterviewerService interviewerService;
+    @Autowired
+    private InterviewSlotsService interviewSlotsService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<String> interviewersNames = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        if (candidateService.getCandidateByName(CANDIDATE_NAME).isPresent()) {
+            candidateService.deleteCandidateByName(CANDIDATE_NAME);
+        }
+
+        for (String interviewerName : interviewersNames) {
+            interviewerService.deleteInterviewerByName(interviewerName);
+        }
+    }
+
+    @Test
+    public void panelAvailabilityUsesConstantNumberOfStatementsSuccessfully() {
+        // Arrange
+        createInterviewersWithAvailability(6);
+
+        // Act
+        int statementsForSmallPanel = countStatements(
+                () -> interviewSlotsService.getPanelAvailability(buildPanelAvailabilityQuery(2)));
+        PanelAvailabilityReturn panelAvailability = assertStatementCount(
+                statementsForSmallPanel, () -> interviewSlotsService.getPanelAvailability(
+                        buildPanelAvailabilityQuery(6)));
+
+        // Assert
+        assertTrue(statementsForSmallPanel > 0);
+        assertEquals(6, panelAvailability.getInterviewersNames().size());
+        assertFalse(panelAvailability.getPanelSlotList().isEmpty());
+    }
+
+    @Test
+    public void interviewSlotsLoadOnlyTheAvailabilityOfEachInterviewerSuccessfully() {
+        // Arrange
+        createCandidateWithAvailability();
+        createInterviewersWithAvailability(6);
+
+        // Act
+        int statementsForOneInterviewer = countStatements(() -> getInterviewSlots(1));
+        int statementsPerInterviewer = countStatements(() -> getInterviewSlots(2)) - statementsForOneInterviewer;
+        InterviewSlotsReturn interviewSlots = assertStatementCount(
+                statementsForOneInterviewer + 5 * statementsPerInterviewer, () -> getInterviewSlots(6));
+
+        // Assert
+        assertEquals(1, statementsPerInterviewer);
+        assertEquals(6, interviewSlots.getInterviewersNames().size());
+        assertFalse(interviewSlots.getInterviewAvailabilitySlotList().isEmpty());
+    }
+
+    /**
+     * Runs the query in a session, as the web requests do with the session kept open for the view, so the slot lists
+     * of the loaded availability can be read lazily.
+     */
+    private InterviewSlotsReturn getInterviewSlots(int panelSize) {
+        InterviewSlotsQuery interviewSlotsQuery = InterviewSlotsQuery.Builder.interviewSlotsQueryModelWith()
+                                                                           .withCandidateName(CANDIDATE_NAME)
+                                                                           .withInterviewersNames(
+                                                                                   interviewersNames.subList(
+                                                                                           0, panelSize))
+                                                                           .build();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return transactionTemplate.execute(status -> interviewSlotsService.getInterviewSlots(interviewSlotsQuery));
+    }
+
+    private PanelAvailabilityQuery buildPanelAvailabilityQuery(int panelSize) {
+        return PanelAvailabilityQuery.Builder.panelAvailabilityQueryWith()
+                                             .withInterviewersNames(interviewersNames.subList(0, panelSize))
+                                             .withMinimumInterviewers(panelSize)
+                                             .withFrom(DAY)
+                                             .withTo(DAY)
+                                             .build();
+    }
+
+    private void createCandidateWithAvailability() {
+        Candidate candidate = candidateService.createCandidate(new Candidate(CANDIDATE_NAME));
+
+        candidateService.createCandidateAvailability(
+                CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                             .withCandidateModel(candidate)
+                                             .withAvailabilitySlotList(buildAvailabilitySlotList())
+                                             .build());
+    }
+
+    private void createInterviewersWithAvailability(int count) {
+        for (int index = 0; index < count; index++) {
+            Interviewer interviewer = interviewerService.createInterviewer(
+                    new Interviewer("Statement Count Interviewer " + index));
+            interviewersNames.add(interviewer.getName());
+
+            interviewerService.createInterviewerAvailability(
+                    InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                                   .withInterviewerModel(interviewer)
+                                                   .withAvailabilitySlotList(buildAvailabilitySlotList())
+                                                   .build());
+        }
+    }
+
+    private List<AvailabilitySlot> buildAvailabilitySlotList() {
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        timeSlots.add(TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(12, 0))
+                                      .build());
+        AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(DAY)
+                                                                    .withTimeSlotList(timeSlots).build();
+
+        return new ArrayList<>(Collections.singletonList(availabilitySlot));
+    }
+}
@@ -0,0 +1,158 @@
+package service.interviewslots;
+
+import app.model.interviewslots.InterviewSlotsChange;
+import app.model.interviewslots.InterviewSlotsReturn;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.SlotGranularity;
+import app.model.utils.TimeSlot;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.events.AvailabilityChangedEvent.ParticipantType;
+import app.service.events.AvailabilityVersions;
+import app.service.interviewslots.LiveInterviewSlots;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+public class LiveInterviewSlotsTests {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2014, Month.JANUARY, 1);
+    private static final LocalDate SECOND_DAY = LocalDate.of(2014, Month.JANUARY, 2);
+
+    private LiveInterviewSlots liveInterviewSlots;
+
+    @Before
+    public void setup() {
+        List<AvailabilitySlot> candidateAvailabilitySlots = Arrays.asList(buildAvailabilitySlot(FIRST_DAY, 9, 17),
+                                                                          buildAvailabilitySlot(SECOND_DAY, 9, 17));
+        Map<String, List<AvailabilitySlot>> interviewersAvailabilitySlots = new HashMap<>();
+        interviewersAvailabilitySlots.put("Ines", Arrays.asList(buildAvailabilitySlot(FIRST_DAY, 9, 12),
+                                                                buildAvailabilitySlot(SECOND_DAY, 9, 10)));
+        interviewersAvailabilitySlots.put("Ingrid", Collections.singletonList(
+                buildAvailabilitySlot(FIRST_DAY, 10, 16)));
+
+        AvailabilityVersions availabilityVersions = new AvailabilityVersions();
+        availabilityVersions.record(ParticipantType.CANDIDATE, "John Doe", 1L, 0L, candidateAvailabilitySlots);
+        availabilityVersions.record(ParticipantType.INTERVIEWER, "Ines", 2L, 0L,
+                                    interviewersAvailabilitySlots.get("Ines"));
+        availabilityVersions.record(ParticipantType.INTERVIEWER, "Ingrid", 3L, 0L,
+                                    interviewersAvailabilitySlots.get("Ingrid"));
+
+        liveInterviewSlots = new LiveInterviewSlots("John Doe", Arrays.asList("Ines", "Ingrid"),
+                                                    candidateAvailabilitySlots, interviewersAvailabilitySlots,
+                                                    availabilityVersions, SlotGranularity.HOUR);
+    }
+
+    @Test
+    public void initialInterviewSlotsAreCommonSlotsOfAllParticipantsSuccessfully() {
+        // Act
+        InterviewSlotsReturn interviewSlots = liveInterviewSlots.getInterviewSlots();
+
+        // Assert
+        assertEquals(1, interviewSlots.getInterviewAvailabilitySlotList().size());
+        assertAvailabilitySlot(interviewSlots.getInterviewAvailabilitySlotList().get(0), FIRST_DAY, 10, 12);
+    }
+
+    @Test
+    public void changeOfInterviewerReportsOnlyChangedDaysSuccessfully() {
+        // Act
+        Optional<InterviewSlotsChange> interviewSlotsChange = liveInterviewSlots.applyChange(buildEvent(
+                ParticipantType.INTERVIEWER, "Ingrid", 3L, 1L, Arrays.asList(FIRST_DAY, SECOND_DAY),
+                Arrays.asList(buildAvailabilitySlot(FIRST_DAY, 10, 16), buildAvailabilitySlot(SECOND_DAY, 8, 12))));
+
+        // Assert
+        assertTrue(interviewSlotsChange.isPresent());
+        assertEquals(Collections.singletonList(SECOND_DAY), interviewSlotsChange.get().getChangedDays());
+        assertAvailabilitySlot(interviewSlotsChange.get().getInterviewAvailabilitySlotList().get(0), SECOND_DAY, 9,
+                               10);
+        assertEquals(2, liveInterviewSlots.getInterviewSlots().getInterviewAvailabilitySlotList().size());
+    }
+
+    @Test
+    public void removedAvailabilityReportsDayWithoutSlotsSuccessfully() {
+        // Act
+        Optional<InterviewSlotsChange> interviewSlotsChange = liveInterviewSlots.applyChange(buildEvent(
+                ParticipantType.CANDIDATE, "John Doe", 1L, 1L, Arrays.asList(FIRST_DAY, SECOND_DAY),
+                Collections.emptyList()));
+
+        // Assert
+        assertTrue(interviewSlotsChange.isPresent());
+        assertEquals(Collections.singletonList(FIRST_DAY), interviewSlotsChange.get().getChangedDays());
+        assertTrue(interviewSlotsChange.get().getInterviewAvailabilitySlotList().get(0).getTimeSlotList().isEmpty());
+        assertTrue(liveInterviewSlots.getInterviewSlots().getInterviewAvailabilitySlotList().isEmpty());
+    }
+
+    @Test
+    public void staleChangeIsDroppedSuccessfully() {
+        // Arrange
+        liveInterviewSlots.applyChange(buildEvent(
+                ParticipantType.INTERVIEWER, "Ingrid", 3L, 2L, Collections.singletonList(SECOND_DAY),
+                Arrays.asList(buildAvailabilitySlot(FIRST_DAY, 10, 16), buildAvailabilitySlot(SECOND_DAY, 8, 12))));
+
+        // Act
+        Optional<InterviewSlotsChange> interviewSlotsChange = liveInterviewSlots.applyChange(buildEvent(
+                ParticipantType.INTERVIEWER, "Ingrid", 3L, 1L, Collections.singletonList(FIRST_DAY),
+                Collections.emptyList()));
+
+        // Assert
+        assertFalse(interviewSlotsChange.isPresent());
+        assertEquals(2, liveInterviewSlots.getInterviewSlots().getInterviewAvailabilitySlotList().size());
+    }
+
+    @Test
+    public void changeOfOtherParticipantIsIgnoredSuccessfully() {
+        // Act
+        Optional<InterviewSlotsChange> candidateChange = liveInterviewSlots.applyChange(buildEvent(
+                ParticipantType.CANDIDATE, "Ines", 2L, 1L, Collections.singletonList(FIRST_DAY),
+                Collections.emptyList()));
+        Optional<InterviewSlotsChange> interviewerChange = liveInterviewSlots.applyChange(buildEvent(
+                ParticipantType.INTERVIEWER, "Isabel", 4L, 1L, Collections.singletonList(FIRST_DAY),
+                Collections.emptyList()));
+
+        // Assert
+        assertFalse(candidateChange.isPresent());
+        assertFalse(interviewerChange.isPresent());
+    }
+
+    private void assertAvailabilitySlot(AvailabilitySlot availabilitySlot, LocalDate day, int fromHour, int toHour) {
+        assertEquals(day, availabilitySlot.getDay());
+        assertEquals(1, availabilitySlot.getTimeSlotList().size());
+        assertEquals(LocalTime.of(fromHour, 0), availabilitySlot.getTimeSlotList().get(0).getFrom());
+        assertEquals(LocalTime.of(toHour, 0), availabilitySlot.getTimeSlotList().get(0).getTo());
+    }
+
+    private AvailabilityChangedEvent buildEvent(ParticipantType participantType, String participantName,
+                                                Long availabilityId, Long availabilityVersion,
+                                                List<LocalDate> changedDays,
+                                                List<AvailabilitySlot> availabilitySlotList) {
+        return AvailabilityChangedEvent.Builder.availabilityChangedEventWith()
+                                               .withParticipantType(participantType)
+                                               .withParticipantName(participantName)
+                                               .withChangedDays(new HashSet<>(changedDays))
+                                               .withAvailabilitySlotList(availabilitySlotList)
+                                               .withAvailabilityId(availabilityId)
+                                               .withAvailabilityVersion(availabilityVersion)
+                                               .build();
+    }
+
+    private AvailabilitySlot buildAvailabilitySlot(LocalDate day, int fromHour, int toHour) {
+        return AvailabilitySlot.Builder.availabilitySlotWith()
+                                       .withDay(day)
+                                       .withTimeSlotList(Collections.singletonList(
+                                               TimeSlot.Builder.timeSlotWith()
+                                                               .withFrom(LocalTime.of(fromHour, 0))
+                                                               .withTo(LocalTime.of(toHour, 0))
+                                                               .build()))
+                                       .build();
+    }
+}
@@ -0,0 +1,55 @@
+package service.interviewslots;
+
+import app.controller.utils.ServerTimingAdvice;
+import app.service.interviewslots.SlotQueryContext;
+import app.service.interviewslots.SlotQueryPhase;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SlotQueryContextTests {
+    @Test
+    public void phasesAddUpSuccessfully() throws InterruptedException {
+        // Arrange
+        SlotQueryContext slotQueryContext = SlotQueryContext.withoutDeadline();
+
+        // Act
+        slotQueryContext.markStarted();
+        long queueNanos = slotQueryContext.getPhaseNanos(SlotQueryPhase.QUEUE);
+        Thread.sleep(2);
+        slotQueryContext.markStarted();
+
+        for (int i = 0; i < 2; i++) {
+            long phaseStartNanos = slotQueryContext.startPhase();
+            Thread.sleep(1);
+            slotQueryContext.endPhase(SlotQueryPhase.INTERSECTION, phaseStartNanos);
+        }
+
+        slotQueryContext.markCompleted();
+
+        // Assert
+        assertEquals(queueNanos, slotQueryContext.getPhaseNanos(SlotQueryPhase.QUEUE));
+        assertTrue(slotQueryContext.getPhaseNanos(SlotQueryPhase.INTERSECTION) >= 2_000_000L);
+        assertEquals(0L, slotQueryContext.getPhaseNanos(SlotQueryPhase.LOAD_AVAILABILITY));
+        assertEquals(slotQueryContext.getElapsedNanos(), slotQueryContext.getElapsedNanos());
+        assertTrue(slotQueryContext.getElapsedNanos() >= slotQueryContext.getPhaseNanos(SlotQueryPhase.INTERSECTION));
+    }
+
+    @Test
+    public void serverTimingListsRecordedPhasesSuccessfully() {
+        // Arrange
+        SlotQueryContext slotQueryContext = SlotQueryContext.withoutDeadline();
+        slotQueryContext.markStarted();
+        slotQueryContext.endPhase(SlotQueryPhase.LOAD_AVAILABILITY, slotQueryContext.startPhase() - 1_500_000L);
+        slotQueryContext.markCompleted();
+
+        // Act
+        String serverTiming = ServerTimingAdvice.toServerTiming(slotQueryContext);
+
+        // Assert
+        assertTrue(serverTiming.contains("load;dur=1.5"));
+        assertTrue(serverTiming.contains(";desc=\"Loading availability\""));
+        assertFalse(serverTiming.contains("intersect;"));
+        assertTrue(serverTiming.matches(".*, total;dur=\\d+\\.\\d{3}$"));
+    }
+}
@@ -0,0 +1,70 @@
+package service.metrics;
+
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.service.metrics.SlotQueryMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class SlotQueryMetricsTests {
+    private SimpleMeterRegistry meterRegistry;
+    private SlotQueryMetrics slotQueryMetrics;
+
+    @Before
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        slotQueryMetrics = new SlotQueryMetrics(meterRegistry);
+    }
+
+    @Test
+    public void recordInterviewSlotsSuccessfully() {
+        // Arrange
+        AvailabilitySlot firstAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith()
+                .withDay(LocalDate.of(2020, Month.JULY, 27))
+                .withTimeSlotList(Arrays.asList(new TimeSlot(LocalTime.of(9, 0), LocalTime.of(10, 0)),
+                                                new TimeSlot(LocalTime.of(14, 0), LocalTime.of(15, 0))))
+                .build();
+        AvailabilitySlot secondAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith()
+                .withDay(LocalDate.of(2020, Month.JULY, 28))
+                .withTimeSlotList(Arrays.asList(new TimeSlot(LocalTime.of(9, 0), LocalTime.of(10, 0))))
+                .build();
+
+        // Act
+        slotQueryMetrics.recordInterviewSlotsInput(3, 5, 12);
+        slotQueryMetrics.recordInterviewSlotsResult(Arrays.asList(firstAvailabilitySlot, secondAvailabilitySlot));
+
+        // Assert
+        assertEquals(3.0, summary("calendar.slot.query.participants", "interview-slots").totalAmount(), 0.0);
+        assertEquals(5.0, summary("calendar.slot.query.days", "interview-slots").totalAmount(), 0.0);
+        assertEquals(12.0, summary("calendar.slot.query.slots", "interview-slots").totalAmount(), 0.0);
+        assertEquals(2.0, summary("calendar.slot.query.result.days", "interview-slots").totalAmount(), 0.0);
+        assertEquals(3.0, summary("calendar.slot.query.result.slots", "interview-slots").totalAmount(), 0.0);
+    }
+
+    @Test
+    public void recordPanelAvailabilitySuccessfully() {
+        // Act
+        slotQueryMetrics.recordPanelAvailability(4, 7);
+        slotQueryMetrics.recordPanelAvailability(2, 1);
+
+        // Assert
+        DistributionSummary participants = summary("calendar.slot.query.participants", "panel-availability");
+        assertEquals(2, participants.count());
+        assertEquals(6.0, participants.totalAmount(), 0.0);
+        assertEquals(8.0, summary("calendar.slot.query.result.slots", "panel-availability").totalAmount(), 0.0);
+        assertEquals(0, summary("calendar.slot.query.participants", "interview-slots").count());
+    }
+
+    private DistributionSummary summary(String name, String query) {
+        return meterRegistry.get(name).tag("query", query).summary();
+    }
+}
@@ -0,0 +1,179 @@
+package service.retention;
+
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.interviewer.Interviewer;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.retention.RetentionReport;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.SlotGranularity;
+import app.model.utils.TimeSlot;
+import app.repository.memory.InMemoryBookingRepository;
+import app.repository.memory.InMemoryCandidateAvailabilityRepository;
+import app.repository.memory.InMemoryCandidateRepository;
+import app.repository.memory.InMemoryInterviewerAvailabilityRepository;
+import app.repository.memory.InMemoryInterviewerRepository;
+import app.service.booking.BookingIndex;
+import app.service.candidate.CandidateServiceImpl;
+import app.service.index.InterviewerDayIndex;
+import app.service.index.InterviewerHourBitmapIndex;
+import app.service.index.InterviewerHourCounts;
+import app.service.index.InterviewerIdDictionary;
+import app.service.interviewer.InterviewerServiceImpl;
+import app.service.retention.AvailabilityRetentionServiceImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Lets the retention job prune an availability between the read and the write of a foreground availability write,
+ * so the write loses the optimistic lock and has to merge again into what the job left.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AvailabilityRetentionRaceTests {
+    private static final LocalDate EXPIRED_DAY = LocalDate.now().minusDays(2);
+    private static final LocalDate KEPT_DAY = LocalDate.now().plusDays(1);
+    private static final LocalDate NEW_DAY = LocalDate.now().plusDays(2);
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Test
+    public void candidateAvailabilityWriteRacingRetentionKeepsBothChangesSuccessfully() {
+        // Arrange
+        InMemoryCandidateAvailabilityRepository candidateAvailabilityRepository = spy(
+                new InMemoryCandidateAvailabilityRepository());
+        InMemoryCandidateRepository candidateRepository =
+                new InMemoryCandidateRepository(candidateAvailabilityRepository);
+        Candidate candidate = candidateRepository.save(new Candidate("John Doe"));
+        candidateAvailabilityRepository.save(buildCandidateAvailability(candidate, EXPIRED_DAY, KEPT_DAY));
+
+        AvailabilityRetentionServiceImpl availabilityRetentionService = new AvailabilityRetentionServiceImpl(
+                candidateAvailabilityRepository, new InMemoryInterviewerAvailabilityRepository(), transactionManager,
+                applicationEventPublisher, 0, 10);
+        List<RetentionReport> retentionReports = new ArrayList<>();
+
+        AtomicBoolean retentionRan = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (retentionRan.compareAndSet(false, true)) {
+                retentionReports.add(availabilityRetentionService.pruneExpiredAvailability());
+            }
+
+            return invocation.callRealMethod();
+        }).when(candidateAvailabilityRepository).save(any(CandidateAvailability.class));
+
+        CandidateServiceImpl candidateService = new CandidateServiceImpl();
+        ReflectionTestUtils.setField(candidateService, "candidateRepository", candidateRepository);
+        ReflectionTestUtils.setField(candidateService, "candidateAvailabilityRepository",
+                                     candidateAvailabilityRepository);
+        ReflectionTestUtils.setField(candidateService, "applicationEventPublisher", applicationEventPublisher);
+        ReflectionTestUtils.setField(candidateService, "slotGranularity", SlotGranularity.HOUR);
+        ReflectionTestUtils.setField(candidateService, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(candidateService, "bookingIndex",
+                                     new BookingIndex(new InMemoryBookingRepository(), SlotGranularity.HOUR));
+
+        // Act
+        candidateService.createCandidateAvailability(buildCandidateAvailability(candidate, NEW_DAY));
+
+        // Assert
+        assertEquals(1, retentionReports.get(0).getAvailabilitiesUpdated());
+        assertEquals(0, retentionReports.get(0).getAvailabilitiesConflicted());
+        assertEquals(List.of(KEPT_DAY, NEW_DAY),
+                     getDays(candidateAvailabilityRepository.getAvailability("John Doe").getAvailabilitySlotList()));
+    }
+
+    @Test
+    public void interviewerAvailabilityWriteRacingRetentionKeepsBothChangesSuccessfully() {
+        // Arrange
+        InMemoryInterviewerAvailabilityRepository interviewerAvailabilityRepository = spy(
+                new InMemoryInterviewerAvailabilityRepository());
+        InMemoryInterviewerRepository interviewerRepository =
+                new InMemoryInterviewerRepository(interviewerAvailabilityRepository);
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Jane Doe"));
+        interviewerAvailabilityRepository.save(buildInterviewerAvailability(interviewer, EXPIRED_DAY, KEPT_DAY));
+
+        AvailabilityRetentionServiceImpl availabilityRetentionService = new AvailabilityRetentionServiceImpl(
+                new InMemoryCandidateAvailabilityRepository(), interviewerAvailabilityRepository, transactionManager,
+                applicationEventPublisher, 0, 10);
+        List<RetentionReport> retentionReports = new ArrayList<>();
+
+        AtomicBoolean retentionRan = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (retentionRan.compareAndSet(false, true)) {
+                retentionReports.add(availabilityRetentionService.pruneExpiredAvailability());
+            }
+
+            return invocation.callRealMethod();
+        }).when(interviewerAvailabilityRepository).save(any(InterviewerAvailability.class));
+
+        InterviewerServiceImpl interviewerService = new InterviewerServiceImpl(
+                interviewerRepository, interviewerAvailabilityRepository,
+                new InterviewerDayIndex(interviewerAvailabilityRepository),
+                new InterviewerHourCounts(interviewerAvailabilityRepository),
+                new InterviewerHourBitmapIndex(interviewerAvailabilityRepository, new InterviewerIdDictionary()),
+                new BookingIndex(new InMemoryBookingRepository(), SlotGranularity.HOUR), applicationEventPublisher,
+                SlotGranularity.HOUR, transactionManager);
+
+        // Act
+        interviewerService.createInterviewerAvailability(buildInterviewerAvailability(interviewer, NEW_DAY));
+
+        // Assert
+        assertEquals(1, retentionReports.get(0).getAvailabilitiesUpdated());
+        assertEquals(0, retentionReports.get(0).getAvailabilitiesConflicted());
+        assertEquals(List.of(KEPT_DAY, NEW_DAY),
+                     getDays(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName("Jane Doe")
+                                                              .getAvailabilitySlotList()));
+    }
+
+    private List<LocalDate> getDays(List<AvailabilitySlot> availabilitySlots) {
+        return availabilitySlots.stream().map(AvailabilitySlot::getDay).sorted().collect(Collectors.toList());
+    }
+
+    private CandidateAvailability buildCandidateAvailability(Candidate candidate, LocalDate... days) {
+        return CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                            .withCandidateModel(candidate)
+                                            .withAvailabilitySlotList(buildAvailabilitySlots(days))
+                                            .build();
+    }
+
+    private InterviewerAvailability buildInterviewerAvailability(Interviewer interviewer, LocalDate... days) {
+        return InterviewerAvailability.Builder.interviewerAvailabilityModelWith()
+                                              .withInterviewerModel(interviewer)
+                                              .withAvailabilitySlotList(buildAvailabilitySlots(days))
+                                              .build();
+    }
+
+    private List<AvailabilitySlot> buildAvailabilitySlots(LocalDate... days) {
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
+                                            .build();
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+
+        for (LocalDate day : days) {
+            availabilitySlots.add(AvailabilitySlot.Builder.availabilitySlotWith()
+                                                          .withDay(day)
+                                                          .withTimeSlotList(Collections.singletonList(timeSlot))
+                                                          .build());
+        }
+
+        return availabilitySlots;
+    }
+}
@@ -0,0 +1,248 @@
+package service.retention;
+
+import app.model.candidate.Candidate;
+import app.model.candidate.CandidateAvailability;
+import app.model.interviewer.InterviewerAvailability;
+import app.model.retention.RetentionReport;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.TimeSlot;
+import app.repository.candidate.CandidateAvailabilityRepository;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.service.events.AvailabilityChangedEvent;
+import app.service.retention.AvailabilityRetentionServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AvailabilityRetentionServiceImplTests {
+    @Mock
+    private CandidateAvailabilityRepository candidateAvailabilityRepository;
+    @Mock
+    private InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private AvailabilityRetentionServiceImpl availabilityRetentionServiceImpl;
+
+    @Before
+    public void setup() {
+        availabilityRetentionServiceImpl = new AvailabilityRetentionServiceImpl(candidateAvailabilityRepository,
+                                                                                interviewerAvailabilityRepository,
+                                                                                transactionManager,
+                                                                                applicationEventPublisher, 0, 10);
+    }
+
+    @Test
+    public void pruneAvailabilityBeforeRemovesExpiredDaysSuccessfully() {
+        // Arrange
+        Candidate candidate = Candidate.Builder.candidateModelWith().withName("John Doe").build();
+
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
+                                            .build();
+        AvailabilitySlot expiredAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(
+                LocalDate.of(2014, Month.JANUARY, 1)).withTimeSlotList(Collections.singletonList(timeSlot)).build();
+        AvailabilitySlot currentAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(
+                LocalDate.of(2014, Month.JANUARY, 5)).withTimeSlotList(Collections.singletonList(timeSlot)).build();
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+        availabilitySlots.add(expiredAvailabilitySlot);
+        availabilitySlots.add(currentAvailabilitySlot);
+
+        CandidateAvailability candidateAvailability = CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                                                                   .withCandidateModel(candidate)
+                                                                                   .withAvailabilitySlotList(
+                                                                                           availabilitySlots)
+                                                                                   .build();
+
+        // Act
+        when(candidateAvailabilityRepository.findAll(any(Pageable.class))).thenReturn(
+                new PageImpl<>(Collections.singletonList(candidateAvailability)));
+        when(interviewerAvailabilityRepository.findAll(any(Pageable.class))).thenReturn(
+                new PageImpl<InterviewerAvailability>(Collections.emptyList()));
+        when(candidateAvailabilityRepository.saveAndFlush(any(CandidateAvailability.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        RetentionReport retentionReport = availabilityRetentionServiceImpl.pruneAvailabilityBefore(
+                LocalDate.of(2014, Month.JANUARY, 3));
+
+        // Assert
+        ArgumentCaptor<CandidateAvailability> savedAvailability = ArgumentCaptor.forClass(CandidateAvailability.class);
+        verify(candidateAvailabilityRepository, times(1)).saveAndFlush(savedAvailability.capture());
+
+        assertEquals(2, candidateAvailability.getAvailabilitySlotList().size());
+        assertEquals(Collections.singletonList(currentAvailabilitySlot),
+                     savedAvailability.getValue().getAvailabilitySlotList());
+        assertEquals(1, retentionReport.getAvailabilitiesScanned());
+        assertEquals(1, retentionReport.getAvailabilitiesUpdated());
+        assertEquals(1, retentionReport.getRowsReclaimed());
+        assertTrue(retentionReport.getBytesReclaimed() > 0);
+        verify(applicationEventPublisher, times(1)).publishEvent(any(AvailabilityChangedEvent.class));
+    }
+
+    @Test
+    public void pruneAvailabilityBeforeWithoutExpiredDaysLeavesAvailabilityUntouched() {
+        // Arrange
+        Candidate candidate = Candidate.Builder.candidateModelWith().withName("John Doe").build();
+
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
+                                            .build();
+        AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(
+                LocalDate.of(2014, Month.JANUARY, 5)).withTimeSlotList(Collections.singletonList(timeSlot)).build();
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+        availabilitySlots.add(availabilitySlot);
+
+        CandidateAvailability candidateAvailability = CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                                                                   .withCandidateModel(candidate)
+                                                                                   .withAvailabilitySlotList(
+                                                                                           availabilitySlots)
+                                                                                   .build();
+
+        // Act
+        when(candidateAvailabilityRepository.findAll(any(Pageable.class))).thenReturn(
+                new PageImpl<>(Collections.singletonList(candidateAvailability)));
+        when(interviewerAvailabilityRepository.findAll(any(Pageable.class))).thenReturn(
+                new PageImpl<InterviewerAvailability>(Collections.emptyList()));
+
+        RetentionReport retentionReport = availabilityRetentionServiceImpl.pruneAvailabilityBefore(
+                LocalDate.of(2014, Month.JANUARY, 3));
+
+        // Assert
+        assertEquals(1, candidateAvailability.getAvailabilitySlotList().size());
+        assertEquals(1, retentionReport.getAvailabilitiesScanned());
+        assertEquals(0, retentionReport.getAvailabilitiesUpdated());
+        assertEquals(0, retentionReport.getRowsReclaimed());
+        assertEquals(0, retentionReport.getBytesReclaimed());
+        verify(candidateAvailabilityRepository, never()).saveAndFlush(any(CandidateAvailability.class));
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    public void pruneAvailabilityBeforeRetriesConflictingAvailabilityOnItsOwnSuccessfully() {
+        // Arrange
+        CandidateAvailability johnDoeBatchCopy = buildCandidateAvailability(1L, "John Doe", 1, 5);
+        CandidateAvailability janeRoeBatchCopy = buildCandidateAvailability(2L, "Jane Roe", 2, 5);
+        CandidateAvailability johnDoeConcurrentlyUpdated = buildCandidateAvailability(1L, "John Doe", 1, 5, 6);
+        CandidateAvailability janeRoeRereadCopy = buildCandidateAvailability(2L, "Jane Roe", 2, 5);
+
+        // Act
+        when(candidateAvailabilityRepository.findAll(any(Pageable.class))).thenReturn(
+                new PageImpl<>(Arrays.asList(johnDoeBatchCopy, janeRoeBatchCopy)));
+        when(interviewerAvailabilityRepository.findAll(any(Pageable.class))).thenReturn(
+                new PageImpl<InterviewerAvailability>(Collections.emptyList()));
+        when(candidateAvailabilityRepository.saveAndFlush(any(CandidateAvailability.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(candidateAvailabilityRepository.saveAndFlush(argThat(candidateAvailability ->
+                candidateAvailability != null
+                && candidateAvailability.getId().equals(1L)
+                && candidateAvailability.getAvailabilitySlotList().size() == 1))).thenThrow(
+                new OptimisticLockingFailureException("Availability of John Doe was updated concurrently!"));
+        when(candidateAvailabilityRepository.findById(1L)).thenReturn(Optional.of(johnDoeConcurrentlyUpdated));
+        when(candidateAvailabilityRepository.findById(2L)).thenReturn(Optional.of(janeRoeRereadCopy));
+
+        RetentionReport retentionReport = availabilityRetentionServiceImpl.pruneAvailabilityBefore(
+                LocalDate.of(2014, Month.JANUARY, 3));
+
+        // Assert
+        ArgumentCaptor<CandidateAvailability> savedAvailabilities =
+                ArgumentCaptor.forClass(CandidateAvailability.class);
+        verify(candidateAvailabilityRepository, times(3)).saveAndFlush(savedAvailabilities.capture());
+        List<CandidateAvailability> rereadSavedAvailabilities = savedAvailabilities.getAllValues().subList(1, 3);
+
+        assertEquals(Long.valueOf(1), rereadSavedAvailabilities.get(0).getId());
+        assertEquals(2, rereadSavedAvailabilities.get(0).getAvailabilitySlotList().size());
+        assertEquals(Long.valueOf(2), rereadSavedAvailabilities.get(1).getId());
+        assertEquals(1, rereadSavedAvailabilities.get(1).getAvailabilitySlotList().size());
+        assertEquals(3, johnDoeConcurrentlyUpdated.getAvailabilitySlotList().size());
+        assertEquals(2, janeRoeRereadCopy.getAvailabilitySlotList().size());
+        assertEquals(2, retentionReport.getAvailabilitiesScanned());
+        assertEquals(2, retentionReport.getAvailabilitiesUpdated());
+        assertEquals(0, retentionReport.getAvailabilitiesConflicted());
+        assertEquals(2, retentionReport.getRowsReclaimed());
+        verify(applicationEventPublisher, times(2)).publishEvent(any(AvailabilityChangedEvent.class));
+    }
+
+    @Test
+    public void pruneAvailabilityBeforeCountsAvailabilityConflictingAgainAsConflict() {
+        // Arrange
+        CandidateAvailability johnDoeBatchCopy = buildCandidateAvailability(1L, "John Doe", 1, 5);
+        CandidateAvailability janeRoeBatchCopy = buildCandidateAvailability(2L, "Jane Roe", 2, 5);
+        CandidateAvailability janeRoeRereadCopy = buildCandidateAvailability(2L, "Jane Roe", 2, 5);
+
+        // Act
+        when(candidateAvailabilityRepository.findAll(any(Pageable.class))).thenReturn(
+                new PageImpl<>(Arrays.asList(johnDoeBatchCopy, janeRoeBatchCopy)));
+        when(interviewerAvailabilityRepository.findAll(any(Pageable.class))).thenReturn(
+                new PageImpl<InterviewerAvailability>(Collections.emptyList()));
+        when(candidateAvailabilityRepository.saveAndFlush(any(CandidateAvailability.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(candidateAvailabilityRepository.saveAndFlush(argThat(candidateAvailability ->
+                candidateAvailability != null
+                && "John Doe".equals(candidateAvailability.getCandidateModel().getName())))).thenThrow(
+                new OptimisticLockingFailureException("Availability of John Doe was updated concurrently!"));
+        when(candidateAvailabilityRepository.findById(1L)).thenReturn(
+                Optional.of(buildCandidateAvailability(1L, "John Doe", 1, 5, 6)));
+        when(candidateAvailabilityRepository.findById(2L)).thenReturn(Optional.of(janeRoeRereadCopy));
+
+        RetentionReport retentionReport = availabilityRetentionServiceImpl.pruneAvailabilityBefore(
+                LocalDate.of(2014, Month.JANUARY, 3));
+
+        // Assert
+        verify(candidateAvailabilityRepository, times(1)).saveAndFlush(argThat(candidateAvailability ->
+                candidateAvailability != null && candidateAvailability.getId().equals(2L)
+                        && candidateAvailability.getAvailabilitySlotList().size() == 1));
+        assertEquals(2, janeRoeRereadCopy.getAvailabilitySlotList().size());
+        assertEquals(2, retentionReport.getAvailabilitiesScanned());
+        assertEquals(1, retentionReport.getAvailabilitiesUpdated());
+        assertEquals(1, retentionReport.getAvailabilitiesConflicted());
+        assertEquals(1, retentionReport.getRowsReclaimed());
+        verify(applicationEventPublisher, times(1)).publishEvent(any(AvailabilityChangedEvent.class));
+    }
+
+    private CandidateAvailability buildCandidateAvailability(Long id, String candidateName, int... daysOfMonth) {
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
+                                            .build();
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+
+        for (int dayOfMonth : daysOfMonth) {
+            availabilitySlots.add(AvailabilitySlot.Builder.availabilitySlotWith()
+                                                          .withDay(LocalDate.of(2014, Month.JANUARY, dayOfMonth))
+                                                          .withTimeSlotList(Collections.singletonList(timeSlot))
+                                                          .build());
+        }
+
+        CandidateAvailability candidateAvailability = CandidateAvailability.Builder.candidateAvailabilityModelWith()
+                                                                                   .withCandidateModel(new Candidate(
+                                                                                           candidateName))
+                                                                                   .withAvailabilitySlotList(
+                                                                                           availabilitySlots)
+                                                                                   .build();
+        ReflectionTestUtils.setField(candidateAvailability, "id", id);
+
+        return candidateAvailability;
+    }
+}
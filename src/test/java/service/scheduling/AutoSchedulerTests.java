@@ -0,0 +1,191 @@
+package service.scheduling;
+
+import app.service.scheduling.AutoScheduler;
+import app.service.scheduling.AutoScheduler.Assignment;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class AutoSchedulerTests {
+    private static final int HOURS_PER_DAY = 24;
+
+    private ExecutorService executorService;
+    private ProgressCounter progressCounter;
+
+    @Before
+    public void setup() {
+        executorService = Executors.newFixedThreadPool(4);
+        progressCounter = new ProgressCounter();
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void scheduleAssignsNonConflictingPanelsSuccessfully() {
+        // Arrange
+        BitSet[] candidateSlots = {hours(9, 12), hours(9, 12), hours(9, 12)};
+        BitSet[] interviewerSlots = {hours(9, 12), hours(9, 12)};
+
+        // Act
+        List<Assignment> assignments = new AutoScheduler(2, 1, Integer.MAX_VALUE)
+                .schedule(HOURS_PER_DAY, candidateSlots, interviewerSlots, executorService, progressCounter);
+
+        // Assert
+        assertEquals(3, assignments.size());
+        assertNoConflicts(assignments, candidateSlots, interviewerSlots, 1);
+        assertEquals(3, progressCounter.scheduledCandidates.get());
+    }
+
+    @Test
+    public void scheduleGivesConstrainedCandidatesTheirOnlyHourSuccessfully() {
+        // Arrange
+        BitSet[] candidateSlots = {hours(9, 11), hours(9, 10)};
+        BitSet[] interviewerSlots = {hours(9, 11)};
+
+        // Act
+        List<Assignment> assignments = new AutoScheduler(1, 1, Integer.MAX_VALUE)
+                .schedule(HOURS_PER_DAY, candidateSlots, interviewerSlots, executorService, progressCounter);
+
+        // Assert
+        assertEquals(2, assignments.size());
+        assertNoConflicts(assignments, candidateSlots, interviewerSlots, 1);
+    }
+
+    @Test
+    public void scheduleRespectsDurationAndMaximumInterviewsSuccessfully() {
+        // Arrange
+        BitSet[] candidateSlots = {hours(9, 17), hours(9, 17), hours(9, 10)};
+        BitSet[] interviewerSlots = {hours(9, 17)};
+
+        // Act
+        List<Assignment> assignments = new AutoScheduler(1, 2, 1)
+                .schedule(HOURS_PER_DAY, candidateSlots, interviewerSlots, executorService, progressCounter);
+
+        // Assert
+        assertEquals(1, assignments.size());
+        assertNoConflicts(assignments, candidateSlots, interviewerSlots, 2);
+        assertEquals(3, progressCounter.processedCandidates.get());
+    }
+
+    @Test
+    public void scheduleSplitsIndependentComponentsSuccessfully() {
+        // Arrange
+        BitSet[] candidateSlots = {hours(9, 10), hours(14, 15), hours(20, 21)};
+        BitSet[] interviewerSlots = {hours(9, 10), hours(14, 15)};
+
+        // Act
+        List<Assignment> assignments = new AutoScheduler(1, 1, Integer.MAX_VALUE)
+                .schedule(HOURS_PER_DAY, candidateSlots, interviewerSlots, executorService, progressCounter);
+
+        // Assert
+        assertEquals(2, assignments.size());
+        assertEquals(3, progressCounter.components.get());
+        assertEquals(3, progressCounter.completedComponents.get());
+    }
+
+    @Test
+    public void scheduleThousandCandidatesWithTwoHundredInterviewersSuccessfully() {
+        // Arrange
+        int days = 10;
+        int slots = days * HOURS_PER_DAY;
+        SplittableRandom random = new SplittableRandom(42);
+        BitSet[] candidateSlots = randomWorkingHours(1000, days, 0.3, random);
+        BitSet[] interviewerSlots = randomWorkingHours(200, days, 0.5, random);
+
+        // Act
+        long startNanos = System.nanoTime();
+        List<Assignment> assignments = new AutoScheduler(2, 1, 8)
+                .schedule(slots, candidateSlots, interviewerSlots, executorService, progressCounter);
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000L;
+
+        // Assert
+        assertNoConflicts(assignments, candidateSlots, interviewerSlots, 1);
+        assertEquals(1000, progressCounter.processedCandidates.get());
+        assertTrue("Only " + assignments.size() + " candidates were scheduled", assignments.size() > 750);
+        assertTrue("Scheduling took " + elapsedMillis + " ms", elapsedMillis < 10_000L);
+    }
+
+    private void assertNoConflicts(List<Assignment> assignments, BitSet[] candidateSlots, BitSet[] interviewerSlots,
+                                   int durationHours) {
+        Set<Integer> scheduledCandidates = new HashSet<>();
+        Set<Long> busyInterviewerSlots = new HashSet<>();
+
+        for (Assignment assignment : assignments) {
+            assertTrue(scheduledCandidates.add(assignment.getCandidateIndex()));
+
+            for (int slot = assignment.getStartSlot(); slot < assignment.getStartSlot() + durationHours; slot++) {
+                assertTrue(candidateSlots[assignment.getCandidateIndex()].get(slot));
+
+                for (int interviewer : assignment.getInterviewerIndexes()) {
+                    assertTrue(interviewerSlots[interviewer].get(slot));
+                    assertTrue(busyInterviewerSlots.add((long) interviewer << 32 | slot));
+                }
+            }
+        }
+    }
+
+    private BitSet[] randomWorkingHours(int participants, int days, double probability, SplittableRandom random) {
+        BitSet[] participantSlots = new BitSet[participants];
+
+        for (int participant = 0; participant < participants; participant++) {
+            participantSlots[participant] = new BitSet(days * HOURS_PER_DAY);
+
+            for (int day = 0; day < days; day++) {
+                for (int hour = 9; hour < 17; hour++) {
+                    if (random.nextDouble() < probability) {
+                        participantSlots[participant].set(day * HOURS_PER_DAY + hour);
+                    }
+                }
+            }
+        }
+
+        return participantSlots;
+    }
+
+    private BitSet hours(int fromHour, int toHour) {
+        BitSet slots = new BitSet(HOURS_PER_DAY);
+        slots.set(fromHour, toHour);
+
+        return slots;
+    }
+
+    private static class ProgressCounter implements AutoScheduler.ProgressListener {
+        private final AtomicInteger components = new AtomicInteger();
+        private final AtomicInteger completedComponents = new AtomicInteger();
+        private final AtomicInteger processedCandidates = new AtomicInteger();
+        private final AtomicInteger scheduledCandidates = new AtomicInteger();
+
+        @Override
+        public void onComponentsFound(int components) {
+            this.components.set(components);
+        }
+
+        @Override
+        public void onCandidateProcessed(boolean scheduled) {
+            processedCandidates.incrementAndGet();
+
+            if (scheduled) {
+                scheduledCandidates.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void onComponentCompleted() {
+            completedComponents.incrementAndGet();
+        }
+    }
+}
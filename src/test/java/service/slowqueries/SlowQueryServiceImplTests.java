@@ -0,0 +1,123 @@
+package service.slowqueries;
+
+import app.exception.UserException;
+import app.model.interviewslots.InterviewSlotsQuery;
+import app.model.interviewslots.SlowSlotQuery;
+import app.service.interviewslots.InterviewSlotsService;
+import app.service.interviewslots.SlotQueryContext;
+import app.service.interviewslots.SlotQueryPhase;
+import app.service.slowqueries.SlowQueryServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SlowQueryServiceImplTests {
+    @Mock
+    private InterviewSlotsService interviewSlotsService;
+
+    private SlowQueryServiceImpl slowQueryServiceImpl;
+
+    @Before
+    public void setup() {
+        slowQueryServiceImpl = new SlowQueryServiceImpl(interviewSlotsService, 0, 3, 5000);
+    }
+
+    @Test
+    public void captureKeepsLatestQueriesSuccessfully() {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            slowQueryServiceImpl.capture(buildInterviewSlotsQuery("Candidate " + i), buildSlotQueryContext(), null);
+        }
+
+        // Assert
+        List<SlowSlotQuery> slowSlotQueries = slowQueryServiceImpl.getSlowQueries();
+        assertEquals(3, slowSlotQueries.size());
+        assertEquals("Candidate 2", slowSlotQueries.get(0).getQuery().getCandidateName());
+        assertEquals("Candidate 4", slowSlotQueries.get(2).getQuery().getCandidateName());
+        assertEquals(3, slowSlotQueries.get(0).getParticipants());
+        assertEquals(7, slowSlotQueries.get(0).getDays());
+        assertEquals(40, slowSlotQueries.get(0).getTimeSlots());
+        assertTrue(slowSlotQueries.get(0).getPhaseMillis().containsKey("intersect"));
+        assertFalse(slowSlotQueries.get(0).getPhaseMillis().containsKey("load"));
+        assertNotNull(slowSlotQueries.get(0).getCapturedAt());
+    }
+
+    @Test
+    public void captureSkipsFastQueriesSuccessfully() {
+        // Arrange
+        slowQueryServiceImpl = new SlowQueryServiceImpl(interviewSlotsService, 60000, 3, 5000);
+
+        // Act
+        slowQueryServiceImpl.capture(buildInterviewSlotsQuery("John Doe"), buildSlotQueryContext(), null);
+
+        // Assert
+        assertTrue(slowQueryServiceImpl.getSlowQueries().isEmpty());
+    }
+
+    @Test
+    public void replaySlowQueriesRecordsErrorsSuccessfully() {
+        // Arrange
+        slowQueryServiceImpl.capture(buildInterviewSlotsQuery("John Doe"), buildSlotQueryContext(), null);
+        when(interviewSlotsService.getInterviewSlots(any(), any()))
+                .thenThrow(new UserException("Candidate does not exist!", "John Doe"));
+
+        // Act
+        List<SlowSlotQuery> replayedSlowSlotQueries =
+                slowQueryServiceImpl.replaySlowQueries(slowQueryServiceImpl.getSlowQueries());
+
+        // Assert
+        assertEquals(1, replayedSlowSlotQueries.size());
+        assertEquals("John Doe", replayedSlowSlotQueries.get(0).getQuery().getCandidateName());
+        assertEquals("UserException: Candidate does not exist!", replayedSlowSlotQueries.get(0).getError());
+    }
+
+    @Test(expected = UserException.class)
+    public void replayTooManySlowQueriesFails() {
+        // Arrange
+        List<SlowSlotQuery> slowSlotQueries = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            slowSlotQueries.add(SlowSlotQuery.Builder.slowSlotQueryWith()
+                                                     .withQuery(buildInterviewSlotsQuery("Candidate " + i))
+                                                     .build());
+        }
+
+        // Act && Assert
+        try {
+            slowQueryServiceImpl.replaySlowQueries(slowSlotQueries);
+        } catch (UserException exception) {
+            assertEquals("A replay holds at most 3 queries!", exception.getMessage());
+
+            throw exception;
+        }
+
+        fail("User exception for too many replayed queries was not thrown!");
+    }
+
+    private InterviewSlotsQuery buildInterviewSlotsQuery(String candidateName) {
+        return InterviewSlotsQuery.Builder.interviewSlotsQueryModelWith()
+                                          .withCandidateName(candidateName)
+                                          .withInterviewersNames(Collections.singletonList("Ines"))
+                                          .build();
+    }
+
+    private SlotQueryContext buildSlotQueryContext() {
+        SlotQueryContext slotQueryContext = SlotQueryContext.withoutDeadline();
+        slotQueryContext.recordInputSize(3, 7, 40);
+        slotQueryContext.endPhase(SlotQueryPhase.INTERSECTION, slotQueryContext.startPhase() - 1_000_000L);
+        slotQueryContext.markCompleted();
+
+        return slotQueryContext;
+    }
+}